@@ -1,5 +1,5 @@
 /*
- * Copyright 2011-2016 the original author or authors.
+ * Copyright 2011-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,17 @@
  */
 package org.springframework.data.mongodb.crossstore;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 import javax.persistence.EntityManagerFactory;
 
 import org.bson.Document;
@@ -26,14 +37,24 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.crossstore.ChangeSet;
 import org.springframework.data.crossstore.ChangeSetBacked;
 import org.springframework.data.crossstore.ChangeSetPersister;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.mongodb.core.CollectionCallback;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
 import com.mongodb.MongoException;
 import com.mongodb.client.MongoCollection;
-import com.mongodb.client.model.Filters;
-import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
 
 /**
  * @author Thomas Risberg
@@ -50,8 +71,11 @@ public class MongoChangeSetPersister implements ChangeSetPersister<Object> {
 
 	private final Logger log = LoggerFactory.getLogger(getClass());
 
+	private final Set<String> indexedCollections = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
 	private MongoTemplate mongoTemplate;
 	private EntityManagerFactory entityManagerFactory;
+	private boolean ensureIndexes = true;
 
 	public void setMongoTemplate(MongoTemplate mongoTemplate) {
 		this.mongoTemplate = mongoTemplate;
@@ -61,6 +85,18 @@ public class MongoChangeSetPersister implements ChangeSetPersister<Object> {
 		this.entityManagerFactory = entityManagerFactory;
 	}
 
+	/**
+	 * Configures whether to ensure the unique compound index on entity id, entity class and field name the documents are
+	 * looked up and written by. Creating the index fails if the collection already contains more than one document for
+	 * the same entity field. Defaults to {@literal true}.
+	 *
+	 * @param ensureIndexes
+	 * @since 2.0
+	 */
+	public void setEnsureIndexes(boolean ensureIndexes) {
+		this.ensureIndexes = ensureIndexes;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.crossstore.ChangeSetPersister#getPersistentState(java.lang.Class, java.lang.Object, org.springframework.data.crossstore.ChangeSet)
@@ -141,63 +177,134 @@ public class MongoChangeSetPersister implements ChangeSetPersister<Object> {
 			mongoTemplate.createCollection(collName);
 		}
 
+		Map<Document, WriteModel<Document>> writes = getWrites(entity, cs);
+
+		if (!writes.isEmpty()) {
+			write(collName, writes);
+		}
+
+		return 0L;
+	}
+
+	/**
+	 * Registers the given entity to get its {@link ChangeSet} written when the current transaction commits. The
+	 * {@link ChangeSet}s of all entities registered within a transaction are written in a single bulk write per
+	 * collection from {@link TransactionSynchronization#beforeCommit(boolean)}, so a failing write rolls back the
+	 * transaction. Entities registered during the commit itself, e.g. by the lifecycle callbacks of the final flush, are
+	 * written after the commit.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public void flushOnCommit(ChangeSetBacked entity) {
+
+		Assert.notNull(entity, "Entity must not be null!");
+		Assert.state(TransactionSynchronizationManager.isSynchronizationActive(),
+				"Transaction synchronization is not active!");
+
+		WriteBatch batch = (WriteBatch) TransactionSynchronizationManager.getResource(this);
+
+		if (batch == null) {
+			batch = new WriteBatch();
+			TransactionSynchronizationManager.bindResource(this, batch);
+			TransactionSynchronizationManager.registerSynchronization(batch);
+		}
+
+		batch.register(entity);
+	}
+
+	/**
+	 * Returns the {@link WriteModel}s for the given {@link ChangeSet} keyed by the document they apply to.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param cs must not be {@literal null}.
+	 * @return
+	 */
+	private Map<Document, WriteModel<Document>> getWrites(ChangeSetBacked entity, ChangeSet cs) {
+
+		Object persistentId = getPersistentId(entity, cs);
+		Map<Document, WriteModel<Document>> writes = new LinkedHashMap<Document, WriteModel<Document>>();
+
 		for (String key : cs.getValues().keySet()) {
 			if (key != null && !key.startsWith("_") && !key.equals(ChangeSetPersister.ID_KEY)) {
 				Object value = cs.getValues().get(key);
-				final Document dbQuery = new Document();
-				dbQuery.put(ENTITY_ID, getPersistentId(entity, cs));
+				Document dbQuery = new Document();
+				dbQuery.put(ENTITY_ID, persistentId);
 				dbQuery.put(ENTITY_CLASS, entity.getClass().getName());
 				dbQuery.put(ENTITY_FIELD_NAME, key);
-				final Document dbId = mongoTemplate.execute(collName, new CollectionCallback<Document>() {
-					public Document doInCollection(MongoCollection<Document> collection)
-							throws MongoException, DataAccessException {
-						Document id = collection.find(dbQuery).first();
-						return id;
-					}
-				});
 
 				if (value == null) {
 					if (log.isDebugEnabled()) {
 						log.debug("Flush: removing: {}", dbQuery);
 					}
-					mongoTemplate.execute(collName, new CollectionCallback<Object>() {
-						public Object doInCollection(MongoCollection<Document> collection)
-								throws MongoException, DataAccessException {
-							DeleteResult dr = collection.deleteMany(dbQuery);
-							return null;
-						}
-					});
+					writes.put(dbQuery, new DeleteManyModel<Document>(dbQuery));
 				} else {
-					final Document dbDoc = new Document();
+					Document dbDoc = new Document();
 					dbDoc.putAll(dbQuery);
 					if (log.isDebugEnabled()) {
 						log.debug("Flush: saving: {}", dbQuery);
 					}
 					mongoTemplate.getConverter().write(value, dbDoc);
 					dbDoc.put(ENTITY_FIELD_CLASS, value.getClass().getName());
-					if (dbId != null) {
-						dbDoc.put("_id", dbId.get("_id"));
-					}
-					mongoTemplate.execute(collName, new CollectionCallback<Object>() {
-						public Object doInCollection(MongoCollection<Document> collection)
-								throws MongoException, DataAccessException {
-
-							if (dbId != null) {
-								collection.replaceOne(Filters.eq("_id", dbId.get("_id")), dbDoc);
-							} else {
-
-								if (dbDoc.containsKey("_id") && dbDoc.get("_id") == null) {
-									dbDoc.remove("_id");
-								}
-								collection.insertOne(dbDoc);
-							}
-							return null;
-						}
-					});
+					// the existing document keeps its _id, new ones get one assigned by the server
+					dbDoc.remove("_id");
+					writes.put(dbQuery, new ReplaceOneModel<Document>(dbQuery, dbDoc, new UpdateOptions().upsert(true)));
 				}
 			}
 		}
-		return 0L;
+
+		return writes;
+	}
+
+	/**
+	 * Writes the given {@link WriteModel}s keyed by the document they apply to. If the entities of the current
+	 * transaction are flushed on commit, the writes are added to the batch of the transaction, a later write to the same
+	 * document replacing an earlier one.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param writes must not be {@literal null}.
+	 */
+	private void write(String collectionName, Map<Document, WriteModel<Document>> writes) {
+
+		WriteBatch batch = TransactionSynchronizationManager.isSynchronizationActive()
+				? (WriteBatch) TransactionSynchronizationManager.getResource(this) : null;
+
+		if (batch != null) {
+			batch.add(collectionName, writes);
+			return;
+		}
+
+		bulkWrite(collectionName, writes.values());
+	}
+
+	private void bulkWrite(String collectionName, final Collection<WriteModel<Document>> writes) {
+
+		ensureIndex(collectionName);
+
+		if (log.isDebugEnabled()) {
+			log.debug("Flush: writing {} changes to collection {}", writes.size(), collectionName);
+		}
+
+		mongoTemplate.execute(collectionName, new CollectionCallback<Object>() {
+			public Object doInCollection(MongoCollection<Document> collection) throws MongoException, DataAccessException {
+				collection.bulkWrite(new ArrayList<WriteModel<Document>>(writes), new BulkWriteOptions().ordered(false));
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Ensures the unique index the field documents are written by. Its uniqueness prevents concurrent upserts of the same
+	 * entity field from creating duplicate documents.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 */
+	private void ensureIndex(String collectionName) {
+
+		if (ensureIndexes && indexedCollections.add(collectionName)) {
+			mongoTemplate.indexOps(collectionName).ensureIndex(new Index().on(ENTITY_ID, Direction.ASC)
+					.on(ENTITY_CLASS, Direction.ASC).on(ENTITY_FIELD_NAME, Direction.ASC).unique());
+		}
 	}
 
 	/**
@@ -209,4 +316,116 @@ public class MongoChangeSetPersister implements ChangeSetPersister<Object> {
 	private String getCollectionNameForEntity(Class<? extends ChangeSetBacked> entityClass) {
 		return mongoTemplate.getCollectionName(entityClass);
 	}
+
+	/**
+	 * {@link TransactionSynchronization} collecting the writes of all entities flushed within a transaction to issue a
+	 * single bulk write per collection.
+	 */
+	private class WriteBatch extends TransactionSynchronizationAdapter {
+
+		private final Set<ChangeSetBacked> entities = Collections
+				.newSetFromMap(new IdentityHashMap<ChangeSetBacked, Boolean>());
+		private final Map<String, Map<Document, WriteModel<Document>>> writes = //
+				new LinkedHashMap<String, Map<Document, WriteModel<Document>>>();
+
+		void register(ChangeSetBacked entity) {
+			entities.add(entity);
+		}
+
+		void add(String collectionName, Map<Document, WriteModel<Document>> writes) {
+
+			Map<Document, WriteModel<Document>> collectionWrites = this.writes.get(collectionName);
+
+			if (collectionWrites == null) {
+				collectionWrites = new LinkedHashMap<Document, WriteModel<Document>>();
+				this.writes.put(collectionName, collectionWrites);
+			}
+
+			collectionWrites.putAll(writes);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.transaction.support.TransactionSynchronizationAdapter#beforeCommit(boolean)
+		 */
+		@Override
+		public void beforeCommit(boolean readOnly) {
+
+			// run the JPA lifecycle callbacks of pending changes so their entities are part of this batch
+			if (!readOnly && entityManagerFactory != null) {
+
+				EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager
+						.getResource(entityManagerFactory);
+
+				if (holder != null) {
+					holder.getEntityManager().flush();
+				}
+			}
+
+			flush();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.transaction.support.TransactionSynchronizationAdapter#flush()
+		 */
+		@Override
+		public void flush() {
+
+			List<ChangeSetBacked> pending = new ArrayList<ChangeSetBacked>(entities);
+			entities.clear();
+
+			for (ChangeSetBacked entity : pending) {
+
+				ChangeSet changeSet = entity.getChangeSet();
+
+				if (changeSet != null) {
+					add(getCollectionNameForEntity(entity.getClass()), getWrites(entity, changeSet));
+				}
+			}
+
+			for (Entry<String, Map<Document, WriteModel<Document>>> entry : writes.entrySet()) {
+				if (!entry.getValue().isEmpty()) {
+					bulkWrite(entry.getKey(), entry.getValue().values());
+				}
+			}
+
+			writes.clear();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.transaction.support.TransactionSynchronizationAdapter#suspend()
+		 */
+		@Override
+		public void suspend() {
+			TransactionSynchronizationManager.unbindResource(MongoChangeSetPersister.this);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.transaction.support.TransactionSynchronizationAdapter#resume()
+		 */
+		@Override
+		public void resume() {
+			TransactionSynchronizationManager.bindResource(MongoChangeSetPersister.this, this);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.transaction.support.TransactionSynchronizationAdapter#afterCompletion(int)
+		 */
+		@Override
+		public void afterCompletion(int status) {
+
+			try {
+				// entities registered by the lifecycle callbacks of the final flush during the commit
+				if (status == STATUS_COMMITTED) {
+					flush();
+				}
+			} finally {
+				TransactionSynchronizationManager.unbindResourceIfPossible(MongoChangeSetPersister.this);
+			}
+		}
+	}
 }
@@ -25,7 +25,10 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.crossstore.test.Address;
 import org.springframework.data.mongodb.crossstore.test.Person;
 import org.springframework.data.mongodb.crossstore.test.Resume;
@@ -37,6 +40,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionCallback;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import com.mongodb.client.MongoCollection;
+
 /**
  * Integration tests for MongoDB cross-store persistence (mainly {@link MongoChangeSetPersister}).
  * 
@@ -151,6 +156,52 @@ public class CrossStoreMongoTests {
 		Assert.assertTrue(updated.getResume().getJobs().contains("TargetRx, Developer, 2000-2005"));
 	}
 
+	@Test
+	public void updatesMongoDocumentsInPlace() {
+
+		txTemplate.execute(new TransactionCallback<Void>() {
+			public Void doInTransaction(TransactionStatus status) {
+				Person found = entityManager.find(Person.class, 1L);
+				found.getResume().addJob("SpringDeveloper.com, Consultant, 2005-2006");
+				entityManager.merge(found);
+				return null;
+			}
+		});
+
+		MongoCollection<Document> collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Person.class));
+		Assert.assertEquals(2L, collection.count(new Document("_entity_id", 1L)));
+
+		Document resume = collection.find(new Document("_entity_id", 1L).append("_entity_field_name", "resume")).first();
+		Assert.assertTrue(resume.getString("jobs").contains("SpringDeveloper.com, Consultant, 2005-2006"));
+	}
+
+	@Test
+	public void rollsBackTransactionIfMongoWriteFails() {
+
+		mongoTemplate.indexOps(mongoTemplate.getCollectionName(Person.class))
+				.ensureIndex(new Index().on("jobs", Direction.ASC).unique().sparse());
+
+		final Person person = new Person("Dave", 30);
+		Resume resume = new Resume();
+		resume.addJob("DiMark, DBA, 1990-2000");
+		resume.addJob("VMware, Developer, 2007-");
+		person.setResume(resume);
+		person.setId(2L);
+
+		try {
+			txTemplate.execute(new TransactionCallback<Void>() {
+				public Void doInTransaction(TransactionStatus status) {
+					entityManager.persist(person);
+					entityManager.flush();
+					return null;
+				}
+			});
+			Assert.fail("Expected DataAccessException!");
+		} catch (DataAccessException e) {}
+
+		Assert.assertNull(entityManager.find(Person.class, 2L));
+	}
+
 	@Test
 	public void testRemoveJpaEntityWithMongoDocument() {
 
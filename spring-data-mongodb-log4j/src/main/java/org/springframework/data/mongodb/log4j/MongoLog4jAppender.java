@@ -1,5 +1,5 @@
 /*
- * Copyright 2011-2016 the original author or authors.
+ * Copyright 2011-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,21 +16,31 @@
 package org.springframework.data.mongodb.log4j;
 
 import java.net.UnknownHostException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.log4j.AppenderSkeleton;
 import org.apache.log4j.Level;
 import org.apache.log4j.MDC;
 import org.apache.log4j.PatternLayout;
+import org.apache.log4j.spi.ErrorCode;
 import org.apache.log4j.spi.LoggingEvent;
 
 import com.mongodb.BasicDBList;
 import com.mongodb.BasicDBObject;
 import com.mongodb.DB;
+import com.mongodb.DBObject;
 import com.mongodb.Mongo;
 import com.mongodb.MongoClient;
 import com.mongodb.MongoCredential;
@@ -39,6 +49,10 @@ import com.mongodb.WriteConcern;
 
 /**
  * Log4j appender writing log entries into a MongoDB instance.
+ * <p>
+ * By default every event is inserted on the logging thread. In {@link #setAsync(boolean) async} mode events are put
+ * into a bounded buffer drained by a background thread that writes them in batches per target collection. The
+ * {@link #setOverflowPolicy(String) overflow policy} defines what happens to events logged while the buffer is full.
  *
  * @author Jon Brisbin
  * @author Oliver Gierke
@@ -59,6 +73,34 @@ public class MongoLog4jAppender extends AppenderSkeleton {
 	public static final String DAY = "day";
 	public static final String HOUR = "hour";
 
+	/**
+	 * Defines how events are handled in {@link MongoLog4jAppender#setAsync(boolean) async} mode if the buffer is full.
+	 *
+	 * @since 2.0
+	 */
+	public enum OverflowPolicy {
+
+		/**
+		 * Blocks the logging thread until the event can be buffered.
+		 */
+		BLOCK,
+
+		/**
+		 * Drops events with a level lower than {@link Level#WARN} and blocks for all others.
+		 */
+		DROP_INFO,
+
+		/**
+		 * Drops the event to be buffered, keeping the events buffered before.
+		 */
+		DROP_NEWEST,
+
+		/**
+		 * Drops the oldest buffered event to make room for the event to be buffered.
+		 */
+		DROP_OLDEST
+	}
+
 	protected String host = "localhost";
 	protected int port = 27017;
 	protected String username;
@@ -73,6 +115,20 @@ public class MongoLog4jAppender extends AppenderSkeleton {
 	protected Mongo mongo;
 	protected DB db;
 
+	protected boolean async = false;
+	protected int bufferSize = 8192;
+	protected int batchSize = 256;
+	protected long flushInterval = 1000;
+	protected OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+	private final AtomicLong droppedInfoOrLowerEvents = new AtomicLong();
+	private final AtomicLong droppedWarnOrHigherEvents = new AtomicLong();
+
+	private BlockingQueue<PendingInsert> buffer;
+	private Thread writer;
+	private volatile boolean writerRunning;
+	private TimeFields timeFields;
+
 	public MongoLog4jAppender() {}
 
 	public MongoLog4jAppender(boolean isActive) {
@@ -183,6 +239,111 @@ public class MongoLog4jAppender extends AppenderSkeleton {
 		this.infoOrLowerWriteConcern = WriteConcern.valueOf(wc);
 	}
 
+	/**
+	 * @return
+	 * @since 2.0
+	 */
+	public boolean isAsync() {
+		return async;
+	}
+
+	/**
+	 * @param async whether to write events on a background thread instead of the logging thread.
+	 * @since 2.0
+	 */
+	public void setAsync(boolean async) {
+		this.async = async;
+	}
+
+	/**
+	 * @return
+	 * @since 2.0
+	 */
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	/**
+	 * @param bufferSize the maximum number of events buffered in {@link #setAsync(boolean) async} mode.
+	 * @since 2.0
+	 */
+	public void setBufferSize(int bufferSize) {
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * @return
+	 * @since 2.0
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * @param batchSize the maximum number of events written at a time in {@link #setAsync(boolean) async} mode.
+	 * @since 2.0
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * @return
+	 * @since 2.0
+	 */
+	public long getFlushInterval() {
+		return flushInterval;
+	}
+
+	/**
+	 * @param flushInterval the maximum time in milliseconds the background thread waits for a batch to fill up before
+	 *          writing the events buffered so far.
+	 * @since 2.0
+	 */
+	public void setFlushInterval(long flushInterval) {
+		this.flushInterval = flushInterval;
+	}
+
+	/**
+	 * @return
+	 * @since 2.0
+	 */
+	public String getOverflowPolicy() {
+		return overflowPolicy.name();
+	}
+
+	/**
+	 * @param overflowPolicy the name of the {@link OverflowPolicy} to apply if the buffer is full.
+	 * @since 2.0
+	 */
+	public void setOverflowPolicy(String overflowPolicy) {
+		this.overflowPolicy = OverflowPolicy.valueOf(overflowPolicy);
+	}
+
+	/**
+	 * @return the number of events with a level lower than {@link Level#WARN} dropped due to a full buffer.
+	 * @since 2.0
+	 */
+	public long getDroppedInfoOrLowerEventCount() {
+		return droppedInfoOrLowerEvents.get();
+	}
+
+	/**
+	 * @return the number of events with a level of {@link Level#WARN} or higher dropped due to a full buffer.
+	 * @since 2.0
+	 */
+	public long getDroppedWarnOrHigherEventCount() {
+		return droppedWarnOrHigherEvents.get();
+	}
+
+	/**
+	 * @return the total number of events dropped due to a full buffer.
+	 * @since 2.0
+	 */
+	public long getDroppedEventCount() {
+		return getDroppedInfoOrLowerEventCount() + getDroppedWarnOrHigherEventCount();
+	}
+
 	protected void connectToMongo() throws UnknownHostException {
 
 		this.mongo = createMongoClient();
@@ -209,8 +370,48 @@ public class MongoLog4jAppender extends AppenderSkeleton {
 	 * @see org.apache.log4j.AppenderSkeleton#append(org.apache.log4j.spi.LoggingEvent)
 	 */
 	@Override
-	@SuppressWarnings({ "unchecked" })
 	protected void append(final LoggingEvent event) {
+
+		boolean warnOrHigher = event.getLevel().isGreaterOrEqual(Level.WARN);
+		WriteConcern wc = warnOrHigher ? warnOrHigherWriteConcern : infoOrLowerWriteConcern;
+
+		BasicDBObject dbo = createDocument(event);
+		String coll = getCollectionName(event);
+
+		if (async) {
+			enqueue(new PendingInsert(coll, dbo, wc, warnOrHigher));
+			return;
+		}
+
+		ensureConnected();
+		db.getCollection(coll).insert(dbo, wc);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.apache.log4j.AppenderSkeleton#close()
+	 */
+	public void close() {
+
+		this.closed = true;
+
+		if (stopWriter()) {
+			closeMongo();
+		}
+	}
+
+	private synchronized void closeMongo() {
+
+		if (mongo != null) {
+			mongo.close();
+		}
+
+		this.mongo = null;
+		this.db = null;
+	}
+
+	private void ensureConnected() {
+
 		if (null == db) {
 			try {
 				connectToMongo();
@@ -218,17 +419,18 @@ public class MongoLog4jAppender extends AppenderSkeleton {
 				throw new RuntimeException(e.getMessage(), e);
 			}
 		}
+	}
+
+	@SuppressWarnings({ "unchecked" })
+	private BasicDBObject createDocument(LoggingEvent event) {
 
 		BasicDBObject dbo = new BasicDBObject();
 		if (null != applicationId) {
 			dbo.put(APP_ID, applicationId);
-			MDC.put(APP_ID, applicationId);
 		}
 		dbo.put(NAME, event.getLogger().getName());
 		dbo.put(LEVEL, event.getLevel().toString());
-		Calendar tstamp = Calendar.getInstance();
-		tstamp.setTimeInMillis(event.getTimeStamp());
-		dbo.put(TIMESTAMP, tstamp.getTime());
+		dbo.put(TIMESTAMP, new Date(event.getTimeStamp()));
 
 		// Copy properties into document
 		Map<Object, Object> props = event.getProperties();
@@ -251,40 +453,219 @@ public class MongoLog4jAppender extends AppenderSkeleton {
 		// Put the rendered message into the document
 		dbo.put(MESSAGE, event.getRenderedMessage());
 
-		// Insert the document
-		Calendar now = Calendar.getInstance();
-		MDC.put(YEAR, now.get(Calendar.YEAR));
-		MDC.put(MONTH, String.format("%1$02d", now.get(Calendar.MONTH) + 1));
-		MDC.put(DAY, String.format("%1$02d", now.get(Calendar.DAY_OF_MONTH)));
-		MDC.put(HOUR, String.format("%1$02d", now.get(Calendar.HOUR_OF_DAY)));
+		return dbo;
+	}
 
-		String coll = collectionLayout.format(event);
+	/**
+	 * Renders the collection pattern for the given event. Patterns referring to {@link MDC} values are rendered against
+	 * a copy of the event additionally carrying the application id and the date fields, leaving the {@link MDC} of the
+	 * logging thread untouched. The date fields are only recomputed once the hour they were computed for has passed.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private String getCollectionName(LoggingEvent event) {
+
+		if (!collectionPattern.contains("%X")) {
+			return collectionLayout.format(event);
+		}
+
+		long now = System.currentTimeMillis();
+
+		if (timeFields == null || !timeFields.isValidAt(now)) {
+			timeFields = new TimeFields(now);
+		}
+
+		Map properties = new HashMap(event.getProperties());
+		properties.put(YEAR, timeFields.year);
+		properties.put(MONTH, timeFields.month);
+		properties.put(DAY, timeFields.day);
+		properties.put(HOUR, timeFields.hour);
 
-		MDC.remove(YEAR);
-		MDC.remove(MONTH);
-		MDC.remove(DAY);
-		MDC.remove(HOUR);
 		if (null != applicationId) {
-			MDC.remove(APP_ID);
+			properties.put(APP_ID, applicationId);
 		}
 
-		WriteConcern wc;
-		if (event.getLevel().isGreaterOrEqual(Level.WARN)) {
-			wc = warnOrHigherWriteConcern;
-		} else {
-			wc = infoOrLowerWriteConcern;
+		return collectionLayout.format(new LoggingEvent(event.getFQNOfLoggerClass(), event.getLogger(),
+				event.getTimeStamp(), event.getLevel(), event.getMessage(), event.getThreadName(),
+				event.getThrowableInformation(), event.getNDC(), null, properties));
+	}
+
+	private void enqueue(PendingInsert insert) {
+
+		if (writer == null) {
+			startWriter();
 		}
-		db.getCollection(coll).insert(dbo, wc);
+
+		if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+
+			while (!buffer.offer(insert)) {
+
+				PendingInsert evicted = buffer.poll();
+
+				if (evicted != null) {
+					countDropped(evicted);
+				}
+			}
+
+			return;
+		}
+
+		boolean block = overflowPolicy == OverflowPolicy.BLOCK
+				|| (overflowPolicy == OverflowPolicy.DROP_INFO && insert.warnOrHigher);
+
+		if (block) {
+			try {
+				buffer.put(insert);
+				return;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		} else if (buffer.offer(insert)) {
+			return;
+		}
+
+		countDropped(insert);
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * @see org.apache.log4j.AppenderSkeleton#close()
+	private void countDropped(PendingInsert insert) {
+		(insert.warnOrHigher ? droppedWarnOrHigherEvents : droppedInfoOrLowerEvents).incrementAndGet();
+	}
+
+	private void startWriter() {
+
+		this.buffer = new ArrayBlockingQueue<PendingInsert>(bufferSize);
+		this.writerRunning = true;
+		this.writer = new Thread(this::drainBuffer, getClass().getSimpleName() + "-" + getName());
+		this.writer.setDaemon(true);
+		this.writer.start();
+	}
+
+	/**
+	 * Stops the background writer, flushing the buffered events. Interrupts the writer if it does not terminate in time.
+	 *
+	 * @return whether the writer has terminated. If not, it closes the connection to MongoDB itself once it terminates.
 	 */
-	public void close() {
+	private boolean stopWriter() {
 
-		if (mongo != null) {
-			mongo.close();
+		if (writer == null) {
+			return true;
+		}
+
+		writerRunning = false;
+
+		long timeout = Math.max(flushInterval, 1000) * 2;
+
+		try {
+
+			writer.join(timeout);
+
+			if (writer.isAlive()) {
+				writer.interrupt();
+				writer.join(timeout);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		if (writer.isAlive()) {
+
+			errorHandler.error(
+					"Background writer did not terminate in time, the connection to MongoDB is closed once it does");
+			return false;
+		}
+
+		writer = null;
+		return true;
+	}
+
+	/**
+	 * Writes buffered events in batches of up to {@link #batchSize} events until the appender is closed, flushing the
+	 * remaining events on close. Closes the connection to MongoDB on termination if the appender is closed.
+	 */
+	private void drainBuffer() {
+
+		List<PendingInsert> batch = new ArrayList<PendingInsert>(batchSize);
+
+		try {
+
+			while (writerRunning || !buffer.isEmpty()) {
+
+				try {
+					collectBatch(batch);
+				} catch (InterruptedException e) {
+					writerRunning = false;
+				}
+
+				if (!batch.isEmpty()) {
+					writeBatch(batch);
+					batch.clear();
+				}
+			}
+		} finally {
+
+			if (closed) {
+				closeMongo();
+			}
+		}
+	}
+
+	private void collectBatch(List<PendingInsert> batch) throws InterruptedException {
+
+		PendingInsert first = buffer.poll(flushInterval, TimeUnit.MILLISECONDS);
+
+		if (first == null) {
+			return;
+		}
+
+		batch.add(first);
+
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushInterval);
+
+		while (batch.size() < batchSize) {
+
+			buffer.drainTo(batch, batchSize - batch.size());
+
+			long remaining = deadline - System.nanoTime();
+
+			if (batch.size() >= batchSize || remaining <= 0 || !writerRunning) {
+				return;
+			}
+
+			PendingInsert next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+
+			if (next == null) {
+				return;
+			}
+
+			batch.add(next);
+		}
+	}
+
+	private void writeBatch(List<PendingInsert> batch) {
+
+		Map<PendingInsert, List<DBObject>> groups = new LinkedHashMap<PendingInsert, List<DBObject>>();
+
+		for (PendingInsert insert : batch) {
+
+			List<DBObject> documents = groups.get(insert);
+
+			if (documents == null) {
+				documents = new ArrayList<DBObject>();
+				groups.put(insert, documents);
+			}
+
+			documents.add(insert.document);
+		}
+
+		try {
+
+			ensureConnected();
+
+			for (Map.Entry<PendingInsert, List<DBObject>> group : groups.entrySet()) {
+				db.getCollection(group.getKey().collection).insert(group.getValue(), group.getKey().writeConcern);
+			}
+		} catch (RuntimeException e) {
+			errorHandler.error("Failed to write " + batch.size() + " log events to MongoDB", e,
+					ErrorCode.WRITE_FAILURE);
 		}
 	}
 
@@ -295,4 +676,80 @@ public class MongoLog4jAppender extends AppenderSkeleton {
 	public boolean requiresLayout() {
 		return true;
 	}
+
+	/**
+	 * An event waiting to be written. Equality only considers the target collection and {@link WriteConcern} so that
+	 * instances can be used to group events written together.
+	 */
+	private static class PendingInsert {
+
+		private final String collection;
+		private final DBObject document;
+		private final WriteConcern writeConcern;
+		private final boolean warnOrHigher;
+
+		PendingInsert(String collection, DBObject document, WriteConcern writeConcern, boolean warnOrHigher) {
+
+			this.collection = collection;
+			this.document = document;
+			this.writeConcern = writeConcern;
+			this.warnOrHigher = warnOrHigher;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof PendingInsert)) {
+				return false;
+			}
+
+			PendingInsert that = (PendingInsert) obj;
+			return collection.equals(that.collection) && writeConcern.equals(that.writeConcern);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * collection.hashCode() + writeConcern.hashCode();
+		}
+	}
+
+	/**
+	 * The date fields exposed to the collection pattern, valid until the end of the hour they were computed for.
+	 */
+	private static class TimeFields {
+
+		private final long validFrom;
+		private final long validUntil;
+		private final Integer year;
+		private final String month;
+		private final String day;
+		private final String hour;
+
+		TimeFields(long now) {
+
+			Calendar calendar = Calendar.getInstance();
+			calendar.setTimeInMillis(now);
+
+			this.year = calendar.get(Calendar.YEAR);
+			this.month = String.format("%1$02d", calendar.get(Calendar.MONTH) + 1);
+			this.day = String.format("%1$02d", calendar.get(Calendar.DAY_OF_MONTH));
+			this.hour = String.format("%1$02d", calendar.get(Calendar.HOUR_OF_DAY));
+
+			calendar.set(Calendar.MINUTE, 0);
+			calendar.set(Calendar.SECOND, 0);
+			calendar.set(Calendar.MILLISECOND, 0);
+			this.validFrom = calendar.getTimeInMillis();
+
+			calendar.add(Calendar.HOUR_OF_DAY, 1);
+			this.validUntil = calendar.getTimeInMillis();
+		}
+
+		boolean isValidAt(long time) {
+			return time >= validFrom && time < validUntil;
+		}
+	}
 }
@@ -23,6 +23,7 @@ import java.util.Calendar;
 import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
 import org.apache.log4j.MDC;
+import org.apache.log4j.PatternLayout;
 import org.apache.log4j.PropertyConfigurator;
 import org.junit.After;
 import org.junit.Before;
@@ -79,6 +80,33 @@ public class MongoLog4jAppenderIntegrationTests {
 		assertThat(msgs.count(), is(4));
 	}
 
+	@Test
+	public void writesEventsAsynchronouslyInBatches() {
+
+		MongoLog4jAppender appender = new MongoLog4jAppender();
+		appender.setLayout(new PatternLayout("%m"));
+		appender.setCollectionPattern("%X{year}%X{month}");
+		appender.setAsync(true);
+		appender.setBatchSize(2);
+		appender.setFlushInterval(50);
+
+		Logger asyncLog = Logger.getLogger("async");
+		asyncLog.setAdditivity(false);
+		asyncLog.addAppender(appender);
+
+		try {
+			asyncLog.info("INFO message");
+			asyncLog.warn("WARN message");
+			asyncLog.error("ERROR message");
+		} finally {
+			asyncLog.removeAppender(appender);
+			appender.close();
+		}
+
+		assertThat(db.getCollection(collection).find(new BasicDBObject(MongoLog4jAppender.NAME, "async")).count(), is(3));
+		assertThat(appender.getDroppedEventCount(), is(0L));
+	}
+
 	@Test
 	public void testProperties() {
 		MDC.put("property", "one");
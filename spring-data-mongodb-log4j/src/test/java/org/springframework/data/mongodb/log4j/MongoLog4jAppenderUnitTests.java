@@ -15,8 +15,28 @@
  */
 package org.springframework.data.mongodb.log4j;
 
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.log4j.spi.LoggingEvent;
 import org.junit.Test;
 
+import com.mongodb.DB;
+import com.mongodb.DBCollection;
+import com.mongodb.DBObject;
+import com.mongodb.Mongo;
+import com.mongodb.WriteConcern;
+
 /**
  * Unit tests for {@link MongoLog4jAppender}.
  * 
@@ -28,4 +48,181 @@ public class MongoLog4jAppenderUnitTests {
 	public void closesWithoutMongoInstancePresent() {
 		new MongoLog4jAppender().close();
 	}
+
+	@Test
+	public void closesAsyncAppenderWithoutEventsLogged() {
+
+		MongoLog4jAppender appender = new MongoLog4jAppender();
+		appender.setAsync(true);
+		appender.close();
+
+		assertThat(appender.getDroppedEventCount(), is(0L));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsUnknownOverflowPolicy() {
+		new MongoLog4jAppender().setOverflowPolicy("DROP_SOME");
+	}
+
+	@Test
+	public void dropsNewestEventsIfBufferIsFull() throws Exception {
+
+		BlockingAppender appender = new BlockingAppender("DROP_NEWEST");
+
+		appender.fillBuffer();
+		appender.log("3", Level.INFO);
+
+		assertThat(appender.getDroppedInfoOrLowerEventCount(), is(1L));
+
+		appender.releaseAndClose();
+
+		assertThat(appender.written, contains("0", "1", "2"));
+		assertThat(appender.getDroppedEventCount(), is(1L));
+	}
+
+	@Test
+	public void dropsOldestEventsIfBufferIsFull() throws Exception {
+
+		BlockingAppender appender = new BlockingAppender("DROP_OLDEST");
+
+		appender.fillBuffer();
+		appender.log("3", Level.WARN);
+
+		assertThat(appender.getDroppedInfoOrLowerEventCount(), is(1L));
+
+		appender.releaseAndClose();
+
+		assertThat(appender.written, contains("0", "2", "3"));
+		assertThat(appender.getDroppedEventCount(), is(1L));
+	}
+
+	@Test
+	public void dropsInfoEventsAndBlocksForWarnEventsIfBufferIsFull() throws Exception {
+
+		BlockingAppender appender = new BlockingAppender("DROP_INFO");
+
+		appender.fillBuffer();
+		appender.log("3", Level.INFO);
+
+		Thread thread = appender.logInBackground("4", Level.WARN);
+
+		assertThat(thread.isAlive(), is(true));
+
+		appender.releaseAndClose(thread);
+
+		assertThat(appender.written, contains("0", "1", "2", "4"));
+		assertThat(appender.getDroppedInfoOrLowerEventCount(), is(1L));
+		assertThat(appender.getDroppedWarnOrHigherEventCount(), is(0L));
+	}
+
+	@Test
+	public void blocksIfBufferIsFull() throws Exception {
+
+		BlockingAppender appender = new BlockingAppender("BLOCK");
+
+		appender.fillBuffer();
+
+		Thread thread = appender.logInBackground("3", Level.INFO);
+
+		assertThat(thread.isAlive(), is(true));
+
+		appender.releaseAndClose(thread);
+
+		assertThat(appender.written, contains("0", "1", "2", "3"));
+		assertThat(appender.getDroppedEventCount(), is(0L));
+	}
+
+	@Test
+	public void closesMongoAfterWriterFlushedBufferedEvents() throws Exception {
+
+		BlockingAppender appender = new BlockingAppender("BLOCK");
+
+		appender.fillBuffer();
+		appender.releaseAndClose();
+
+		assertThat(appender.written, contains("0", "1", "2"));
+		verify(appender.mongoMock).close();
+	}
+
+	/**
+	 * Async appender with a buffer of two events whose writes block until released. {@link #fillBuffer()} logs one event
+	 * taken by the writer and two buffered ones.
+	 */
+	static class BlockingAppender extends MongoLog4jAppender {
+
+		final List<String> written = Collections.synchronizedList(new ArrayList<String>());
+		final CountDownLatch writing = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final Mongo mongoMock = mock(Mongo.class);
+
+		BlockingAppender(String overflowPolicy) {
+
+			setAsync(true);
+			setBufferSize(2);
+			setBatchSize(1);
+			setOverflowPolicy(overflowPolicy);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.log4j.MongoLog4jAppender#connectToMongo()
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		protected void connectToMongo() {
+
+			DBCollection collection = mock(DBCollection.class);
+
+			when(collection.insert(anyList(), any(WriteConcern.class))).thenAnswer(invocation -> {
+
+				for (DBObject document : (List<DBObject>) invocation.getArgument(0)) {
+					written.add((String) document.get(MESSAGE));
+				}
+
+				writing.countDown();
+				release.await(10, TimeUnit.SECONDS);
+				return null;
+			});
+
+			DB dbMock = mock(DB.class);
+			when(dbMock.getCollection(anyString())).thenReturn(collection);
+
+			this.mongo = mongoMock;
+			this.db = dbMock;
+		}
+
+		void fillBuffer() throws InterruptedException {
+
+			log("0", Level.INFO);
+
+			assertThat(writing.await(10, TimeUnit.SECONDS), is(true));
+
+			log("1", Level.INFO);
+			log("2", Level.INFO);
+		}
+
+		void log(String message, Level level) {
+			doAppend(new LoggingEvent(Logger.class.getName(), Logger.getLogger("test"), level, message, null));
+		}
+
+		Thread logInBackground(String message, Level level) throws InterruptedException {
+
+			Thread thread = new Thread(() -> log(message, level));
+			thread.start();
+			thread.join(200);
+
+			return thread;
+		}
+
+		void releaseAndClose(Thread... loggingThreads) throws InterruptedException {
+
+			release.countDown();
+
+			for (Thread thread : loggingThreads) {
+				thread.join(TimeUnit.SECONDS.toMillis(10));
+			}
+
+			close();
+		}
+	}
 }
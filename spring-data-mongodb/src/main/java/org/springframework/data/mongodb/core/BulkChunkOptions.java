@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options controlling how a stream of write models is split into bulk writes by
+ * {@link ReactiveBulkOperations#execute(org.reactivestreams.Publisher, BulkChunkOptions)}. A chunk is written as soon as
+ * it either contains {@link #getMaxModels() max models} or reaches {@link #getMaxBytes() max bytes} of encoded BSON.
+ *
+ * @since 2.0
+ */
+public class BulkChunkOptions {
+
+	static final int DEFAULT_MAX_MODELS = 1000;
+
+	private int maxModels = DEFAULT_MAX_MODELS;
+	private long maxBytes = -1;
+
+	/**
+	 * Static factory method to create a {@link BulkChunkOptions} instance using the defaults.
+	 *
+	 * @return a new instance
+	 */
+	public static BulkChunkOptions options() {
+		return new BulkChunkOptions();
+	}
+
+	/**
+	 * Define the maximum number of write models written per chunk. Defaults to {@value #DEFAULT_MAX_MODELS}.
+	 *
+	 * @param maxModels must be greater than zero.
+	 * @return
+	 */
+	public BulkChunkOptions maxModels(int maxModels) {
+
+		Assert.isTrue(maxModels > 0, "Max models must be greater than zero!");
+
+		this.maxModels = maxModels;
+		return this;
+	}
+
+	/**
+	 * Define the maximum number of encoded BSON bytes written per chunk. A chunk is written as soon as its size reaches the
+	 * limit and thus exceeds it by at most one write model. Limiting the chunk size by bytes requires the documents of
+	 * the models to be encoded before being handed to the driver. Not limited by default.
+	 *
+	 * @param maxBytes must be greater than zero.
+	 * @return
+	 */
+	public BulkChunkOptions maxBytes(long maxBytes) {
+
+		Assert.isTrue(maxBytes > 0, "Max bytes must be greater than zero!");
+
+		this.maxBytes = maxBytes;
+		return this;
+	}
+
+	/**
+	 * @return the maximum number of write models per chunk.
+	 */
+	public int getMaxModels() {
+		return maxModels;
+	}
+
+	/**
+	 * @return the maximum number of encoded bytes per chunk or a negative value if not limited.
+	 */
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * @return {@literal true} if chunks are limited by their encoded size.
+	 */
+	public boolean isLimitedByBytes() {
+		return maxBytes > 0;
+	}
+}
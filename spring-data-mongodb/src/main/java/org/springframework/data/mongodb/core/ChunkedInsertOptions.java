@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options controlling how a streamed insert is split into chunks written to the database. A chunk is flushed as soon as
+ * it either contains {@link #getMaxDocuments() max documents} or reaches {@link #getMaxBytes() max bytes} of encoded
+ * BSON.
+ *
+ * @see BulkChunkOptions
+ *
+ * @since 2.0
+ */
+public class ChunkedInsertOptions {
+
+	static final int DEFAULT_MAX_DOCUMENTS = 1000;
+
+	private int maxDocuments = DEFAULT_MAX_DOCUMENTS;
+	private long maxBytes = -1;
+
+	/**
+	 * Static factory method to create a {@link ChunkedInsertOptions} instance using the defaults.
+	 *
+	 * @return a new instance
+	 */
+	public static ChunkedInsertOptions options() {
+		return new ChunkedInsertOptions();
+	}
+
+	/**
+	 * Define the maximum number of documents written per chunk. Defaults to {@value #DEFAULT_MAX_DOCUMENTS}.
+	 *
+	 * @param maxDocuments must be greater than zero.
+	 * @return
+	 */
+	public ChunkedInsertOptions maxDocuments(int maxDocuments) {
+
+		Assert.isTrue(maxDocuments > 0, "Max documents must be greater than zero!");
+
+		this.maxDocuments = maxDocuments;
+		return this;
+	}
+
+	/**
+	 * Define the maximum number of encoded BSON bytes written per chunk. A chunk is written as soon as its size reaches the
+	 * limit and thus exceeds it by at most one document. Limiting the chunk size by bytes requires documents to be
+	 * encoded before being handed to the driver. Not limited by default.
+	 *
+	 * @param maxBytes must be greater than zero.
+	 * @return
+	 */
+	public ChunkedInsertOptions maxBytes(long maxBytes) {
+
+		Assert.isTrue(maxBytes > 0, "Max bytes must be greater than zero!");
+
+		this.maxBytes = maxBytes;
+		return this;
+	}
+
+	/**
+	 * @return the maximum number of documents per chunk.
+	 */
+	public int getMaxDocuments() {
+		return maxDocuments;
+	}
+
+	/**
+	 * @return the maximum number of encoded bytes per chunk or a negative value if not limited.
+	 */
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * @return {@literal true} if chunks are limited by their encoded size.
+	 */
+	public boolean isLimitedByBytes() {
+		return maxBytes > 0;
+	}
+}
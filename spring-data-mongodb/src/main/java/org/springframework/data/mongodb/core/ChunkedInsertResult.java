@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Aggregated outcome of a chunked insert.
+ *
+ * @since 2.0
+ * @see ChunkedInsertOptions
+ */
+public class ChunkedInsertResult {
+
+	private final List<Object> insertedIds;
+	private final int chunkCount;
+
+	ChunkedInsertResult(List<Object> insertedIds, int chunkCount) {
+
+		this.insertedIds = Collections.unmodifiableList(insertedIds);
+		this.chunkCount = chunkCount;
+	}
+
+	/**
+	 * @return the number of inserted documents.
+	 */
+	public int getInsertedCount() {
+		return insertedIds.size();
+	}
+
+	/**
+	 * @return the identifiers of the inserted documents in insertion order. Contains {@literal null} for documents whose
+	 *         identifier is not known.
+	 */
+	public List<Object> getInsertedIds() {
+		return insertedIds;
+	}
+
+	/**
+	 * @return the number of chunks written to the database.
+	 */
+	public int getChunkCount() {
+		return chunkCount;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("ChunkedInsertResult { insertedCount: %s, chunkCount: %s }", getInsertedCount(), chunkCount);
+	}
+}
@@ -19,7 +19,11 @@ import static org.springframework.data.mongodb.core.MongoTemplate.*;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
 
 import org.bson.Document;
 import org.springframework.dao.DataAccessException;
@@ -29,10 +33,12 @@ import org.springframework.data.mongodb.core.index.IndexDefinition;
 import org.springframework.data.mongodb.core.index.IndexInfo;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
 
 import com.mongodb.MongoException;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.IndexModel;
 import com.mongodb.client.model.IndexOptions;
 
 /**
@@ -95,26 +101,147 @@ public class DefaultIndexOperations implements IndexOperations {
 
 		return execute(collection -> {
 
-			Document indexOptions = indexDefinition.getIndexOptions();
+			if (indexDefinition.getIndexOptions() != null) {
+				return collection.createIndex(indexDefinition.getIndexKeys(), toIndexOptions(indexDefinition));
+			}
+			return collection.createIndex(indexDefinition.getIndexKeys());
+		}
+
+		);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.IndexOperations#ensureIndexes(java.util.List)
+	 */
+	@Override
+	public List<String> ensureIndexes(final List<? extends IndexDefinition> indexDefinitions) {
 
-			if (indexOptions != null) {
+		Assert.notNull(indexDefinitions, "IndexDefinitions must not be null!");
+
+		if (indexDefinitions.isEmpty()) {
+			return Collections.emptyList();
+		}
 
-				IndexOptions ops = IndexConverters.indexDefinitionToIndexOptionsConverter().convert(indexDefinition);
+		return execute(collection -> {
 
-				if (indexOptions.containsKey(PARTIAL_FILTER_EXPRESSION_KEY)) {
+			List<Document> existingIndexes = collection.listIndexes(Document.class).into(new ArrayList<Document>());
+			List<IndexModel> missingIndexes = new ArrayList<IndexModel>();
 
-					Assert.isInstanceOf(Document.class, indexOptions.get(PARTIAL_FILTER_EXPRESSION_KEY));
+			for (IndexDefinition indexDefinition : indexDefinitions) {
 
-					ops.partialFilterExpression( mapper.getMappedObject(
-							(Document) indexOptions.get(PARTIAL_FILTER_EXPRESSION_KEY), lookupPersistentEntity(type, collectionName)));
+				if (!isIndexPresent(indexDefinition, existingIndexes)) {
+					missingIndexes.add(indexDefinition.getIndexOptions() != null
+							? new IndexModel(indexDefinition.getIndexKeys(), toIndexOptions(indexDefinition))
+							: new IndexModel(indexDefinition.getIndexKeys()));
 				}
+			}
+
+			return missingIndexes.isEmpty() ? Collections.<String> emptyList() : collection.createIndexes(missingIndexes);
+		});
+	}
+
+	private IndexOptions toIndexOptions(IndexDefinition indexDefinition) {
+
+		Document indexOptions = indexDefinition.getIndexOptions();
+		IndexOptions ops = IndexConverters.indexDefinitionToIndexOptionsConverter().convert(indexDefinition);
+
+		if (indexOptions.containsKey(PARTIAL_FILTER_EXPRESSION_KEY)) {
+
+			Assert.isInstanceOf(Document.class, indexOptions.get(PARTIAL_FILTER_EXPRESSION_KEY));
+
+			ops.partialFilterExpression(mapper.getMappedObject((Document) indexOptions.get(PARTIAL_FILTER_EXPRESSION_KEY),
+					lookupPersistentEntity(type, collectionName)));
+		}
+
+		return ops;
+	}
+
+	/**
+	 * Returns whether one of the given existing indexes has the same keys, the same name (if configured) and the same
+	 * {@literal unique}, {@literal sparse}, {@literal expireAfterSeconds} and {@literal partialFilterExpression}
+	 * options as the given {@link IndexDefinition}. Indexes differing in any of those are considered missing so that
+	 * creating them surfaces the conflict instead of silently keeping the existing index.
+	 *
+	 * @param indexDefinition
+	 * @param existingIndexes
+	 * @return
+	 */
+	private boolean isIndexPresent(IndexDefinition indexDefinition, List<Document> existingIndexes) {
+
+		Object name = indexDefinition.getIndexOptions() != null ? indexDefinition.getIndexOptions().get("name") : null;
+
+		for (Document existingIndex : existingIndexes) {
 
-				return collection.createIndex(indexDefinition.getIndexKeys(), ops);
+			if (name != null && !name.equals(existingIndex.get("name"))) {
+				continue;
+			}
+
+			if (haveSameKeys(indexDefinition.getIndexKeys(), existingIndex.get("key", Document.class))) {
+				return haveSameOptions(indexDefinition, existingIndex);
 			}
-			return collection.createIndex(indexDefinition.getIndexKeys());
 		}
 
-		);
+		return false;
+	}
+
+	private boolean haveSameOptions(IndexDefinition indexDefinition, Document existingIndex) {
+
+		IndexOptions options = indexDefinition.getIndexOptions() != null ? toIndexOptions(indexDefinition)
+				: new IndexOptions();
+
+		if (options.isUnique() != Boolean.TRUE.equals(existingIndex.get("unique"))
+				|| options.isSparse() != Boolean.TRUE.equals(existingIndex.get("sparse"))) {
+			return false;
+		}
+
+		Long expireAfter = options.getExpireAfter(TimeUnit.SECONDS);
+		Object existingExpireAfter = existingIndex.get("expireAfterSeconds");
+
+		if (expireAfter == null || existingExpireAfter == null) {
+
+			if (expireAfter != null || existingExpireAfter != null) {
+				return false;
+			}
+		} else if (!(existingExpireAfter instanceof Number)
+				|| ((Number) existingExpireAfter).longValue() != expireAfter.longValue()) {
+			return false;
+		}
+
+		return ObjectUtils.nullSafeEquals(options.getPartialFilterExpression(),
+				existingIndex.get("partialFilterExpression"));
+	}
+
+	private static boolean haveSameKeys(Document keys, Document existingKeys) {
+
+		if (existingKeys == null || keys.size() != existingKeys.size()) {
+			return false;
+		}
+
+		Iterator<Entry<String, Object>> existing = existingKeys.entrySet().iterator();
+
+		for (Entry<String, Object> key : keys.entrySet()) {
+
+			Entry<String, Object> existingKey = existing.next();
+
+			if (!key.getKey().equals(existingKey.getKey())) {
+				return false;
+			}
+
+			Object value = key.getValue();
+			Object existingValue = existingKey.getValue();
+
+			// index directions might be reported as double by the server
+			if (value instanceof Number && existingValue instanceof Number) {
+				if (((Number) value).doubleValue() != ((Number) existingValue).doubleValue()) {
+					return false;
+				}
+			} else if (!ObjectUtils.nullSafeEquals(value, existingValue)) {
+				return false;
+			}
+		}
+
+		return true;
 	}
 
 	private MongoPersistentEntity<?> lookupPersistentEntity(Class<?> entityType, String collection) {
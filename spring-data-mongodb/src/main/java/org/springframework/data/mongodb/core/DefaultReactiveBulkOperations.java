@@ -0,0 +1,458 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.reactivestreams.Publisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.DeleteOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+/**
+ * Default implementation for {@link ReactiveBulkOperations}.
+ *
+ * @since 2.0
+ */
+class DefaultReactiveBulkOperations implements ReactiveBulkOperations {
+
+	private final ReactiveMongoOperations mongoOperations;
+	private final BulkMode bulkMode;
+	private final String collectionName;
+	private final Class<?> entityType;
+
+	private PersistenceExceptionTranslator exceptionTranslator;
+	private WriteConcernResolver writeConcernResolver;
+	private WriteConcern defaultWriteConcern;
+
+	List<WriteModel<Document>> models = new ArrayList<>();
+
+	/**
+	 * Creates a new {@link DefaultReactiveBulkOperations} for the given {@link ReactiveMongoOperations},
+	 * {@link BulkMode}, collection name and entity type.
+	 *
+	 * @param mongoOperations The underlying {@link ReactiveMongoOperations}, must not be {@literal null}.
+	 * @param bulkMode must not be {@literal null}.
+	 * @param collectionName Name of the collection to work on, must not be {@literal null} or empty.
+	 * @param entityType the entity type, can be {@literal null}.
+	 */
+	DefaultReactiveBulkOperations(ReactiveMongoOperations mongoOperations, BulkMode bulkMode, String collectionName,
+			Class<?> entityType) {
+
+		Assert.notNull(mongoOperations, "ReactiveMongoOperations must not be null!");
+		Assert.notNull(bulkMode, "BulkMode must not be null!");
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+
+		this.mongoOperations = mongoOperations;
+		this.bulkMode = bulkMode;
+		this.collectionName = collectionName;
+		this.entityType = entityType;
+
+		this.exceptionTranslator = new MongoExceptionTranslator();
+		this.writeConcernResolver = DefaultWriteConcernResolver.INSTANCE;
+	}
+
+	/**
+	 * Configures the {@link PersistenceExceptionTranslator} to be used. Defaults to {@link MongoExceptionTranslator}.
+	 *
+	 * @param exceptionTranslator can be {@literal null}.
+	 */
+	public void setExceptionTranslator(PersistenceExceptionTranslator exceptionTranslator) {
+		this.exceptionTranslator = exceptionTranslator == null ? new MongoExceptionTranslator() : exceptionTranslator;
+	}
+
+	/**
+	 * Configures the {@link WriteConcernResolver} to be used. Defaults to {@link DefaultWriteConcernResolver}.
+	 *
+	 * @param writeConcernResolver can be {@literal null}.
+	 */
+	public void setWriteConcernResolver(WriteConcernResolver writeConcernResolver) {
+		this.writeConcernResolver = writeConcernResolver == null ? DefaultWriteConcernResolver.INSTANCE
+				: writeConcernResolver;
+	}
+
+	/**
+	 * Configures the default {@link WriteConcern} to be used. Defaults to {@literal null}.
+	 *
+	 * @param defaultWriteConcern can be {@literal null}.
+	 */
+	public void setDefaultWriteConcern(WriteConcern defaultWriteConcern) {
+		this.defaultWriteConcern = defaultWriteConcern;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveBulkOperations#insert(java.lang.Object)
+	 */
+	@Override
+	public ReactiveBulkOperations insert(Object document) {
+
+		Assert.notNull(document, "Document must not be null!");
+
+		if (document instanceof Document) {
+
+			models.add(new InsertOneModel<>((Document) document));
+			return this;
+		}
+
+		Document sink = new Document();
+		mongoOperations.getConverter().write(document, sink);
+
+		models.add(new InsertOneModel<>(sink));
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveBulkOperations#insert(java.util.List)
+	 */
+	@Override
+	public ReactiveBulkOperations insert(List<? extends Object> documents) {
+
+		Assert.notNull(documents, "Documents must not be null!");
+
+		for (Object document : documents) {
+			insert(document);
+		}
+
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveBulkOperations#updateOne(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.query.Update)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public ReactiveBulkOperations updateOne(Query query, Update update) {
+
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(update, "Update must not be null!");
+
+		return updateOne(Arrays.asList(Pair.of(query, update)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveBulkOperations#updateOne(java.util.List)
+	 */
+	@Override
+	public ReactiveBulkOperations updateOne(List<Pair<Query, Update>> updates) {
+
+		Assert.notNull(updates, "Updates must not be null!");
+
+		for (Pair<Query, Update> update : updates) {
+			update(update.getFirst(), update.getSecond(), false, false);
+		}
+
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveBulkOperations#updateMulti(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.query.Update)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public ReactiveBulkOperations updateMulti(Query query, Update update) {
+
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(update, "Update must not be null!");
+
+		return updateMulti(Arrays.asList(Pair.of(query, update)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveBulkOperations#updateMulti(java.util.List)
+	 */
+	@Override
+	public ReactiveBulkOperations updateMulti(List<Pair<Query, Update>> updates) {
+
+		Assert.notNull(updates, "Updates must not be null!");
+
+		for (Pair<Query, Update> update : updates) {
+			update(update.getFirst(), update.getSecond(), false, true);
+		}
+
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveBulkOperations#upsert(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.query.Update)
+	 */
+	@Override
+	public ReactiveBulkOperations upsert(Query query, Update update) {
+		return update(query, update, true, true);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveBulkOperations#upsert(java.util.List)
+	 */
+	@Override
+	public ReactiveBulkOperations upsert(List<Pair<Query, Update>> updates) {
+
+		Assert.notNull(updates, "Updates must not be null!");
+
+		for (Pair<Query, Update> update : updates) {
+			upsert(update.getFirst(), update.getSecond());
+		}
+
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveBulkOperations#remove(org.springframework.data.mongodb.core.query.Query)
+	 */
+	@Override
+	public ReactiveBulkOperations remove(Query query) {
+
+		Assert.notNull(query, "Query must not be null!");
+
+		DeleteOptions deleteOptions = new DeleteOptions();
+		query.getCollation().map(Collation::toMongoCollation).ifPresent(deleteOptions::collation);
+
+		models.add(new DeleteManyModel<>(query.getQueryObject(), deleteOptions));
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveBulkOperations#remove(java.util.List)
+	 */
+	@Override
+	public ReactiveBulkOperations remove(List<Query> removes) {
+
+		Assert.notNull(removes, "Removals must not be null!");
+
+		for (Query query : removes) {
+			remove(query);
+		}
+
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveBulkOperations#execute()
+	 */
+	@Override
+	public Mono<BulkWriteResult> execute() {
+
+		List<WriteModel<Document>> modelsToWrite = new ArrayList<>(models);
+
+		return mongoOperations.execute(collectionName, //
+				collection -> prepareCollection(collection).bulkWrite(modelsToWrite, initBulkOperation())) //
+				.next() //
+				.onErrorMap(MongoBulkWriteException.class, this::translateException);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveBulkOperations#execute(org.reactivestreams.Publisher, org.springframework.data.mongodb.core.BulkChunkOptions)
+	 */
+	@Override
+	public Flux<BulkWriteResult> execute(Publisher<? extends WriteModel<Document>> models, BulkChunkOptions options) {
+
+		Assert.notNull(models, "Models must not be null!");
+		Assert.notNull(options, "BulkChunkOptions must not be null!");
+
+		return mongoOperations.execute(collectionName, collection -> {
+
+			MongoCollection<Document> collectionToUse = prepareCollection(collection);
+			BulkWriteOptions bulkOptions = initBulkOperation();
+
+			return Flux.<WriteModel<Document>> from(models) //
+					.bufferUntil(new ChunkBoundary(options, collection.getCodecRegistry())) //
+					.concatMap(chunk -> collectionToUse.bulkWrite(chunk, bulkOptions), 1);
+		}).onErrorMap(MongoBulkWriteException.class, this::translateException);
+	}
+
+	/**
+	 * Performs update and upsert bulk operations.
+	 *
+	 * @param query the {@link Query} to determine documents to update.
+	 * @param update the {@link Update} to perform, must not be {@literal null}.
+	 * @param upsert whether to upsert.
+	 * @param multi whether to issue a multi-update.
+	 * @return the {@link ReactiveBulkOperations} with the update registered.
+	 */
+	private ReactiveBulkOperations update(Query query, Update update, boolean upsert, boolean multi) {
+
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(update, "Update must not be null!");
+
+		UpdateOptions options = new UpdateOptions();
+		options.upsert(upsert);
+		query.getCollation().map(Collation::toMongoCollation).ifPresent(options::collation);
+
+		if (multi) {
+			models.add(new UpdateManyModel<>(query.getQueryObject(), update.getUpdateObject(), options));
+		} else {
+			models.add(new UpdateOneModel<>(query.getQueryObject(), update.getUpdateObject(), options));
+		}
+		return this;
+	}
+
+	private MongoCollection<Document> prepareCollection(MongoCollection<Document> collection) {
+
+		MongoAction action = new MongoAction(defaultWriteConcern, MongoActionOperation.BULK, collectionName, entityType,
+				null, null);
+		WriteConcern writeConcern = writeConcernResolver.resolve(action);
+
+		return writeConcern == null ? collection : collection.withWriteConcern(writeConcern);
+	}
+
+	private RuntimeException translateException(MongoBulkWriteException o_O) {
+
+		DataAccessException translated = exceptionTranslator.translateExceptionIfPossible(o_O);
+		return translated == null ? o_O : translated;
+	}
+
+	private BulkWriteOptions initBulkOperation() {
+
+		BulkWriteOptions options = new BulkWriteOptions();
+		switch (bulkMode) {
+			case ORDERED:
+				return options.ordered(true);
+			case UNORDERED:
+				return options.ordered(false);
+		}
+		throw new IllegalStateException("BulkMode was null!");
+	}
+
+	/**
+	 * Stateful {@link Predicate} marking the last {@link WriteModel} of a chunk once it reached either the configured
+	 * number of models or the configured number of encoded BSON bytes. Has to be created per subscription.
+	 */
+	static class ChunkBoundary implements Predicate<WriteModel<Document>> {
+
+		private static final BsonDocumentCodec BSON_DOCUMENT_CODEC = new BsonDocumentCodec();
+
+		private final BulkChunkOptions options;
+		private final CodecRegistry codecRegistry;
+
+		private int count;
+		private long size;
+
+		ChunkBoundary(BulkChunkOptions options, CodecRegistry codecRegistry) {
+
+			this.options = options;
+			this.codecRegistry = codecRegistry;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.function.Predicate#test(java.lang.Object)
+		 */
+		@Override
+		public boolean test(WriteModel<Document> model) {
+
+			count++;
+
+			if (options.isLimitedByBytes()) {
+				size += sizeOf(model);
+			}
+
+			if (count < options.getMaxModels() && (!options.isLimitedByBytes() || size < options.getMaxBytes())) {
+				return false;
+			}
+
+			count = 0;
+			size = 0;
+
+			return true;
+		}
+
+		@SuppressWarnings("unchecked")
+		private long sizeOf(WriteModel<Document> model) {
+
+			if (model instanceof InsertOneModel) {
+				return sizeOf(((InsertOneModel<Document>) model).getDocument());
+			}
+
+			if (model instanceof UpdateOneModel) {
+
+				UpdateOneModel<Document> update = (UpdateOneModel<Document>) model;
+				return sizeOf(update.getFilter()) + sizeOf(update.getUpdate());
+			}
+
+			if (model instanceof UpdateManyModel) {
+
+				UpdateManyModel<Document> update = (UpdateManyModel<Document>) model;
+				return sizeOf(update.getFilter()) + sizeOf(update.getUpdate());
+			}
+
+			if (model instanceof ReplaceOneModel) {
+
+				ReplaceOneModel<Document> replace = (ReplaceOneModel<Document>) model;
+				return sizeOf(replace.getFilter()) + sizeOf(replace.getReplacement());
+			}
+
+			if (model instanceof DeleteOneModel) {
+				return sizeOf(((DeleteOneModel<Document>) model).getFilter());
+			}
+
+			if (model instanceof DeleteManyModel) {
+				return sizeOf(((DeleteManyModel<Document>) model).getFilter());
+			}
+
+			return 0;
+		}
+
+		private long sizeOf(Bson bson) {
+
+			RawBsonDocument encoded = bson instanceof Document
+					? new RawBsonDocument((Document) bson, codecRegistry.get(Document.class))
+					: new RawBsonDocument(bson.toBsonDocument(Document.class, codecRegistry), BSON_DOCUMENT_CODEC);
+
+			return encoded.getByteBuffer().remaining();
+		}
+	}
+}
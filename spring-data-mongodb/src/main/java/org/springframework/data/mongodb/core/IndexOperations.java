@@ -15,6 +15,7 @@
  */
 package org.springframework.data.mongodb.core;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.data.mongodb.core.index.IndexDefinition;
@@ -37,6 +38,28 @@ public interface IndexOperations {
 	 */
 	String ensureIndex(IndexDefinition indexDefinition);
 
+	/**
+	 * Ensure that indexes for all of the provided {@link IndexDefinition}s exist for the collection. Implementations
+	 * may compare the definitions against the existing indexes and create only the missing ones using a single command.
+	 * Definitions matching an existing index by keys but not by options are treated as missing, so creating them
+	 * surfaces the conflict.
+	 *
+	 * @param indexDefinitions must not be {@literal null}.
+	 * @return the names of the indexes newly created. Implementations comparing against the existing indexes do not
+	 *         return the names of indexes already present.
+	 * @since 2.0
+	 */
+	default List<String> ensureIndexes(List<? extends IndexDefinition> indexDefinitions) {
+
+		List<String> names = new ArrayList<String>(indexDefinitions.size());
+
+		for (IndexDefinition indexDefinition : indexDefinitions) {
+			names.add(ensureIndex(indexDefinition));
+		}
+
+		return names;
+	}
+
 	/**
 	 * Drops an index from this collection.
 	 * 
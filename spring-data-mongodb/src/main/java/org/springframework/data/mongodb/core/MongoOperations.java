@@ -17,14 +17,18 @@ package org.springframework.data.mongodb.core;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.springframework.data.geo.GeoResults;
 import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.aggregation.PreparedAggregation;
 import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.mapreduce.GroupBy;
@@ -33,6 +37,8 @@ import org.springframework.data.mongodb.core.mapreduce.MapReduceOptions;
 import org.springframework.data.mongodb.core.mapreduce.MapReduceResults;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.KeysetPosition;
+import org.springframework.data.mongodb.core.query.KeysetWindow;
 import org.springframework.data.mongodb.core.query.NearQuery;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
@@ -170,6 +176,59 @@ public interface MongoOperations {
 	 */
 	<T> CloseableIterator<T> stream(Query query, Class<T> entityType, String collectionName);
 
+	/**
+	 * Executes the given {@link Query} on the collection of the given entity type and returns the matching documents as
+	 * {@link RawBsonDocument}s holding the bytes as returned by the server. Documents are not decoded, use
+	 * {@link RawBsonDocument#getByteBuffer()} to access the bytes or pass a document to
+	 * {@link MongoConverter#read(Class, org.bson.conversions.Bson)} to map it, which decodes only the properties read.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityClass the type to map the query and to derive the collection name from, must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 2.0
+	 */
+	List<RawBsonDocument> findRaw(Query query, Class<?> entityClass);
+
+	/**
+	 * Executes the given {@link Query} on the given collection and returns the matching documents as
+	 * {@link RawBsonDocument}s holding the bytes as returned by the server.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @return never {@literal null}.
+	 * @since 2.0
+	 * @see #findRaw(Query, Class)
+	 */
+	List<RawBsonDocument> findRaw(Query query, String collectionName);
+
+	/**
+	 * Executes the given {@link Query} on the collection of the given entity type backed by a Mongo DB {@link Cursor}
+	 * returning the documents as {@link RawBsonDocument}s holding the bytes as returned by the server.
+	 * <p>
+	 * Returns a {@link CloseableIterator} that wraps the a Mongo DB {@link Cursor} that needs to be closed.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityClass the type to map the query and to derive the collection name from, must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 2.0
+	 * @see #findRaw(Query, Class)
+	 */
+	CloseableIterator<RawBsonDocument> streamRaw(Query query, Class<?> entityClass);
+
+	/**
+	 * Executes the given {@link Query} on the given collection backed by a Mongo DB {@link Cursor} returning the
+	 * documents as {@link RawBsonDocument}s holding the bytes as returned by the server.
+	 * <p>
+	 * Returns a {@link CloseableIterator} that wraps the a Mongo DB {@link Cursor} that needs to be closed.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @return never {@literal null}.
+	 * @since 2.0
+	 * @see #findRaw(Query, Class)
+	 */
+	CloseableIterator<RawBsonDocument> streamRaw(Query query, String collectionName);
+
 	/**
 	 * Create an uncapped collection with a name based on the provided entity class.
 	 *
@@ -370,6 +429,9 @@ public interface MongoOperations {
 	/**
 	 * Execute an aggregation operation. The raw results will be mapped to the given entity class. The name of the
 	 * inputCollection is derived from the inputType of the aggregation.
+	 * <p/>
+	 * Results are read through a cursor and mapped as the batches arrive. Use {@link AggregationOptions#getMaxResults()}
+	 * to limit the number of results read into memory.
 	 *
 	 * @param aggregation The {@link TypedAggregation} specification holding the aggregation operations, must not be
 	 *          {@literal null}.
@@ -383,6 +445,9 @@ public interface MongoOperations {
 	/**
 	 * Execute an aggregation operation. The raw results will be mapped to the given entity class. The name of the
 	 * inputCollection is derived from the inputType of the aggregation.
+	 * <p/>
+	 * Results are read through a cursor and mapped as the batches arrive. Use {@link AggregationOptions#getMaxResults()}
+	 * to limit the number of results read into memory.
 	 *
 	 * @param aggregation The {@link TypedAggregation} specification holding the aggregation operations, must not be
 	 *          {@literal null}.
@@ -394,6 +459,9 @@ public interface MongoOperations {
 
 	/**
 	 * Execute an aggregation operation. The raw results will be mapped to the given entity class.
+	 * <p/>
+	 * Results are read through a cursor and mapped as the batches arrive. Use {@link AggregationOptions#getMaxResults()}
+	 * to limit the number of results read into memory.
 	 *
 	 * @param aggregation The {@link Aggregation} specification holding the aggregation operations, must not be
 	 *          {@literal null}.
@@ -407,6 +475,9 @@ public interface MongoOperations {
 
 	/**
 	 * Execute an aggregation operation. The raw results will be mapped to the given entity class.
+	 * <p/>
+	 * Results are read through a cursor and mapped as the batches arrive. Use {@link AggregationOptions#getMaxResults()}
+	 * to limit the number of results read into memory.
 	 *
 	 * @param aggregation The {@link Aggregation} specification holding the aggregation operations, must not be
 	 *          {@literal null}.
@@ -418,6 +489,55 @@ public interface MongoOperations {
 	 */
 	<O> AggregationResults<O> aggregate(Aggregation aggregation, String collectionName, Class<O> outputType);
 
+	/**
+	 * Prepare the given {@link TypedAggregation} for repeated execution against the collection of its input type. The
+	 * aggregation is rendered and its field references are mapped once. Use {@link Aggregation#parameter(String)} to
+	 * declare values that are bound on execution.
+	 *
+	 * @param aggregation The {@link TypedAggregation} specification holding the aggregation operations, must not be
+	 *          {@literal null}.
+	 * @return the {@link PreparedAggregation} to be executed via {@link #aggregate(PreparedAggregation, Map, Class)}.
+	 * @since 2.0
+	 */
+	PreparedAggregation prepareAggregation(TypedAggregation<?> aggregation);
+
+	/**
+	 * Prepare the given {@link Aggregation} for repeated execution against the collection of the given input type,
+	 * mapping field references against it.
+	 *
+	 * @param aggregation The {@link Aggregation} specification holding the aggregation operations, must not be
+	 *          {@literal null}.
+	 * @param inputType the inputType where the aggregation operation will read from, must not be {@literal null}.
+	 * @return the {@link PreparedAggregation} to be executed via {@link #aggregate(PreparedAggregation, Map, Class)}.
+	 * @since 2.0
+	 */
+	PreparedAggregation prepareAggregation(Aggregation aggregation, Class<?> inputType);
+
+	/**
+	 * Prepare the given {@link Aggregation} for repeated execution against the given collection.
+	 *
+	 * @param aggregation The {@link Aggregation} specification holding the aggregation operations, must not be
+	 *          {@literal null}.
+	 * @param collectionName the collection where the aggregation operation will read from, must not be {@literal null} or
+	 *          empty.
+	 * @return the {@link PreparedAggregation} to be executed via {@link #aggregate(PreparedAggregation, Map, Class)}.
+	 * @since 2.0
+	 */
+	PreparedAggregation prepareAggregation(Aggregation aggregation, String collectionName);
+
+	/**
+	 * Execute a {@link PreparedAggregation} binding the given parameter values. The values are converted into their
+	 * MongoDB representation but not mapped against the type of the property they are compared with. The raw results
+	 * will be mapped to the given entity class.
+	 *
+	 * @param aggregation the {@link PreparedAggregation} to execute, must not be {@literal null}.
+	 * @param parameters the values to bind by parameter name, must not be {@literal null}.
+	 * @param outputType The parameterized type of the returned list, must not be {@literal null}.
+	 * @return The results of the aggregation operation.
+	 * @since 2.0
+	 */
+	<O> AggregationResults<O> aggregate(PreparedAggregation aggregation, Map<String, ?> parameters, Class<O> outputType);
+
 	/**
 	 * Execute an aggregation operation backed by a Mongo DB {@link Cursor}.
 	 * <p>
@@ -493,6 +613,33 @@ public interface MongoOperations {
 	 */
 	<O> CloseableIterator<O> aggregateStream(Aggregation aggregation, String collectionName, Class<O> outputType);
 
+	/**
+	 * Execute an aggregation operation returning the resulting documents as {@link RawBsonDocument}s holding the bytes as
+	 * returned by the server. The collection to aggregate is derived from the input type of the given
+	 * {@link TypedAggregation}.
+	 *
+	 * @param aggregation The {@link TypedAggregation} specification holding the aggregation operations, must not be
+	 *          {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 2.0
+	 * @see #findRaw(Query, Class)
+	 */
+	List<RawBsonDocument> aggregateRaw(TypedAggregation<?> aggregation);
+
+	/**
+	 * Execute an aggregation operation returning the resulting documents as {@link RawBsonDocument}s holding the bytes as
+	 * returned by the server.
+	 *
+	 * @param aggregation The {@link Aggregation} specification holding the aggregation operations, must not be
+	 *          {@literal null}.
+	 * @param collectionName the collection where the aggregation operation will read from, must not be {@literal null} or
+	 *          empty.
+	 * @return never {@literal null}.
+	 * @since 2.0
+	 * @see #findRaw(Query, Class)
+	 */
+	List<RawBsonDocument> aggregateRaw(Aggregation aggregation, String collectionName);
+
 	/**
 	 * Execute a map-reduce operation. The map-reduce operation will be formed with an output type of INLINE
 	 *
@@ -669,6 +816,35 @@ public interface MongoOperations {
 	 */
 	<T> List<T> find(Query query, Class<T> entityClass, String collectionName);
 
+	/**
+	 * Returns the window of results of the given sorted and limited {@link Query} following the given
+	 * {@link KeysetPosition} using keyset pagination. Instead of skipping the preceding documents, the query is extended
+	 * by range predicates on the sort keys, so each window costs as much as the first one given an index covering the
+	 * sort. The {@literal _id} is appended to the sort as tie-breaker if not sorted by already. The query's skip is
+	 * ignored, {@code $meta} sorts are not supported.
+	 *
+	 * @param query must not be {@literal null} and have a limit applied.
+	 * @param position must not be {@literal null}, use {@link KeysetPosition#initial()} to request the first window.
+	 * @param entityClass the parameterized type of the results, must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 2.0
+	 */
+	<T> KeysetWindow<T> scroll(Query query, KeysetPosition position, Class<T> entityClass);
+
+	/**
+	 * Returns the window of results of the given sorted and limited {@link Query} following the given
+	 * {@link KeysetPosition} from the given collection using keyset pagination.
+	 *
+	 * @param query must not be {@literal null} and have a limit applied.
+	 * @param position must not be {@literal null}, use {@link KeysetPosition#initial()} to request the first window.
+	 * @param entityClass the parameterized type of the results, must not be {@literal null}.
+	 * @param collectionName name of the collection to retrieve the objects from, must not be {@literal null} or empty.
+	 * @return never {@literal null}.
+	 * @since 2.0
+	 * @see #scroll(Query, KeysetPosition, Class)
+	 */
+	<T> KeysetWindow<T> scroll(Query query, KeysetPosition position, Class<T> entityClass, String collectionName);
+
 	/**
 	 * Returns a document with the given id mapped onto the given class. The collection the query is ran against will be
 	 * derived from the given target class as well.
@@ -868,6 +1044,46 @@ public interface MongoOperations {
 	 */
 	void insertAll(Collection<? extends Object> objectsToSave);
 
+	/**
+	 * Insert the objects of the given {@link Stream} into the collection for the entity type in chunks. Objects are
+	 * converted lazily and written as soon as a chunk is full, so that memory consumption is bounded by the chunk size
+	 * instead of the number of objects. Lifecycle events are emitted per object as its chunk is converted and written.
+	 * The {@link Stream} is closed once consumed.
+	 *
+	 * @param objectsToSave must not be {@literal null}.
+	 * @param entityClass class that determines the collection to use.
+	 * @param options must not be {@literal null}.
+	 * @return the aggregated {@link ChunkedInsertResult}.
+	 * @since 2.0
+	 */
+	ChunkedInsertResult insert(Stream<? extends Object> objectsToSave, Class<?> entityClass,
+			ChunkedInsertOptions options);
+
+	/**
+	 * Insert the objects of the given {@link Stream} into the specified collection in chunks.
+	 *
+	 * @param objectsToSave must not be {@literal null}.
+	 * @param collectionName name of the collection to store the objects in.
+	 * @param options must not be {@literal null}.
+	 * @return the aggregated {@link ChunkedInsertResult}.
+	 * @since 2.0
+	 * @see #insert(Stream, Class, ChunkedInsertOptions)
+	 */
+	ChunkedInsertResult insert(Stream<? extends Object> objectsToSave, String collectionName,
+			ChunkedInsertOptions options);
+
+	/**
+	 * Insert the mixed objects of the given {@link Stream} in chunks determining the collection name to use based on the
+	 * class. Chunks are collected per collection.
+	 *
+	 * @param objectsToSave must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the aggregated {@link ChunkedInsertResult}.
+	 * @since 2.0
+	 * @see #insert(Stream, Class, ChunkedInsertOptions)
+	 */
+	ChunkedInsertResult insertAll(Stream<? extends Object> objectsToSave, ChunkedInsertOptions options);
+
 	/**
 	 * Save the object to the collection for the entity type of the object to save. This will perform an insert if the
 	 * object is not already present, that is an 'upsert'.
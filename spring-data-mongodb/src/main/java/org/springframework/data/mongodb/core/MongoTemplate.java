@@ -21,11 +21,13 @@ import static org.springframework.data.util.Optionals.*;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -33,9 +35,17 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Scanner;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
 import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
 import org.slf4j.Logger;
@@ -51,6 +61,7 @@ import org.springframework.core.convert.ConversionService;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
@@ -72,10 +83,13 @@ import org.springframework.data.mongodb.core.aggregation.AggregationOperationCon
 import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.mongodb.core.aggregation.Fields;
+import org.springframework.data.mongodb.core.aggregation.PreparedAggregation;
 import org.springframework.data.mongodb.core.aggregation.TypeBasedAggregationOperationContext;
 import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
 import org.springframework.data.mongodb.core.convert.DbRefResolver;
 import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver;
+import org.springframework.data.mongodb.core.convert.EntityCodecProvider;
+import org.springframework.data.mongodb.core.convert.EntityDecodingSupport;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoWriter;
@@ -95,11 +109,14 @@ import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
 import org.springframework.data.mongodb.core.mapping.event.BeforeDeleteEvent;
 import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
 import org.springframework.data.mongodb.core.mapping.event.MongoMappingEvent;
+import org.springframework.data.mongodb.core.mapping.event.MongoMappingEventListenerIndex;
 import org.springframework.data.mongodb.core.mapreduce.GroupBy;
 import org.springframework.data.mongodb.core.mapreduce.GroupByResults;
 import org.springframework.data.mongodb.core.mapreduce.MapReduceOptions;
 import org.springframework.data.mongodb.core.mapreduce.MapReduceResults;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.KeysetPosition;
+import org.springframework.data.mongodb.core.query.KeysetWindow;
 import org.springframework.data.mongodb.core.query.Meta;
 import org.springframework.data.mongodb.core.query.NearQuery;
 import org.springframework.data.mongodb.core.query.Query;
@@ -166,6 +183,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	private static final Logger LOGGER = LoggerFactory.getLogger(MongoTemplate.class);
 	private static final String ID_FIELD = "_id";
 	private static final WriteResultChecking DEFAULT_WRITE_RESULT_CHECKING = WriteResultChecking.NONE;
+	private static final int DEFAULT_PARALLEL_MAPPING_BATCH_SIZE = 128;
 	private static final Collection<String> ITERABLE_CLASSES;
 
 	static {
@@ -184,12 +202,20 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	private final PersistenceExceptionTranslator exceptionTranslator;
 	private final QueryMapper queryMapper;
 	private final UpdateMapper updateMapper;
+	private final EntityDecodingSupport entityDecoding;
 
 	private WriteConcern writeConcern;
 	private WriteConcernResolver writeConcernResolver = DefaultWriteConcernResolver.INSTANCE;
 	private WriteResultChecking writeResultChecking = WriteResultChecking.NONE;
 	private ReadPreference readPreference;
+	private boolean eventListenerIndexEnabled = false;
+	private boolean dbRefPrefetchEnabled = false;
+	private boolean parallelMappingEnabled = false;
+	private ForkJoinPool mappingPool = ForkJoinPool.commonPool();
+	private int parallelMappingBatchSize = DEFAULT_PARALLEL_MAPPING_BATCH_SIZE;
 	private ApplicationEventPublisher eventPublisher;
+	private MongoMappingEventListenerIndex eventListenerIndex;
+	private final LongAdder suppressedEvents = new LongAdder();
 	private ResourceLoader resourceLoader;
 	private MongoPersistentEntityIndexCreator indexCreator;
 
@@ -219,6 +245,40 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	 * @param mongoConverter
 	 */
 	public MongoTemplate(MongoDbFactory mongoDbFactory, MongoConverter mongoConverter) {
+		this(mongoDbFactory, mongoConverter, null);
+	}
+
+	/**
+	 * Constructor used for a template configuration creating the indexes of the entities known to the
+	 * {@link MongoMappingContext} in bulk. Index definitions are grouped by collection and only the missing indexes of
+	 * each collection are created, with the collections being processed on the given {@link Executor}. The constructor
+	 * blocks until all indexes are created.
+	 *
+	 * @param mongoDbFactory must not be {@literal null}.
+	 * @param mongoConverter
+	 * @param indexCreationExecutor the {@link Executor} to create indexes on. Can be {@literal null} to create indexes
+	 *          one by one on the calling thread.
+	 * @since 2.0
+	 */
+	public MongoTemplate(MongoDbFactory mongoDbFactory, MongoConverter mongoConverter, Executor indexCreationExecutor) {
+		this(mongoDbFactory, mongoConverter, indexCreationExecutor, true);
+	}
+
+	/**
+	 * Constructor used for a template configuration creating the indexes of the entities known to the
+	 * {@link MongoMappingContext} in bulk on the given {@link Executor}, see
+	 * {@link #MongoTemplate(MongoDbFactory, MongoConverter, Executor)}.
+	 *
+	 * @param mongoDbFactory must not be {@literal null}.
+	 * @param mongoConverter
+	 * @param indexCreationExecutor the {@link Executor} to create indexes on. Can be {@literal null} to create indexes
+	 *          one by one on the calling thread.
+	 * @param waitForIndexCreation whether the constructor blocks until all indexes are created. If {@literal false},
+	 *          index creation failures are logged only. Ignored without an {@link Executor}.
+	 * @since 2.0
+	 */
+	public MongoTemplate(MongoDbFactory mongoDbFactory, MongoConverter mongoConverter, Executor indexCreationExecutor,
+			boolean waitForIndexCreation) {
 
 		Assert.notNull(mongoDbFactory, "MongoDbFactory must not be null!");
 
@@ -227,12 +287,14 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		this.mongoConverter = mongoConverter == null ? getDefaultMongoConverter(mongoDbFactory) : mongoConverter;
 		this.queryMapper = new QueryMapper(this.mongoConverter);
 		this.updateMapper = new UpdateMapper(this.mongoConverter);
+		this.entityDecoding = new EntityDecodingSupport(this.mongoConverter, this.queryMapper);
 
 		// We always have a mapping context in the converter, whether it's a simple one or not
 		mappingContext = this.mongoConverter.getMappingContext();
 		// We create indexes based on mapping events
 		if (null != mappingContext && mappingContext instanceof MongoMappingContext) {
-			indexCreator = new MongoPersistentEntityIndexCreator((MongoMappingContext) mappingContext, this);
+			indexCreator = MongoPersistentEntityIndexCreator.create((MongoMappingContext) mappingContext, this,
+					indexCreationExecutor, waitForIndexCreation);
 			eventPublisher = new MongoMappingEventPublisher(indexCreator);
 			if (mappingContext instanceof ApplicationEventPublisherAware) {
 				((ApplicationEventPublisherAware) mappingContext).setApplicationEventPublisher(eventPublisher);
@@ -280,6 +342,87 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		this.readPreference = readPreference;
 	}
 
+	/**
+	 * Configures whether query results of mapped entity types are decoded by the driver directly using an
+	 * {@link EntityCodecProvider} instead of reading them into an intermediate {@link Document} first. Direct decoding
+	 * skips unmapped fields on the BSON level but is only applied as long as no {@link ApplicationContext} is
+	 * registered, as {@link AfterLoadEvent} listeners expect to see the raw {@link Document}. Defaults to
+	 * {@literal false}.
+	 *
+	 * @param entityDecodingEnabled
+	 * @since 2.0
+	 */
+	public void setEntityDecodingEnabled(boolean entityDecodingEnabled) {
+		this.entityDecoding.setEnabled(entityDecodingEnabled);
+	}
+
+	/**
+	 * Configures whether {@link MongoMappingEvent}s are only created and published if a listener of the
+	 * {@link ApplicationContext} might receive them. Listeners are indexed by event and domain type on
+	 * {@link org.springframework.context.event.ContextRefreshedEvent}, so listeners added to the context afterwards are
+	 * not considered. Defaults to {@literal false}.
+	 *
+	 * @param eventListenerIndexEnabled
+	 * @since 2.0
+	 * @see #getSuppressedEventCount()
+	 */
+	public void setEventListenerIndexEnabled(boolean eventListenerIndexEnabled) {
+		this.eventListenerIndexEnabled = eventListenerIndexEnabled;
+	}
+
+	/**
+	 * Configures whether eagerly loaded {@link org.springframework.data.mongodb.core.mapping.DBRef}s of all documents
+	 * returned by a find operation are resolved upfront using one bulk fetch per referenced collection. Can also be
+	 * enabled for a single query via {@link Query#prefetchDbRefs()}. Requires a {@link MappingMongoConverter}. Defaults to
+	 * {@literal false}.
+	 *
+	 * @param dbRefPrefetchEnabled
+	 * @since 2.0
+	 */
+	public void setDbRefPrefetchEnabled(boolean dbRefPrefetchEnabled) {
+		this.dbRefPrefetchEnabled = dbRefPrefetchEnabled;
+	}
+
+	/**
+	 * Configures whether the documents returned by find and stream operations are mapped in parallel batches on the
+	 * configured {@link ForkJoinPool} while the next batch is read from the cursor. Results are returned in cursor order.
+	 * Can also be enabled for a single query via {@link Query#mapInParallel()}. Defaults to {@literal false}.
+	 *
+	 * @param parallelMappingEnabled
+	 * @since 2.0
+	 * @see #setMappingPool(ForkJoinPool)
+	 * @see #setParallelMappingBatchSize(int)
+	 */
+	public void setParallelMappingEnabled(boolean parallelMappingEnabled) {
+		this.parallelMappingEnabled = parallelMappingEnabled;
+	}
+
+	/**
+	 * Configures the {@link ForkJoinPool} to map documents on if parallel mapping is enabled. Defaults to
+	 * {@link ForkJoinPool#commonPool()}.
+	 *
+	 * @param mappingPool must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public void setMappingPool(ForkJoinPool mappingPool) {
+
+		Assert.notNull(mappingPool, "ForkJoinPool must not be null!");
+		this.mappingPool = mappingPool;
+	}
+
+	/**
+	 * Configures the number of documents read from the cursor and mapped as one batch if parallel mapping is enabled.
+	 * Defaults to {@literal 128}.
+	 *
+	 * @param parallelMappingBatchSize must be greater than zero.
+	 * @since 2.0
+	 */
+	public void setParallelMappingBatchSize(int parallelMappingBatchSize) {
+
+		Assert.isTrue(parallelMappingBatchSize > 0, "Batch size must be greater than zero!");
+		this.parallelMappingBatchSize = parallelMappingBatchSize;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.context.ApplicationContextAware#setApplicationContext(org.springframework.context.ApplicationContext)
@@ -292,6 +435,11 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		if (mappingContext instanceof ApplicationEventPublisherAware) {
 			((ApplicationEventPublisherAware) mappingContext).setApplicationEventPublisher(eventPublisher);
 		}
+
+		eventListenerIndex = new MongoMappingEventListenerIndex(applicationContext);
+		if (applicationContext instanceof ConfigurableApplicationContext) {
+			((ConfigurableApplicationContext) applicationContext).addApplicationListener(eventListenerIndex);
+		}
 		resourceLoader = applicationContext;
 	}
 
@@ -360,12 +508,101 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 				Document mappedFields = queryMapper.getMappedFields(query.getFieldsObject(), persistentEntity);
 				Document mappedQuery = queryMapper.getMappedObject(query.getQueryObject(), persistentEntity);
 
-				FindIterable<Document> cursor = new QueryCursorPreparer(query, entityType)
-						.prepare(collection.find(mappedQuery).projection(mappedFields));
+				QueryCursorPreparer preparer = new QueryCursorPreparer(query, entityType);
+				FindIterable<Document> cursor = preparer.prepare(collection.find(mappedQuery).projection(mappedFields));
+				ReadDocumentCallback<T> callback = new ReadDocumentCallback<T>(mongoConverter, entityType, collectionName);
+
+				if (isParallelMappingEnabled(preparer)) {
+					return new CloseableIterableCursorAdapter<T>(cursor, exceptionTranslator, callback, mappingPool,
+							parallelMappingBatchSize);
+				}
+
+				return new CloseableIterableCursorAdapter<T>(cursor, exceptionTranslator, callback);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#findRaw(org.springframework.data.mongodb.core.query.Query, java.lang.Class)
+	 */
+	@Override
+	public List<RawBsonDocument> findRaw(Query query, Class<?> entityClass) {
+
+		Assert.notNull(entityClass, "Entity class must not be null!");
+
+		return doFindRaw(query, entityClass, determineCollectionName(entityClass),
+				iterable -> iterable.into(new ArrayList<RawBsonDocument>()));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#findRaw(org.springframework.data.mongodb.core.query.Query, java.lang.String)
+	 */
+	@Override
+	public List<RawBsonDocument> findRaw(Query query, String collectionName) {
+		return doFindRaw(query, null, collectionName, iterable -> iterable.into(new ArrayList<RawBsonDocument>()));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#streamRaw(org.springframework.data.mongodb.core.query.Query, java.lang.Class)
+	 */
+	@Override
+	public CloseableIterator<RawBsonDocument> streamRaw(Query query, Class<?> entityClass) {
+
+		Assert.notNull(entityClass, "Entity class must not be null!");
+
+		return doFindRaw(query, entityClass, determineCollectionName(entityClass),
+				iterable -> new RawDocumentCursorAdapter(iterable.iterator(), exceptionTranslator));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#streamRaw(org.springframework.data.mongodb.core.query.Query, java.lang.String)
+	 */
+	@Override
+	public CloseableIterator<RawBsonDocument> streamRaw(Query query, String collectionName) {
+		return doFindRaw(query, null, collectionName,
+				iterable -> new RawDocumentCursorAdapter(iterable.iterator(), exceptionTranslator));
+	}
+
+	/**
+	 * Executes the given {@link Query} reading the results as {@link RawBsonDocument}s and hands the prepared
+	 * {@link FindIterable} to the given {@link Function} to extract the result.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityClass the type to map the query against, can be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @param resultExtractor must not be {@literal null}.
+	 * @return
+	 */
+	private <R> R doFindRaw(Query query, Class<?> entityClass, String collectionName,
+			Function<FindIterable<RawBsonDocument>, R> resultExtractor) {
+
+		Assert.notNull(query, "Query must not be null!");
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+
+		Optional<? extends MongoPersistentEntity<?>> entity = entityClass == null ? Optional.empty()
+				: mappingContext.getPersistentEntity(entityClass);
+
+		Document mappedFields = queryMapper.getMappedFields(query.getFieldsObject(), entity);
+		Document mappedQuery = queryMapper.getMappedObject(query.getQueryObject(), entity);
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("find raw using query: {} fields: {} in collection: {}", serializeToJsonSafely(mappedQuery),
+					mappedFields, collectionName);
+		}
+
+		return execute(collectionName, (CollectionCallback<R>) collection -> {
 
-				return new CloseableIterableCursorAdapter<T>(cursor, exceptionTranslator,
-						new ReadDocumentCallback<T>(mongoConverter, entityType, collectionName));
+			FindIterable<RawBsonDocument> iterable = collection.find(mappedQuery, RawBsonDocument.class);
+
+			if (mappedFields != null && !mappedFields.isEmpty()) {
+				iterable = iterable.projection(mappedFields);
 			}
+
+			return resultExtractor.apply(new QueryCursorPreparer(query, entityClass).prepareCursor(iterable));
 		});
 	}
 
@@ -626,6 +863,160 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 				new QueryCursorPreparer(query, entityClass));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#scroll(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.query.KeysetPosition, java.lang.Class)
+	 */
+	@Override
+	public <T> KeysetWindow<T> scroll(Query query, KeysetPosition position, Class<T> entityClass) {
+
+		Assert.notNull(entityClass, "Entity class must not be null!");
+
+		return scroll(query, position, entityClass, determineCollectionName(entityClass));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#scroll(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.query.KeysetPosition, java.lang.Class, java.lang.String)
+	 */
+	@Override
+	public <T> KeysetWindow<T> scroll(Query query, KeysetPosition position, Class<T> entityClass,
+			String collectionName) {
+
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(position, "KeysetPosition must not be null!");
+		Assert.notNull(entityClass, "Entity class must not be null!");
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+		Assert.isTrue(query.getLimit() > 0, "Keyset pagination requires a limited query!");
+
+		Optional<? extends MongoPersistentEntity<?>> entity = mappingContext.getPersistentEntity(entityClass);
+
+		Document mappedSort = getMappedSortObject(query, entityClass);
+		Document keysetSort = mappedSort == null ? new Document() : new Document(mappedSort);
+
+		if (!keysetSort.containsKey(ID_FIELD)) {
+			keysetSort.put(ID_FIELD, 1);
+		}
+
+		Document mappedQuery = queryMapper.getMappedObject(query.getQueryObject(), entity);
+		Document mappedFields = queryMapper.getMappedFields(query.getFieldsObject(), entity);
+
+		if (!position.isInitial()) {
+			mappedQuery = and(mappedQuery, getKeysetCriteria(keysetSort, position));
+		}
+
+		if (mappedFields != null && mappedFields.values().stream().anyMatch(MongoTemplate::isInclusion)) {
+			keysetSort.keySet().forEach(key -> mappedFields.putIfAbsent(key, 1));
+		}
+
+		int limit = query.getLimit();
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("scroll using query: {} fields: {} sort: {} for class: {} in collection: {}",
+					serializeToJsonSafely(mappedQuery), mappedFields, keysetSort, entityClass, collectionName);
+		}
+
+		List<KeysetEntry<T>> entries = executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields),
+				new KeysetCursorPreparer(query, entityClass, keysetSort, limit + 1),
+				new KeysetEntryCallback<T>(new ReadDocumentCallback<T>(mongoConverter, entityClass, collectionName),
+						keysetSort.keySet()),
+				collectionName, entityClass);
+
+		boolean hasNext = entries.size() > limit;
+		List<KeysetEntry<T>> window = hasNext ? entries.subList(0, limit) : entries;
+
+		List<T> content = new ArrayList<T>(window.size());
+		window.forEach(it -> content.add(it.entity));
+
+		return new KeysetWindow<T>(content, window.isEmpty() ? position : window.get(window.size() - 1).position,
+				hasNext);
+	}
+
+	/**
+	 * Creates the criteria selecting all documents after the given {@link KeysetPosition} in the order defined by the
+	 * given sort, i.e. {@code $or: [ k1 > v1, k1 = v1 and k2 > v2, … ]} with {@code $lt} used for descending keys.
+	 * {@literal null} and missing values sort before all other values, so they are compared using {@code $ne: null}
+	 * for ascending keys and added as {@code null} alternative to {@code $lt} for descending ones.
+	 *
+	 * @param sort the mapped sort including the tie-breaker, must not be {@literal null}.
+	 * @param position must not be {@literal null}.
+	 * @return
+	 */
+	private static Document getKeysetCriteria(Document sort, KeysetPosition position) {
+
+		Map<String, Object> keys = position.getKeys();
+
+		if (!new ArrayList<String>(sort.keySet()).equals(new ArrayList<String>(keys.keySet()))) {
+			throw new IllegalArgumentException(
+					String.format("KeysetPosition %s does not match the sort keys %s!", keys.keySet(), sort.keySet()));
+		}
+
+		List<Document> alternatives = new ArrayList<Document>();
+		Document equalities = new Document();
+
+		for (Entry<String, Object> entry : sort.entrySet()) {
+
+			if (!(entry.getValue() instanceof Number)) {
+				throw new IllegalArgumentException(
+						String.format("Keyset pagination does not support sorting by %s!", entry.getValue()));
+			}
+
+			String key = entry.getKey();
+			Object value = keys.get(key);
+			boolean descending = ((Number) entry.getValue()).intValue() < 0;
+
+			Document after = getKeysetCriterion(key, value, descending);
+
+			if (after != null) {
+
+				Document alternative = new Document(equalities);
+				alternative.putAll(after);
+				alternatives.add(alternative);
+			}
+
+			equalities.put(key, value);
+		}
+
+		if (alternatives.isEmpty()) {
+			throw new IllegalArgumentException(
+					String.format("KeysetPosition %s does not allow selecting any further documents!", keys));
+		}
+
+		return alternatives.size() == 1 ? alternatives.get(0) : new Document("$or", alternatives);
+	}
+
+	/**
+	 * Returns the criterion selecting documents sorting after the given value of the given key or {@literal null} if no
+	 * document can sort after it, i.e. for a {@literal null} value of a descending key.
+	 *
+	 * @param key
+	 * @param value
+	 * @param descending
+	 * @return
+	 */
+	private static Document getKeysetCriterion(String key, Object value, boolean descending) {
+
+		if (value == null) {
+			return descending ? null : new Document(key, new Document("$ne", null));
+		}
+
+		if (!descending) {
+			return new Document(key, new Document("$gt", value));
+		}
+
+		Document lessThan = new Document(key, new Document("$lt", value));
+
+		return new Document("$or", Arrays.asList(lessThan, new Document(key, null)));
+	}
+
+	private static Document and(Document query, Document criteria) {
+		return query == null || query.isEmpty() ? criteria : new Document("$and", Arrays.asList(query, criteria));
+	}
+
+	private static boolean isInclusion(Object value) {
+		return Boolean.TRUE.equals(value) || (value instanceof Number && ((Number) value).intValue() == 1);
+	}
+
 	public <T> T findById(Object id, Class<T> entityClass) {
 		return findById(id, entityClass, determineCollectionName(entityClass));
 	}
@@ -840,16 +1231,19 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	protected <T> void doInsert(String collectionName, T objectToSave, MongoWriter<T> writer) {
 
 		initializeVersionProperty(objectToSave);
-		maybeEmitEvent(new BeforeConvertEvent<T>(objectToSave, collectionName));
+		maybeEmitEvent(BeforeConvertEvent.class, objectToSave.getClass(),
+				() -> new BeforeConvertEvent<T>(objectToSave, collectionName));
 		assertUpdateableIdIfNotSet(objectToSave);
 
 		Document dbDoc = toDocument(objectToSave, writer);
 
-		maybeEmitEvent(new BeforeSaveEvent<T>(objectToSave, dbDoc, collectionName));
+		maybeEmitEvent(BeforeSaveEvent.class, objectToSave.getClass(),
+				() -> new BeforeSaveEvent<T>(objectToSave, dbDoc, collectionName));
 		Object id = insertDocument(collectionName, dbDoc, objectToSave.getClass());
 
 		populateIdIfNecessary(objectToSave, id);
-		maybeEmitEvent(new AfterSaveEvent<T>(objectToSave, dbDoc, collectionName));
+		maybeEmitEvent(AfterSaveEvent.class, objectToSave.getClass(),
+				() -> new AfterSaveEvent<T>(objectToSave, dbDoc, collectionName));
 	}
 
 	/**
@@ -941,11 +1335,12 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		for (T o : batchToSave) {
 
 			initializeVersionProperty(o);
-			maybeEmitEvent(new BeforeConvertEvent<T>(o, collectionName));
+			maybeEmitEvent(BeforeConvertEvent.class, o.getClass(), () -> new BeforeConvertEvent<T>(o, collectionName));
 
 			Document document = toDocument(o, writer);
 
-			maybeEmitEvent(new BeforeSaveEvent<T>(o, document, collectionName));
+			maybeEmitEvent(BeforeSaveEvent.class, o.getClass(),
+					() -> new BeforeSaveEvent<T>(o, document, collectionName));
 			documentList.add(document);
 		}
 
@@ -954,13 +1349,177 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		int i = 0;
 		for (T obj : batchToSave) {
 			if (i < ids.size()) {
+				Document document = documentList.get(i);
 				populateIdIfNecessary(obj, ids.get(i));
-				maybeEmitEvent(new AfterSaveEvent<T>(obj, documentList.get(i), collectionName));
+				maybeEmitEvent(AfterSaveEvent.class, obj.getClass(),
+						() -> new AfterSaveEvent<T>(obj, document, collectionName));
 			}
 			i++;
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#insert(java.util.stream.Stream, java.lang.Class, org.springframework.data.mongodb.core.ChunkedInsertOptions)
+	 */
+	@Override
+	public ChunkedInsertResult insert(Stream<? extends Object> objectsToSave, Class<?> entityClass,
+			ChunkedInsertOptions options) {
+		return insert(objectsToSave, determineCollectionName(entityClass), options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#insert(java.util.stream.Stream, java.lang.String, org.springframework.data.mongodb.core.ChunkedInsertOptions)
+	 */
+	@Override
+	public ChunkedInsertResult insert(Stream<? extends Object> objectsToSave, String collectionName,
+			ChunkedInsertOptions options) {
+
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+
+		return doInsertChunked(objectsToSave, it -> collectionName, options, this.mongoConverter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#insertAll(java.util.stream.Stream, org.springframework.data.mongodb.core.ChunkedInsertOptions)
+	 */
+	@Override
+	public ChunkedInsertResult insertAll(Stream<? extends Object> objectsToSave, ChunkedInsertOptions options) {
+		return doInsertChunked(objectsToSave,
+				it -> mappingContext.getRequiredPersistentEntity(it.getClass()).getCollection(), options, this.mongoConverter);
+	}
+
+	/**
+	 * Converts and inserts the objects of the given {@link Stream} in chunks, keeping one pending chunk per target
+	 * collection. A chunk is written once it reaches the limits defined by the given {@link ChunkedInsertOptions}.
+	 *
+	 * @param objectsToSave must not be {@literal null}.
+	 * @param collectionNameResolver resolves the collection name for a single object, must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @param writer must not be {@literal null}.
+	 * @return
+	 * @since 2.0
+	 */
+	protected <T> ChunkedInsertResult doInsertChunked(Stream<? extends T> objectsToSave,
+			Function<Object, String> collectionNameResolver, ChunkedInsertOptions options, MongoWriter<T> writer) {
+
+		Assert.notNull(objectsToSave, "Objects to save must not be null!");
+		Assert.notNull(options, "ChunkedInsertOptions must not be null!");
+		Assert.notNull(writer, "MongoWriter must not be null!");
+
+		Codec<Document> codec = options.isLimitedByBytes() ? getDb().getCodecRegistry().get(Document.class) : null;
+		Map<String, InsertChunk<T>> chunks = new LinkedHashMap<String, InsertChunk<T>>();
+		List<Object> ids = new ArrayList<Object>();
+		int chunkCount = 0;
+
+		try (Stream<? extends T> stream = objectsToSave) {
+
+			Iterator<? extends T> iterator = stream.iterator();
+
+			while (iterator.hasNext()) {
+
+				T element = iterator.next();
+
+				if (element == null) {
+					continue;
+				}
+
+				String collectionName = collectionNameResolver.apply(element);
+				InsertChunk<T> chunk = chunks.computeIfAbsent(collectionName,
+						key -> new InsertChunk<T>(key, options, codec));
+
+				initializeVersionProperty(element);
+				maybeEmitEvent(BeforeConvertEvent.class, element.getClass(),
+						() -> new BeforeConvertEvent<T>(element, collectionName));
+
+				Document document = toDocument(element, writer);
+
+				maybeEmitEvent(BeforeSaveEvent.class, element.getClass(),
+						() -> new BeforeSaveEvent<T>(element, document, collectionName));
+
+				if (chunk.add(element, document)) {
+					ids.addAll(flushChunk(chunk));
+					chunkCount++;
+				}
+			}
+		}
+
+		for (InsertChunk<T> chunk : chunks.values()) {
+
+			if (!chunk.isEmpty()) {
+				ids.addAll(flushChunk(chunk));
+				chunkCount++;
+			}
+		}
+
+		return new ChunkedInsertResult(ids, chunkCount);
+	}
+
+	private <T> List<Object> flushChunk(InsertChunk<T> chunk) {
+
+		String collectionName = chunk.getCollectionName();
+		List<Document> documents = chunk.getDocuments();
+		List<Object> ids;
+
+		if (chunk.isEncoded()) {
+			ids = insertEncodedDocumentList(collectionName, chunk.getEncodedDocuments(), documents);
+		} else {
+			ids = consolidateIdentifiers(insertDocumentList(collectionName, documents), documents);
+		}
+
+		List<T> elements = chunk.getElements();
+
+		for (int i = 0; i < elements.size(); i++) {
+			if (i < ids.size()) {
+				T element = elements.get(i);
+				Document document = documents.get(i);
+				populateIdIfNecessary(element, ids.get(i));
+				maybeEmitEvent(AfterSaveEvent.class, element.getClass(),
+						() -> new AfterSaveEvent<T>(element, document, collectionName));
+			}
+		}
+
+		chunk.clear();
+
+		return ids;
+	}
+
+	private List<Object> insertEncodedDocumentList(String collectionName, List<RawBsonDocument> encodedDocuments,
+			List<Document> documents) {
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Inserting list of encoded Documents containing {} items", encodedDocuments.size());
+		}
+
+		execute(collectionName, new CollectionCallback<Void>() {
+			public Void doInCollection(MongoCollection<Document> collection) throws MongoException, DataAccessException {
+
+				MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.INSERT_LIST, collectionName, null,
+						null, null);
+				WriteConcern writeConcernToUse = prepareWriteConcern(mongoAction);
+				MongoCollection<RawBsonDocument> rawCollection = collection.withDocumentClass(RawBsonDocument.class);
+
+				if (writeConcernToUse == null) {
+					rawCollection.insertMany(encodedDocuments);
+				} else {
+					rawCollection.withWriteConcern(writeConcernToUse).insertMany(encodedDocuments);
+				}
+
+				return null;
+			}
+		});
+
+		List<Object> ids = new ArrayList<Object>(documents.size());
+
+		for (Document document : documents) {
+			ids.add(document.get(ID_FIELD));
+		}
+
+		return ids;
+	}
+
 	public void save(Object objectToSave) {
 
 		Assert.notNull(objectToSave, "Object to save must not be null!");
@@ -993,14 +1552,16 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			// Bump version number
 			convertingAccessor.setProperty(property, Optional.of(number.longValue() + 1));
 
-			maybeEmitEvent(new BeforeConvertEvent<T>(objectToSave, collectionName));
+			maybeEmitEvent(BeforeConvertEvent.class, objectToSave.getClass(),
+					() -> new BeforeConvertEvent<T>(objectToSave, collectionName));
 			assertUpdateableIdIfNotSet(objectToSave);
 
 			Document document = new Document();
 
 			this.mongoConverter.write(objectToSave, document);
 
-			maybeEmitEvent(new BeforeSaveEvent<T>(objectToSave, document, collectionName));
+			maybeEmitEvent(BeforeSaveEvent.class, objectToSave.getClass(),
+					() -> new BeforeSaveEvent<T>(objectToSave, document, collectionName));
 			Update update = Update.fromDocument(document, ID_FIELD);
 
 			// Create query for entity with the id and old version
@@ -1015,7 +1576,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 						String.format("Cannot save entity %s with version %s to collection %s. Has it been modified meanwhile?", id,
 								versionNumber, collectionName));
 			}
-			maybeEmitEvent(new AfterSaveEvent<T>(objectToSave, document, collectionName));
+			maybeEmitEvent(AfterSaveEvent.class, objectToSave.getClass(),
+					() -> new AfterSaveEvent<T>(objectToSave, document, collectionName));
 
 			return objectToSave;
 
@@ -1027,16 +1589,19 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 	protected <T> T doSave(String collectionName, T objectToSave, MongoWriter<T> writer) {
 
-		maybeEmitEvent(new BeforeConvertEvent<T>(objectToSave, collectionName));
+		maybeEmitEvent(BeforeConvertEvent.class, objectToSave.getClass(),
+				() -> new BeforeConvertEvent<T>(objectToSave, collectionName));
 		assertUpdateableIdIfNotSet(objectToSave);
 
 		Document dbDoc = toDocument(objectToSave, writer);
 
-		maybeEmitEvent(new BeforeSaveEvent<T>(objectToSave, dbDoc, collectionName));
+		maybeEmitEvent(BeforeSaveEvent.class, objectToSave.getClass(),
+				() -> new BeforeSaveEvent<T>(objectToSave, dbDoc, collectionName));
 		Object id = saveDocument(collectionName, dbDoc, objectToSave.getClass());
 
 		populateIdIfNecessary(objectToSave, id);
-		maybeEmitEvent(new AfterSaveEvent<T>(objectToSave, dbDoc, collectionName));
+		maybeEmitEvent(AfterSaveEvent.class, objectToSave.getClass(),
+				() -> new AfterSaveEvent<T>(objectToSave, dbDoc, collectionName));
 
 		return objectToSave;
 	}
@@ -1372,7 +1937,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			public DeleteResult doInCollection(MongoCollection<Document> collection)
 					throws MongoException, DataAccessException {
 
-				maybeEmitEvent(new BeforeDeleteEvent<T>(queryObject, entityClass, collectionName));
+				maybeEmitEvent(BeforeDeleteEvent.class, entityClass,
+						() -> new BeforeDeleteEvent<T>(queryObject, entityClass, collectionName));
 
 				Document mappedQuery = queryMapper.getMappedObject(queryObject, entity);
 
@@ -1397,7 +1963,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 					dr = collection.withWriteConcern(writeConcernToUse).deleteMany(mappedQuery, options);
 				}
 
-				maybeEmitEvent(new AfterDeleteEvent<T>(queryObject, entityClass, collectionName));
+				maybeEmitEvent(AfterDeleteEvent.class, entityClass,
+						() -> new AfterDeleteEvent<T>(queryObject, entityClass, collectionName));
 
 				return dr;
 			}
@@ -1410,7 +1977,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 	public <T> List<T> findAll(Class<T> entityClass, String collectionName) {
 		return executeFindMultiInternal(new FindCallback(null, null), null,
-				new ReadDocumentCallback<T>(mongoConverter, entityClass, collectionName), collectionName);
+				new ReadDocumentCallback<T>(mongoConverter, entityClass, collectionName), collectionName, entityClass);
 	}
 
 	public <T> MapReduceResults<T> mapReduce(String inputCollectionName, String mapFunction, String reduceFunction,
@@ -1596,6 +2163,58 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		return aggregate(aggregation, collectionName, outputType, null);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#prepareAggregation(org.springframework.data.mongodb.core.aggregation.TypedAggregation)
+	 */
+	@Override
+	public PreparedAggregation prepareAggregation(TypedAggregation<?> aggregation) {
+
+		Assert.notNull(aggregation, "Aggregation pipeline must not be null!");
+
+		return prepareAggregation(aggregation, aggregation.getInputType());
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#prepareAggregation(org.springframework.data.mongodb.core.aggregation.Aggregation, java.lang.Class)
+	 */
+	@Override
+	public PreparedAggregation prepareAggregation(Aggregation aggregation, Class<?> inputType) {
+
+		Assert.notNull(inputType, "Input type must not be null!");
+
+		return PreparedAggregation.prepare(aggregation, determineCollectionName(inputType),
+				new TypeBasedAggregationOperationContext(inputType, mappingContext, queryMapper));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#prepareAggregation(org.springframework.data.mongodb.core.aggregation.Aggregation, java.lang.String)
+	 */
+	@Override
+	public PreparedAggregation prepareAggregation(Aggregation aggregation, String collectionName) {
+		return PreparedAggregation.prepare(aggregation, collectionName, Aggregation.DEFAULT_CONTEXT);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#aggregate(org.springframework.data.mongodb.core.aggregation.PreparedAggregation, java.util.Map, java.lang.Class)
+	 */
+	@Override
+	public <O> AggregationResults<O> aggregate(PreparedAggregation aggregation, Map<String, ?> parameters,
+			Class<O> outputType) {
+
+		Assert.notNull(aggregation, "Aggregation pipeline must not be null!");
+		Assert.notNull(parameters, "Parameters must not be null!");
+		Assert.notNull(outputType, "Output type must not be null!");
+
+		Map<String, Object> values = new HashMap<String, Object>(parameters.size());
+
+		for (Entry<String, ?> entry : parameters.entrySet()) {
+			values.put(entry.getKey(), mongoConverter.convertToMongoType(entry.getValue()));
+		}
+
+		return doAggregate(aggregation.toDocument(values), aggregation.getCollectionName(), outputType,
+				aggregation.getOptions().getMaxResults());
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.mongodb.core.MongoOperations#aggregateStream(org.springframework.data.mongodb.core.aggregation.TypedAggregation, java.lang.String, java.lang.Class)
 	 */
@@ -1636,6 +2255,48 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		return aggregateStream(aggregation, collectionName, outputType, null);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#aggregateRaw(org.springframework.data.mongodb.core.aggregation.TypedAggregation)
+	 */
+	@Override
+	public List<RawBsonDocument> aggregateRaw(TypedAggregation<?> aggregation) {
+
+		Assert.notNull(aggregation, "Aggregation pipeline must not be null!");
+
+		return aggregateRaw(aggregation, determineCollectionName(aggregation.getInputType()),
+				new TypeBasedAggregationOperationContext(aggregation.getInputType(), mappingContext, queryMapper));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#aggregateRaw(org.springframework.data.mongodb.core.aggregation.Aggregation, java.lang.String)
+	 */
+	@Override
+	public List<RawBsonDocument> aggregateRaw(Aggregation aggregation, String collectionName) {
+		return aggregateRaw(aggregation, collectionName, null);
+	}
+
+	protected List<RawBsonDocument> aggregateRaw(Aggregation aggregation, String collectionName,
+			AggregationOperationContext context) {
+
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+		Assert.notNull(aggregation, "Aggregation pipeline must not be null!");
+
+		AggregationOperationContext rootContext = context == null ? Aggregation.DEFAULT_CONTEXT : context;
+		Document command = aggregation.toDocument(collectionName, rootContext);
+		AggregationOptions options = AggregationOptions.fromDocument(command);
+		Integer maxResults = aggregation.getOptions().getMaxResults();
+
+		Assert.isTrue(!options.isExplain(), "Can't use explain option with raw results!");
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Executing raw aggregation: {}", serializeToJsonSafely(command));
+		}
+
+		return doAggregate(command, options, collectionName, RawBsonDocument.class, Function.identity(), maxResults);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.core.MongoOperations#findAllAndRemove(org.springframework.data.mongodb.core.query.Query, java.lang.String)
@@ -1694,14 +2355,106 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		AggregationOperationContext rootContext = context == null ? Aggregation.DEFAULT_CONTEXT : context;
 		Document command = aggregation.toDocument(collectionName, rootContext);
 
+		return doAggregate(command, collectionName, outputType, aggregation.getOptions().getMaxResults());
+	}
+
+	/**
+	 * Executes the given aggregation {@code command} reading the results through a cursor unless explain is requested.
+	 *
+	 * @param command the rendered aggregation command, must not be {@literal null}.
+	 * @param collectionName the collection to aggregate, must not be {@literal null} or empty.
+	 * @param outputType the type to map the results to, must not be {@literal null}.
+	 * @param maxResults the maximum number of results to read, can be {@literal null}.
+	 * @return
+	 */
+	protected <O> AggregationResults<O> doAggregate(Document command, String collectionName, Class<O> outputType,
+			Integer maxResults) {
+
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug("Executing aggregation: {}", serializeToJsonSafely(command));
 		}
 
-		Document commandResult = executeCommand(command, this.readPreference);
+		AggregationOptions options = AggregationOptions.fromDocument(command);
+
+		if (options.isExplain()) {
+
+			Document commandResult = executeCommand(command, this.readPreference);
+
+			return new AggregationResults<O>(returnPotentiallyMappedResults(outputType, commandResult, collectionName),
+					commandResult);
+		}
+
+		DocumentCallback<O> callback = new UnwrapAndReadDocumentCallback<O>(mongoConverter, outputType, collectionName);
+		List<O> mappedResults = doAggregate(command, options, collectionName, Document.class, callback::doWith,
+				maxResults);
+
+		return new AggregationResults<O>(mappedResults, new Document("ok", 1.0D));
+	}
+
+	/**
+	 * Executes the given aggregation {@code command} through a cursor decoding the results into the given document
+	 * class and mapping each of them as soon as it is read. Pipelines ending with {@literal $out} are executed without
+	 * reading back the output collection, as done by the aggregate command.
+	 *
+	 * @param command the rendered aggregation command, must not be {@literal null}.
+	 * @param options the {@link AggregationOptions} of the command, must not be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @param documentClass the type to decode the results to, must not be {@literal null}.
+	 * @param mapper the {@link Function} to map each decoded result with, must not be {@literal null}.
+	 * @param maxResults the maximum number of results to read, can be {@literal null}.
+	 * @return
+	 */
+	private <T, R> List<R> doAggregate(Document command, AggregationOptions options, String collectionName,
+			Class<T> documentClass, Function<? super T, ? extends R> mapper, Integer maxResults) {
+
+		return execute(collectionName, new CollectionCallback<List<R>>() {
+
+			@Override
+			public List<R> doInCollection(MongoCollection<Document> collection) throws MongoException, DataAccessException {
+
+				@SuppressWarnings("unchecked")
+				List<Document> pipeline = (List<Document>) command.get("pipeline");
+
+				AggregateIterable<T> cursor = collection.aggregate(pipeline, documentClass)
+						.allowDiskUse(options.isAllowDiskUse()).useCursor(true);
+
+				Integer cursorBatchSize = options.getCursorBatchSize();
+				if (cursorBatchSize != null) {
+					cursor = cursor.batchSize(cursorBatchSize);
+				}
+
+				if (options.getCollation().isPresent()) {
+					cursor = cursor.collation(options.getCollation().map(Collation::toMongoCollation).get());
+				}
+
+				if (isOutAggregation(pipeline)) {
+
+					cursor.toCollection();
+					return Collections.emptyList();
+				}
+
+				List<R> results = new ArrayList<R>();
+
+				try (MongoCursor<T> iterator = cursor.iterator()) {
+
+					while (iterator.hasNext()) {
+
+						if (maxResults != null && results.size() >= maxResults) {
+							throw new IncorrectResultSizeDataAccessException(
+									String.format("Aggregation returned more than %d results!", maxResults), maxResults);
+						}
+
+						results.add(mapper.apply(iterator.next()));
+					}
+				}
+
+				return results;
+			}
+		});
+	}
 
-		return new AggregationResults<O>(returnPotentiallyMappedResults(outputType, commandResult, collectionName),
-				commandResult);
+	private static boolean isOutAggregation(List<Document> pipeline) {
+		return !pipeline.isEmpty() && pipeline.get(pipeline.size() - 1).containsKey("$out");
 	}
 
 	/**
@@ -1755,6 +2508,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			public CloseableIterator<O> doInCollection(MongoCollection<Document> collection)
 					throws MongoException, DataAccessException {
 
+				@SuppressWarnings("unchecked")
 				List<Document> pipeline = (List<Document>) command.get("pipeline");
 
 				AggregationOptions options = AggregationOptions.fromDocument(command);
@@ -1835,12 +2589,81 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		return mongoDbFactory.getDb();
 	}
 
+	/**
+	 * Returns the number of {@link MongoMappingEvent}s that were neither created nor published as no listener is
+	 * interested in them.
+	 *
+	 * @return
+	 * @since 2.0
+	 */
+	public long getSuppressedEventCount() {
+		return suppressedEvents.sum();
+	}
+
 	protected <T> void maybeEmitEvent(MongoMappingEvent<T> event) {
 		if (null != eventPublisher) {
 			eventPublisher.publishEvent(event);
 		}
 	}
 
+	/**
+	 * Creates and publishes the {@link MongoMappingEvent} obtained from the given {@link Supplier} only if an event of
+	 * the given type for the given domain type might be received by any listener.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @param domainType can be {@literal null}.
+	 * @param event must not be {@literal null}.
+	 */
+	private void maybeEmitEvent(Class<?> eventType, Class<?> domainType,
+			Supplier<? extends MongoMappingEvent<?>> event) {
+
+		if (isListenedTo(eventType, domainType)) {
+			maybeEmitEvent(event.get());
+		}
+	}
+
+	/**
+	 * Returns whether a {@link MongoMappingEvent} of the given type for the given domain type might be received by any
+	 * listener and thus needs to be published. Counts the event as suppressed if the event listener index rules out any
+	 * listener for it.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @param domainType can be {@literal null}.
+	 * @return
+	 */
+	private boolean isListenedTo(Class<?> eventType, Class<?> domainType) {
+
+		if (eventPublisher == null || eventPublisher instanceof MongoMappingEventPublisher) {
+			return false;
+		}
+
+		if (!hasListeners(eventType, domainType)) {
+
+			suppressedEvents.increment();
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns whether a {@link MongoMappingEvent} of the given type for the given domain type might be received by any
+	 * listener without counting it as suppressed.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @param domainType can be {@literal null}.
+	 * @return
+	 */
+	private boolean hasListeners(Class<?> eventType, Class<?> domainType) {
+
+		if (eventPublisher == null || eventPublisher instanceof MongoMappingEventPublisher) {
+			return false;
+		}
+
+		return !eventListenerIndexEnabled || eventListenerIndex == null
+				|| eventListenerIndex.hasListeners(eventType, domainType);
+	}
+
 	/**
 	 * Create the specified collection using the provided options
 	 *
@@ -1937,10 +2760,60 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	 */
 	protected <T> List<T> doFind(String collectionName, Document query, Document fields, Class<T> entityClass,
 			CursorPreparer preparer) {
+
+		if (entityDecoding.canDecode(entityClass, eventType -> hasListeners(eventType, entityClass))
+				&& (preparer == null || preparer instanceof QueryCursorPreparer) && !isDbRefPrefetchEnabled(preparer)
+				&& !isParallelMappingEnabled(preparer)) {
+			return doFindAndDecode(collectionName, query, fields, entityClass, (QueryCursorPreparer) preparer);
+		}
+
 		return doFind(collectionName, query, fields, entityClass, preparer,
 				new ReadDocumentCallback<T>(mongoConverter, entityClass, collectionName));
 	}
 
+	/**
+	 * Executes the query and lets the driver decode the results directly into the given entity type using the
+	 * {@link EntityCodecProvider}. Bypasses the intermediate {@link Document} and thus must only be used if no
+	 * {@link AfterLoadEvent} or {@link AfterConvertEvent} listener needs to see it.
+	 *
+	 * @param collectionName name of the collection to retrieve the objects from.
+	 * @param query the query document that specifies the criteria used to find a record.
+	 * @param fields the document that specifies the fields to be returned.
+	 * @param entityClass the parameterized type of the returned list.
+	 * @param preparer can be {@literal null}.
+	 * @return the {@link List} of converted objects.
+	 */
+	private <T> List<T> doFindAndDecode(String collectionName, Document query, Document fields, Class<T> entityClass,
+			QueryCursorPreparer preparer) {
+
+		return entityDecoding.find(collectionName, query, fields, entityClass,
+				(mappedQuery, mappedFields) -> execute(collectionName, (CollectionCallback<List<T>>) collection -> {
+
+					FindIterable<T> iterable = collection
+							.withCodecRegistry(entityDecoding.getCodecRegistry(collection.getCodecRegistry()))
+							.find(mappedQuery, entityClass);
+
+					if (mappedFields != null) {
+						iterable = iterable.projection(mappedFields);
+					}
+
+					if (preparer != null) {
+						iterable = preparer.prepareCursor(iterable);
+					}
+
+					try (MongoCursor<T> cursor = iterable.iterator()) {
+
+						List<T> result = new ArrayList<T>();
+
+						while (cursor.hasNext()) {
+							result.add(cursor.next());
+						}
+
+						return result;
+					}
+				}));
+	}
+
 	protected <S, T> List<T> doFind(String collectionName, Document query, Document fields, Class<S> entityClass,
 			CursorPreparer preparer, DocumentCallback<T> objectCallback) {
 
@@ -1955,7 +2828,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		}
 
 		return executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields), preparer, objectCallback,
-				collectionName);
+				collectionName, entityClass);
 	}
 
 	protected Document convertToDocument(CollectionOptions collectionOptions) {
@@ -2112,7 +2985,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	 * @return
 	 */
 	private <T> List<T> executeFindMultiInternal(CollectionCallback<FindIterable<Document>> collectionCallback,
-			CursorPreparer preparer, DocumentCallback<T> objectCallback, String collectionName) {
+			CursorPreparer preparer, DocumentCallback<T> objectCallback, String collectionName, Class<?> entityClass) {
 
 		try {
 
@@ -2129,8 +3002,26 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 				cursor = iterable.iterator();
 
+				if (entityClass != null && isDbRefPrefetchEnabled(preparer)) {
+					return readWithPrefetchedDbRefs(cursor, objectCallback, entityClass);
+				}
+
 				List<T> result = new ArrayList<T>();
 
+				if (isParallelMappingEnabled(preparer)) {
+
+					ParallelMappingIterator<T> iterator = new ParallelMappingIterator<T>(cursor, objectCallback, mappingPool,
+							parallelMappingBatchSize);
+
+					try {
+						iterator.forEachRemaining(result::add);
+					} finally {
+						iterator.discard();
+					}
+
+					return result;
+				}
+
 				while (cursor.hasNext()) {
 					Document object = cursor.next();
 					result.add(objectCallback.doWith(object));
@@ -2149,6 +3040,60 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		}
 	}
 
+	private boolean isDbRefPrefetchEnabled(CursorPreparer preparer) {
+
+		if (!(mongoConverter instanceof MappingMongoConverter)) {
+			return false;
+		}
+
+		if (dbRefPrefetchEnabled) {
+			return true;
+		}
+
+		return preparer instanceof QueryCursorPreparer && ((QueryCursorPreparer) preparer).query != null
+				&& ((QueryCursorPreparer) preparer).query.isPrefetchDbRefs();
+	}
+
+	private boolean isParallelMappingEnabled(CursorPreparer preparer) {
+
+		if (parallelMappingEnabled) {
+			return true;
+		}
+
+		return preparer instanceof QueryCursorPreparer && ((QueryCursorPreparer) preparer).query != null
+				&& ((QueryCursorPreparer) preparer).query.isMapInParallel();
+	}
+
+	/**
+	 * Reads all raw {@link Document}s from the given cursor first and converts them afterwards with their
+	 * {@link com.mongodb.DBRef}s resolved upfront.
+	 *
+	 * @param cursor must not be {@literal null}.
+	 * @param objectCallback must not be {@literal null}.
+	 * @param entityClass must not be {@literal null}.
+	 * @return
+	 */
+	private <T> List<T> readWithPrefetchedDbRefs(MongoCursor<Document> cursor, DocumentCallback<T> objectCallback,
+			Class<?> entityClass) {
+
+		List<Document> documents = new ArrayList<Document>();
+
+		while (cursor.hasNext()) {
+			documents.add(cursor.next());
+		}
+
+		return ((MappingMongoConverter) mongoConverter).doWithPrefetchedDbRefs(entityClass, documents, () -> {
+
+			List<T> result = new ArrayList<T>(documents.size());
+
+			for (Document document : documents) {
+				result.add(objectCallback.doWith(document));
+			}
+
+			return result;
+		});
+	}
+
 	private void executeQueryInternal(CollectionCallback<FindIterable<Document>> collectionCallback,
 			CursorPreparer preparer, DocumentCallbackHandler callbackHandler, String collectionName) {
 
@@ -2264,6 +3209,91 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		return result;
 	}
 
+	/**
+	 * Pending chunk of converted objects for a single collection. Tracks the number of documents and, if limited by
+	 * bytes, encodes each document once so that the exact size is known and the encoded form can be written as is.
+	 *
+	 * @since 2.0
+	 */
+	private static class InsertChunk<T> {
+
+		private final String collectionName;
+		private final ChunkedInsertOptions options;
+		private final Codec<Document> codec;
+
+		private final List<T> elements = new ArrayList<T>();
+		private final List<Document> documents = new ArrayList<Document>();
+		private final List<RawBsonDocument> encodedDocuments = new ArrayList<RawBsonDocument>();
+		private long size;
+
+		InsertChunk(String collectionName, ChunkedInsertOptions options, Codec<Document> codec) {
+
+			this.collectionName = collectionName;
+			this.options = options;
+			this.codec = codec;
+		}
+
+		/**
+		 * Adds the given element and its {@link Document} to the chunk.
+		 *
+		 * @param element
+		 * @param document
+		 * @return {@literal true} if the chunk is full and has to be flushed.
+		 */
+		boolean add(T element, Document document) {
+
+			elements.add(element);
+			documents.add(document);
+
+			if (isEncoded()) {
+
+				// generate the identifier upfront as the encoded document is not handed back by the driver
+				if (!document.containsKey(ID_FIELD)) {
+					document.put(ID_FIELD, new ObjectId());
+				}
+
+				RawBsonDocument encoded = new RawBsonDocument(document, codec);
+
+				encodedDocuments.add(encoded);
+				size += encoded.getByteBuffer().remaining();
+			}
+
+			return documents.size() >= options.getMaxDocuments() || (isEncoded() && size >= options.getMaxBytes());
+		}
+
+		boolean isEncoded() {
+			return codec != null;
+		}
+
+		boolean isEmpty() {
+			return documents.isEmpty();
+		}
+
+		String getCollectionName() {
+			return collectionName;
+		}
+
+		List<T> getElements() {
+			return elements;
+		}
+
+		List<Document> getDocuments() {
+			return documents;
+		}
+
+		List<RawBsonDocument> getEncodedDocuments() {
+			return encodedDocuments;
+		}
+
+		void clear() {
+
+			elements.clear();
+			documents.clear();
+			encodedDocuments.clear();
+			size = 0;
+		}
+	}
+
 	// Callback implementations
 
 	/**
@@ -2436,11 +3466,12 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		public T doWith(Document object) {
 			if (null != object) {
-				maybeEmitEvent(new AfterLoadEvent<T>(object, type, collectionName));
+				maybeEmitEvent(AfterLoadEvent.class, type, () -> new AfterLoadEvent<T>(object, type, collectionName));
 			}
 			T source = reader.read(type, object);
 			if (null != source) {
-				maybeEmitEvent(new AfterConvertEvent<T>(object, source, collectionName));
+				maybeEmitEvent(AfterConvertEvent.class, source.getClass(),
+						() -> new AfterConvertEvent<T>(object, source, collectionName));
 			}
 			return source;
 		}
@@ -2491,6 +3522,16 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		 * @see org.springframework.data.mongodb.core.CursorPreparer#prepare(com.mongodb.DBCursor)
 		 */
 		public FindIterable<Document> prepare(FindIterable<Document> cursor) {
+			return prepareCursor(cursor);
+		}
+
+		/**
+		 * Prepares the given {@link FindIterable} regardless of the result type it decodes to.
+		 *
+		 * @param cursor must not be {@literal null}.
+		 * @return
+		 */
+		<T> FindIterable<T> prepareCursor(FindIterable<T> cursor) {
 
 			if (query == null) {
 				return cursor;
@@ -2502,7 +3543,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 				return cursor;
 			}
 
-			FindIterable<Document> cursorToUse;
+			FindIterable<T> cursorToUse;
 
 			cursorToUse = query.getCollation().map(Collation::toMongoCollation).map(cursor::collation).orElse(cursor);
 
@@ -2555,6 +3596,102 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		}
 	}
 
+	/**
+	 * {@link QueryCursorPreparer} replacing the sort, skip and limit of the {@link Query} with the ones required for
+	 * keyset pagination.
+	 *
+	 * @since 2.0
+	 */
+	class KeysetCursorPreparer extends QueryCursorPreparer {
+
+		private final Document sort;
+		private final int limit;
+
+		KeysetCursorPreparer(Query query, Class<?> type, Document sort, int limit) {
+
+			super(query, type);
+
+			this.sort = sort;
+			this.limit = limit;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.MongoTemplate.QueryCursorPreparer#prepare(com.mongodb.client.FindIterable)
+		 */
+		@Override
+		public FindIterable<Document> prepare(FindIterable<Document> cursor) {
+			return super.prepare(cursor).sort(sort).skip(0).limit(limit);
+		}
+	}
+
+	/**
+	 * A mapped entity along with the {@link KeysetPosition} of the {@link Document} it was read from.
+	 *
+	 * @since 2.0
+	 */
+	private static class KeysetEntry<T> {
+
+		private final T entity;
+		private final KeysetPosition position;
+
+		KeysetEntry(T entity, KeysetPosition position) {
+
+			this.entity = entity;
+			this.position = position;
+		}
+	}
+
+	/**
+	 * {@link DocumentCallback} capturing the sort key values of each {@link Document} next to the entity read by the
+	 * delegate.
+	 *
+	 * @since 2.0
+	 */
+	private static class KeysetEntryCallback<T> implements DocumentCallback<KeysetEntry<T>> {
+
+		private final DocumentCallback<T> delegate;
+		private final Collection<String> keys;
+
+		KeysetEntryCallback(DocumentCallback<T> delegate, Collection<String> keys) {
+
+			this.delegate = delegate;
+			this.keys = keys;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.MongoTemplate.DocumentCallback#doWith(org.bson.Document)
+		 */
+		@Override
+		public KeysetEntry<T> doWith(Document object) {
+
+			Map<String, Object> values = new LinkedHashMap<String, Object>();
+
+			for (String key : keys) {
+				values.put(key, getValue(object, key));
+			}
+
+			return new KeysetEntry<T>(delegate.doWith(object), KeysetPosition.of(values));
+		}
+
+		private static Object getValue(Document document, String path) {
+
+			Object value = document;
+
+			for (String segment : path.split("\\.")) {
+
+				if (!(value instanceof Document)) {
+					return null;
+				}
+
+				value = ((Document) value).get(segment);
+			}
+
+			return value;
+		}
+	}
+
 	/**
 	 * {@link DocumentCallback} that assumes a {@link GeoResult} to be created, delegates actual content unmarshalling to
 	 * a delegate and creates a {@link GeoResult} from the result.
@@ -2591,6 +3728,53 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		}
 	}
 
+	/**
+	 * A {@link CloseableIterator} over the {@link RawBsonDocument}s of a {@link MongoCursor}.
+	 *
+	 * @since 2.0
+	 */
+	static class RawDocumentCursorAdapter implements CloseableIterator<RawBsonDocument> {
+
+		private final MongoCursor<RawBsonDocument> cursor;
+		private final PersistenceExceptionTranslator exceptionTranslator;
+
+		RawDocumentCursorAdapter(MongoCursor<RawBsonDocument> cursor, PersistenceExceptionTranslator exceptionTranslator) {
+
+			this.cursor = cursor;
+			this.exceptionTranslator = exceptionTranslator;
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			try {
+				return cursor.hasNext();
+			} catch (RuntimeException ex) {
+				throw potentiallyConvertRuntimeException(ex, exceptionTranslator);
+			}
+		}
+
+		@Override
+		public RawBsonDocument next() {
+
+			try {
+				return cursor.next();
+			} catch (RuntimeException ex) {
+				throw potentiallyConvertRuntimeException(ex, exceptionTranslator);
+			}
+		}
+
+		@Override
+		public void close() {
+
+			try {
+				cursor.close();
+			} catch (RuntimeException ex) {
+				throw potentiallyConvertRuntimeException(ex, exceptionTranslator);
+			}
+		}
+	}
+
 	/**
 	 * A {@link CloseableIterator} that is backed by a MongoDB {@link Cursor}.
 	 *
@@ -2602,6 +3786,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		private volatile MongoCursor<Document> cursor;
 		private PersistenceExceptionTranslator exceptionTranslator;
 		private DocumentCallback<T> objectReadCallback;
+		private ParallelMappingIterator<T> parallelIterator;
 
 		CloseableIterableCursorAdapter(MongoCursor<Document> cursor, PersistenceExceptionTranslator exceptionTranslator,
 				DocumentCallback<T> objectReadCallback) {
@@ -2625,6 +3810,24 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			this.objectReadCallback = objectReadCallback;
 		}
 
+		/**
+		 * Creates a new {@link CloseableIterableCursorAdapter} backed by the given {@link Cursor} mapping the documents in
+		 * batches of the given size on the given {@link ForkJoinPool}.
+		 *
+		 * @param cursor
+		 * @param exceptionTranslator
+		 * @param objectReadCallback
+		 * @param pool must not be {@literal null}.
+		 * @param batchSize must be greater than zero.
+		 * @since 2.0
+		 */
+		CloseableIterableCursorAdapter(FindIterable<Document> cursor, PersistenceExceptionTranslator exceptionTranslator,
+				DocumentCallback<T> objectReadCallback, ForkJoinPool pool, int batchSize) {
+
+			this(cursor, exceptionTranslator, objectReadCallback);
+			this.parallelIterator = new ParallelMappingIterator<T>(this.cursor, objectReadCallback, pool, batchSize);
+		}
+
 		@Override
 		public boolean hasNext() {
 
@@ -2633,7 +3836,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			}
 
 			try {
-				return cursor.hasNext();
+				return parallelIterator != null ? parallelIterator.hasNext() : cursor.hasNext();
 			} catch (RuntimeException ex) {
 				throw potentiallyConvertRuntimeException(ex, exceptionTranslator);
 			}
@@ -2647,6 +3850,11 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			}
 
 			try {
+
+				if (parallelIterator != null) {
+					return parallelIterator.next();
+				}
+
 				Document item = cursor.next();
 				T converted = objectReadCallback.doWith(item);
 				return converted;
@@ -2660,6 +3868,11 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 			MongoCursor<Document> c = cursor;
 			try {
+
+				if (parallelIterator != null) {
+					parallelIterator.discard();
+				}
+
 				c.close();
 			} catch (RuntimeException ex) {
 				throw potentiallyConvertRuntimeException(ex, exceptionTranslator);
@@ -2667,6 +3880,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 				cursor = null;
 				exceptionTranslator = null;
 				objectReadCallback = null;
+				parallelIterator = null;
 			}
 		}
 	}
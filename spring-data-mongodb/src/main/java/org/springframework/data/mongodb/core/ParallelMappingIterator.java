@@ -0,0 +1,129 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate.DocumentCallback;
+import org.springframework.util.Assert;
+
+import com.mongodb.client.MongoCursor;
+
+/**
+ * {@link Iterator} mapping the {@link Document}s of a {@link MongoCursor} in batches on a {@link ForkJoinPool}. While
+ * a batch is mapped, the next one is read from the cursor on the calling thread and handed to the pool as well. The
+ * documents of a batch are mapped in parallel, results are returned in cursor order.
+ *
+ * @since 2.0
+ */
+class ParallelMappingIterator<T> implements Iterator<T> {
+
+	private final MongoCursor<Document> cursor;
+	private final DocumentCallback<T> callback;
+	private final ForkJoinPool pool;
+	private final int batchSize;
+
+	private Iterator<T> current = Collections.emptyIterator();
+	private ForkJoinTask<List<T>> pending;
+
+	/**
+	 * Creates a new {@link ParallelMappingIterator}.
+	 *
+	 * @param cursor must not be {@literal null}.
+	 * @param callback must not be {@literal null}.
+	 * @param pool must not be {@literal null}.
+	 * @param batchSize must be greater than zero.
+	 */
+	ParallelMappingIterator(MongoCursor<Document> cursor, DocumentCallback<T> callback, ForkJoinPool pool,
+			int batchSize) {
+
+		Assert.notNull(cursor, "Cursor must not be null!");
+		Assert.notNull(callback, "DocumentCallback must not be null!");
+		Assert.notNull(pool, "ForkJoinPool must not be null!");
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+
+		this.cursor = cursor;
+		this.callback = callback;
+		this.pool = pool;
+		this.batchSize = batchSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#hasNext()
+	 */
+	@Override
+	public boolean hasNext() {
+		return current.hasNext() || pending != null || cursor.hasNext();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#next()
+	 */
+	@Override
+	public T next() {
+
+		while (!current.hasNext()) {
+
+			if (pending == null && !cursor.hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			ForkJoinTask<List<T>> task = pending != null ? pending : map(readBatch());
+			pending = cursor.hasNext() ? map(readBatch()) : null;
+			current = task.join().iterator();
+		}
+
+		return current.next();
+	}
+
+	/**
+	 * Cancels the mapping of batches not consumed yet.
+	 */
+	void discard() {
+
+		if (pending != null) {
+			pending.cancel(false);
+			pending = null;
+		}
+
+		current = Collections.emptyIterator();
+	}
+
+	private List<Document> readBatch() {
+
+		List<Document> batch = new ArrayList<Document>(batchSize);
+
+		while (batch.size() < batchSize && cursor.hasNext()) {
+			batch.add(cursor.next());
+		}
+
+		return batch;
+	}
+
+	private ForkJoinTask<List<T>> map(List<Document> documents) {
+		return pool.submit(() -> documents.parallelStream().map(callback::doWith).collect(Collectors.toList()));
+	}
+}
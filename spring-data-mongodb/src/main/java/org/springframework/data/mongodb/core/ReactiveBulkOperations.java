@@ -0,0 +1,149 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.reactivestreams.Publisher;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.WriteModel;
+
+/**
+ * Reactive bulk operations for insert/update/remove actions on a collection. Mirrors {@link BulkOperations} and allows
+ * to add multiple single operations or list of similar operations in sequence which can then eventually be executed by
+ * subscribing to {@link #execute()}.
+ * <p>
+ * {@link #execute(Publisher, BulkChunkOptions)} additionally allows to write a potentially unbounded stream of
+ * {@link WriteModel}s that is split into multiple bulk writes.
+ *
+ * @since 2.0
+ * @see BulkOperations
+ */
+public interface ReactiveBulkOperations {
+
+	/**
+	 * Add a single insert to the bulk operation.
+	 *
+	 * @param document the document to insert, must not be {@literal null}.
+	 * @return the current {@link ReactiveBulkOperations} instance with the insert added, will never be {@literal null}.
+	 */
+	ReactiveBulkOperations insert(Object document);
+
+	/**
+	 * Add a list of inserts to the bulk operation.
+	 *
+	 * @param documents List of documents to insert, must not be {@literal null}.
+	 * @return the current {@link ReactiveBulkOperations} instance with the insert added, will never be {@literal null}.
+	 */
+	ReactiveBulkOperations insert(List<? extends Object> documents);
+
+	/**
+	 * Add a single update to the bulk operation. For the update request, only the first matching document is updated.
+	 *
+	 * @param query update criteria, must not be {@literal null}.
+	 * @param update {@link Update} operation to perform, must not be {@literal null}.
+	 * @return the current {@link ReactiveBulkOperations} instance with the update added, will never be {@literal null}.
+	 */
+	ReactiveBulkOperations updateOne(Query query, Update update);
+
+	/**
+	 * Add a list of updates to the bulk operation. For each update request, only the first matching document is updated.
+	 *
+	 * @param updates Update operations to perform, must not be {@literal null}.
+	 * @return the current {@link ReactiveBulkOperations} instance with the update added, will never be {@literal null}.
+	 */
+	ReactiveBulkOperations updateOne(List<Pair<Query, Update>> updates);
+
+	/**
+	 * Add a single update to the bulk operation. For the update request, all matching documents are updated.
+	 *
+	 * @param query update criteria, must not be {@literal null}.
+	 * @param update {@link Update} operation to perform, must not be {@literal null}.
+	 * @return the current {@link ReactiveBulkOperations} instance with the update added, will never be {@literal null}.
+	 */
+	ReactiveBulkOperations updateMulti(Query query, Update update);
+
+	/**
+	 * Add a list of updates to the bulk operation. For each update request, all matching documents are updated.
+	 *
+	 * @param updates Update operations to perform, must not be {@literal null}.
+	 * @return the current {@link ReactiveBulkOperations} instance with the update added, will never be {@literal null}.
+	 */
+	ReactiveBulkOperations updateMulti(List<Pair<Query, Update>> updates);
+
+	/**
+	 * Add a single upsert to the bulk operation. An upsert is an update if the set of matching documents is not empty,
+	 * else an insert.
+	 *
+	 * @param query update criteria, must not be {@literal null}.
+	 * @param update {@link Update} operation to perform, must not be {@literal null}.
+	 * @return the current {@link ReactiveBulkOperations} instance with the update added, will never be {@literal null}.
+	 */
+	ReactiveBulkOperations upsert(Query query, Update update);
+
+	/**
+	 * Add a list of upserts to the bulk operation. An upsert is an update if the set of matching documents is not empty,
+	 * else an insert.
+	 *
+	 * @param updates Updates/insert operations to perform, must not be {@literal null}.
+	 * @return the current {@link ReactiveBulkOperations} instance with the update added, will never be {@literal null}.
+	 */
+	ReactiveBulkOperations upsert(List<Pair<Query, Update>> updates);
+
+	/**
+	 * Add a single remove operation to the bulk operation.
+	 *
+	 * @param remove the {@link Query} to select the documents to be removed, must not be {@literal null}.
+	 * @return the current {@link ReactiveBulkOperations} instance with the removal added, will never be {@literal null}.
+	 */
+	ReactiveBulkOperations remove(Query remove);
+
+	/**
+	 * Add a list of remove operations to the bulk operation.
+	 *
+	 * @param removes the remove operations to perform, must not be {@literal null}.
+	 * @return the current {@link ReactiveBulkOperations} instance with the removal added, will never be {@literal null}.
+	 */
+	ReactiveBulkOperations remove(List<Query> removes);
+
+	/**
+	 * Execute all registered bulk operations using the default write concern. The operations are sent to the server on
+	 * subscription.
+	 *
+	 * @return a {@link Mono} emitting the result of the bulk operation providing counters for inserts/updates etc.
+	 */
+	Mono<BulkWriteResult> execute();
+
+	/**
+	 * Write the given stream of {@link WriteModel}s by splitting it into chunks according to the given
+	 * {@link BulkChunkOptions} and issuing one bulk write per chunk. Chunks are written one after another and at most
+	 * one chunk is buffered ahead of the one currently written, so {@code models} is consumed at the pace the results are
+	 * requested. Operations registered on this instance are not affected.
+	 *
+	 * @param models the {@link WriteModel}s to write, must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return a {@link Flux} emitting one {@link BulkWriteResult} per written chunk.
+	 */
+	Flux<BulkWriteResult> execute(Publisher<? extends WriteModel<Document>> models, BulkChunkOptions options);
+}
@@ -18,9 +18,14 @@ package org.springframework.data.mongodb.core;
 import java.util.Collection;
 
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscription;
 import org.springframework.data.geo.GeoResult;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.BasicQuery;
@@ -67,6 +72,26 @@ public interface ReactiveMongoOperations {
 	 */
 	ReactiveIndexOperations indexOps(Class<?> entityClass);
 
+	/**
+	 * Returns a new {@link ReactiveBulkOperations} for the given collection.
+	 *
+	 * @param mode the {@link BulkMode} to use for bulk operations, must not be {@literal null}.
+	 * @param collectionName the name of the collection to work on, must not be {@literal null} or empty.
+	 * @return {@link ReactiveBulkOperations} on the named collection
+	 * @since 2.0
+	 */
+	ReactiveBulkOperations bulkOps(BulkMode mode, String collectionName);
+
+	/**
+	 * Returns a new {@link ReactiveBulkOperations} for the given entity type.
+	 *
+	 * @param mode the {@link BulkMode} to use for bulk operations, must not be {@literal null}.
+	 * @param entityClass the name of the entity class, must not be {@literal null}.
+	 * @return {@link ReactiveBulkOperations} on the named collection associated of the given entity class.
+	 * @since 2.0
+	 */
+	ReactiveBulkOperations bulkOps(BulkMode mode, Class<?> entityClass);
+
 	/**
 	 * Execute the a MongoDB command expressed as a JSON string. This will call the method JSON.parse that is part of the
 	 * MongoDB driver to convert the JSON string to a DBObject. Any errors that result from executing this command will be
@@ -249,6 +274,101 @@ public interface ReactiveMongoOperations {
 	 */
 	<T> Flux<T> findAll(Class<T> entityClass, String collectionName);
 
+	/**
+	 * Execute an aggregation operation and stream the results as {@link Flux}. The raw results are read from the server
+	 * in cursor batches with back-pressure and mapped to the given output type on demand. The aggregation runs against
+	 * the given collection, its input type is only used to map field references.
+	 * <p/>
+	 * The {@link AggregationOptions#getCursorBatchSize() cursor batch size} limits the number of documents requested
+	 * from the server at once. Aggregation streaming can't be used with {@link AggregationOptions#isExplain() aggregation
+	 * explain}. Enabling explanation mode will throw an {@link IllegalArgumentException}.
+	 *
+	 * @param aggregation The {@link TypedAggregation} specification holding the aggregation operations, must not be
+	 *          {@literal null}.
+	 * @param collectionName The name of the input collection to use for the aggregation, must not be {@literal null}
+	 *          or empty.
+	 * @param outputType The parameterized type of the returned {@link Flux}, must not be {@literal null}.
+	 * @return The results of the aggregation operation.
+	 * @since 2.0
+	 */
+	<O> Flux<O> aggregate(TypedAggregation<?> aggregation, String collectionName, Class<O> outputType);
+
+	/**
+	 * Execute an aggregation operation and stream the results as {@link Flux}. The raw results are read from the server
+	 * in cursor batches with back-pressure and mapped to the given output type on demand. The name of the input
+	 * collection is derived from the input type of the aggregation.
+	 * <p/>
+	 * Aggregation streaming can't be used with {@link AggregationOptions#isExplain() aggregation explain}. Enabling
+	 * explanation mode will throw an {@link IllegalArgumentException}.
+	 *
+	 * @param aggregation The {@link TypedAggregation} specification holding the aggregation operations, must not be
+	 *          {@literal null}.
+	 * @param outputType The parameterized type of the returned {@link Flux}, must not be {@literal null}.
+	 * @return The results of the aggregation operation.
+	 * @since 2.0
+	 */
+	<O> Flux<O> aggregate(TypedAggregation<?> aggregation, Class<O> outputType);
+
+	/**
+	 * Execute an aggregation operation and stream the results as {@link Flux}. The raw results are read from the server
+	 * in cursor batches with back-pressure and mapped to the given output type on demand.
+	 * <p/>
+	 * Aggregation streaming can't be used with {@link AggregationOptions#isExplain() aggregation explain}. Enabling
+	 * explanation mode will throw an {@link IllegalArgumentException}.
+	 *
+	 * @param aggregation The {@link Aggregation} specification holding the aggregation operations, must not be
+	 *          {@literal null}.
+	 * @param inputType the inputType where the aggregation operation will read from, must not be {@literal null}.
+	 * @param outputType The parameterized type of the returned {@link Flux}, must not be {@literal null}.
+	 * @return The results of the aggregation operation.
+	 * @since 2.0
+	 */
+	<O> Flux<O> aggregate(Aggregation aggregation, Class<?> inputType, Class<O> outputType);
+
+	/**
+	 * Execute an aggregation operation and stream the results as {@link Flux}. The raw results are read from the server
+	 * in cursor batches with back-pressure and mapped to the given output type on demand.
+	 * <p/>
+	 * Aggregation streaming can't be used with {@link AggregationOptions#isExplain() aggregation explain}. Enabling
+	 * explanation mode will throw an {@link IllegalArgumentException}.
+	 *
+	 * @param aggregation The {@link Aggregation} specification holding the aggregation operations, must not be
+	 *          {@literal null}.
+	 * @param collectionName the collection where the aggregation operation will read from, must not be {@literal null} or
+	 *          empty.
+	 * @param outputType The parameterized type of the returned {@link Flux}, must not be {@literal null}.
+	 * @return The results of the aggregation operation.
+	 * @since 2.0
+	 */
+	<O> Flux<O> aggregate(Aggregation aggregation, String collectionName, Class<O> outputType);
+
+	/**
+	 * Execute an aggregation operation emitting the resulting documents as {@link RawBsonDocument}s holding the bytes as
+	 * returned by the server. The collection to aggregate is derived from the input type of the given
+	 * {@link TypedAggregation}.
+	 *
+	 * @param aggregation The {@link TypedAggregation} specification holding the aggregation operations, must not be
+	 *          {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 2.0
+	 * @see #findRaw(Query, Class)
+	 */
+	Flux<RawBsonDocument> aggregateRaw(TypedAggregation<?> aggregation);
+
+	/**
+	 * Execute an aggregation operation emitting the resulting documents as {@link RawBsonDocument}s holding the bytes as
+	 * returned by the server.
+	 *
+	 * @param aggregation The {@link Aggregation} specification holding the aggregation operations, must not be
+	 *          {@literal null}.
+	 * @param collectionName the collection where the aggregation operation will read from, must not be {@literal null} or
+	 *          empty.
+	 * @return never {@literal null}.
+	 * @since 2.0
+	 * @see #findRaw(Query, Class)
+	 */
+	Flux<RawBsonDocument> aggregateRaw(Aggregation aggregation, String collectionName);
+
 	/**
 	 * Map the results of an ad-hoc query on the collection for the entity class to a single instance of an object of the
 	 * specified type.
@@ -345,6 +465,31 @@ public interface ReactiveMongoOperations {
 	 */
 	<T> Flux<T> find(Query query, Class<T> entityClass, String collectionName);
 
+	/**
+	 * Executes the given {@link Query} on the collection of the given entity type and emits the matching documents as
+	 * {@link RawBsonDocument}s holding the bytes as returned by the server. Documents are not decoded, use
+	 * {@link RawBsonDocument#getByteBuffer()} to access the bytes or pass a document to
+	 * {@link MongoConverter#read(Class, org.bson.conversions.Bson)} to map it, which decodes only the properties read.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityClass the type to map the query and to derive the collection name from, must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 2.0
+	 */
+	Flux<RawBsonDocument> findRaw(Query query, Class<?> entityClass);
+
+	/**
+	 * Executes the given {@link Query} on the given collection and emits the matching documents as
+	 * {@link RawBsonDocument}s holding the bytes as returned by the server.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @return never {@literal null}.
+	 * @since 2.0
+	 * @see #findRaw(Query, Class)
+	 */
+	Flux<RawBsonDocument> findRaw(Query query, String collectionName);
+
 	/**
 	 * Returns a document with the given id mapped onto the given class. The collection the query is ran against will be
 	 * derived from the given target class as well.
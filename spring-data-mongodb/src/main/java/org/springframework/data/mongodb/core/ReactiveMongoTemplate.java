@@ -33,10 +33,14 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
 import org.reactivestreams.Publisher;
@@ -66,9 +70,18 @@ import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.data.mapping.model.MappingException;
 import org.springframework.data.mongodb.MongoDbFactory;
 import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperationContext;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.TypeBasedAggregationOperationContext;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.convert.DbRefIdentifiers;
 import org.springframework.data.mongodb.core.convert.DbRefProxyHandler;
 import org.springframework.data.mongodb.core.convert.DbRefResolver;
 import org.springframework.data.mongodb.core.convert.DbRefResolverCallback;
+import org.springframework.data.mongodb.core.convert.EntityCodecProvider;
+import org.springframework.data.mongodb.core.convert.EntityDecodingSupport;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoWriter;
@@ -88,6 +101,7 @@ import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
 import org.springframework.data.mongodb.core.mapping.event.BeforeDeleteEvent;
 import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
 import org.springframework.data.mongodb.core.mapping.event.MongoMappingEvent;
+import org.springframework.data.mongodb.core.mapping.event.MongoMappingEventListenerIndex;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.NearQuery;
 import org.springframework.data.mongodb.core.query.Query;
@@ -115,6 +129,7 @@ import com.mongodb.client.model.ReturnDocument;
 import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
+import com.mongodb.reactivestreams.client.AggregatePublisher;
 import com.mongodb.reactivestreams.client.FindPublisher;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoCollection;
@@ -144,6 +159,8 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	private static final String ID_FIELD = "_id";
 	private static final WriteResultChecking DEFAULT_WRITE_RESULT_CHECKING = WriteResultChecking.NONE;
 	private static final Collection<Class<?>> ITERABLE_CLASSES;
+	private static final int DBREF_RESOLUTION_BATCH_SIZE = 100;
+	private static final int DBREF_RESOLUTION_CONCURRENCY = 4;
 
 	static {
 
@@ -162,12 +179,16 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	private final PersistenceExceptionTranslator exceptionTranslator;
 	private final QueryMapper queryMapper;
 	private final UpdateMapper updateMapper;
+	private final EntityDecodingSupport entityDecoding;
 
 	private WriteConcern writeConcern;
 	private WriteConcernResolver writeConcernResolver = DefaultWriteConcernResolver.INSTANCE;
 	private WriteResultChecking writeResultChecking = WriteResultChecking.NONE;
 	private ReadPreference readPreference;
+	private boolean eventListenerIndexEnabled = false;
 	private ApplicationEventPublisher eventPublisher;
+	private MongoMappingEventListenerIndex eventListenerIndex;
+	private final LongAdder suppressedEvents = new LongAdder();
 	private MongoPersistentEntityIndexCreator indexCreator;
 
 	/**
@@ -196,6 +217,41 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	 * @param mongoConverter
 	 */
 	public ReactiveMongoTemplate(ReactiveMongoDatabaseFactory mongoDatabaseFactory, MongoConverter mongoConverter) {
+		this(mongoDatabaseFactory, mongoConverter, null);
+	}
+
+	/**
+	 * Constructor used for a template configuration creating the indexes of the entities known to the
+	 * {@link MongoMappingContext} in bulk. Index definitions are grouped by collection and only the missing indexes of
+	 * each collection are created, with the collections being processed on the given {@link Executor}. The constructor
+	 * blocks until all indexes are created.
+	 *
+	 * @param mongoDatabaseFactory must not be {@literal null}.
+	 * @param mongoConverter
+	 * @param indexCreationExecutor the {@link Executor} to create indexes on. Can be {@literal null} to create indexes
+	 *          one by one on the calling thread.
+	 * @since 2.0
+	 */
+	public ReactiveMongoTemplate(ReactiveMongoDatabaseFactory mongoDatabaseFactory, MongoConverter mongoConverter,
+			Executor indexCreationExecutor) {
+		this(mongoDatabaseFactory, mongoConverter, indexCreationExecutor, true);
+	}
+
+	/**
+	 * Constructor used for a template configuration creating the indexes of the entities known to the
+	 * {@link MongoMappingContext} in bulk on the given {@link Executor}, see
+	 * {@link #ReactiveMongoTemplate(ReactiveMongoDatabaseFactory, MongoConverter, Executor)}.
+	 *
+	 * @param mongoDatabaseFactory must not be {@literal null}.
+	 * @param mongoConverter
+	 * @param indexCreationExecutor the {@link Executor} to create indexes on. Can be {@literal null} to create indexes
+	 *          one by one on the calling thread.
+	 * @param waitForIndexCreation whether the constructor blocks until all indexes are created. If {@literal false},
+	 *          index creation failures are logged only. Ignored without an {@link Executor}.
+	 * @since 2.0
+	 */
+	public ReactiveMongoTemplate(ReactiveMongoDatabaseFactory mongoDatabaseFactory, MongoConverter mongoConverter,
+			Executor indexCreationExecutor, boolean waitForIndexCreation) {
 
 		Assert.notNull(mongoDatabaseFactory, "ReactiveMongoDatabaseFactory must not be null!");
 
@@ -204,14 +260,16 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		this.mongoConverter = mongoConverter == null ? getDefaultMongoConverter() : mongoConverter;
 		this.queryMapper = new QueryMapper(this.mongoConverter);
 		this.updateMapper = new UpdateMapper(this.mongoConverter);
+		this.entityDecoding = new EntityDecodingSupport(this.mongoConverter, this.queryMapper);
 
 		// We always have a mapping context in the converter, whether it's a simple one or not
 		mappingContext = this.mongoConverter.getMappingContext();
 		// We create indexes based on mapping events
 
 		if (null != mappingContext && mappingContext instanceof MongoMappingContext) {
-			indexCreator = new MongoPersistentEntityIndexCreator((MongoMappingContext) mappingContext,
-					(collectionName) -> IndexOperationsAdapter.blocking(indexOps(collectionName)));
+			indexCreator = MongoPersistentEntityIndexCreator.create((MongoMappingContext) mappingContext,
+					(collectionName) -> IndexOperationsAdapter.blocking(indexOps(collectionName)), indexCreationExecutor,
+					waitForIndexCreation);
 			eventPublisher = new MongoMappingEventPublisher(indexCreator);
 			if (mappingContext instanceof ApplicationEventPublisherAware) {
 				((ApplicationEventPublisherAware) mappingContext).setApplicationEventPublisher(eventPublisher);
@@ -259,6 +317,34 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		this.readPreference = readPreference;
 	}
 
+	/**
+	 * Configures whether query results of mapped entity types are decoded by the driver directly using an
+	 * {@link EntityCodecProvider} instead of reading them into an intermediate {@link Document} first. Direct decoding
+	 * skips unmapped fields on the BSON level but is only applied as long as no {@link ApplicationContext} is
+	 * registered, as {@link AfterLoadEvent} listeners expect to see the raw {@link Document}. Defaults to
+	 * {@literal false}.
+	 *
+	 * @param entityDecodingEnabled
+	 * @since 2.0
+	 */
+	public void setEntityDecodingEnabled(boolean entityDecodingEnabled) {
+		this.entityDecoding.setEnabled(entityDecodingEnabled);
+	}
+
+	/**
+	 * Configures whether {@link MongoMappingEvent}s are only created and published if a listener of the
+	 * {@link ApplicationContext} might receive them. Listeners are indexed by event and domain type on
+	 * {@link org.springframework.context.event.ContextRefreshedEvent}, so listeners added to the context afterwards are
+	 * not considered. Defaults to {@literal false}.
+	 *
+	 * @param eventListenerIndexEnabled
+	 * @since 2.0
+	 * @see #getSuppressedEventCount()
+	 */
+	public void setEventListenerIndexEnabled(boolean eventListenerIndexEnabled) {
+		this.eventListenerIndexEnabled = eventListenerIndexEnabled;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.context.ApplicationContextAware#setApplicationContext(org.springframework.context.ApplicationContext)
@@ -271,6 +357,11 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		if (mappingContext instanceof ApplicationEventPublisherAware) {
 			((ApplicationEventPublisherAware) mappingContext).setApplicationEventPublisher(eventPublisher);
 		}
+
+		eventListenerIndex = new MongoMappingEventListenerIndex(applicationContext);
+		if (applicationContext instanceof ConfigurableApplicationContext) {
+			((ConfigurableApplicationContext) applicationContext).addApplicationListener(eventListenerIndex);
+		}
 	}
 
 	/**
@@ -320,6 +411,37 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		return new DefaultReactiveIndexOperations(this, determineCollectionName(entityClass));
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#bulkOps(org.springframework.data.mongodb.core.BulkOperations.BulkMode, java.lang.String)
+	 */
+	@Override
+	public ReactiveBulkOperations bulkOps(BulkMode mode, String collectionName) {
+		return bulkOps(mode, null, collectionName);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#bulkOps(org.springframework.data.mongodb.core.BulkOperations.BulkMode, java.lang.Class)
+	 */
+	@Override
+	public ReactiveBulkOperations bulkOps(BulkMode mode, Class<?> entityClass) {
+		return bulkOps(mode, entityClass, determineCollectionName(entityClass));
+	}
+
+	private ReactiveBulkOperations bulkOps(BulkMode mode, Class<?> entityType, String collectionName) {
+
+		Assert.notNull(mode, "BulkMode must not be null!");
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+
+		DefaultReactiveBulkOperations operations = new DefaultReactiveBulkOperations(this, mode, collectionName,
+				entityType);
+
+		operations.setExceptionTranslator(exceptionTranslator);
+		operations.setWriteConcernResolver(writeConcernResolver);
+		operations.setDefaultWriteConcern(writeConcern);
+
+		return operations;
+	}
+
 	public String getCollectionName(Class<?> entityClass) {
 		return this.determineCollectionName(entityClass);
 	}
@@ -603,6 +725,52 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 				new QueryFindPublisherPreparer(query, entityClass));
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#findRaw(org.springframework.data.mongodb.core.query.Query, java.lang.Class)
+	 */
+	@Override
+	public Flux<RawBsonDocument> findRaw(Query query, Class<?> entityClass) {
+
+		Assert.notNull(entityClass, "Entity class must not be null!");
+
+		return doFindRaw(query, entityClass, determineCollectionName(entityClass));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#findRaw(org.springframework.data.mongodb.core.query.Query, java.lang.String)
+	 */
+	@Override
+	public Flux<RawBsonDocument> findRaw(Query query, String collectionName) {
+		return doFindRaw(query, null, collectionName);
+	}
+
+	private Flux<RawBsonDocument> doFindRaw(Query query, Class<?> entityClass, String collectionName) {
+
+		Assert.notNull(query, "Query must not be null!");
+
+		Optional<? extends MongoPersistentEntity<?>> entity = entityClass == null ? Optional.empty()
+				: mappingContext.getPersistentEntity(entityClass);
+
+		Document mappedFields = queryMapper.getMappedFields(query.getFieldsObject(), entity);
+		Document mappedQuery = queryMapper.getMappedObject(query.getQueryObject(), entity);
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("find raw using query: {} fields: {} in collection: {}", serializeToJsonSafely(mappedQuery),
+					mappedFields, collectionName);
+		}
+
+		return createFlux(collectionName, collection -> {
+
+			FindPublisher<RawBsonDocument> publisher = collection.find(mappedQuery, RawBsonDocument.class);
+
+			if (mappedFields != null && !mappedFields.isEmpty()) {
+				publisher = publisher.projection(mappedFields);
+			}
+
+			return new QueryFindPublisherPreparer(query, entityClass).prepare(publisher);
+		});
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#findById(java.lang.Object, java.lang.Class)
 	 */
@@ -819,15 +987,18 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		return Mono.defer(() -> {
 
 			initializeVersionProperty(objectToSave);
-			maybeEmitEvent(new BeforeConvertEvent<T>(objectToSave, collectionName));
+			maybeEmitEvent(BeforeConvertEvent.class, objectToSave.getClass(),
+					() -> new BeforeConvertEvent<T>(objectToSave, collectionName));
 
 			Document dbDoc = toDbObject(objectToSave, writer);
 
-			maybeEmitEvent(new BeforeSaveEvent<T>(objectToSave, dbDoc, collectionName));
+			maybeEmitEvent(BeforeSaveEvent.class, objectToSave.getClass(),
+					() -> new BeforeSaveEvent<T>(objectToSave, dbDoc, collectionName));
 
 			Mono<T> afterInsert = insertDBObject(collectionName, dbDoc, objectToSave.getClass()).flatMap(id -> {
 				populateIdIfNecessary(objectToSave, id);
-				maybeEmitEvent(new AfterSaveEvent<T>(objectToSave, dbDoc, collectionName));
+				maybeEmitEvent(AfterSaveEvent.class, objectToSave.getClass(),
+						() -> new AfterSaveEvent<T>(objectToSave, dbDoc, collectionName));
 				return Mono.just(objectToSave);
 			});
 
@@ -897,11 +1068,13 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 					public Flux<Tuple2<T, Document>> apply(T o) {
 
 						initializeVersionProperty(o);
-						maybeEmitEvent(new BeforeConvertEvent<T>(o, collectionName));
+						maybeEmitEvent(BeforeConvertEvent.class, o.getClass(),
+								() -> new BeforeConvertEvent<T>(o, collectionName));
 
 						Document dbDoc = toDbObject(o, writer);
 
-						maybeEmitEvent(new BeforeSaveEvent<T>(o, dbDoc, collectionName));
+						maybeEmitEvent(BeforeSaveEvent.class, o.getClass(),
+								() -> new BeforeSaveEvent<T>(o, dbDoc, collectionName));
 						return Flux.zip(Mono.just(o), Mono.just(dbDoc));
 					}
 				}).collectList();
@@ -916,7 +1089,8 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		return insertDocuments.map(tuple -> {
 
 			populateIdIfNecessary(tuple.getT1(), tuple.getT2().get(ID_FIELD));
-			maybeEmitEvent(new AfterSaveEvent<T>(tuple.getT1(), tuple.getT2(), collectionName));
+			maybeEmitEvent(AfterSaveEvent.class, tuple.getT1().getClass(),
+					() -> new AfterSaveEvent<T>(tuple.getT1(), tuple.getT2(), collectionName));
 			return tuple.getT1();
 		});
 	}
@@ -995,16 +1169,19 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			// Bump version number
 			convertingAccessor.setProperty(versionProperty, Optional.of(versionNumber.orElse(0).longValue() + 1));
 
-			ReactiveMongoTemplate.this.maybeEmitEvent(new BeforeConvertEvent<T>(objectToSave, collectionName));
+			maybeEmitEvent(BeforeConvertEvent.class, objectToSave.getClass(),
+					() -> new BeforeConvertEvent<T>(objectToSave, collectionName));
 
 			Document document = ReactiveMongoTemplate.this.toDbObject(objectToSave, mongoConverter);
 
-			ReactiveMongoTemplate.this.maybeEmitEvent(new BeforeSaveEvent<T>(objectToSave, document, collectionName));
+			maybeEmitEvent(BeforeSaveEvent.class, objectToSave.getClass(),
+					() -> new BeforeSaveEvent<T>(objectToSave, document, collectionName));
 			Update update = Update.fromDocument(document, ID_FIELD);
 
 			return doUpdate(collectionName, query, update, objectToSave.getClass(), false, false).map(updateResult -> {
 
-				maybeEmitEvent(new AfterSaveEvent<T>(objectToSave, document, collectionName));
+				maybeEmitEvent(AfterSaveEvent.class, objectToSave.getClass(),
+						() -> new AfterSaveEvent<T>(objectToSave, document, collectionName));
 				return objectToSave;
 			});
 		});
@@ -1016,14 +1193,17 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		return createMono(collectionName, collection -> {
 
-			maybeEmitEvent(new BeforeConvertEvent<T>(objectToSave, collectionName));
+			maybeEmitEvent(BeforeConvertEvent.class, objectToSave.getClass(),
+					() -> new BeforeConvertEvent<T>(objectToSave, collectionName));
 			Document dbDoc = toDbObject(objectToSave, writer);
-			maybeEmitEvent(new BeforeSaveEvent<T>(objectToSave, dbDoc, collectionName));
+			maybeEmitEvent(BeforeSaveEvent.class, objectToSave.getClass(),
+					() -> new BeforeSaveEvent<T>(objectToSave, dbDoc, collectionName));
 
 			return saveDocument(collectionName, dbDoc, objectToSave.getClass()).map(id -> {
 
 				populateIdIfNecessary(objectToSave, id);
-				maybeEmitEvent(new AfterSaveEvent<T>(objectToSave, dbDoc, collectionName));
+				maybeEmitEvent(AfterSaveEvent.class, objectToSave.getClass(),
+						() -> new AfterSaveEvent<T>(objectToSave, dbDoc, collectionName));
 				return objectToSave;
 			});
 		});
@@ -1417,7 +1597,8 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		return execute(collectionName, collection -> {
 
-			maybeEmitEvent(new BeforeDeleteEvent<T>(queryObject, entityClass, collectionName));
+			maybeEmitEvent(BeforeDeleteEvent.class, entityClass,
+					() -> new BeforeDeleteEvent<T>(queryObject, entityClass, collectionName));
 
 			Document dboq = queryMapper.getMappedObject(queryObject, entity);
 
@@ -1439,8 +1620,11 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 			return collectionToUse.deleteMany(dboq);
 
-		}).doOnNext(deleteResult -> maybeEmitEvent(new AfterDeleteEvent<T>(queryObject, entityClass, collectionName)))
-				.next();
+		}).doOnNext(deleteResult -> {
+
+			maybeEmitEvent(AfterDeleteEvent.class, entityClass,
+					() -> new AfterDeleteEvent<T>(queryObject, entityClass, collectionName));
+		}).next();
 	}
 
 	/* (non-Javadoc)
@@ -1455,7 +1639,137 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	 */
 	public <T> Flux<T> findAll(Class<T> entityClass, String collectionName) {
 		return executeFindMultiInternal(new FindCallback(null), null,
-				new ReadDocumentCallback<T>(mongoConverter, entityClass, collectionName), collectionName);
+				new ReadDocumentCallback<T>(mongoConverter, entityClass, collectionName), collectionName, entityClass);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#aggregate(org.springframework.data.mongodb.core.aggregation.TypedAggregation, java.lang.String, java.lang.Class)
+	 */
+	@Override
+	public <O> Flux<O> aggregate(TypedAggregation<?> aggregation, String inputCollectionName, Class<O> outputType) {
+
+		Assert.notNull(aggregation, "Aggregation pipeline must not be null!");
+
+		AggregationOperationContext context = new TypeBasedAggregationOperationContext(aggregation.getInputType(),
+				mappingContext, queryMapper);
+		return aggregate(aggregation, inputCollectionName, outputType, context);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#aggregate(org.springframework.data.mongodb.core.aggregation.TypedAggregation, java.lang.Class)
+	 */
+	@Override
+	public <O> Flux<O> aggregate(TypedAggregation<?> aggregation, Class<O> outputType) {
+
+		Assert.notNull(aggregation, "Aggregation pipeline must not be null!");
+
+		return aggregate(aggregation, determineCollectionName(aggregation.getInputType()), outputType);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#aggregate(org.springframework.data.mongodb.core.aggregation.Aggregation, java.lang.Class, java.lang.Class)
+	 */
+	@Override
+	public <O> Flux<O> aggregate(Aggregation aggregation, Class<?> inputType, Class<O> outputType) {
+
+		return aggregate(aggregation, determineCollectionName(inputType), outputType,
+				new TypeBasedAggregationOperationContext(inputType, mappingContext, queryMapper));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#aggregate(org.springframework.data.mongodb.core.aggregation.Aggregation, java.lang.String, java.lang.Class)
+	 */
+	@Override
+	public <O> Flux<O> aggregate(Aggregation aggregation, String collectionName, Class<O> outputType) {
+		return aggregate(aggregation, collectionName, outputType, null);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#aggregateRaw(org.springframework.data.mongodb.core.aggregation.TypedAggregation)
+	 */
+	@Override
+	public Flux<RawBsonDocument> aggregateRaw(TypedAggregation<?> aggregation) {
+
+		Assert.notNull(aggregation, "Aggregation pipeline must not be null!");
+
+		return aggregate(aggregation, determineCollectionName(aggregation.getInputType()), RawBsonDocument.class,
+				new TypeBasedAggregationOperationContext(aggregation.getInputType(), mappingContext, queryMapper));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#aggregateRaw(org.springframework.data.mongodb.core.aggregation.Aggregation, java.lang.String)
+	 */
+	@Override
+	public Flux<RawBsonDocument> aggregateRaw(Aggregation aggregation, String collectionName) {
+		return aggregate(aggregation, collectionName, RawBsonDocument.class, null);
+	}
+
+	/**
+	 * Execute the given {@link Aggregation} against {@code collectionName} and map the resulting documents to
+	 * {@code outputType} as they are requested. Downstream demand is propagated to the cursor in chunks of at most
+	 * {@link AggregationOptions#getCursorBatchSize()} documents.
+	 *
+	 * @param aggregation must not be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @param outputType must not be {@literal null}.
+	 * @param context can be {@literal null} to use {@link Aggregation#DEFAULT_CONTEXT}.
+	 * @return
+	 */
+	protected <O> Flux<O> aggregate(Aggregation aggregation, String collectionName, Class<O> outputType,
+			AggregationOperationContext context) {
+
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+		Assert.notNull(aggregation, "Aggregation pipeline must not be null!");
+		Assert.notNull(outputType, "Output type must not be null!");
+
+		AggregationOperationContext rootContext = context == null ? Aggregation.DEFAULT_CONTEXT : context;
+
+		Document command = aggregation.toDocument(collectionName, rootContext);
+		AggregationOptions options = AggregationOptions.fromDocument(command);
+
+		Assert.isTrue(!options.isExplain(), "Can't use explain option with streaming!");
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Streaming aggregation: {}", serializeToJsonSafely(command));
+		}
+
+		if (RawBsonDocument.class.equals(outputType)) {
+			return doAggregate(command, options, collectionName, outputType);
+		}
+
+		ReadDocumentCallback<O> readCallback = new ReadDocumentCallback<O>(mongoConverter, outputType, collectionName);
+
+		return doAggregate(command, options, collectionName, Document.class).map(readCallback::doWith);
+	}
+
+	/**
+	 * Executes the given aggregation {@code command} decoding the results into the given document class.
+	 *
+	 * @param command the rendered aggregation command, must not be {@literal null}.
+	 * @param options the {@link AggregationOptions} of the command, must not be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @param documentClass the type to decode the results to, must not be {@literal null}.
+	 * @return
+	 */
+	private <T> Flux<T> doAggregate(Document command, AggregationOptions options, String collectionName,
+			Class<T> documentClass) {
+
+		return createFlux(collectionName, collection -> {
+
+			@SuppressWarnings("unchecked")
+			List<Document> pipeline = (List<Document>) command.get("pipeline");
+
+			AggregatePublisher<T> publisher = collection.aggregate(pipeline, documentClass)
+					.allowDiskUse(options.isAllowDiskUse()).useCursor(true);
+
+			if (options.getCollation().isPresent()) {
+				publisher = publisher.collation(options.getCollation().map(Collation::toMongoCollation).get());
+			}
+
+			Integer cursorBatchSize = options.getCursorBatchSize();
+
+			return cursorBatchSize == null ? Flux.from(publisher) : Flux.from(publisher).limitRate(cursorBatchSize);
+		});
 	}
 
 	/* (non-Javadoc)
@@ -1498,7 +1812,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 			return executeFindMultiInternal(
 					collection -> new FindCallback(null).doInCollection(collection).cursorType(CursorType.TailableAwait), null,
-					new ReadDocumentCallback<T>(mongoConverter, entityClass, collectionName), collectionName);
+					new ReadDocumentCallback<T>(mongoConverter, entityClass, collectionName), collectionName, entityClass);
 		}
 
 		return doFind(collectionName, query.getQueryObject(), query.getFieldsObject(), entityClass,
@@ -1567,7 +1881,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		}
 
 		return executeFindOneInternal(new FindOneCallback(mappedQuery, mappedFields, collation),
-				new ReadDocumentCallback<T>(this.mongoConverter, entityClass, collectionName), collectionName);
+				new ReadDocumentCallback<T>(this.mongoConverter, entityClass, collectionName), collectionName, entityClass);
 	}
 
 	/**
@@ -1600,10 +1914,46 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	 */
 	protected <T> Flux<T> doFind(String collectionName, Document query, Document fields, Class<T> entityClass,
 			FindPublisherPreparer preparer) {
+
+		if (entityDecoding.canDecode(entityClass, eventType -> hasListeners(eventType, entityClass))
+				&& !requiresDbRefResolution(entityClass)) {
+			return doFindAndDecode(collectionName, query, fields, entityClass, preparer);
+		}
+
 		return doFind(collectionName, query, fields, entityClass, preparer,
 				new ReadDocumentCallback<T>(mongoConverter, entityClass, collectionName));
 	}
 
+	/**
+	 * Executes the query and lets the driver decode the results directly into the given entity type using the
+	 * {@link EntityCodecProvider}. Bypasses the intermediate {@link Document} and thus must only be used if no
+	 * {@link AfterLoadEvent} or {@link AfterConvertEvent} listener needs to see it.
+	 *
+	 * @param collectionName name of the collection to retrieve the objects from.
+	 * @param query the query document that specifies the criteria used to find a record.
+	 * @param fields the document that specifies the fields to be returned.
+	 * @param entityClass the parameterized type of the returned {@link Flux}.
+	 * @param preparer can be {@literal null}.
+	 * @return the {@link Flux} of converted objects.
+	 */
+	private <T> Flux<T> doFindAndDecode(String collectionName, Document query, Document fields, Class<T> entityClass,
+			FindPublisherPreparer preparer) {
+
+		return entityDecoding.find(collectionName, query, fields, entityClass,
+				(mappedQuery, mappedFields) -> createFlux(collectionName, collection -> {
+
+					FindPublisher<T> findPublisher = collection
+							.withCodecRegistry(entityDecoding.getCodecRegistry(collection.getCodecRegistry()))
+							.find(mappedQuery, entityClass);
+
+					if (mappedFields != null) {
+						findPublisher = findPublisher.projection(mappedFields);
+					}
+
+					return preparer != null ? preparer.prepare(findPublisher) : findPublisher;
+				}));
+	}
+
 	protected <S, T> Flux<T> doFind(String collectionName, Document query, Document fields, Class<S> entityClass,
 			FindPublisherPreparer preparer, DocumentCallback<T> objectCallback) {
 
@@ -1618,7 +1968,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		}
 
 		return executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields), preparer, objectCallback,
-				collectionName);
+				collectionName, entityClass);
 	}
 
 	protected CreateCollectionOptions convertToCreateCollectionOptions(CollectionOptions collectionOptions) {
@@ -1658,7 +2008,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		return executeFindOneInternal(
 				new FindAndRemoveCallback(queryMapper.getMappedObject(query, entity), fields, sort, collation),
-				new ReadDocumentCallback<T>(this.mongoConverter, entityClass, collectionName), collectionName);
+				new ReadDocumentCallback<T>(this.mongoConverter, entityClass, collectionName), collectionName, entityClass);
 	}
 
 	protected <T> Mono<T> doFindAndModify(String collectionName, Document query, Document fields, Document sort,
@@ -1683,16 +2033,86 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			}
 
 			return executeFindOneInternal(new FindAndModifyCallback(mappedQuery, fields, sort, mappedUpdate, optionsToUse),
-					new ReadDocumentCallback<T>(this.mongoConverter, entityClass, collectionName), collectionName);
+					new ReadDocumentCallback<T>(this.mongoConverter, entityClass, collectionName), collectionName,
+					entityClass);
 		});
 	}
 
+	/**
+	 * Returns the number of {@link MongoMappingEvent}s that were neither created nor published as no listener is
+	 * interested in them.
+	 *
+	 * @return
+	 * @since 2.0
+	 */
+	public long getSuppressedEventCount() {
+		return suppressedEvents.sum();
+	}
+
 	protected <T> void maybeEmitEvent(MongoMappingEvent<T> event) {
 		if (null != eventPublisher) {
 			eventPublisher.publishEvent(event);
 		}
 	}
 
+	/**
+	 * Creates and publishes the {@link MongoMappingEvent} obtained from the given {@link Supplier} only if an event of
+	 * the given type for the given domain type might be received by any listener.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @param domainType can be {@literal null}.
+	 * @param event must not be {@literal null}.
+	 */
+	private void maybeEmitEvent(Class<?> eventType, Class<?> domainType,
+			Supplier<? extends MongoMappingEvent<?>> event) {
+
+		if (isListenedTo(eventType, domainType)) {
+			maybeEmitEvent(event.get());
+		}
+	}
+
+	/**
+	 * Returns whether a {@link MongoMappingEvent} of the given type for the given domain type might be received by any
+	 * listener and thus needs to be published. Counts the event as suppressed if the event listener index rules out any
+	 * listener for it.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @param domainType can be {@literal null}.
+	 * @return
+	 */
+	private boolean isListenedTo(Class<?> eventType, Class<?> domainType) {
+
+		if (eventPublisher == null || eventPublisher instanceof MongoMappingEventPublisher) {
+			return false;
+		}
+
+		if (!hasListeners(eventType, domainType)) {
+
+			suppressedEvents.increment();
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns whether a {@link MongoMappingEvent} of the given type for the given domain type might be received by any
+	 * listener without counting it as suppressed.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @param domainType can be {@literal null}.
+	 * @return
+	 */
+	private boolean hasListeners(Class<?> eventType, Class<?> domainType) {
+
+		if (eventPublisher == null || eventPublisher instanceof MongoMappingEventPublisher) {
+			return false;
+		}
+
+		return !eventListenerIndexEnabled || eventListenerIndex == null
+				|| eventListenerIndex.hasListeners(eventType, domainType);
+	}
+
 	/**
 	 * Populates the id property of the saved object, if it's not set already.
 	 *
@@ -1814,7 +2234,16 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	 * @return
 	 */
 	private <T> Mono<T> executeFindOneInternal(ReactiveCollectionCallback<Document> collectionCallback,
-			DocumentCallback<T> objectCallback, String collectionName) {
+			DocumentCallback<T> objectCallback, String collectionName, Class<?> entityClass) {
+
+		if (requiresDbRefResolution(entityClass)) {
+
+			return createMono(collectionName,
+					collection -> Mono.from(collectionCallback.doInCollection(collection))
+							.flatMap(document -> readWithResolvedDbRefs(Collections.singletonList(document), objectCallback,
+									entityClass))
+							.map(result -> result.get(0)));
+		}
 
 		return createMono(collectionName,
 				collection -> Mono.from(collectionCallback.doInCollection(collection)).map(objectCallback::doWith));
@@ -1839,7 +2268,8 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	 * @return
 	 */
 	private <T> Flux<T> executeFindMultiInternal(ReactiveCollectionQueryCallback<Document> collectionCallback,
-			FindPublisherPreparer preparer, DocumentCallback<T> objectCallback, String collectionName) {
+			FindPublisherPreparer preparer, DocumentCallback<T> objectCallback, String collectionName,
+			Class<?> entityClass) {
 
 		return createFlux(collectionName, collection -> {
 
@@ -1848,10 +2278,92 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			if (preparer != null) {
 				findPublisher = preparer.prepare(findPublisher);
 			}
+
+			if (requiresDbRefResolution(entityClass)) {
+
+				// tailable cursors must not wait for a full batch that might never arrive
+				int batchSize = preparer instanceof TailingQueryFindPublisherPreparer ? 1 : DBREF_RESOLUTION_BATCH_SIZE;
+
+				if (batchSize > 1) {
+					findPublisher = findPublisher.batchSize(batchSize);
+				}
+
+				return Flux.from(findPublisher) //
+						.limitRate(batchSize) //
+						.buffer(batchSize) //
+						.concatMap(batch -> readWithResolvedDbRefs(batch, objectCallback, entityClass), 1) //
+						.concatMapIterable(Function.identity());
+			}
+
 			return Flux.from(findPublisher).map(objectCallback::doWith);
 		});
 	}
 
+	private boolean requiresDbRefResolution(Class<?> entityClass) {
+
+		return entityClass != null && mongoConverter instanceof MappingMongoConverter
+				&& ((MappingMongoConverter) mongoConverter).hasEagerDbRefs(entityClass);
+	}
+
+	/**
+	 * Resolves the eagerly loaded {@link DBRef}s of the given {@link Document}s using one non-blocking {@code $in} query
+	 * per referenced collection before converting the {@link Document}s using the given {@link DocumentCallback}.
+	 *
+	 * @param documents must not be {@literal null}.
+	 * @param objectCallback must not be {@literal null}.
+	 * @param entityClass must not be {@literal null}.
+	 * @return the converted objects in the order of the given {@link Document}s.
+	 */
+	private <T> Mono<List<T>> readWithResolvedDbRefs(List<Document> documents, DocumentCallback<T> objectCallback,
+			Class<?> entityClass) {
+
+		MappingMongoConverter converter = (MappingMongoConverter) mongoConverter;
+
+		return Flux.fromIterable(converter.getEagerDbRefs(entityClass, documents)) //
+				.flatMap(this::fetchDbRefs, DBREF_RESOLUTION_CONCURRENCY) //
+				.collect(() -> new HashMap<DBRef, Document>(), Map::putAll) //
+				.map(resolved -> converter.doWithResolvedDbRefs(resolved, () -> {
+
+					List<T> result = new ArrayList<>(documents.size());
+
+					for (Document document : documents) {
+						result.add(objectCallback.doWith(document));
+					}
+
+					return result;
+				}));
+	}
+
+	/**
+	 * Fetches the {@link Document}s referenced by the given {@link DBRef}s all pointing to the same database and
+	 * collection.
+	 *
+	 * @param references must not be {@literal null} or empty.
+	 * @return the referenced {@link Document}s by {@link DBRef}, mapping {@link DBRef}s without a matching
+	 *         {@link Document} to {@literal null}.
+	 */
+	private Mono<Map<DBRef, Document>> fetchDbRefs(List<DBRef> references) {
+
+		DBRef first = references.get(0);
+		MongoDatabase db = StringUtils.hasText(first.getDatabaseName())
+				? mongoDatabaseFactory.getMongoDatabase(first.getDatabaseName()) : getMongoDatabase();
+		List<Object> ids = references.stream().map(DBRef::getId).collect(Collectors.toList());
+		Document query = new Document(ID_FIELD, new Document("$in", ids));
+
+		return Flux.from(db.getCollection(first.getCollectionName()).find(query)) //
+				.collectMap(document -> DbRefIdentifiers.normalize(document.get(ID_FIELD))) //
+				.map(documentsById -> {
+
+					Map<DBRef, Document> resolved = new HashMap<>(references.size());
+
+					for (DBRef reference : references) {
+						resolved.put(reference, documentsById.get(DbRefIdentifiers.normalize(reference.getId())));
+					}
+
+					return resolved;
+				}).onErrorMap(translateException());
+	}
+
 	private <T> T execute(MongoDatabaseCallback<T> action) {
 
 		Assert.notNull(action, "MongoDatabaseCallback must not be null!");
@@ -2215,11 +2727,12 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		public T doWith(Document object) {
 			if (null != object) {
-				maybeEmitEvent(new AfterLoadEvent<T>(object, type, collectionName));
+				maybeEmitEvent(AfterLoadEvent.class, type, () -> new AfterLoadEvent<T>(object, type, collectionName));
 			}
 			T source = reader.read(type, object);
 			if (null != source) {
-				maybeEmitEvent(new AfterConvertEvent<T>(object, source, collectionName));
+				maybeEmitEvent(AfterConvertEvent.class, source.getClass(),
+						() -> new AfterConvertEvent<T>(object, source, collectionName));
 			}
 			return source;
 		}
@@ -2342,7 +2855,9 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	}
 
 	/**
-	 * No-Operation {@link org.springframework.data.mongodb.core.mapping.DBRef} resolver.
+	 * No-Operation {@link org.springframework.data.mongodb.core.mapping.DBRef} resolver. Does not access the database
+	 * itself but resolves eagerly loaded references from the {@link Document}s fetched upfront by the
+	 * {@link ReactiveMongoTemplate}. Lazy references are not supported.
 	 *
 	 * @author Mark Paluch
 	 */
@@ -2351,7 +2866,12 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		@Override
 		public Optional<Object> resolveDbRef(MongoPersistentProperty property, DBRef dbref, DbRefResolverCallback callback,
 				DbRefProxyHandler proxyHandler) {
-			return Optional.empty();
+
+			if (property.isDbReference() && property.getDBRef().lazy()) {
+				return Optional.empty();
+			}
+
+			return Optional.ofNullable(callback.resolve(property));
 		}
 
 		@Override
@@ -2367,7 +2887,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		@Override
 		public List<Document> bulkFetch(List<DBRef> dbRefs) {
-			return null;
+			return Collections.emptyList();
 		}
 	}
 }
@@ -100,6 +100,16 @@ public class Aggregation {
 		return new Aggregation(this.operations, options);
 	}
 
+	/**
+	 * Returns the {@link AggregationOptions} of this {@link Aggregation}.
+	 *
+	 * @return never {@literal null}.
+	 * @since 2.0
+	 */
+	public AggregationOptions getOptions() {
+		return options;
+	}
+
 	/**
 	 * Creates a new {@link TypedAggregation} for the given type and {@link AggregationOperation}s.
 	 *
@@ -563,6 +573,20 @@ public class Aggregation {
 		return new GeoNearOperation(query, distanceField);
 	}
 
+	/**
+	 * Creates a reference to a named parameter to be used as value, e.g. within a {@link Criteria}, of an
+	 * {@link Aggregation} that gets turned into a {@link PreparedAggregation}. The actual value is bound on execution.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @return
+	 * @since 2.0
+	 */
+	public static Document parameter(String name) {
+
+		Assert.hasText(name, "Parameter name must not be null or empty!");
+		return new Document(PreparedAggregation.PARAMETER_KEY, name);
+	}
+
 	/**
 	 * Returns a new {@link AggregationOptions.Builder}.
 	 *
@@ -48,6 +48,7 @@ public class AggregationOptions {
 	private final boolean explain;
 	private final Optional<Document> cursor;
 	private final Optional<Collation> collation;
+	private final Integer maxResults;
 
 	/**
 	 * Creates a new {@link AggregationOptions}.
@@ -71,11 +72,17 @@ public class AggregationOptions {
 	 * @since 2.0
 	 */
 	public AggregationOptions(boolean allowDiskUse, boolean explain, Document cursor, Collation collation) {
+		this(allowDiskUse, explain, cursor, collation, null);
+	}
+
+	private AggregationOptions(boolean allowDiskUse, boolean explain, Document cursor, Collation collation,
+			Integer maxResults) {
 
 		this.allowDiskUse = allowDiskUse;
 		this.explain = explain;
 		this.cursor = Optional.ofNullable(cursor);
 		this.collation = Optional.ofNullable(collation);
+		this.maxResults = maxResults;
 	}
 
 	/**
@@ -163,6 +170,17 @@ public class AggregationOptions {
 		return collation;
 	}
 
+	/**
+	 * The maximum number of results to be read into memory when executing a non-streaming aggregation, if available,
+	 * otherwise {@literal null}. This is a client side limit that is not sent to the server.
+	 *
+	 * @return the maximum number of results or {@literal null}.
+	 * @since 2.0
+	 */
+	public Integer getMaxResults() {
+		return maxResults;
+	}
+
 	/**
 	 * Returns a new potentially adjusted copy for the given {@code aggregationCommandObject} with the configuration
 	 * applied.
@@ -234,6 +252,7 @@ public class AggregationOptions {
 		private boolean explain;
 		private Document cursor;
 		private Collation collation;
+		private Integer maxResults;
 
 		/**
 		 * Defines whether to off-load intensive sort-operations to disk.
@@ -296,13 +315,29 @@ public class AggregationOptions {
 			return this;
 		}
 
+		/**
+		 * Define the maximum number of results a non-streaming aggregation reads into memory. Executing the aggregation
+		 * fails as soon as the result exceeds the given limit instead of collecting the remaining results.
+		 *
+		 * @param maxResults must be greater than zero.
+		 * @return
+		 * @since 2.0
+		 */
+		public Builder maxResults(int maxResults) {
+
+			Assert.isTrue(maxResults > 0, "Max results must be greater than zero!");
+
+			this.maxResults = maxResults;
+			return this;
+		}
+
 		/**
 		 * Returns a new {@link AggregationOptions} instance with the given configuration.
 		 *
 		 * @return
 		 */
 		public AggregationOptions build() {
-			return new AggregationOptions(allowDiskUse, explain, cursor, collation);
+			return new AggregationOptions(allowDiskUse, explain, cursor, collation, maxResults);
 		}
 	}
 }
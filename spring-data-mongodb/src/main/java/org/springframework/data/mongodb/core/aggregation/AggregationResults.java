@@ -93,7 +93,8 @@ public class AggregationResults<T> implements Iterable<T> {
 	}
 
 	/**
-	 * Returns the raw result that was returned by the server.
+	 * Returns the raw result that was returned by the server. Aggregations read through a cursor map the documents as
+	 * they are read and do not retain them, so their raw result only carries the {@literal ok} status of the server.
 	 * 
 	 * @return
 	 * @since 1.6
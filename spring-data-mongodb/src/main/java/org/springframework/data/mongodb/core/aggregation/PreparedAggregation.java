@@ -0,0 +1,204 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.bson.Document;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link Aggregation} rendered once against a collection and {@link AggregationOperationContext} so that it can be
+ * executed repeatedly without re-rendering its operations or re-mapping its field references. Values that change
+ * between executions are declared using {@link Aggregation#parameter(String)} and bound by name via
+ * {@link #toDocument(Map)}. Instances are immutable and can be shared across threads.
+ *
+ * @since 2.0
+ * @see Aggregation#parameter(String)
+ */
+public class PreparedAggregation {
+
+	static final String PARAMETER_KEY = "$$parameter";
+
+	private final String collectionName;
+	private final AggregationOptions options;
+	private final Document command;
+	private final Set<String> parameterNames;
+
+	private PreparedAggregation(String collectionName, AggregationOptions options, Document command,
+			Set<String> parameterNames) {
+
+		this.collectionName = collectionName;
+		this.options = options;
+		this.command = command;
+		this.parameterNames = Collections.unmodifiableSet(parameterNames);
+	}
+
+	/**
+	 * Renders the given {@link Aggregation} for the given collection using the given {@link AggregationOperationContext}
+	 * and turns all {@link Aggregation#parameter(String) parameter} references into slots to be bound on execution.
+	 *
+	 * @param aggregation must not be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @param context must not be {@literal null}.
+	 * @return
+	 */
+	public static PreparedAggregation prepare(Aggregation aggregation, String collectionName,
+			AggregationOperationContext context) {
+
+		Assert.notNull(aggregation, "Aggregation must not be null!");
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+		Assert.notNull(context, "AggregationOperationContext must not be null!");
+
+		Set<String> parameterNames = new LinkedHashSet<String>();
+		Document command = (Document) compile(aggregation.toDocument(collectionName, context), parameterNames);
+
+		return new PreparedAggregation(collectionName, aggregation.getOptions(), command, parameterNames);
+	}
+
+	/**
+	 * Returns the name of the collection the aggregation was prepared for.
+	 *
+	 * @return never {@literal null}.
+	 */
+	public String getCollectionName() {
+		return collectionName;
+	}
+
+	/**
+	 * Returns the {@link AggregationOptions} the aggregation was prepared with.
+	 *
+	 * @return never {@literal null}.
+	 */
+	public AggregationOptions getOptions() {
+		return options;
+	}
+
+	/**
+	 * Returns the names of all parameters that need to be bound on execution.
+	 *
+	 * @return never {@literal null}.
+	 */
+	public Set<String> getParameterNames() {
+		return parameterNames;
+	}
+
+	/**
+	 * Creates the aggregation command {@link Document} binding the given values to the parameter slots. Values are
+	 * inserted as given, i.e. they are expected to be converted into MongoDB types already.
+	 *
+	 * @param parameters must not be {@literal null} and contain a value for each of {@link #getParameterNames()}.
+	 * @return a new {@link Document} for each invocation.
+	 */
+	public Document toDocument(Map<String, ?> parameters) {
+
+		Assert.notNull(parameters, "Parameters must not be null!");
+
+		for (String name : parameterNames) {
+			Assert.isTrue(parameters.containsKey(name), String.format("No value bound for parameter '%s'!", name));
+		}
+
+		return (Document) bind(command, parameters);
+	}
+
+	private static Object compile(Object source, Set<String> parameterNames) {
+
+		if (source instanceof Document) {
+
+			Document document = (Document) source;
+
+			if (document.size() == 1 && document.get(PARAMETER_KEY) instanceof String) {
+
+				String name = document.getString(PARAMETER_KEY);
+				parameterNames.add(name);
+				return new Slot(name);
+			}
+
+			Document result = new Document();
+
+			for (Entry<String, Object> entry : document.entrySet()) {
+				result.put(entry.getKey(), compile(entry.getValue(), parameterNames));
+			}
+
+			return result;
+		}
+
+		if (source instanceof Collection) {
+
+			List<Object> result = new ArrayList<Object>(((Collection<?>) source).size());
+
+			for (Object element : (Collection<?>) source) {
+				result.add(compile(element, parameterNames));
+			}
+
+			return result;
+		}
+
+		return source;
+	}
+
+	private static Object bind(Object source, Map<String, ?> parameters) {
+
+		if (source instanceof Slot) {
+			return parameters.get(((Slot) source).name);
+		}
+
+		if (source instanceof Document) {
+
+			Document document = (Document) source;
+			Document result = new Document();
+
+			for (Entry<String, Object> entry : document.entrySet()) {
+				result.put(entry.getKey(), bind(entry.getValue(), parameters));
+			}
+
+			return result;
+		}
+
+		if (source instanceof List) {
+
+			List<?> list = (List<?>) source;
+			List<Object> result = new ArrayList<Object>(list.size());
+
+			for (Object element : list) {
+				result.add(bind(element, parameters));
+			}
+
+			return result;
+		}
+
+		return source;
+	}
+
+	/**
+	 * Placeholder for a parameter value within the prepared command.
+	 */
+	private static class Slot {
+
+		private final String name;
+
+		Slot(String name) {
+			this.name = name;
+		}
+	}
+}
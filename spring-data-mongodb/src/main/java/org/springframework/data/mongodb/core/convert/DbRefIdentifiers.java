@@ -0,0 +1,46 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+/**
+ * Utility methods for matching the identifiers of bulk fetched {@link com.mongodb.DBRef} targets against the
+ * identifiers of the references.
+ *
+ * @since 2.0
+ */
+public abstract class DbRefIdentifiers {
+
+	private DbRefIdentifiers() {
+
+	}
+
+	/**
+	 * Returns a lookup key for the given identifier. Integral identifiers are mapped to a {@link Long} as the database
+	 * matches them by value regardless of their Java type, so a reference to {@code 1} matches a document with the
+	 * identifier {@code 1L}. All other identifiers are returned as is.
+	 *
+	 * @param id can be {@literal null}.
+	 * @return
+	 */
+	public static Object normalize(Object id) {
+
+		if (id instanceof Integer || id instanceof Long || id instanceof Short || id instanceof Byte) {
+			return ((Number) id).longValue();
+		}
+
+		return id;
+	}
+}
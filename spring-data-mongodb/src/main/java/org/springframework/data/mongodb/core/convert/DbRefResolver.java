@@ -72,7 +72,8 @@ public interface DbRefResolver {
 
 	/**
 	 * Loads a given {@link List} of {@link DBRef}s from the datasource in one batch. The resulting {@link List} of
-	 * {@link Document} will reflect the ordering of the {@link DBRef} passed in.<br />
+	 * {@link Document} will reflect the ordering of the {@link DBRef} passed in, containing a {@link Document} once for
+	 * each {@link DBRef} pointing to it.<br />
 	 * The {@link DBRef} elements in the list must not reference different collections.
 	 *
 	 * @param dbRefs must not be {@literal null}.
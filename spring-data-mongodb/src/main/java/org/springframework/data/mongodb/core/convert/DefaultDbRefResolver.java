@@ -15,6 +15,7 @@
  */
 package org.springframework.data.mongodb.core.convert;
 
+import static org.springframework.data.mongodb.core.convert.DbRefIdentifiers.*;
 import static org.springframework.util.ReflectionUtils.*;
 
 import java.io.IOException;
@@ -25,8 +26,13 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
@@ -45,6 +51,7 @@ import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.objenesis.ObjenesisStd;
 import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
@@ -143,6 +150,7 @@ public class DefaultDbRefResolver implements DbRefResolver {
 		}
 
 		String collection = refs.iterator().next().getCollectionName();
+		String database = refs.iterator().next().getDatabaseName();
 
 		List<Object> ids = new ArrayList<Object>(refs.size());
 		for (DBRef ref : refs) {
@@ -152,14 +160,19 @@ public class DefaultDbRefResolver implements DbRefResolver {
 						"DBRefs must all target the same collection for bulk fetch operation.");
 			}
 
+			if (!ObjectUtils.nullSafeEquals(database, ref.getDatabaseName())) {
+				throw new InvalidDataAccessApiUsageException(
+						"DBRefs must all target the same database for bulk fetch operation.");
+			}
+
 			ids.add(ref.getId());
 		}
 
-		MongoDatabase db = mongoDbFactory.getDb();
-		List<Document> result = new ArrayList<>();
-		db.getCollection(collection).find(new Document("_id", new Document("$in", ids))).into(result);
-		result.sort(new DbRefByReferencePositionComparator(ids));
-		return result;
+		MongoDatabase db = StringUtils.hasText(database) ? mongoDbFactory.getDb(database) : mongoDbFactory.getDb();
+		List<Object> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+		List<Document> result = new ArrayList<>(distinctIds.size());
+		db.getCollection(collection).find(new Document("_id", new Document("$in", distinctIds))).into(result);
+		return new DocumentsByReferencePosition(result).orderBy(ids);
 	}
 
 	/**
@@ -450,35 +463,85 @@ public class DefaultDbRefResolver implements DbRefResolver {
 	}
 
 	/**
-	 * {@link Comparator} for sorting {@link Document} that have been loaded in random order by a predefined list of
-	 * reference identifiers.
+	 * Index of {@link Document}s that have been loaded in random order allowing to restore the order of a predefined list
+	 * of reference identifiers in linear time. Integral identifiers are compared by value as the database matches them
+	 * regardless of their Java type. If a loaded {@link Document} cannot be matched to any of the identifiers, the
+	 * {@link Document}s are sorted by the position of their identifier instead so that none of them gets lost.
 	 *
 	 * @author Christoph Strobl
 	 * @author Oliver Gierke
 	 * @since 1.10
 	 */
-	private static class DbRefByReferencePositionComparator implements Comparator<Document> {
+	private static class DocumentsByReferencePosition {
 
-		private final List<Object> reference;
+		private final List<Document> documents;
+		private final Map<Object, Document> documentsById;
 
 		/**
-		 * Creates a new {@link DbRefByReferencePositionComparator} for the given list of reference identifiers.
+		 * Creates a new {@link DocumentsByReferencePosition} for the given {@link Document}s.
+		 *
+		 * @param documents must not be {@literal null}.
+		 */
+		DocumentsByReferencePosition(List<Document> documents) {
+
+			Assert.notNull(documents, "Documents must not be null!");
+
+			this.documents = documents;
+			this.documentsById = new HashMap<Object, Document>(documents.size() * 4 / 3 + 1);
+
+			for (Document document : documents) {
+				documentsById.put(normalize(document.get("_id")), document);
+			}
+		}
+
+		/**
+		 * Returns the {@link Document}s in the order of the given reference identifiers. A {@link Document} referenced
+		 * multiple times is contained once per reference, identifiers without a matching {@link Document} are skipped.
 		 *
 		 * @param referenceIds must not be {@literal null}.
+		 * @return
 		 */
-		public DbRefByReferencePositionComparator(List<Object> referenceIds) {
+		List<Document> orderBy(List<Object> referenceIds) {
 
 			Assert.notNull(referenceIds, "Reference identifiers must not be null!");
-			this.reference = new ArrayList<Object>(referenceIds);
+
+			List<Document> result = new ArrayList<Document>(referenceIds.size());
+			Set<Object> matchedIds = new HashSet<Object>(documentsById.size() * 4 / 3 + 1);
+
+			for (Object id : referenceIds) {
+
+				Object normalizedId = normalize(id);
+				Document document = documentsById.get(normalizedId);
+
+				if (document != null) {
+
+					result.add(document);
+					matchedIds.add(normalizedId);
+				}
+			}
+
+			return matchedIds.size() == documents.size() ? result : sortByPosition(referenceIds);
 		}
 
-		/*
-		 * (non-Javadoc)
-		 * @see java.util.Comparator#compare(java.lang.Object, java.lang.Object)
+		/**
+		 * Sorts the loaded {@link Document}s by the position of their identifier in the given reference identifiers,
+		 * placing {@link Document}s without a matching identifier first.
+		 *
+		 * @param referenceIds must not be {@literal null}.
+		 * @return
 		 */
-		@Override
-		public int compare(Document o1, Document o2) {
-			return Integer.compare(reference.indexOf(o1.get("_id")), reference.indexOf(o2.get("_id")));
+		private List<Document> sortByPosition(List<Object> referenceIds) {
+
+			Map<Object, Integer> positions = new HashMap<Object, Integer>(referenceIds.size() * 4 / 3 + 1);
+
+			for (int i = 0; i < referenceIds.size(); i++) {
+				positions.putIfAbsent(normalize(referenceIds.get(i)), i);
+			}
+
+			List<Document> result = new ArrayList<Document>(documents);
+			result.sort(Comparator.comparingInt(document -> positions.getOrDefault(normalize(document.get("_id")), -1)));
+
+			return result;
 		}
 	}
 }
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bson.BsonBinarySubType;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.Document;
+import org.bson.codecs.BsonTypeClassMap;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.mapping.MongoSimpleTypes;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.util.Assert;
+
+/**
+ * {@link CodecProvider} backed by a {@link MongoConverter} and its mapping context. Provides {@link Codec}s for mapped
+ * entity types so that the driver hands out domain objects instead of {@link Document}s and accepts domain objects for
+ * write operations.
+ * <p>
+ * Decoding only materializes the top-level fields the resolved {@link MongoPersistentEntity} actually maps (including
+ * the type key to resolve the concrete type) and skips all other fields on the BSON level. Entities requiring SpEL
+ * evaluation may refer to arbitrary fields and are therefore always decoded completely.
+ *
+ * @since 2.0
+ */
+public class EntityCodecProvider implements CodecProvider {
+
+	private final MongoConverter converter;
+	private final Map<MongoPersistentEntity<?>, Optional<Set<String>>> mappedFields = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link EntityCodecProvider} for the given {@link MongoConverter}.
+	 *
+	 * @param converter must not be {@literal null}.
+	 */
+	public EntityCodecProvider(MongoConverter converter) {
+
+		Assert.notNull(converter, "MongoConverter must not be null!");
+
+		this.converter = converter;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.bson.codecs.configuration.CodecProvider#get(java.lang.Class, org.bson.codecs.configuration.CodecRegistry)
+	 */
+	@Override
+	public <T> Codec<T> get(Class<T> type, CodecRegistry registry) {
+		return isEntityType(type) ? new EntityCodec<>(type, registry) : null;
+	}
+
+	/**
+	 * Returns whether the given type is a domain type that can be read and written by the {@link MongoConverter}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isEntityType(Class<?> type) {
+
+		if (type.isInterface() || type.isArray() || type.isEnum() || type.isPrimitive()) {
+			return false;
+		}
+
+		if (Bson.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)
+				|| Collection.class.isAssignableFrom(type) || MongoSimpleTypes.HOLDER.isSimpleType(type)) {
+			return false;
+		}
+
+		return converter.getMappingContext().getPersistentEntity(type).isPresent();
+	}
+
+	/**
+	 * Returns the top-level field names mapped by the given {@link MongoPersistentEntity} or {@link Optional#empty()} if
+	 * all fields have to be decoded.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return
+	 */
+	private Optional<Set<String>> getMappedFields(MongoPersistentEntity<?> entity) {
+
+		return mappedFields.computeIfAbsent(entity, it -> {
+
+			if (!(converter instanceof AbstractMongoConverter)
+					|| !PreparedEntityMapping.of(it, ((AbstractMongoConverter) converter).conversions).isEligible()) {
+				return Optional.empty();
+			}
+
+			Set<String> fields = new HashSet<>();
+			fields.add("_id");
+
+			it.doWithProperties((PropertyHandler<MongoPersistentProperty>) property -> fields
+					.add(getTopLevelFieldName(property)));
+			it.doWithAssociations((AssociationHandler<MongoPersistentProperty>) association -> fields
+					.add(getTopLevelFieldName(association.getInverse())));
+
+			return Optional.of(Collections.unmodifiableSet(fields));
+		});
+	}
+
+	private static String getTopLevelFieldName(MongoPersistentProperty property) {
+
+		String fieldName = property.getFieldName();
+		int index = fieldName.indexOf('.');
+
+		return index == -1 ? fieldName : fieldName.substring(0, index);
+	}
+
+	/**
+	 * {@link Codec} reading and writing a single entity type through the {@link MongoConverter}.
+	 */
+	class EntityCodec<T> implements Codec<T> {
+
+		private final Class<T> type;
+		private final TypeInformation<T> typeInformation;
+		private final boolean concreteTypeFixed;
+		private final CodecRegistry registry;
+		private final Codec<Document> documentCodec;
+		private final BsonTypeClassMap bsonTypeClassMap = new BsonTypeClassMap();
+
+		EntityCodec(Class<T> type, CodecRegistry registry) {
+
+			this.type = type;
+			this.typeInformation = ClassTypeInformation.from(type);
+			this.concreteTypeFixed = Modifier.isFinal(type.getModifiers());
+			this.registry = registry;
+			this.documentCodec = registry.get(Document.class);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.bson.codecs.Decoder#decode(org.bson.BsonReader, org.bson.codecs.DecoderContext)
+		 */
+		@Override
+		public T decode(BsonReader reader, DecoderContext decoderContext) {
+
+			reader.readStartDocument();
+
+			Optional<Set<String>> fieldsToRead = getMappedFields(concreteTypeFixed
+					? converter.getMappingContext().getRequiredPersistentEntity(typeInformation) : resolveEntity(reader));
+			Document document = new Document();
+
+			while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+
+				String fieldName = reader.readName();
+
+				if (fieldsToRead.isPresent() && !fieldsToRead.get().contains(fieldName)
+						&& !converter.getTypeMapper().isTypeKey(fieldName)) {
+
+					reader.skipValue();
+					continue;
+				}
+
+				document.put(fieldName, readValue(reader, decoderContext));
+			}
+
+			reader.readEndDocument();
+
+			return converter.read(type, document);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.bson.codecs.Encoder#encode(org.bson.BsonWriter, java.lang.Object, org.bson.codecs.EncoderContext)
+		 */
+		@Override
+		public void encode(BsonWriter writer, T value, EncoderContext encoderContext) {
+
+			Document document = new Document();
+			converter.write(value, document);
+
+			documentCodec.encode(writer, document, encoderContext);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.bson.codecs.Encoder#getEncoderClass()
+		 */
+		@Override
+		public Class<T> getEncoderClass() {
+			return type;
+		}
+
+		/**
+		 * Scans the top-level fields of the current document for the type key and resolves the
+		 * {@link MongoPersistentEntity} to read. Resets the {@link BsonReader} to the first field afterwards. The fields to
+		 * skip depend on the concrete type and the type key is written last, so the scan has to precede the actual read
+		 * unless the declared type is final.
+		 *
+		 * @param reader must not be {@literal null}.
+		 * @return
+		 */
+		private MongoPersistentEntity<?> resolveEntity(BsonReader reader) {
+
+			String typeKey = null;
+			String alias = null;
+
+			reader.mark();
+
+			while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+
+				String fieldName = reader.readName();
+
+				if (reader.getCurrentBsonType() == BsonType.STRING && converter.getTypeMapper().isTypeKey(fieldName)) {
+
+					typeKey = fieldName;
+					alias = reader.readString();
+					break;
+				}
+
+				reader.skipValue();
+			}
+
+			reader.reset();
+
+			TypeInformation<?> typeToRead = typeKey == null ? typeInformation
+					: converter.getTypeMapper().readType(new Document(typeKey, alias), typeInformation);
+
+			return converter.getMappingContext().getRequiredPersistentEntity(typeToRead);
+		}
+
+		private Object readValue(BsonReader reader, DecoderContext decoderContext) {
+
+			BsonType bsonType = reader.getCurrentBsonType();
+
+			if (bsonType == BsonType.NULL) {
+
+				reader.readNull();
+				return null;
+			}
+
+			if (bsonType == BsonType.DOCUMENT) {
+				return documentCodec.decode(reader, decoderContext);
+			}
+
+			if (bsonType == BsonType.ARRAY) {
+
+				List<Object> list = new ArrayList<>();
+
+				reader.readStartArray();
+
+				while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+					list.add(readValue(reader, decoderContext));
+				}
+
+				reader.readEndArray();
+
+				return list;
+			}
+
+			if (bsonType == BsonType.BINARY && BsonBinarySubType.isUuid(reader.peekBinarySubType())
+					&& reader.peekBinarySize() == 16) {
+				return registry.get(UUID.class).decode(reader, decoderContext);
+			}
+
+			return registry.get(bsonTypeClassMap.get(bsonType)).decode(reader, decoderContext);
+		}
+	}
+}
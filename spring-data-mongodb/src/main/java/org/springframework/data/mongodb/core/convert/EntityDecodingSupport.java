@@ -0,0 +1,155 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import static org.springframework.data.mongodb.core.query.SerializationUtils.*;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterLoadEvent;
+import org.springframework.util.Assert;
+
+/**
+ * Support for letting the driver decode query results into mapped entities directly using an
+ * {@link EntityCodecProvider} instead of reading them into an intermediate {@link Document} first. Bundles the checks
+ * and the query preparation shared by the imperative and the reactive template, which only differ in how they execute
+ * the actual find operation.
+ *
+ * @since 2.0
+ * @see EntityCodecProvider
+ */
+public class EntityDecodingSupport {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(EntityDecodingSupport.class);
+
+	private final EntityCodecProvider codecProvider;
+	private final QueryMapper queryMapper;
+
+	private boolean enabled = false;
+
+	/**
+	 * Creates a new {@link EntityDecodingSupport} for the given {@link MongoConverter} and {@link QueryMapper}.
+	 *
+	 * @param converter must not be {@literal null}.
+	 * @param queryMapper must not be {@literal null}.
+	 */
+	public EntityDecodingSupport(MongoConverter converter, QueryMapper queryMapper) {
+
+		Assert.notNull(converter, "MongoConverter must not be null!");
+		Assert.notNull(queryMapper, "QueryMapper must not be null!");
+
+		this.codecProvider = new EntityCodecProvider(converter);
+		this.queryMapper = queryMapper;
+	}
+
+	/**
+	 * Configures whether direct entity decoding shall be used at all. Defaults to {@literal false}.
+	 *
+	 * @param enabled
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Returns whether results of the given type can be decoded by the driver directly. That is the case if entity
+	 * decoding is enabled, the type is a mapped entity and there are no {@link AfterLoadEvent} or
+	 * {@link AfterConvertEvent} listeners for the type interested in the raw {@link Document}.
+	 *
+	 * @param entityClass can be {@literal null}.
+	 * @param hasListeners must not be {@literal null}, tests whether there might be listeners for the given event type
+	 *          published for the entity type.
+	 * @return
+	 */
+	public boolean canDecode(Class<?> entityClass, Predicate<Class<?>> hasListeners) {
+
+		Assert.notNull(hasListeners, "Listener predicate must not be null!");
+
+		if (!enabled || entityClass == null || hasListeners.test(AfterLoadEvent.class)
+				|| hasListeners.test(AfterConvertEvent.class)) {
+			return false;
+		}
+
+		return codecProvider.isEntityType(entityClass);
+	}
+
+	/**
+	 * Returns a {@link CodecRegistry} that decodes mapped entities using the {@link EntityCodecProvider} and falls back to
+	 * the given {@link CodecRegistry} for all other types.
+	 *
+	 * @param registry must not be {@literal null}.
+	 * @return
+	 */
+	public CodecRegistry getCodecRegistry(CodecRegistry registry) {
+
+		Assert.notNull(registry, "CodecRegistry must not be null!");
+
+		return CodecRegistries.fromRegistries(CodecRegistries.fromProviders(codecProvider), registry);
+	}
+
+	/**
+	 * Maps the given query and fields {@link Document}s against the given entity type and hands them to the given
+	 * {@link MappedFindCallback} executing the actual find operation.
+	 *
+	 * @param collectionName the collection to be queried, must not be {@literal null}.
+	 * @param query the query document that specifies the criteria used to find a record, must not be {@literal null}.
+	 * @param fields the document that specifies the fields to be returned, can be {@literal null}.
+	 * @param entityClass the entity type to decode the results into, must not be {@literal null}.
+	 * @param callback must not be {@literal null}.
+	 * @return the result of the {@link MappedFindCallback}.
+	 */
+	public <R> R find(String collectionName, Document query, Document fields, Class<?> entityClass,
+			MappedFindCallback<R> callback) {
+
+		Assert.notNull(callback, "MappedFindCallback must not be null!");
+
+		Optional<? extends MongoPersistentEntity<?>> entity = queryMapper.getMappingContext()
+				.getPersistentEntity(entityClass);
+
+		Document mappedFields = queryMapper.getMappedFields(fields, entity);
+		Document mappedQuery = queryMapper.getMappedObject(query, entity);
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("find using query: {} fields: {} for class: {} in collection: {}",
+					serializeToJsonSafely(mappedQuery), mappedFields, entityClass, collectionName);
+		}
+
+		return callback.doFind(mappedQuery, mappedFields == null || mappedFields.isEmpty() ? null : mappedFields);
+	}
+
+	/**
+	 * Callback executing a find operation with the already mapped query and fields {@link Document}s.
+	 *
+	 * @param <R> the result type of the find operation.
+	 */
+	public interface MappedFindCallback<R> {
+
+		/**
+		 * @param mappedQuery never {@literal null}.
+		 * @param mappedFields {@literal null} if all fields are to be returned.
+		 * @return
+		 */
+		R doFind(Document mappedQuery, Document mappedFields);
+	}
+}
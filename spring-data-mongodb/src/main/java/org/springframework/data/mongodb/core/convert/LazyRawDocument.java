@@ -0,0 +1,299 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoClient;
+
+/**
+ * {@link Document} view on a {@link RawBsonDocument} decoding values only when they are accessed. Single value lookups
+ * scan the raw bytes for the requested key and decode just that value, nested documents are exposed as
+ * {@link LazyRawDocument} again. Any operation requiring all values or modifying the document decodes the remaining
+ * values once and operates on the decoded {@link Document} from then on.
+ *
+ * @since 2.0
+ */
+class LazyRawDocument extends Document {
+
+	private static final long serialVersionUID = -2410316946447218213L;
+
+	private static final String VALUE_KEY = "value";
+	private static final DocumentCodec CODEC = new DocumentCodec(MongoClient.getDefaultCodecRegistry());
+	private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
+	private transient RawBsonDocument source;
+	private transient Map<Object, Object> decoded;
+
+	/**
+	 * Creates a new {@link LazyRawDocument} for the given {@link RawBsonDocument}.
+	 *
+	 * @param source must not be {@literal null}.
+	 */
+	LazyRawDocument(RawBsonDocument source) {
+
+		Assert.notNull(source, "RawBsonDocument must not be null!");
+
+		this.source = source;
+		this.decoded = new HashMap<Object, Object>();
+	}
+
+	/**
+	 * @return whether all values have been decoded already.
+	 */
+	boolean isMaterialized() {
+		return source == null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.bson.Document#get(java.lang.Object)
+	 */
+	@Override
+	public Object get(Object key) {
+
+		if (isMaterialized()) {
+			return super.get(key);
+		}
+
+		if (decoded.containsKey(key)) {
+			return decoded.get(key);
+		}
+
+		BsonValue value = source.get(key);
+		Object result = value == null ? null : decode(value);
+
+		if (value != null) {
+			decoded.put(key, result);
+		}
+
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.bson.Document#get(java.lang.Object, java.lang.Class)
+	 */
+	@Override
+	public <T> T get(Object key, Class<T> clazz) {
+
+		Assert.notNull(clazz, "Class must not be null!");
+
+		return clazz.cast(get(key));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.bson.Document#containsKey(java.lang.Object)
+	 */
+	@Override
+	public boolean containsKey(Object key) {
+		return isMaterialized() ? super.containsKey(key) : source.containsKey(key);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.bson.Document#size()
+	 */
+	@Override
+	public int size() {
+		return isMaterialized() ? super.size() : source.size();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.bson.Document#isEmpty()
+	 */
+	@Override
+	public boolean isEmpty() {
+		return isMaterialized() ? super.isEmpty() : source.isEmpty();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.bson.Document#containsValue(java.lang.Object)
+	 */
+	@Override
+	public boolean containsValue(Object value) {
+
+		materialize();
+		return super.containsValue(value);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.bson.Document#keySet()
+	 */
+	@Override
+	public Set<String> keySet() {
+
+		materialize();
+		return super.keySet();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.bson.Document#values()
+	 */
+	@Override
+	public Collection<Object> values() {
+
+		materialize();
+		return super.values();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.bson.Document#entrySet()
+	 */
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+
+		materialize();
+		return super.entrySet();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.bson.Document#append(java.lang.String, java.lang.Object)
+	 */
+	@Override
+	public Document append(String key, Object value) {
+
+		materialize();
+		return super.append(key, value);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.bson.Document#put(java.lang.String, java.lang.Object)
+	 */
+	@Override
+	public Object put(String key, Object value) {
+
+		materialize();
+		return super.put(key, value);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.bson.Document#putAll(java.util.Map)
+	 */
+	@Override
+	public void putAll(Map<? extends String, ? extends Object> map) {
+
+		materialize();
+		super.putAll(map);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.bson.Document#remove(java.lang.Object)
+	 */
+	@Override
+	public Object remove(Object key) {
+
+		materialize();
+		return super.remove(key);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.bson.Document#clear()
+	 */
+	@Override
+	public void clear() {
+
+		materialize();
+		super.clear();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.bson.Document#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		materialize();
+
+		if (o instanceof LazyRawDocument) {
+			((LazyRawDocument) o).materialize();
+		}
+
+		return super.equals(o);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.bson.Document#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+
+		materialize();
+		return super.hashCode();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.bson.Document#toString()
+	 */
+	@Override
+	public String toString() {
+
+		materialize();
+		return super.toString();
+	}
+
+	/**
+	 * Decodes all values not decoded yet into the backing {@link Document}.
+	 */
+	private void materialize() {
+
+		if (isMaterialized()) {
+			return;
+		}
+
+		for (String key : source.keySet()) {
+			super.put(key, get(key));
+		}
+
+		this.source = null;
+		this.decoded = null;
+	}
+
+	private Object decode(BsonValue value) {
+
+		if (value instanceof RawBsonDocument) {
+			return new LazyRawDocument((RawBsonDocument) value);
+		}
+
+		return CODEC.decode(new BsonDocumentReader(new BsonDocument(VALUE_KEY, value)), DECODER_CONTEXT).get(VALUE_KEY);
+	}
+}
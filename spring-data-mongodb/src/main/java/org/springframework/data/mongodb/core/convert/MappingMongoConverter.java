@@ -17,8 +17,12 @@ package org.springframework.data.mongodb.core.convert;
 
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
+import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,6 +54,7 @@ import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.core.mapping.event.AfterConvertEvent;
 import org.springframework.data.mongodb.core.mapping.event.AfterLoadEvent;
 import org.springframework.data.mongodb.core.mapping.event.MongoMappingEvent;
+import org.springframework.data.mongodb.util.CachingSpelExpressionParser;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
@@ -81,6 +86,17 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 
 	protected static final Logger LOGGER = LoggerFactory.getLogger(MappingMongoConverter.class);
 
+	/**
+	 * {@link ParameterValueProvider} for persistence constructors without parameters.
+	 */
+	private static final ParameterValueProvider<MongoPersistentProperty> NO_PARAMETER_VALUES = new ParameterValueProvider<MongoPersistentProperty>() {
+
+		@Override
+		public <T> Optional<T> getParameterValue(Parameter<T, MongoPersistentProperty> parameter) {
+			return Optional.empty();
+		}
+	};
+
 	protected final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
 	protected final SpelExpressionParser spelExpressionParser = new SpelExpressionParser();
 	protected final QueryMapper idMapper;
@@ -91,6 +107,10 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 	protected String mapKeyDotReplacement = null;
 
 	private SpELContext spELContext;
+	private boolean preparedEntityMappingEnabled = false;
+
+	private final Map<MongoPersistentEntity<?>, PreparedEntityMapping> preparedEntityMappings = new ConcurrentHashMap<>();
+	private final ThreadLocal<Map<DBRef, Document>> prefetchedDbRefs = new ThreadLocal<>();
 
 	/**
 	 * Creates a new {@link MappingMongoConverter} given the new {@link DbRefResolver} and {@link MappingContext}.
@@ -111,7 +131,7 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		this.typeMapper = new DefaultMongoTypeMapper(DefaultMongoTypeMapper.DEFAULT_TYPE_KEY, mappingContext);
 		this.idMapper = new QueryMapper(this);
 
-		this.spELContext = new SpELContext(DocumentPropertyAccessor.INSTANCE);
+		this.spELContext = new SpELContext(new CachingSpelExpressionParser(), DocumentPropertyAccessor.INSTANCE);
 	}
 
 	/**
@@ -161,6 +181,21 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		this.mapKeyDotReplacement = mapKeyDotReplacement;
 	}
 
+	/**
+	 * Configures whether to read and write entities using metadata that is prepared once per
+	 * {@link MongoPersistentEntity} and cached for subsequent conversions. Entities using SpEL expressions on their
+	 * properties or persistence constructor parameters as well as entities with a registered custom converter are always
+	 * converted using the generic mapping path. Disabled by default.
+	 *
+	 * @param preparedEntityMappingEnabled
+	 * @since 2.0
+	 */
+	public void setPreparedEntityMappingEnabled(boolean preparedEntityMappingEnabled) {
+
+		this.preparedEntityMappingEnabled = preparedEntityMappingEnabled;
+		this.preparedEntityMappings.clear();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.convert.EntityConverter#getMappingContext()
@@ -198,6 +233,10 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 			return null;
 		}
 
+		if (bson instanceof RawBsonDocument && !BsonDocument.class.isAssignableFrom(type.getType())) {
+			return read(type, new LazyRawDocument((RawBsonDocument) bson), path);
+		}
+
 		TypeInformation<? extends S> typeToUse = typeMapper.readType(bson, type);
 		Class<? extends S> rawType = typeToUse.getType();
 
@@ -248,6 +287,12 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 
 	private <S extends Object> S read(final MongoPersistentEntity<S> entity, final Document bson, final ObjectPath path) {
 
+		PreparedEntityMapping preparedMapping = getPreparedEntityMapping(entity);
+
+		if (preparedMapping.isEligible()) {
+			return read(preparedMapping, entity, bson, path);
+		}
+
 		final DefaultSpELExpressionEvaluator evaluator = new DefaultSpELExpressionEvaluator(bson, spELContext);
 
 		ParameterValueProvider<MongoPersistentProperty> provider = getParameterProvider(entity, bson, evaluator, path);
@@ -310,6 +355,126 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		return result;
 	}
 
+	/**
+	 * Reads the given {@link Document} into an instance of the given {@link MongoPersistentEntity} using the already
+	 * resolved {@link PreparedEntityMapping}. As prepared entities do not use SpEL, no expression evaluator is created
+	 * unless DBRefs need to be resolved. Property values are read and converted directly instead of through value
+	 * providers and a {@link ConvertingPropertyAccessor} created for every document.
+	 *
+	 * @param mapping must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param bson must not be {@literal null}.
+	 * @param path must not be {@literal null}.
+	 * @return
+	 */
+	private <S extends Object> S read(PreparedEntityMapping mapping, MongoPersistentEntity<S> entity, Document bson,
+			ObjectPath path) {
+
+		DocumentAccessor documentAccessor = new DocumentAccessor(bson);
+
+		ParameterValueProvider<MongoPersistentProperty> parameterProvider = mapping.hasConstructorParameters()
+				? new PersistentEntityParameterValueProvider<>(entity,
+						new PreparedPropertyValueProvider(documentAccessor, path), path.getCurrentObject())
+				: NO_PARAMETER_VALUES;
+		EntityInstantiator instantiator = instantiators.getInstantiatorFor(entity);
+		S instance = instantiator.createInstance(entity, parameterProvider);
+
+		PersistentPropertyAccessor accessor = entity.getPropertyAccessor(instance);
+
+		Object idValue = null;
+		Optional<MongoPersistentProperty> idProperty = mapping.getIdProperty();
+
+		if (idProperty.isPresent() && documentAccessor.hasValue(idProperty.get())) {
+
+			MongoPersistentProperty property = idProperty.get();
+
+			setConvertedProperty(accessor, property, readPropertyValue(property, documentAccessor, path));
+			idValue = bson.get(property.getFieldName());
+		}
+
+		ObjectPath currentPath = path.push(instance, entity, idValue);
+
+		for (MongoPersistentProperty property : mapping.getPropertiesToRead()) {
+
+			if (documentAccessor.hasValue(property)) {
+				setConvertedProperty(accessor, property, readPropertyValue(property, documentAccessor, currentPath));
+			}
+		}
+
+		DbRefProxyHandler handler = null;
+		DbRefResolverCallback callback = null;
+
+		for (MongoPersistentProperty property : mapping.getAssociationsToRead()) {
+
+			Object value = documentAccessor.get(property);
+
+			if (value == null) {
+				continue;
+			}
+
+			if (callback == null) {
+
+				handler = new DefaultDbRefProxyHandler(spELContext, mappingContext, this);
+				callback = new DefaultDbRefResolverCallback(bson, currentPath,
+						new DefaultSpELExpressionEvaluator(bson, spELContext), this);
+			}
+
+			DBRef dbref = value instanceof DBRef ? (DBRef) value : null;
+			accessor.setProperty(property, dbRefResolver.resolveDbRef(property, dbref, callback, handler));
+		}
+
+		return instance;
+	}
+
+	/**
+	 * Reads the value of the given {@link MongoPersistentProperty} not using SpEL from the given
+	 * {@link DocumentAccessor}.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @param documentAccessor must not be {@literal null}.
+	 * @param path must not be {@literal null}.
+	 * @return
+	 */
+	private <T> Optional<T> readPropertyValue(MongoPersistentProperty property, DocumentAccessor documentAccessor,
+			ObjectPath path) {
+		return Optional.ofNullable(documentAccessor.get(property))
+				.map(it -> readValue(it, property.getTypeInformation(), path));
+	}
+
+	/**
+	 * Sets the given value on the {@link PersistentPropertyAccessor} converting it to the property type if necessary the
+	 * same way a {@link ConvertingPropertyAccessor} would.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @param property must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 */
+	private void setConvertedProperty(PersistentPropertyAccessor accessor, MongoPersistentProperty property,
+			Optional<Object> value) {
+
+		Class<?> type = property.getType();
+
+		accessor.setProperty(property,
+				value.map(it -> ClassUtils.isAssignableValue(type, it) ? it : conversionService.convert(it, type)));
+	}
+
+	/**
+	 * Returns the {@link PreparedEntityMapping} for the given {@link MongoPersistentEntity}. Resolves and caches the
+	 * metadata on first access if prepared entity mapping is enabled.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return
+	 * @see #setPreparedEntityMappingEnabled(boolean)
+	 */
+	private PreparedEntityMapping getPreparedEntityMapping(MongoPersistentEntity<?> entity) {
+
+		if (!preparedEntityMappingEnabled) {
+			return PreparedEntityMapping.NOT_ELIGIBLE;
+		}
+
+		return preparedEntityMappings.computeIfAbsent(entity, it -> PreparedEntityMapping.of(it, conversions));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.core.convert.MongoWriter#toDBRef(java.lang.Object, org.springframework.data.mongodb.core.mapping.MongoPersistentProperty)
@@ -413,6 +578,14 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		idProperty.ifPresent(
 				prop -> dbObjectAccessor.computeIfAbsent(prop, () -> idMapper.convertId(accessor.getProperty(prop))));
 
+		PreparedEntityMapping preparedMapping = getPreparedEntityMapping(entity);
+
+		if (preparedMapping.isEligible()) {
+
+			writeProperties(preparedMapping, accessor, bson);
+			return;
+		}
+
 		// Write the properties
 		entity.doWithProperties((PropertyHandler<MongoPersistentProperty>) prop -> {
 
@@ -437,6 +610,30 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		});
 	}
 
+	private void writeProperties(PreparedEntityMapping mapping, PersistentPropertyAccessor accessor, Bson bson) {
+
+		for (MongoPersistentProperty property : mapping.getPropertiesToWrite()) {
+
+			Optional<Object> value = accessor.getProperty(property);
+
+			if (!value.isPresent()) {
+				continue;
+			}
+
+			Object it = value.get();
+
+			if (conversions.isSimpleType(it.getClass())) {
+				writeSimpleInternal(it, bson, property);
+			} else {
+				writePropertyInternal(it, bson, property);
+			}
+		}
+
+		for (MongoPersistentProperty property : mapping.getAssociationsToWrite()) {
+			accessor.getProperty(property).ifPresent(it -> writePropertyInternal(it, bson, property));
+		}
+	}
+
 	@SuppressWarnings({ "unchecked" })
 	protected void writePropertyInternal(Object obj, Bson bson, MongoPersistentProperty prop) {
 
@@ -1214,12 +1411,24 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		 * @param path can be {@literal null}.
 		 */
 		public MongoDbPropertyValueProvider(Bson source, SpELExpressionEvaluator evaluator, ObjectPath path) {
+			this(new DocumentAccessor(source), evaluator, path);
+		}
+
+		/**
+		 * Creates a new {@link MongoDbPropertyValueProvider} for the given {@link DocumentAccessor},
+		 * {@link SpELExpressionEvaluator} and {@link ObjectPath}.
+		 *
+		 * @param accessor must not be {@literal null}.
+		 * @param evaluator must not be {@literal null}.
+		 * @param path can be {@literal null}.
+		 */
+		MongoDbPropertyValueProvider(DocumentAccessor accessor, SpELExpressionEvaluator evaluator, ObjectPath path) {
 
-			Assert.notNull(source, "Source document must no be null!");
+			Assert.notNull(accessor, "Source document must no be null!");
 			Assert.notNull(evaluator, "SpELExpressionEvaluator must not be null!");
 			Assert.notNull(path, "ObjectPath must not be null!");
 
-			this.source = new DocumentAccessor(source);
+			this.source = accessor;
 			this.evaluator = evaluator;
 			this.path = path;
 		}
@@ -1238,6 +1447,30 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		}
 	}
 
+	/**
+	 * {@link PropertyValueProvider} for entities with a {@link PreparedEntityMapping} that reads the property values
+	 * without SpEL evaluation.
+	 */
+	private class PreparedPropertyValueProvider implements PropertyValueProvider<MongoPersistentProperty> {
+
+		private final DocumentAccessor source;
+		private final ObjectPath path;
+
+		PreparedPropertyValueProvider(DocumentAccessor source, ObjectPath path) {
+
+			this.source = source;
+			this.path = path;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.convert.PropertyValueProvider#getPropertyValue(org.springframework.data.mapping.PersistentProperty)
+		 */
+		public <T> Optional<T> getPropertyValue(MongoPersistentProperty property) {
+			return readPropertyValue(property, source, path);
+		}
+	}
+
 	/**
 	 * Extension of {@link SpELExpressionParameterValueProvider} to recursively trigger value conversion on the raw
 	 * resolved SpEL value.
@@ -1368,6 +1601,185 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		return this.applicationContext != null;
 	}
 
+	/**
+	 * Resolves the eagerly loaded {@link DBRef}s of all given {@link Document}s upfront and makes them available to all
+	 * reads performed by the given callback on the current thread. References are grouped by database and collection and
+	 * fetched using a single bulk fetch per group, so that reading a whole batch of documents referencing other
+	 * documents does not result in one additional query per document. Only references of top-level properties of the
+	 * given type (or the type indicated by the document's type hint) are prefetched, lazy references are left untouched.
+	 *
+	 * @param type the type the documents are read into, must not be {@literal null}.
+	 * @param documents the documents about to be read, must not be {@literal null}.
+	 * @param callback the callback reading the documents, must not be {@literal null}.
+	 * @return the result of the callback.
+	 * @since 2.0
+	 */
+	public <T> T doWithPrefetchedDbRefs(Class<?> type, List<Document> documents, Supplier<T> callback) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(documents, "Documents must not be null!");
+		Assert.notNull(callback, "Callback must not be null!");
+
+		Map<DBRef, Document> prefetched = new HashMap<>();
+
+		for (List<DBRef> references : getEagerDbRefs(type, documents)) {
+
+			Map<Object, Document> documentsById = new HashMap<>(references.size());
+
+			for (Document document : bulkReadRefs(references)) {
+				documentsById.put(DbRefIdentifiers.normalize(document.get("_id")), document);
+			}
+
+			for (DBRef reference : references) {
+				prefetched.put(reference, documentsById.get(DbRefIdentifiers.normalize(reference.getId())));
+			}
+		}
+
+		return doWithResolvedDbRefs(prefetched, callback);
+	}
+
+	/**
+	 * Returns the distinct, eagerly loaded {@link DBRef}s of the top-level properties of the given {@link Document}s
+	 * grouped by database and collection, so that each group can be fetched with a single query.
+	 *
+	 * @param type the type the documents are read into, must not be {@literal null}.
+	 * @param documents must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 2.0
+	 * @see #doWithResolvedDbRefs(Map, Supplier)
+	 */
+	public List<List<DBRef>> getEagerDbRefs(Class<?> type, List<Document> documents) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(documents, "Documents must not be null!");
+
+		Map<List<String>, Set<DBRef>> referencesByCollection = new LinkedHashMap<>();
+
+		if (isEntityTypeWithoutCustomReadTarget(type)) {
+
+			TypeInformation<?> typeInformation = ClassTypeInformation.from(type);
+
+			for (Document document : documents) {
+
+				TypeInformation<?> typeToRead = typeMapper.readType(document, typeInformation);
+
+				if (isEntityTypeWithoutCustomReadTarget(typeToRead.getType())) {
+					mappingContext.getPersistentEntity(typeToRead)
+							.ifPresent(entity -> collectEagerDbRefs(entity, document, referencesByCollection));
+				}
+			}
+		}
+
+		List<List<DBRef>> result = new ArrayList<>(referencesByCollection.size());
+
+		for (Set<DBRef> references : referencesByCollection.values()) {
+			result.add(new ArrayList<>(references));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Makes the given already resolved {@link DBRef}s available to all reads performed by the given callback on the
+	 * current thread. A {@link DBRef} mapped to {@literal null} is considered resolved to a non-existing document.
+	 *
+	 * @param resolvedDbRefs must not be {@literal null}.
+	 * @param callback the callback reading the documents, must not be {@literal null}.
+	 * @return the result of the callback.
+	 * @since 2.0
+	 * @see #getEagerDbRefs(Class, List)
+	 */
+	public <T> T doWithResolvedDbRefs(Map<DBRef, Document> resolvedDbRefs, Supplier<T> callback) {
+
+		Assert.notNull(resolvedDbRefs, "Resolved DBRefs must not be null!");
+		Assert.notNull(callback, "Callback must not be null!");
+
+		Map<DBRef, Document> previous = prefetchedDbRefs.get();
+		Map<DBRef, Document> prefetched = new HashMap<>(resolvedDbRefs);
+
+		if (previous != null) {
+			prefetched.putAll(previous);
+		}
+
+		prefetchedDbRefs.set(prefetched);
+
+		try {
+			return callback.get();
+		} finally {
+
+			if (previous == null) {
+				prefetchedDbRefs.remove();
+			} else {
+				prefetchedDbRefs.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the given type has properties that are eagerly loaded {@link DBRef}s.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 * @since 2.0
+	 */
+	public boolean hasEagerDbRefs(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		if (!isEntityTypeWithoutCustomReadTarget(type)) {
+			return false;
+		}
+
+		return mappingContext.getPersistentEntity(type).map(entity -> {
+
+			boolean[] eagerDbRefFound = { false };
+
+			entity.doWithAssociations((AssociationHandler<MongoPersistentProperty>) association -> {
+
+				MongoPersistentProperty property = association.getInverse();
+				eagerDbRefFound[0] |= property.isDbReference() && !property.getDBRef().lazy();
+			});
+
+			return eagerDbRefFound[0];
+		}).orElse(false);
+	}
+
+	private boolean isEntityTypeWithoutCustomReadTarget(Class<?> type) {
+
+		return !conversions.isSimpleType(type) && !Bson.class.isAssignableFrom(type) && !Map.class.isAssignableFrom(type)
+				&& !Collection.class.isAssignableFrom(type) && !conversions.hasCustomReadTarget(Document.class, type);
+	}
+
+	private static void collectEagerDbRefs(MongoPersistentEntity<?> entity, Document document,
+			Map<List<String>, Set<DBRef>> referencesByCollection) {
+
+		DocumentAccessor accessor = new DocumentAccessor(document);
+
+		entity.doWithAssociations((AssociationHandler<MongoPersistentProperty>) association -> {
+
+			MongoPersistentProperty property = association.getInverse();
+
+			if (!property.isDbReference() || property.getDBRef().lazy()) {
+				return;
+			}
+
+			Object value = accessor.get(property);
+			Iterable<?> values = value instanceof Collection ? (Collection<?>) value
+					: value instanceof Map ? ((Map<?, ?>) value).values() : Collections.singleton(value);
+
+			for (Object candidate : values) {
+
+				if (candidate instanceof DBRef) {
+
+					DBRef reference = (DBRef) candidate;
+					referencesByCollection.computeIfAbsent(
+							Arrays.asList(reference.getDatabaseName(), reference.getCollectionName()),
+							key -> new LinkedHashSet<>()).add(reference);
+				}
+			}
+		});
+	}
+
 	/**
 	 * Performs the fetch operation for the given {@link DBRef}.
 	 *
@@ -1375,7 +1787,10 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 	 * @return
 	 */
 	Document readRef(DBRef ref) {
-		return dbRefResolver.fetch(ref);
+
+		Map<DBRef, Document> prefetched = prefetchedDbRefs.get();
+
+		return prefetched != null && prefetched.containsKey(ref) ? prefetched.get(ref) : dbRefResolver.fetch(ref);
 	}
 
 	/**
@@ -1386,7 +1801,25 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 	 * @since 1.10
 	 */
 	List<Document> bulkReadRefs(List<DBRef> references) {
-		return dbRefResolver.bulkFetch(references);
+
+		Map<DBRef, Document> prefetched = prefetchedDbRefs.get();
+
+		if (prefetched == null || !prefetched.keySet().containsAll(references)) {
+			return dbRefResolver.bulkFetch(references);
+		}
+
+		List<Document> result = new ArrayList<>(references.size());
+
+		for (DBRef reference : references) {
+
+			Document document = prefetched.get(reference);
+
+			if (document != null) {
+				result.add(document);
+			}
+		}
+
+		return result;
 	}
 
 	/**
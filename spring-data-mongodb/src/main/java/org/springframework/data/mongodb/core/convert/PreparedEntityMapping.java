@@ -0,0 +1,212 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.bson.Document;
+import org.springframework.data.convert.CustomConversions;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PreferredConstructor.Parameter;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.util.Assert;
+
+/**
+ * Pre-computed read and write metadata for a single {@link MongoPersistentEntity}. Resolves the id property, the
+ * properties that have to be populated after instantiation and the ones that have to be written once so that
+ * {@link MappingMongoConverter} can iterate plain lists instead of walking the entity metadata with callbacks and
+ * per-property constructor and identifier checks for every single document.
+ * <p>
+ * Entities using SpEL expressions on properties or constructor parameters as well as entities handled by a custom
+ * converter are not eligible and have to be processed by the generic mapping path.
+ *
+ * @since 2.0
+ */
+class PreparedEntityMapping {
+
+	static final PreparedEntityMapping NOT_ELIGIBLE = new PreparedEntityMapping();
+
+	private final boolean eligible;
+	private final boolean constructorParameters;
+	private final Optional<MongoPersistentProperty> idProperty;
+	private final List<MongoPersistentProperty> propertiesToRead;
+	private final List<MongoPersistentProperty> propertiesToWrite;
+	private final List<MongoPersistentProperty> associationsToRead;
+	private final List<MongoPersistentProperty> associationsToWrite;
+
+	private PreparedEntityMapping() {
+
+		this.eligible = false;
+		this.constructorParameters = false;
+		this.idProperty = Optional.empty();
+		this.propertiesToRead = Collections.emptyList();
+		this.propertiesToWrite = Collections.emptyList();
+		this.associationsToRead = Collections.emptyList();
+		this.associationsToWrite = Collections.emptyList();
+	}
+
+	private PreparedEntityMapping(MongoPersistentEntity<?> entity) {
+
+		List<MongoPersistentProperty> propertiesToRead = new ArrayList<>();
+		List<MongoPersistentProperty> propertiesToWrite = new ArrayList<>();
+		List<MongoPersistentProperty> associationsToRead = new ArrayList<>();
+		List<MongoPersistentProperty> associationsToWrite = new ArrayList<>();
+
+		Optional<MongoPersistentProperty> idProperty = entity.getIdProperty();
+
+		entity.doWithProperties((PropertyHandler<MongoPersistentProperty>) property -> {
+
+			if (idProperty.map(property::equals).orElse(false)) {
+				return;
+			}
+
+			if (!entity.isConstructorArgument(property)) {
+				propertiesToRead.add(property);
+			}
+
+			if (property.isWritable()) {
+				propertiesToWrite.add(property);
+			}
+		});
+
+		entity.doWithAssociations((AssociationHandler<MongoPersistentProperty>) association -> {
+
+			MongoPersistentProperty inverse = association.getInverse();
+
+			if (!entity.isConstructorArgument(inverse)) {
+				associationsToRead.add(inverse);
+			}
+
+			associationsToWrite.add(inverse);
+		});
+
+		this.eligible = true;
+		this.constructorParameters = entity.getPersistenceConstructor() //
+				.map(constructor -> !constructor.getParameters().isEmpty()) //
+				.orElse(false);
+		this.idProperty = idProperty;
+		this.propertiesToRead = Collections.unmodifiableList(propertiesToRead);
+		this.propertiesToWrite = Collections.unmodifiableList(propertiesToWrite);
+		this.associationsToRead = Collections.unmodifiableList(associationsToRead);
+		this.associationsToWrite = Collections.unmodifiableList(associationsToWrite);
+	}
+
+	/**
+	 * Creates a new {@link PreparedEntityMapping} for the given {@link MongoPersistentEntity}. Returns a
+	 * {@link PreparedEntityMapping} that is not {@link #isEligible() eligible} if the entity requires SpEL evaluation or
+	 * is converted by a custom converter.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param conversions must not be {@literal null}.
+	 * @return
+	 */
+	static PreparedEntityMapping of(MongoPersistentEntity<?> entity, CustomConversions conversions) {
+
+		Assert.notNull(entity, "MongoPersistentEntity must not be null!");
+		Assert.notNull(conversions, "CustomConversions must not be null!");
+
+		if (conversions.hasCustomWriteTarget(entity.getType(), Document.class)
+				|| conversions.hasCustomReadTarget(Document.class, entity.getType()) || requiresSpelEvaluation(entity)) {
+			return NOT_ELIGIBLE;
+		}
+
+		return new PreparedEntityMapping(entity);
+	}
+
+	/**
+	 * Returns whether the prepared metadata can be used to read and write the entity.
+	 *
+	 * @return
+	 */
+	boolean isEligible() {
+		return eligible;
+	}
+
+	/**
+	 * Returns whether the persistence constructor of the entity takes parameters that have to be resolved from the
+	 * source document.
+	 *
+	 * @return
+	 */
+	boolean hasConstructorParameters() {
+		return constructorParameters;
+	}
+
+	Optional<MongoPersistentProperty> getIdProperty() {
+		return idProperty;
+	}
+
+	/**
+	 * Returns the non-identifier properties that are not populated through the persistence constructor.
+	 *
+	 * @return
+	 */
+	List<MongoPersistentProperty> getPropertiesToRead() {
+		return propertiesToRead;
+	}
+
+	/**
+	 * Returns the writable non-identifier properties.
+	 *
+	 * @return
+	 */
+	List<MongoPersistentProperty> getPropertiesToWrite() {
+		return propertiesToWrite;
+	}
+
+	/**
+	 * Returns the inverse properties of associations that are not populated through the persistence constructor.
+	 *
+	 * @return
+	 */
+	List<MongoPersistentProperty> getAssociationsToRead() {
+		return associationsToRead;
+	}
+
+	List<MongoPersistentProperty> getAssociationsToWrite() {
+		return associationsToWrite;
+	}
+
+	private static boolean requiresSpelEvaluation(MongoPersistentEntity<?> entity) {
+
+		boolean[] spelExpressionFound = { false };
+
+		entity.doWithProperties((PropertyHandler<MongoPersistentProperty>) property -> {
+			spelExpressionFound[0] |= property.getSpelExpression().isPresent();
+		});
+
+		if (spelExpressionFound[0]) {
+			return true;
+		}
+
+		return entity.getPersistenceConstructor() //
+				.map(constructor -> {
+
+					for (Parameter<?, MongoPersistentProperty> parameter : constructor.getParameters()) {
+						if (parameter.hasSpelExpression()) {
+							return true;
+						}
+					}
+
+					return false;
+				}).orElse(false);
+	}
+}
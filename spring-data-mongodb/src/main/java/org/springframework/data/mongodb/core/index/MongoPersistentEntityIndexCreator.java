@@ -15,9 +15,16 @@
  */
 package org.springframework.data.mongodb.core.index;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -60,6 +67,8 @@ public class MongoPersistentEntityIndexCreator implements ApplicationListener<Ma
 	private final IndexOperationsProvider indexOperationsProvider;
 	private final MongoMappingContext mappingContext;
 	private final IndexResolver indexResolver;
+	private final Executor executor;
+	private final CompletableFuture<Void> bootstrap;
 
 	/**
 	 * Creates a new {@link MongoPersistentEntityIndexCreator} for the given {@link MongoMappingContext} and
@@ -89,10 +98,116 @@ public class MongoPersistentEntityIndexCreator implements ApplicationListener<Ma
 		this.indexOperationsProvider = indexOperationsProvider;
 		this.mappingContext = mappingContext;
 		this.indexResolver = indexResolver;
+		this.executor = null;
 
 		for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
 			checkForIndexes(entity);
 		}
+
+		this.bootstrap = CompletableFuture.completedFuture(null);
+	}
+
+	/**
+	 * Creates a new {@link MongoPersistentEntityIndexCreator} bootstrapping the indexes of all entities already known to
+	 * the given {@link MongoMappingContext} in bulk. All index definitions are resolved up front and grouped by
+	 * collection. Each collection is then compared against its existing indexes and the missing ones are created using a
+	 * single command per collection, with the collections being processed on the given {@link Executor}. Use a bounded
+	 * {@link Executor} to limit the number of concurrent index builds. Indexes for entities added to the
+	 * {@link MongoMappingContext} later on are created the same way on the thread publishing the
+	 * {@link MappingContextEvent}.
+	 *
+	 * @param mappingContext must not be {@literal null}.
+	 * @param indexOperationsProvider must not be {@literal null}.
+	 * @param indexResolver must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 * @param waitForCompletion whether to block until all indexes are created. If {@literal false} the constructor returns
+	 *          immediately and failures are logged, see {@link #getBootstrap()} to track completion.
+	 * @since 2.0
+	 */
+	public MongoPersistentEntityIndexCreator(MongoMappingContext mappingContext,
+			IndexOperationsProvider indexOperationsProvider, IndexResolver indexResolver, Executor executor,
+			boolean waitForCompletion) {
+
+		Assert.notNull(mappingContext, "MongoMappingContext must not be null!");
+		Assert.notNull(indexOperationsProvider, "IndexOperationsProvider must not be null!");
+		Assert.notNull(indexResolver, "IndexResolver must not be null!");
+		Assert.notNull(executor, "Executor must not be null!");
+
+		this.indexOperationsProvider = indexOperationsProvider;
+		this.mappingContext = mappingContext;
+		this.indexResolver = indexResolver;
+		this.executor = executor;
+
+		Map<String, List<IndexDefinitionHolder>> indexesByCollection = new LinkedHashMap<String, List<IndexDefinitionHolder>>();
+
+		for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+			if (classesSeen.put(entity.getType(), Boolean.TRUE) == null) {
+				collectIndexes(entity, indexesByCollection);
+			}
+		}
+
+		List<CompletableFuture<Void>> futures = new ArrayList<CompletableFuture<Void>>(indexesByCollection.size());
+
+		for (Entry<String, List<IndexDefinitionHolder>> entry : indexesByCollection.entrySet()) {
+			futures.add(CompletableFuture.runAsync(() -> createIndexes(entry.getKey(), entry.getValue()), executor));
+		}
+
+		this.bootstrap = CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()]));
+
+		if (waitForCompletion) {
+
+			try {
+				bootstrap.join();
+			} catch (CompletionException ex) {
+
+				if (ex.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) ex.getCause();
+				}
+
+				throw ex;
+			}
+		} else {
+			bootstrap.whenComplete((result, ex) -> {
+				if (ex != null) {
+					LOGGER.error("Failed to create indexes on startup.", ex);
+				}
+			});
+		}
+	}
+
+	/**
+	 * Creates a new {@link MongoPersistentEntityIndexCreator} for the given {@link MongoMappingContext}. Without an
+	 * {@link Executor}, indexes are created one by one on the calling thread. Otherwise the indexes of the entities
+	 * already known to the {@link MongoMappingContext} are created in bulk on the given {@link Executor}, see
+	 * {@link #MongoPersistentEntityIndexCreator(MongoMappingContext, IndexOperationsProvider, IndexResolver, Executor, boolean)}.
+	 *
+	 * @param mappingContext must not be {@literal null}.
+	 * @param indexOperationsProvider must not be {@literal null}.
+	 * @param executor can be {@literal null}.
+	 * @param waitForCompletion whether to block until all indexes are created in bulk. Ignored without an
+	 *          {@link Executor}.
+	 * @return
+	 * @since 2.0
+	 */
+	public static MongoPersistentEntityIndexCreator create(MongoMappingContext mappingContext,
+			IndexOperationsProvider indexOperationsProvider, Executor executor, boolean waitForCompletion) {
+
+		if (executor == null) {
+			return new MongoPersistentEntityIndexCreator(mappingContext, indexOperationsProvider);
+		}
+
+		return new MongoPersistentEntityIndexCreator(mappingContext, indexOperationsProvider,
+				new MongoPersistentEntityIndexResolver(mappingContext), executor, waitForCompletion);
+	}
+
+	/**
+	 * Returns a {@link CompletableFuture} completing once the indexes of the entities known on construction are created.
+	 *
+	 * @return never {@literal null}.
+	 * @since 2.0
+	 */
+	public CompletableFuture<Void> getBootstrap() {
+		return bootstrap;
 	}
 
 	/*
@@ -131,6 +246,15 @@ public class MongoPersistentEntityIndexCreator implements ApplicationListener<Ma
 
 	private void checkForAndCreateIndexes(MongoPersistentEntity<?> entity) {
 
+		if (executor != null) {
+
+			Map<String, List<IndexDefinitionHolder>> indexesByCollection = new LinkedHashMap<String, List<IndexDefinitionHolder>>();
+			collectIndexes(entity, indexesByCollection);
+			indexesByCollection.forEach(this::createIndexes);
+
+			return;
+		}
+
 		if (entity.findAnnotation(Document.class).isPresent()) {
 			for (IndexDefinitionHolder indexToCreate : indexResolver.resolveIndexFor(entity.getTypeInformation())) {
 				createIndex(indexToCreate);
@@ -138,6 +262,41 @@ public class MongoPersistentEntityIndexCreator implements ApplicationListener<Ma
 		}
 	}
 
+	private void collectIndexes(MongoPersistentEntity<?> entity,
+			Map<String, List<IndexDefinitionHolder>> indexesByCollection) {
+
+		if (!entity.findAnnotation(Document.class).isPresent()) {
+			return;
+		}
+
+		for (IndexDefinitionHolder indexToCreate : indexResolver.resolveIndexFor(entity.getTypeInformation())) {
+			indexesByCollection.computeIfAbsent(indexToCreate.getCollection(), key -> new ArrayList<IndexDefinitionHolder>())
+					.add(indexToCreate);
+		}
+	}
+
+	void createIndexes(String collection, List<IndexDefinitionHolder> indexDefinitions) {
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Ensuring {} indexes for collection '{}'.", indexDefinitions.size(), collection);
+		}
+
+		try {
+			indexOperationsProvider.indexOps(collection).ensureIndexes(indexDefinitions);
+		} catch (UncategorizedMongoDbException ex) {
+
+			if (ex.getCause() instanceof MongoException
+					&& MongoDbErrorCodes.isDataIntegrityViolationCode(((MongoException) ex.getCause()).getCode())) {
+
+				throw new DataIntegrityViolationException(String.format("Cannot create indexes %s in collection '%s'.",
+						indexDefinitions.stream().map(IndexDefinitionHolder::getIndexKeys).collect(Collectors.toList()),
+						collection), ex.getCause());
+			}
+
+			throw ex;
+		}
+	}
+
 	void createIndex(IndexDefinitionHolder indexDefinition) {
 
 		try {
@@ -19,11 +19,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -34,6 +36,7 @@ import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.AssociationHandler;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.MappingException;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver.CycleGuard.Path;
 import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver.TextIndexIncludeOptions.IncludeStrategy;
 import org.springframework.data.mongodb.core.index.TextIndexDefinition.TextIndexDefinitionBuilder;
 import org.springframework.data.mongodb.core.index.TextIndexDefinition.TextIndexedFieldSpec;
@@ -62,6 +65,7 @@ public class MongoPersistentEntityIndexResolver implements IndexResolver {
 	private static final Logger LOGGER = LoggerFactory.getLogger(MongoPersistentEntityIndexResolver.class);
 
 	private final MongoMappingContext mappingContext;
+	private final Map<TypeInformation<?>, ResolvedNestedType> nestedTypeCache = new ConcurrentHashMap<TypeInformation<?>, ResolvedNestedType>();
 
 	/**
 	 * Create new {@link MongoPersistentEntityIndexResolver}.
@@ -97,6 +101,19 @@ public class MongoPersistentEntityIndexResolver implements IndexResolver {
 		Document document = root.findAnnotation(Document.class).orElseThrow(() -> new IllegalArgumentException("Given entity is not collection root."));
 		Assert.notNull(document, "Given entity is not collection root.");
 
+		long start = System.nanoTime();
+		List<IndexDefinitionHolder> indexInformation = doResolveIndexForEntity(root);
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Resolved {} index definitions for {} in {} ms.", indexInformation.size(), root.getType().getName(),
+					TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		}
+
+		return indexInformation;
+	}
+
+	private List<IndexDefinitionHolder> doResolveIndexForEntity(final MongoPersistentEntity<?> root) {
+
 		final List<IndexDefinitionHolder> indexInformation = new ArrayList<MongoPersistentEntityIndexResolver.IndexDefinitionHolder>();
 		indexInformation.addAll(potentiallyCreateCompoundIndexDefinitions("", root.getCollection(), root));
 		indexInformation.addAll(potentiallyCreateTextIndexDefinition(root));
@@ -131,7 +148,11 @@ public class MongoPersistentEntityIndexResolver implements IndexResolver {
 	}
 
 	/**
-	 * Recursively resolve and inspect properties of given {@literal type} for indexes to be created.
+	 * Recursively resolve and inspect properties of given {@literal type} for indexes to be created. As the resulting
+	 * index definitions only depend on the type and the path it is embedded under, they are cached per type and
+	 * re-prefixed with the given path when the type is embedded again, no matter under which path or root entity. A
+	 * cached result is only used if replaying the paths it visited under the given path does not trigger a cycle for the
+	 * given {@link CycleGuard}, in which case the type is inspected again.
 	 *
 	 * @param type
 	 * @param path The {@literal "dot} path.
@@ -142,6 +163,36 @@ public class MongoPersistentEntityIndexResolver implements IndexResolver {
 	private List<IndexDefinitionHolder> resolveIndexForClass(final TypeInformation<?> type, final String path,
 			final String collection, final CycleGuard guard) {
 
+		ResolvedNestedType resolved = nestedTypeCache.get(type);
+
+		if (resolved != null) {
+
+			List<Path> visitedPaths = resolved.getVisitedPaths(path);
+
+			if (!guard.cycles(visitedPaths)) {
+
+				guard.protect(visitedPaths);
+				return resolved.getIndexDefinitions(path, collection);
+			}
+		}
+
+		int visitedPaths = guard.getVisitedPaths().size();
+		int cyclesDetected = guard.getCyclesDetected();
+
+		List<IndexDefinitionHolder> indexInformation = doResolveIndexForClass(type, path, collection, guard);
+
+		// only results not influenced by cycle detection are independent of the entities visited before
+		if (guard.getCyclesDetected() == cyclesDetected) {
+			nestedTypeCache.put(type, new ResolvedNestedType(path, indexInformation,
+					guard.getVisitedPaths().subList(visitedPaths, guard.getVisitedPaths().size())));
+		}
+
+		return indexInformation;
+	}
+
+	private List<IndexDefinitionHolder> doResolveIndexForClass(final TypeInformation<?> type, final String path,
+			final String collection, final CycleGuard guard) {
+
 		MongoPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(type);
 
 		final List<IndexDefinitionHolder> indexInformation = new ArrayList<MongoPersistentEntityIndexResolver.IndexDefinitionHolder>();
@@ -456,13 +507,23 @@ public class MongoPersistentEntityIndexResolver implements IndexResolver {
 		if (StringUtils.hasText(dotPath)) {
 
 			nameToUse = StringUtils.hasText(nameToUse)
-					? (property != null ? dotPath.replace("." + property.getFieldName(), "") : dotPath) + "." + nameToUse
+					? (property != null ? stripFieldName(dotPath, property) : dotPath) + "." + nameToUse
 					: dotPath;
 		}
 		return nameToUse;
 
 	}
 
+	/**
+	 * Removes the trailing field name of the given {@link MongoPersistentProperty} from the given {@literal "dot"} path
+	 * leaving the path of the property's owner.
+	 */
+	private static String stripFieldName(String dotPath, MongoPersistentProperty property) {
+
+		String suffix = "." + property.getFieldName();
+		return dotPath.endsWith(suffix) ? dotPath.substring(0, dotPath.length() - suffix.length()) : dotPath;
+	}
+
 	private List<IndexDefinitionHolder> resolveIndexesForDbrefs(final String path, final String collection,
 			MongoPersistentEntity<?> entity) {
 
@@ -494,6 +555,138 @@ public class MongoPersistentEntityIndexResolver implements IndexResolver {
 		return indexes;
 	}
 
+	/**
+	 * The index definitions resolved for an embedded type along with the {@link Path}s visited while doing so. Both are
+	 * kept relative to the path the type was resolved under and get prefixed with the path the type is embedded under
+	 * when read.
+	 */
+	private static class ResolvedNestedType {
+
+		private final String path;
+		private final List<IndexDefinitionHolder> indexDefinitions;
+		private final List<Path> visitedPaths;
+
+		ResolvedNestedType(String path, List<IndexDefinitionHolder> indexDefinitions, List<Path> visitedPaths) {
+
+			this.path = path;
+			this.indexDefinitions = new ArrayList<IndexDefinitionHolder>(indexDefinitions);
+			this.visitedPaths = new ArrayList<Path>(visitedPaths.size());
+
+			for (Path visitedPath : visitedPaths) {
+				this.visitedPaths.add(new Path(visitedPath.property, relativize(visitedPath.path)));
+			}
+		}
+
+		/**
+		 * Returns the index definitions for the type embedded under the given path within the given collection.
+		 *
+		 * @param path must not be {@literal null}.
+		 * @param collection
+		 * @return
+		 */
+		List<IndexDefinitionHolder> getIndexDefinitions(String path, String collection) {
+
+			List<IndexDefinitionHolder> result = new ArrayList<IndexDefinitionHolder>(indexDefinitions.size());
+
+			for (IndexDefinitionHolder holder : indexDefinitions) {
+
+				IndexDefinition definition = this.path.equals(path) ? holder.getIndexDefinition()
+						: new PrefixedIndexDefinition(holder.getIndexDefinition(), this.path, path);
+
+				result.add(new IndexDefinitionHolder(prefix(path, relativize(holder.getPath())), definition, collection));
+			}
+
+			return result;
+		}
+
+		/**
+		 * Returns the {@link Path}s visited for the type embedded under the given path.
+		 *
+		 * @param path must not be {@literal null}.
+		 * @return
+		 */
+		List<Path> getVisitedPaths(String path) {
+
+			List<Path> result = new ArrayList<Path>(visitedPaths.size());
+
+			for (Path visitedPath : visitedPaths) {
+				result.add(new Path(visitedPath.property, prefix(path, visitedPath.path)));
+			}
+
+			return result;
+		}
+
+		private String relativize(String dotPath) {
+
+			if (dotPath.equals(path)) {
+				return "";
+			}
+
+			return dotPath.startsWith(path + ".") ? dotPath.substring(path.length() + 1) : dotPath;
+		}
+
+		private static String prefix(String path, String relativePath) {
+
+			if (!StringUtils.hasText(relativePath)) {
+				return path;
+			}
+
+			return StringUtils.hasText(path) ? path + "." + relativePath : relativePath;
+		}
+	}
+
+	/**
+	 * {@link IndexDefinition} of an embedded type moved from the path it was resolved under to another one by replacing
+	 * the path prefix of its keys and its name.
+	 */
+	private static class PrefixedIndexDefinition implements IndexDefinition {
+
+		private final org.bson.Document indexKeys;
+		private final org.bson.Document indexOptions;
+
+		PrefixedIndexDefinition(IndexDefinition source, String sourcePath, String targetPath) {
+
+			this.indexKeys = new org.bson.Document();
+
+			for (Map.Entry<String, Object> entry : source.getIndexKeys().entrySet()) {
+				indexKeys.put(replacePrefix(entry.getKey(), sourcePath, targetPath), entry.getValue());
+			}
+
+			this.indexOptions = source.getIndexOptions() == null ? null : new org.bson.Document(source.getIndexOptions());
+
+			if (indexOptions != null && indexOptions.get("name") instanceof String) {
+				indexOptions.put("name", replacePrefix(indexOptions.getString("name"), sourcePath, targetPath));
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.index.IndexDefinition#getIndexKeys()
+		 */
+		@Override
+		public org.bson.Document getIndexKeys() {
+			return indexKeys;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.index.IndexDefinition#getIndexOptions()
+		 */
+		@Override
+		public org.bson.Document getIndexOptions() {
+			return indexOptions;
+		}
+
+		private static String replacePrefix(String value, String sourcePath, String targetPath) {
+
+			if (value.equals(sourcePath)) {
+				return targetPath;
+			}
+
+			return value.startsWith(sourcePath + ".") ? targetPath + value.substring(sourcePath.length()) : value;
+		}
+	}
+
 	/**
 	 * {@link CycleGuard} holds information about properties and the paths for accessing those. This information is used
 	 * to detect potential cycles within the references.
@@ -503,9 +696,12 @@ public class MongoPersistentEntityIndexResolver implements IndexResolver {
 	static class CycleGuard {
 
 		private final Map<String, List<Path>> propertyTypeMap;
+		private final List<Path> visitedPaths;
+		private int cyclesDetected;
 
 		CycleGuard() {
 			this.propertyTypeMap = new LinkedHashMap<String, List<Path>>();
+			this.visitedPaths = new ArrayList<Path>();
 		}
 
 		/**
@@ -525,6 +721,7 @@ public class MongoPersistentEntityIndexResolver implements IndexResolver {
 
 					if (existingPath.cycles(property, path) && property.isEntity()) {
 						paths.add(new Path(property, path));
+						cyclesDetected++;
 
 						throw new CyclicPropertyReferenceException(property.getFieldName(), property.getOwner().getType(),
 								existingPath.getPath());
@@ -538,6 +735,74 @@ public class MongoPersistentEntityIndexResolver implements IndexResolver {
 				paths.add(new Path(property, path));
 				propertyTypeMap.put(propertyTypeKey, paths);
 			}
+
+			visitedPaths.add(new Path(property, path));
+		}
+
+		/**
+		 * Protects all of the given {@link Path}s in order.
+		 *
+		 * @param paths must not be {@literal null}.
+		 * @throws CyclicPropertyReferenceException in case a potential cycle is detected.
+		 */
+		void protect(List<Path> paths) throws CyclicPropertyReferenceException {
+
+			for (Path path : paths) {
+				protect(path.property, path.path);
+			}
+		}
+
+		/**
+		 * Returns whether protecting the given {@link Path}s in order would detect a cycle, either with the ones already
+		 * protected or with the ones preceding it in the given {@link List}.
+		 *
+		 * @param paths must not be {@literal null}.
+		 * @return
+		 */
+		boolean cycles(List<Path> paths) {
+
+			Map<String, List<Path>> pathsToVerify = new HashMap<String, List<Path>>();
+
+			for (Path path : paths) {
+
+				String propertyTypeKey = createMapKey(path.property);
+				List<Path> replayedPaths = pathsToVerify.computeIfAbsent(propertyTypeKey, key -> new ArrayList<Path>());
+
+				if (path.property.isEntity()) {
+
+					List<Path> existingPaths = propertyTypeMap.getOrDefault(propertyTypeKey, Collections.<Path> emptyList());
+
+					for (Path existingPath : existingPaths) {
+						if (existingPath.cycles(path.property, path.path)) {
+							return true;
+						}
+					}
+
+					for (Path replayedPath : replayedPaths) {
+						if (replayedPath.cycles(path.property, path.path)) {
+							return true;
+						}
+					}
+				}
+
+				replayedPaths.add(path);
+			}
+
+			return false;
+		}
+
+		/**
+		 * @return all {@link Path}s protected so far in the order they were visited.
+		 */
+		List<Path> getVisitedPaths() {
+			return visitedPaths;
+		}
+
+		/**
+		 * @return the number of cycles detected so far.
+		 */
+		int getCyclesDetected() {
+			return cyclesDetected;
 		}
 
 		private String createMapKey(MongoPersistentProperty property) {
@@ -41,6 +41,16 @@ public abstract class AbstractMongoEventListener<E> implements ApplicationListen
 		this.domainClass = typeArgument == null ? Object.class : typeArgument;
 	}
 
+	/**
+	 * Returns the domain type the listener is interested in.
+	 *
+	 * @return never {@literal null}.
+	 * @since 2.0
+	 */
+	Class<?> getDomainClass() {
+		return domainClass;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.context.ApplicationListener#onApplicationEvent(org.springframework.context.ApplicationEvent)
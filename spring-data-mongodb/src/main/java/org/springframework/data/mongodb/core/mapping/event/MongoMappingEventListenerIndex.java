@@ -0,0 +1,245 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.mapping.event;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.context.event.GenericApplicationListenerAdapter;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Index of the {@link ApplicationListener}s of an {@link ApplicationContext} (and its parents) that might receive a
+ * {@link MongoMappingEvent} of a given type for a given domain type. Allows publishers to skip creating and publishing
+ * events nobody listens to. {@link AbstractMongoEventListener}s are only considered for their domain type and the
+ * callback methods they actually override, all other listeners for the event types they declare.
+ * <p>
+ * The index is built on {@link ContextRefreshedEvent} of the {@link ApplicationContext} and considers all events
+ * listened to before that or if the context does not expose its listeners. Listeners added to the context after its
+ * refresh are only picked up by calling {@link #refresh()}.
+ *
+ * @since 2.0
+ */
+public class MongoMappingEventListenerIndex implements ApplicationListener<ContextRefreshedEvent> {
+
+	private static final Map<Class<?>, String> CALLBACKS;
+
+	static {
+
+		Map<Class<?>, String> callbacks = new HashMap<Class<?>, String>();
+		callbacks.put(BeforeConvertEvent.class, "onBeforeConvert");
+		callbacks.put(BeforeSaveEvent.class, "onBeforeSave");
+		callbacks.put(AfterSaveEvent.class, "onAfterSave");
+		callbacks.put(AfterLoadEvent.class, "onAfterLoad");
+		callbacks.put(AfterConvertEvent.class, "onAfterConvert");
+		callbacks.put(BeforeDeleteEvent.class, "onBeforeDelete");
+		callbacks.put(AfterDeleteEvent.class, "onAfterDelete");
+
+		CALLBACKS = Collections.unmodifiableMap(callbacks);
+	}
+
+	private final ApplicationContext context;
+	private volatile Optional<Listeners> listeners = Optional.empty();
+
+	/**
+	 * Creates a new {@link MongoMappingEventListenerIndex} for the given {@link ApplicationContext}.
+	 *
+	 * @param context must not be {@literal null}.
+	 */
+	public MongoMappingEventListenerIndex(ApplicationContext context) {
+
+		Assert.notNull(context, "ApplicationContext must not be null!");
+		this.context = context;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.ApplicationListener#onApplicationEvent(org.springframework.context.ApplicationEvent)
+	 */
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+
+		if (context.equals(event.getApplicationContext())) {
+			refresh();
+		}
+	}
+
+	/**
+	 * Rebuilds the index from the listeners currently registered with the {@link ApplicationContext}.
+	 */
+	public void refresh() {
+
+		Set<ApplicationListener<?>> result = new LinkedHashSet<ApplicationListener<?>>();
+
+		for (ApplicationContext current = context; current != null; current = current.getParent()) {
+
+			if (!(current instanceof AbstractApplicationContext)) {
+				this.listeners = Optional.empty();
+				return;
+			}
+
+			result.addAll(((AbstractApplicationContext) current).getApplicationListeners());
+
+			for (ApplicationListener<?> listener : current.getBeansOfType(ApplicationListener.class, false, false)
+					.values()) {
+				result.add(listener);
+			}
+		}
+
+		this.listeners = Optional.of(new Listeners(result));
+	}
+
+	/**
+	 * Returns whether any listener might receive a {@link MongoMappingEvent} of the given type for the given domain type.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @param domainType can be {@literal null}.
+	 * @return
+	 */
+	public boolean hasListeners(Class<?> eventType, Class<?> domainType) {
+
+		Assert.notNull(eventType, "Event type must not be null!");
+
+		return listeners.map(it -> it.supports(eventType, domainType)).orElse(true);
+	}
+
+	/**
+	 * Snapshot of the listeners of the {@link ApplicationContext} caching the lookup results.
+	 */
+	private static class Listeners {
+
+		private final Collection<ApplicationListener<?>> listeners;
+		private final Map<CacheKey, Boolean> cache = new ConcurrentHashMap<CacheKey, Boolean>();
+
+		Listeners(Collection<ApplicationListener<?>> listeners) {
+			this.listeners = listeners;
+		}
+
+		boolean supports(Class<?> eventType, Class<?> domainType) {
+			return cache.computeIfAbsent(new CacheKey(eventType, domainType), key -> lookup(eventType, domainType));
+		}
+
+		private boolean lookup(Class<?> eventType, Class<?> domainType) {
+
+			ResolvableType type = ResolvableType.forClass(eventType);
+
+			for (ApplicationListener<?> listener : listeners) {
+
+				if (listener instanceof AbstractMongoEventListener) {
+
+					if (supports((AbstractMongoEventListener<?>) listener, eventType, domainType)) {
+						return true;
+					}
+
+					continue;
+				}
+
+				GenericApplicationListener adapter = listener instanceof GenericApplicationListener
+						? (GenericApplicationListener) listener : new GenericApplicationListenerAdapter(listener);
+
+				if (adapter.supportsEventType(type)) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		private static boolean supports(AbstractMongoEventListener<?> listener, Class<?> eventType, Class<?> domainType) {
+
+			if (domainType != null && !listener.getDomainClass().isAssignableFrom(domainType)) {
+				return false;
+			}
+
+			if (isOverridden(listener, "onApplicationEvent", MongoMappingEvent.class)) {
+				return true;
+			}
+
+			for (Class<?> candidate = eventType; candidate != null; candidate = candidate.getSuperclass()) {
+
+				String callback = CALLBACKS.get(candidate);
+
+				if (callback != null) {
+					return isOverridden(listener, callback, candidate);
+				}
+			}
+
+			return false;
+		}
+
+		private static boolean isOverridden(AbstractMongoEventListener<?> listener, String name, Class<?> parameterType) {
+
+			Method method = ReflectionUtils.findMethod(listener.getClass(), name, parameterType);
+			return method == null || !AbstractMongoEventListener.class.equals(method.getDeclaringClass());
+		}
+	}
+
+	private static class CacheKey {
+
+		private final Class<?> eventType;
+		private final Class<?> domainType;
+
+		CacheKey(Class<?> eventType, Class<?> domainType) {
+
+			this.eventType = eventType;
+			this.domainType = domainType;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof CacheKey)) {
+				return false;
+			}
+
+			CacheKey that = (CacheKey) obj;
+
+			return this.eventType.equals(that.eventType) && ObjectUtils.nullSafeEquals(this.domainType, that.domainType);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return 31 * eventType.hashCode() + ObjectUtils.nullSafeHashCode(domainType);
+		}
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.query;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+
+/**
+ * Position within the results of a sorted query used for keyset (seek) pagination. Captures the values of the sort
+ * keys, including the {@literal _id} used as tie-breaker, of the last document returned so the next window can be
+ * selected using range predicates on the sort keys instead of skipping the preceding documents.
+ *
+ * @since 2.0
+ * @see KeysetWindow
+ */
+public final class KeysetPosition {
+
+	private static final KeysetPosition INITIAL = new KeysetPosition(Collections.emptyMap());
+
+	private final Map<String, Object> keys;
+
+	private KeysetPosition(Map<String, Object> keys) {
+		this.keys = Collections.unmodifiableMap(keys);
+	}
+
+	/**
+	 * Returns the {@link KeysetPosition} pointing to the start of the results.
+	 *
+	 * @return
+	 */
+	public static KeysetPosition initial() {
+		return INITIAL;
+	}
+
+	/**
+	 * Creates a new {@link KeysetPosition} for the given sort key values keyed by the document field names in sort
+	 * order.
+	 *
+	 * @param keys must not be {@literal null}.
+	 * @return
+	 */
+	public static KeysetPosition of(Map<String, ?> keys) {
+
+		Assert.notNull(keys, "Keys must not be null!");
+
+		return keys.isEmpty() ? INITIAL : new KeysetPosition(new LinkedHashMap<String, Object>(keys));
+	}
+
+	/**
+	 * @return {@literal true} if the position points to the start of the results.
+	 */
+	public boolean isInitial() {
+		return keys.isEmpty();
+	}
+
+	/**
+	 * Returns the sort key values keyed by the document field names in sort order.
+	 *
+	 * @return never {@literal null}.
+	 */
+	public Map<String, Object> getKeys() {
+		return keys;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof KeysetPosition)) {
+			return false;
+		}
+
+		return this.keys.equals(((KeysetPosition) obj).keys);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return keys.hashCode();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return isInitial() ? "KeysetPosition: initial" : String.format("KeysetPosition: %s", keys);
+	}
+}
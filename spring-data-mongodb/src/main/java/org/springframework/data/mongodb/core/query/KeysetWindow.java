@@ -0,0 +1,117 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.query;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.util.Assert;
+
+/**
+ * A window of results obtained via keyset pagination carrying the {@link KeysetPosition} to continue from.
+ *
+ * @param <T> the result type.
+ * @since 2.0
+ * @see KeysetPosition
+ */
+public class KeysetWindow<T> implements Iterable<T> {
+
+	private final List<T> content;
+	private final KeysetPosition nextPosition;
+	private final boolean hasNext;
+
+	/**
+	 * Creates a new {@link KeysetWindow}.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param nextPosition must not be {@literal null}.
+	 * @param hasNext whether further results are available after the given content.
+	 */
+	public KeysetWindow(List<T> content, KeysetPosition nextPosition, boolean hasNext) {
+
+		Assert.notNull(content, "Content must not be null!");
+		Assert.notNull(nextPosition, "KeysetPosition must not be null!");
+
+		this.content = Collections.unmodifiableList(content);
+		this.nextPosition = nextPosition;
+		this.hasNext = hasNext;
+	}
+
+	/**
+	 * @return the results of the window, never {@literal null}.
+	 */
+	public List<T> getContent() {
+		return content;
+	}
+
+	/**
+	 * Returns the {@link KeysetPosition} of the last result to obtain the next window from. Points to the position the
+	 * window was requested from if the window is empty.
+	 *
+	 * @return never {@literal null}.
+	 */
+	public KeysetPosition getNextPosition() {
+		return nextPosition;
+	}
+
+	/**
+	 * @return {@literal true} if further results are available after the current window.
+	 */
+	public boolean hasNext() {
+		return hasNext;
+	}
+
+	/**
+	 * @return {@literal true} if the window does not contain any results.
+	 */
+	public boolean isEmpty() {
+		return content.isEmpty();
+	}
+
+	/**
+	 * Returns a new {@link KeysetWindow} with the results converted using the given {@link Function}.
+	 *
+	 * @param converter must not be {@literal null}.
+	 * @return
+	 */
+	public <S> KeysetWindow<S> map(Function<? super T, ? extends S> converter) {
+
+		Assert.notNull(converter, "Converter must not be null!");
+
+		return new KeysetWindow<S>(content.stream().map(converter).collect(Collectors.toList()), nextPosition, hasNext);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Iterable#iterator()
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return content.iterator();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("KeysetWindow: %d results, next %s, hasNext: %s", content.size(), nextPosition, hasNext);
+	}
+}
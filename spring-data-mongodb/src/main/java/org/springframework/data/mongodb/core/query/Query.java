@@ -58,6 +58,8 @@ public class Query {
 	private Meta meta = new Meta();
 
 	private Optional<Collation> collation = Optional.empty();
+	private boolean prefetchDbRefs = false;
+	private boolean mapInParallel = false;
 
 	/**
 	 * Static factory method to create a {@link Query} using the provided {@link CriteriaDefinition}.
@@ -422,6 +424,49 @@ public class Query {
 		return collation;
 	}
 
+	/**
+	 * Resolve eagerly loaded {@link org.springframework.data.mongodb.core.mapping.DBRef}s of all documents returned by
+	 * the query upfront, using one bulk fetch per referenced collection instead of one fetch per document.
+	 *
+	 * @return
+	 * @since 2.0
+	 */
+	public Query prefetchDbRefs() {
+
+		this.prefetchDbRefs = true;
+		return this;
+	}
+
+	/**
+	 * @return {@literal true} if {@link org.springframework.data.mongodb.core.mapping.DBRef}s of the query results are
+	 *         supposed to be resolved upfront.
+	 * @since 2.0
+	 */
+	public boolean isPrefetchDbRefs() {
+		return prefetchDbRefs;
+	}
+
+	/**
+	 * Map the documents returned by the query to the result type in parallel. Documents are mapped in batches while the
+	 * next batch is read from the cursor, the order of the results is retained.
+	 *
+	 * @return
+	 * @since 2.0
+	 */
+	public Query mapInParallel() {
+
+		this.mapInParallel = true;
+		return this;
+	}
+
+	/**
+	 * @return {@literal true} if the documents returned by the query are supposed to be mapped in parallel.
+	 * @since 2.0
+	 */
+	public boolean isMapInParallel() {
+		return mapInParallel;
+	}
+
 	protected List<CriteriaDefinition> getCriteria() {
 		return new ArrayList<>(this.criteria.values());
 	}
@@ -470,9 +515,11 @@ public class Query {
 		boolean limitEqual = this.limit == that.limit;
 		boolean metaEqual = nullSafeEquals(this.meta, that.meta);
 		boolean collationEqual = nullSafeEquals(this.collation.orElse(null), that.collation.orElse(null));
+		boolean prefetchDbRefsEqual = this.prefetchDbRefs == that.prefetchDbRefs;
+		boolean mapInParallelEqual = this.mapInParallel == that.mapInParallel;
 
 		return criteriaEqual && fieldsEqual && sortEqual && hintEqual && skipEqual && limitEqual && metaEqual
-				&& collationEqual;
+				&& collationEqual && prefetchDbRefsEqual && mapInParallelEqual;
 	}
 
 	/*
@@ -492,6 +539,8 @@ public class Query {
 		result += 31 * limit;
 		result += 31 * nullSafeHashCode(meta);
 		result += 31 * nullSafeHashCode(collation.orElse(null));
+		result += 31 * (prefetchDbRefs ? 1 : 0);
+		result += 31 * (mapInParallel ? 1 : 0);
 
 		return result;
 	}
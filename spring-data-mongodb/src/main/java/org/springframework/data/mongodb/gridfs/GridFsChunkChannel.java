@@ -0,0 +1,311 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoGridFSException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.gridfs.model.GridFSFile;
+
+/**
+ * Read-only {@link SeekableByteChannel} reading the chunks of a GridFS file directly from the chunks collection. Chunks
+ * are fetched in ranges of {@code chunksPerRead} chunks using a single query. If an {@link Executor} is given, the
+ * range following the one currently read is fetched in the background. Positioning the channel only fetches the
+ * chunks required from the new position on.
+ *
+ * @since 2.0
+ */
+class GridFsChunkChannel implements SeekableByteChannel {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(GridFsChunkChannel.class);
+
+	private final MongoCollection<Document> chunks;
+	private final BsonValue fileId;
+	private final long length;
+	private final int chunkSize;
+	private final int chunkCount;
+	private final int chunksPerRead;
+	private final Executor executor;
+
+	private boolean open = true;
+	private long position;
+
+	private int rangeStart = -1;
+	private List<byte[]> range;
+	private int nextRangeStart = -1;
+	private CompletableFuture<List<byte[]>> nextRange;
+
+	private long bytesRead;
+	private long chunksRead;
+	private long fetchNanos;
+
+	/**
+	 * Creates a new {@link GridFsChunkChannel}.
+	 *
+	 * @param chunks the chunks collection of the bucket, must not be {@literal null}.
+	 * @param file the file to read, must not be {@literal null}.
+	 * @param chunksPerRead the number of chunks to fetch at a time, must be greater than zero.
+	 * @param executor the {@link Executor} to fetch the next range of chunks on, can be {@literal null}.
+	 */
+	GridFsChunkChannel(MongoCollection<Document> chunks, GridFSFile file, int chunksPerRead, Executor executor) {
+
+		Assert.notNull(chunks, "Chunks collection must not be null!");
+		Assert.notNull(file, "GridFSFile must not be null!");
+		Assert.isTrue(chunksPerRead > 0, "Chunks per read must be greater than zero!");
+
+		this.chunks = chunks;
+		this.fileId = file.getId();
+		this.length = file.getLength();
+		this.chunkSize = file.getChunkSize();
+		this.chunkCount = (int) Math.ceil((double) length / chunkSize);
+		this.chunksPerRead = chunksPerRead;
+		this.executor = executor;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.nio.channels.SeekableByteChannel#read(java.nio.ByteBuffer)
+	 */
+	@Override
+	public int read(ByteBuffer dst) throws ClosedChannelException {
+
+		ensureOpen();
+
+		if (position >= length) {
+			return -1;
+		}
+
+		if (!dst.hasRemaining()) {
+			return 0;
+		}
+
+		int chunkIndex = (int) (position / chunkSize);
+		byte[] chunk = getChunk(chunkIndex);
+		int offset = (int) (position - (long) chunkIndex * chunkSize);
+		int count = Math.min(dst.remaining(), chunk.length - offset);
+
+		if (count <= 0) {
+
+			// the last chunk ends before the length recorded for the file
+			if (chunkIndex == chunkCount - 1) {
+				return -1;
+			}
+
+			throw new MongoGridFSException(
+					String.format("Chunk %d of file with id %s is shorter than expected.", chunkIndex, fileId));
+		}
+
+		dst.put(chunk, offset, count);
+		position += count;
+		bytesRead += count;
+
+		return count;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.nio.channels.SeekableByteChannel#position()
+	 */
+	@Override
+	public long position() throws ClosedChannelException {
+
+		ensureOpen();
+		return position;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.nio.channels.SeekableByteChannel#position(long)
+	 */
+	@Override
+	public SeekableByteChannel position(long newPosition) throws ClosedChannelException {
+
+		ensureOpen();
+		Assert.isTrue(newPosition >= 0, "Position must not be negative!");
+
+		this.position = newPosition;
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.nio.channels.SeekableByteChannel#size()
+	 */
+	@Override
+	public long size() throws ClosedChannelException {
+
+		ensureOpen();
+		return length;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.nio.channels.SeekableByteChannel#write(java.nio.ByteBuffer)
+	 */
+	@Override
+	public int write(ByteBuffer src) {
+		throw new NonWritableChannelException();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.nio.channels.SeekableByteChannel#truncate(long)
+	 */
+	@Override
+	public SeekableByteChannel truncate(long size) {
+		throw new NonWritableChannelException();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.nio.channels.Channel#isOpen()
+	 */
+	@Override
+	public boolean isOpen() {
+		return open;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.nio.channels.Channel#close()
+	 */
+	@Override
+	public void close() {
+
+		if (!open) {
+			return;
+		}
+
+		open = false;
+		range = null;
+
+		if (nextRange != null) {
+			nextRange.cancel(false);
+			nextRange = null;
+		}
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Read file with id {}: {}.", fileId, getStatistics());
+		}
+	}
+
+	/**
+	 * Returns the {@link GridFsTransferStatistics} for the bytes read so far. The duration only covers the time spent
+	 * waiting for chunks to be fetched.
+	 *
+	 * @return never {@literal null}.
+	 */
+	GridFsTransferStatistics getStatistics() {
+		return new GridFsTransferStatistics(bytesRead, chunksRead, fetchNanos);
+	}
+
+	private byte[] getChunk(int chunkIndex) {
+
+		if (range != null && chunkIndex >= rangeStart && chunkIndex < rangeStart + range.size()) {
+			return range.get(chunkIndex - rangeStart);
+		}
+
+		long start = System.nanoTime();
+
+		if (nextRange != null && nextRangeStart == chunkIndex) {
+			range = join(nextRange);
+		} else {
+
+			if (nextRange != null) {
+				nextRange.cancel(false);
+			}
+
+			range = fetchRange(chunkIndex);
+		}
+
+		fetchNanos += System.nanoTime() - start;
+		chunksRead += range.size();
+		rangeStart = chunkIndex;
+		nextRange = null;
+
+		int followingRangeStart = rangeStart + range.size();
+
+		if (executor != null && followingRangeStart < chunkCount) {
+
+			nextRangeStart = followingRangeStart;
+			nextRange = CompletableFuture.supplyAsync(() -> fetchRange(followingRangeStart), executor);
+		}
+
+		return range.get(0);
+	}
+
+	private List<byte[]> fetchRange(int firstChunk) {
+
+		int lastChunk = Math.min(firstChunk + chunksPerRead, chunkCount);
+		Document query = new Document("files_id", fileId).append("n",
+				new Document("$gte", firstChunk).append("$lt", lastChunk));
+
+		List<byte[]> result = new ArrayList<byte[]>(lastChunk - firstChunk);
+
+		for (Document chunk : chunks.find(query).sort(new Document("n", 1))) {
+
+			if (chunk.getInteger("n") != firstChunk + result.size()) {
+				break;
+			}
+
+			result.add(chunk.get("data", Binary.class).getData());
+		}
+
+		if (result.size() != lastChunk - firstChunk) {
+			throw new MongoGridFSException(String.format("Could not find file chunk for file_id: %s at chunk index %s.",
+					fileId, firstChunk + result.size()));
+		}
+
+		return result;
+	}
+
+	private static List<byte[]> join(CompletableFuture<List<byte[]>> future) {
+
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+
+			throw e;
+		}
+	}
+
+	private void ensureOpen() throws ClosedChannelException {
+
+		if (!open) {
+			throw new ClosedChannelException();
+		}
+	}
+}
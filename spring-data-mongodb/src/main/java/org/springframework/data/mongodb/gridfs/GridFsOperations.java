@@ -118,6 +118,21 @@ public interface GridFsOperations extends ResourcePatternResolver {
 	 */
 	ObjectId store(InputStream content, String filename, String contentType, Document metadata);
 
+	/**
+	 * Stores the given content into a file with the given name and content type using the given metadata. Chunks are
+	 * written as configured by the given {@link GridFsStoreOptions}, allowing multiple chunk writes to be in flight.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param filename must not be {@literal null} or empty.
+	 * @param contentType can be {@literal null}.
+	 * @param metadata can be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the id of the file just created.
+	 * @since 2.0
+	 */
+	ObjectId store(InputStream content, String filename, String contentType, Document metadata,
+			GridFsStoreOptions options);
+
 	/**
 	 * Returns all files matching the given query. Note, that currently {@link Sort} criterias defined at the
 	 * {@link Query} will not be regarded as MongoDB does not support ordering for GridFS file access.
@@ -137,7 +152,8 @@ public interface GridFsOperations extends ResourcePatternResolver {
 	com.mongodb.client.gridfs.model.GridFSFile findOne(Query query);
 
 	/**
-	 * Deletes all files matching the given {@link Query}.
+	 * Deletes all files matching the given {@link Query}. Files and their chunks are removed in batches rather than one
+	 * file at a time.
 	 * 
 	 * @param query
 	 */
@@ -1,5 +1,5 @@
 /*
- * Copyright 2011-2016 the original author or authors.
+ * Copyright 2011-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,9 +18,13 @@ package org.springframework.data.mongodb.gridfs;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.util.function.Supplier;
 
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
 
 import com.mongodb.client.gridfs.model.GridFSFile;
 import com.mongodb.gridfs.GridFSDBFile;
@@ -36,6 +40,8 @@ public class GridFsResource extends InputStreamResource {
 	static final String CONTENT_TYPE_FIELD = "_contentType";
 
 	private final GridFSFile file;
+	private final Supplier<InputStream> inputStreamFactory;
+	private final Supplier<SeekableByteChannel> channelFactory;
 
 	/**
 	 * Creates a new {@link GridFsResource} from the given {@link GridFSDBFile}.
@@ -56,6 +62,61 @@ public class GridFsResource extends InputStreamResource {
 
 		super(inputStream);
 		this.file = file;
+		this.inputStreamFactory = null;
+		this.channelFactory = null;
+	}
+
+	/**
+	 * Creates a new {@link GridFsResource} from the given {@link GridFSFile} opening the file's content using the given
+	 * factory only once {@link #getInputStream()} is called.
+	 *
+	 * @param file must not be {@literal null}.
+	 * @param inputStreamFactory must not be {@literal null}.
+	 * @param channelFactory can be {@literal null}.
+	 */
+	GridFsResource(GridFSFile file, Supplier<InputStream> inputStreamFactory,
+			Supplier<SeekableByteChannel> channelFactory) {
+
+		super(new ByteArrayInputStream(new byte[] {}));
+
+		Assert.notNull(inputStreamFactory, "InputStream factory must not be null!");
+
+		this.file = file;
+		this.inputStreamFactory = inputStreamFactory;
+		this.channelFactory = channelFactory;
+	}
+
+	/**
+	 * Returns the content of the file. Resources obtained from a {@link GridFsTemplate} open a new download stream on
+	 * each invocation and can thus be read multiple times.
+	 *
+	 * @see org.springframework.core.io.InputStreamResource#getInputStream()
+	 */
+	@Override
+	public InputStream getInputStream() throws IOException, IllegalStateException {
+		return inputStreamFactory != null ? inputStreamFactory.get() : super.getInputStream();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.core.io.InputStreamResource#isOpen()
+	 */
+	@Override
+	public boolean isOpen() {
+		return inputStreamFactory == null;
+	}
+
+	/**
+	 * Returns a {@link ReadableByteChannel} for the file. Resources obtained from a {@link GridFsTemplate} return a
+	 * {@link SeekableByteChannel} reading the file's chunks in ranges, which allows to read parts of the file without
+	 * fetching the preceding chunks.
+	 *
+	 * @see org.springframework.core.io.Resource#readableChannel()
+	 * @see GridFsTemplate#setChunksPerRead(int)
+	 */
+	@Override
+	public ReadableByteChannel readableChannel() throws IOException {
+		return channelFactory != null ? channelFactory.get() : super.readableChannel();
 	}
 
 	/*
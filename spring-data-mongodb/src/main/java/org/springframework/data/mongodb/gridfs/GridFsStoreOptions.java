@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for storing content in GridFS with pipelined chunk writes. The content is split into chunks of
+ * {@link #getChunkSize() chunk size} bytes, of which up to {@link #getMaxChunksInFlight() max chunks in flight} are
+ * written concurrently on the configured {@link Executor}. Without an {@link Executor} the chunks are written in
+ * batches of {@link #getMaxChunksInFlight()} on the calling thread. The file document is written once all chunks
+ * are stored, so that the file never becomes visible partially.
+ *
+ * @since 2.0
+ * @see GridFsOperations#store(java.io.InputStream, String, String, org.bson.Document, GridFsStoreOptions)
+ */
+public class GridFsStoreOptions {
+
+	static final int DEFAULT_CHUNK_SIZE = 255 * 1024;
+	static final int DEFAULT_MAX_CHUNKS_IN_FLIGHT = 4;
+
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+	private int maxChunksInFlight = DEFAULT_MAX_CHUNKS_IN_FLIGHT;
+	private Executor executor;
+	private Consumer<GridFsTransferStatistics> statisticsListener;
+
+	/**
+	 * Static factory method to create a {@link GridFsStoreOptions} instance using the defaults.
+	 *
+	 * @return a new instance
+	 */
+	public static GridFsStoreOptions options() {
+		return new GridFsStoreOptions();
+	}
+
+	/**
+	 * Define the size of the chunks in bytes. Defaults to {@value #DEFAULT_CHUNK_SIZE}.
+	 *
+	 * @param chunkSize must be greater than zero.
+	 * @return
+	 */
+	public GridFsStoreOptions chunkSize(int chunkSize) {
+
+		Assert.isTrue(chunkSize > 0, "Chunk size must be greater than zero!");
+
+		this.chunkSize = chunkSize;
+		return this;
+	}
+
+	/**
+	 * Define the maximum number of chunks written concurrently. Bounds the memory used to
+	 * {@code maxChunksInFlight * chunkSize} bytes. Defaults to {@value #DEFAULT_MAX_CHUNKS_IN_FLIGHT}.
+	 *
+	 * @param maxChunksInFlight must be greater than zero.
+	 * @return
+	 */
+	public GridFsStoreOptions maxChunksInFlight(int maxChunksInFlight) {
+
+		Assert.isTrue(maxChunksInFlight > 0, "Max chunks in flight must be greater than zero!");
+
+		this.maxChunksInFlight = maxChunksInFlight;
+		return this;
+	}
+
+	/**
+	 * Define the {@link Executor} to write chunks on.
+	 *
+	 * @param executor must not be {@literal null}.
+	 * @return
+	 */
+	public GridFsStoreOptions executor(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null!");
+
+		this.executor = executor;
+		return this;
+	}
+
+	/**
+	 * Register a listener to be notified with the {@link GridFsTransferStatistics} once the content is stored.
+	 *
+	 * @param statisticsListener must not be {@literal null}.
+	 * @return
+	 */
+	public GridFsStoreOptions statisticsListener(Consumer<GridFsTransferStatistics> statisticsListener) {
+
+		Assert.notNull(statisticsListener, "Statistics listener must not be null!");
+
+		this.statisticsListener = statisticsListener;
+		return this;
+	}
+
+	/**
+	 * @return the size of the chunks in bytes.
+	 */
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * @return the maximum number of chunks written concurrently.
+	 */
+	public int getMaxChunksInFlight() {
+		return maxChunksInFlight;
+	}
+
+	/**
+	 * @return the {@link Executor} to write chunks on, if configured.
+	 */
+	public Optional<Executor> getExecutor() {
+		return Optional.ofNullable(executor);
+	}
+
+	/**
+	 * @return the listener for {@link GridFsTransferStatistics}, if configured.
+	 */
+	public Optional<Consumer<GridFsTransferStatistics>> getStatisticsListener() {
+		return Optional.ofNullable(statisticsListener);
+	}
+}
@@ -21,9 +21,11 @@ import static org.springframework.data.mongodb.gridfs.GridFsCriteria.*;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
-import org.bson.BsonObjectId;
 import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.springframework.core.io.support.ResourcePatternResolver;
@@ -34,6 +36,7 @@ import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
+import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.gridfs.GridFSBucket;
 import com.mongodb.client.gridfs.GridFSBuckets;
@@ -53,10 +56,17 @@ import com.mongodb.client.gridfs.model.GridFSUploadOptions;
  */
 public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver {
 
+	static final int DEFAULT_CHUNKS_PER_READ = 4;
+	static final int DELETE_BATCH_SIZE = 1000;
+
 	private final MongoDbFactory dbFactory;
 	private final String bucket;
 	private final MongoConverter converter;
 	private final QueryMapper queryMapper;
+	private final Map<String, GridFSBucket> buckets = new ConcurrentHashMap<String, GridFSBucket>();
+
+	private int chunksPerRead = DEFAULT_CHUNKS_PER_READ;
+	private Executor executor;
 
 	/**
 	 * Creates a new {@link GridFsTemplate} using the given {@link MongoDbFactory} and {@link MongoConverter}.
@@ -87,6 +97,30 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 		this.queryMapper = new QueryMapper(converter);
 	}
 
+	/**
+	 * Configures the number of chunks fetched at a time by channels obtained via
+	 * {@link GridFsResource#readableChannel()}. Defaults to {@value #DEFAULT_CHUNKS_PER_READ}.
+	 *
+	 * @param chunksPerRead must be greater than zero.
+	 * @since 2.0
+	 */
+	public void setChunksPerRead(int chunksPerRead) {
+
+		Assert.isTrue(chunksPerRead > 0, "Chunks per read must be greater than zero!");
+		this.chunksPerRead = chunksPerRead;
+	}
+
+	/**
+	 * Configures the {@link Executor} used by channels obtained via {@link GridFsResource#readableChannel()} to fetch the
+	 * next range of chunks while the current one is read. Chunks are fetched on demand only if not set.
+	 *
+	 * @param executor can be {@literal null}.
+	 * @since 2.0
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.gridfs.GridFsOperations#store(java.io.InputStream, java.lang.String)
@@ -179,6 +213,30 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 		return getGridFs().uploadFromStream(filename, content, options);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.GridFsOperations#store(java.io.InputStream, java.lang.String, java.lang.String, org.bson.Document, org.springframework.data.mongodb.gridfs.GridFsStoreOptions)
+	 */
+	@Override
+	public ObjectId store(InputStream content, String filename, String contentType, Document metadata,
+			GridFsStoreOptions options) {
+
+		Assert.notNull(content, "InputStream must not be null!");
+		Assert.notNull(options, "GridFsStoreOptions must not be null!");
+
+		Document mData = new Document();
+
+		if (StringUtils.hasText(contentType)) {
+			mData.put(GridFsResource.CONTENT_TYPE_FIELD, contentType);
+		}
+
+		if (metadata != null) {
+			mData.putAll(metadata);
+		}
+
+		return new PipelinedGridFsUploader(dbFactory.getDb(), getBucketName()).upload(filename, content, mData, options);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.gridfs.GridFsOperations#find(com.mongodb.Document)
@@ -209,9 +267,23 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 	 */
 	public void delete(Query query) {
 
-		for (GridFSFile x : find(query)) {
-			getGridFs().delete(((BsonObjectId) x.getId()).getValue());
+		MongoDatabase db = dbFactory.getDb();
+		MongoCollection<Document> files = db.getCollection(getBucketName() + ".files");
+		MongoCollection<Document> chunks = db.getCollection(getBucketName() + ".chunks");
+
+		Document queryObject = query == null ? new Document() : getMappedQuery(query.getQueryObject());
+		List<Object> ids = new ArrayList<Object>(DELETE_BATCH_SIZE);
+
+		for (Document file : files.find(queryObject).projection(new Document("_id", 1))) {
+
+			ids.add(file.get("_id"));
+
+			if (ids.size() == DELETE_BATCH_SIZE) {
+				deleteFilesAndChunks(files, chunks, ids);
+			}
 		}
+
+		deleteFilesAndChunks(files, chunks, ids);
 	}
 
 	/*
@@ -229,7 +301,7 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 	public GridFsResource getResource(String location) {
 
 		GridFSFile file = findOne(query(whereFilename().is(location)));
-		return file != null ? new GridFsResource(file, getGridFs().openDownloadStream(location)) : null;
+		return file != null ? createResource(file) : null;
 	}
 
 	/*
@@ -250,7 +322,7 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 			List<GridFsResource> resources = new ArrayList<GridFsResource>();
 
 			for (GridFSFile file : files) {
-				resources.add(new GridFsResource(file, getGridFs().openDownloadStream(file.getFilename())));
+				resources.add(createResource(file));
 			}
 
 			return resources.toArray(new GridFsResource[resources.size()]);
@@ -259,6 +331,33 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 		return new GridFsResource[] { getResource(locationPattern) };
 	}
 
+	private GridFsResource createResource(GridFSFile file) {
+
+		return new GridFsResource(file, () -> getGridFs().openDownloadStream(file.getId()),
+				() -> new GridFsChunkChannel(dbFactory.getDb().getCollection(getBucketName() + ".chunks"), file,
+						chunksPerRead, executor));
+	}
+
+	/**
+	 * Removes the files with the given ids and their chunks with a single delete each and clears the given {@link List}.
+	 */
+	private static void deleteFilesAndChunks(MongoCollection<Document> files, MongoCollection<Document> chunks,
+			List<Object> ids) {
+
+		if (ids.isEmpty()) {
+			return;
+		}
+
+		files.deleteMany(new Document("_id", new Document("$in", ids)));
+		chunks.deleteMany(new Document("files_id", new Document("$in", ids)));
+
+		ids.clear();
+	}
+
+	private String getBucketName() {
+		return bucket == null ? "fs" : bucket;
+	}
+
 	private Document getMappedQuery(Document query) {
 		return query == null ? null : queryMapper.getMappedObject(query, Optional.empty());
 	}
@@ -266,6 +365,8 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 	private GridFSBucket getGridFs() {
 
 		MongoDatabase db = dbFactory.getDb();
-		return bucket == null ? GridFSBuckets.create(db) : GridFSBuckets.create(db, bucket);
+
+		return buckets.computeIfAbsent(db.getName(),
+				key -> bucket == null ? GridFSBuckets.create(db) : GridFSBuckets.create(db, bucket));
 	}
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Value object capturing the amount of data transferred from or to GridFS and the time it took.
+ *
+ * @since 2.0
+ */
+public class GridFsTransferStatistics {
+
+	private final long bytes;
+	private final long chunks;
+	private final long durationNanos;
+
+	GridFsTransferStatistics(long bytes, long chunks, long durationNanos) {
+
+		this.bytes = bytes;
+		this.chunks = chunks;
+		this.durationNanos = durationNanos;
+	}
+
+	/**
+	 * @return the number of bytes transferred.
+	 */
+	public long getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * @return the number of chunks transferred.
+	 */
+	public long getChunks() {
+		return chunks;
+	}
+
+	/**
+	 * Returns the time spent transferring in the given {@link TimeUnit}.
+	 *
+	 * @param unit must not be {@literal null}.
+	 * @return
+	 */
+	public long getDuration(TimeUnit unit) {
+		return unit.convert(durationNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * @return the average throughput in bytes per second.
+	 */
+	public double getBytesPerSecond() {
+		return durationNanos == 0 ? 0 : bytes / (durationNanos / 1_000_000_000D);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("%d bytes in %d chunks within %d ms (%.0f bytes/s)", bytes, chunks,
+				getDuration(TimeUnit.MILLISECONDS), getBytesPerSecond());
+	}
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mongodb.MongoGridFSException;
+import com.mongodb.ReadPreference;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.IndexOptions;
+
+/**
+ * Stores content in GridFS writing multiple chunks at a time. Produces the same files and chunks documents as the
+ * driver's {@link com.mongodb.client.gridfs.GridFSBucket} but writes the files document only after all chunks have
+ * been stored.
+ *
+ * @since 2.0
+ * @see GridFsStoreOptions
+ */
+class PipelinedGridFsUploader {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PipelinedGridFsUploader.class);
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	private final MongoCollection<Document> filesCollection;
+	private final MongoCollection<Document> chunksCollection;
+
+	/**
+	 * Creates a new {@link PipelinedGridFsUploader} for the bucket with the given name.
+	 *
+	 * @param db must not be {@literal null}.
+	 * @param bucketName must not be {@literal null}.
+	 */
+	PipelinedGridFsUploader(MongoDatabase db, String bucketName) {
+
+		this.filesCollection = db.getCollection(bucketName + ".files");
+		this.chunksCollection = db.getCollection(bucketName + ".chunks");
+	}
+
+	/**
+	 * Stores the given content as file with the given name and metadata.
+	 *
+	 * @param filename can be {@literal null}.
+	 * @param content must not be {@literal null}.
+	 * @param metadata can be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the id of the file created.
+	 */
+	ObjectId upload(String filename, InputStream content, Document metadata, GridFsStoreOptions options) {
+
+		ensureIndexes();
+
+		long start = System.nanoTime();
+		ObjectId fileId = new ObjectId();
+		MessageDigest md5 = createMd5Digest();
+		ChunkWriter writer = new ChunkWriter(chunksCollection, options);
+
+		long length = 0;
+		int chunkIndex = 0;
+
+		try {
+
+			byte[] data;
+
+			while ((data = readChunk(content, options.getChunkSize())) != null) {
+
+				md5.update(data);
+				writer.write(new Document("_id", new ObjectId()).append("files_id", fileId).append("n", chunkIndex++)
+						.append("data", new Binary(data)));
+				length += data.length;
+			}
+
+			writer.flush();
+
+		} catch (RuntimeException e) {
+
+			writer.awaitPendingWrites();
+			chunksCollection.deleteMany(new Document("files_id", fileId));
+			throw e;
+		}
+
+		Document file = new Document("_id", fileId).append("length", length).append("chunkSize", options.getChunkSize())
+				.append("uploadDate", new Date()).append("md5", toHex(md5.digest())).append("filename", filename);
+
+		if (metadata != null) {
+			file.append("metadata", metadata);
+		}
+
+		try {
+			filesCollection.insertOne(file);
+		} catch (RuntimeException e) {
+
+			chunksCollection.deleteMany(new Document("files_id", fileId));
+			throw e;
+		}
+
+		GridFsTransferStatistics statistics = new GridFsTransferStatistics(length, chunkIndex, System.nanoTime() - start);
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Stored file '{}' with id {}: {}.", filename, fileId, statistics);
+		}
+
+		options.getStatisticsListener().ifPresent(listener -> listener.accept(statistics));
+
+		return fileId;
+	}
+
+	/**
+	 * Creates the indexes the driver creates when uploading to an empty bucket.
+	 */
+	private void ensureIndexes() {
+
+		if (filesCollection.withReadPreference(ReadPreference.primary()).find().projection(new Document("_id", 1))
+				.first() != null) {
+			return;
+		}
+
+		filesCollection.createIndex(new Document("filename", 1).append("uploadDate", 1));
+		chunksCollection.createIndex(new Document("files_id", 1).append("n", 1), new IndexOptions().unique(true));
+	}
+
+	/**
+	 * Reads the next chunk from the given {@link InputStream}.
+	 *
+	 * @return the bytes read, which are less than {@code chunkSize} only for the last chunk, or {@literal null} if the
+	 *         stream is exhausted.
+	 */
+	private static byte[] readChunk(InputStream content, int chunkSize) {
+
+		byte[] buffer = new byte[chunkSize];
+		int read = 0;
+
+		try {
+
+			while (read < chunkSize) {
+
+				int count = content.read(buffer, read, chunkSize - read);
+
+				if (count == -1) {
+					break;
+				}
+
+				read += count;
+			}
+		} catch (IOException e) {
+			throw new MongoGridFSException("IOException when reading from the InputStream", e);
+		}
+
+		if (read == 0) {
+			return null;
+		}
+
+		return read == chunkSize ? buffer : Arrays.copyOf(buffer, read);
+	}
+
+	private static MessageDigest createMd5Digest() {
+
+		try {
+			return MessageDigest.getInstance("MD5");
+		} catch (NoSuchAlgorithmException e) {
+			throw new MongoGridFSException("No MD5 message digest available", e);
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+
+		char[] chars = new char[bytes.length * 2];
+
+		for (int i = 0; i < bytes.length; i++) {
+			chars[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+			chars[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xF];
+		}
+
+		return new String(chars);
+	}
+
+	/**
+	 * Writes chunks either concurrently on an {@link Executor}, limiting the number of writes in flight, or in batches on
+	 * the calling thread.
+	 */
+	private static class ChunkWriter {
+
+		private final MongoCollection<Document> chunks;
+		private final int maxChunksInFlight;
+		private final Executor executor;
+		private final Semaphore permits;
+		private final AtomicReference<RuntimeException> failure = new AtomicReference<RuntimeException>();
+		private final List<Document> batch;
+
+		ChunkWriter(MongoCollection<Document> chunks, GridFsStoreOptions options) {
+
+			this.chunks = chunks;
+			this.maxChunksInFlight = options.getMaxChunksInFlight();
+			this.executor = options.getExecutor().orElse(null);
+			this.permits = new Semaphore(maxChunksInFlight);
+			this.batch = new ArrayList<Document>(executor == null ? maxChunksInFlight : 0);
+		}
+
+		void write(Document chunk) {
+
+			if (executor == null) {
+
+				batch.add(chunk);
+
+				if (batch.size() >= maxChunksInFlight) {
+					writeBatch();
+				}
+
+				return;
+			}
+
+			permits.acquireUninterruptibly();
+			rethrowFailure();
+
+			try {
+				executor.execute(() -> {
+
+					try {
+						chunks.insertOne(chunk);
+					} catch (RuntimeException e) {
+						failure.compareAndSet(null, e);
+					} finally {
+						permits.release();
+					}
+				});
+			} catch (RuntimeException e) {
+
+				permits.release();
+				throw e;
+			}
+		}
+
+		void flush() {
+
+			if (executor == null) {
+				writeBatch();
+				return;
+			}
+
+			awaitPendingWrites();
+			rethrowFailure();
+		}
+
+		void awaitPendingWrites() {
+
+			permits.acquireUninterruptibly(maxChunksInFlight);
+			permits.release(maxChunksInFlight);
+		}
+
+		private void writeBatch() {
+
+			if (!batch.isEmpty()) {
+				chunks.insertMany(batch);
+				batch.clear();
+			}
+		}
+
+		private void rethrowFailure() {
+
+			RuntimeException e = failure.get();
+
+			if (e != null) {
+				throw e;
+			}
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.mongodb.client.gridfs.model.GridFSFile;
+
+/**
+ * Collection of operations to store and read files from MongoDB GridFS using reactive infrastructure.
+ *
+ * @since 2.0
+ */
+public interface ReactiveGridFsOperations {
+
+	/**
+	 * Stores the given content into a file with the given name.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param filename must not be {@literal null} or empty.
+	 * @return a {@link Mono} emitting the id of the file just created.
+	 */
+	Mono<ObjectId> store(Publisher<DataBuffer> content, String filename);
+
+	/**
+	 * Stores the given content into a file with the given name and content type using the given metadata. The metadata
+	 * object will be marshalled before writing.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param filename must not be {@literal null} or empty.
+	 * @param contentType can be {@literal null}.
+	 * @param metadata can be {@literal null}.
+	 * @return a {@link Mono} emitting the id of the file just created.
+	 */
+	Mono<ObjectId> store(Publisher<DataBuffer> content, String filename, String contentType, Object metadata);
+
+	/**
+	 * Stores the given content into a file with the given name and content type using the given metadata. The content
+	 * is requested buffer by buffer as the previous one has been written.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param filename must not be {@literal null} or empty.
+	 * @param contentType can be {@literal null}.
+	 * @param metadata can be {@literal null}.
+	 * @return a {@link Mono} emitting the id of the file just created.
+	 */
+	Mono<ObjectId> store(Publisher<DataBuffer> content, String filename, String contentType, Document metadata);
+
+	/**
+	 * Returns all files matching the given query.
+	 *
+	 * @param query can be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	Flux<GridFSFile> find(Query query);
+
+	/**
+	 * Returns a single file matching the given query.
+	 *
+	 * @param query can be {@literal null}.
+	 * @return a {@link Mono} emitting the first file matching the query or completing empty.
+	 */
+	Mono<GridFSFile> findOne(Query query);
+
+	/**
+	 * Deletes all files matching the given {@link Query}.
+	 *
+	 * @param query can be {@literal null}.
+	 * @return a {@link Mono} completing once all matching files are deleted.
+	 */
+	Mono<Void> delete(Query query);
+
+	/**
+	 * Returns the {@link ReactiveGridFsResource} for the file with the given name.
+	 *
+	 * @param filename must not be {@literal null}.
+	 * @return a {@link Mono} emitting the resource or completing empty if no file with the given name exists.
+	 */
+	Mono<ReactiveGridFsResource> getResource(String filename);
+
+	/**
+	 * Returns the {@link ReactiveGridFsResource} for the given {@link GridFSFile}.
+	 *
+	 * @param file must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	ReactiveGridFsResource getResource(GridFSFile file);
+}
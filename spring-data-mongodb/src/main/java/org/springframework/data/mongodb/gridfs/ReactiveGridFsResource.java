@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import reactor.core.publisher.Flux;
+
+import java.util.function.Supplier;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.util.Assert;
+
+import com.mongodb.client.gridfs.model.GridFSFile;
+
+/**
+ * A GridFS file along with its content exposed as {@link Flux} of {@link DataBuffer}s.
+ *
+ * @since 2.0
+ * @see ReactiveGridFsOperations#getResource(String)
+ */
+public class ReactiveGridFsResource {
+
+	private final GridFSFile file;
+	private final Supplier<Flux<DataBuffer>> content;
+
+	/**
+	 * Creates a new {@link ReactiveGridFsResource}.
+	 *
+	 * @param file must not be {@literal null}.
+	 * @param content must not be {@literal null}.
+	 */
+	ReactiveGridFsResource(GridFSFile file, Supplier<Flux<DataBuffer>> content) {
+
+		Assert.notNull(file, "GridFSFile must not be null!");
+		Assert.notNull(content, "Content must not be null!");
+
+		this.file = file;
+		this.content = content;
+	}
+
+	/**
+	 * @return the underlying {@link GridFSFile}.
+	 */
+	public GridFSFile getGridFSFile() {
+		return file;
+	}
+
+	/**
+	 * @return the file's id.
+	 */
+	public Object getId() {
+		return file.getId();
+	}
+
+	/**
+	 * @return the file's name.
+	 */
+	public String getFilename() {
+		return file.getFilename();
+	}
+
+	/**
+	 * @return the length of the content in bytes.
+	 */
+	public long contentLength() {
+		return file.getLength();
+	}
+
+	/**
+	 * Returns the file's content type.
+	 *
+	 * @return the content type or {@literal null} if not set.
+	 */
+	@SuppressWarnings("deprecation")
+	public String getContentType() {
+
+		String contentType = file.getMetadata() != null
+				? file.getMetadata().get(GridFsResource.CONTENT_TYPE_FIELD, String.class) : null;
+
+		return contentType != null ? contentType : file.getContentType();
+	}
+
+	/**
+	 * Returns the content of the file. Each subscription opens a new download stream. Buffers are read from the database
+	 * as they are requested.
+	 *
+	 * @return never {@literal null}.
+	 */
+	public Flux<DataBuffer> getContent() {
+		return content.get();
+	}
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import static org.springframework.data.mongodb.core.query.Query.*;
+import static org.springframework.data.mongodb.gridfs.GridFsCriteria.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.mongodb.client.gridfs.model.GridFSUploadOptions;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import com.mongodb.reactivestreams.client.gridfs.GridFSBucket;
+import com.mongodb.reactivestreams.client.gridfs.GridFSBuckets;
+import com.mongodb.reactivestreams.client.gridfs.GridFSDownloadStream;
+import com.mongodb.reactivestreams.client.gridfs.GridFSUploadStream;
+
+/**
+ * {@link ReactiveGridFsOperations} implementation to store content into MongoDB GridFS using the Reactive Streams
+ * driver.
+ *
+ * @since 2.0
+ */
+public class ReactiveGridFsTemplate implements ReactiveGridFsOperations {
+
+	private final ReactiveMongoDatabaseFactory dbFactory;
+	private final DataBufferFactory dataBufferFactory;
+	private final String bucket;
+	private final MongoConverter converter;
+	private final QueryMapper queryMapper;
+	private final Map<String, GridFSBucket> buckets = new ConcurrentHashMap<String, GridFSBucket>();
+
+	/**
+	 * Creates a new {@link ReactiveGridFsTemplate} using the given {@link ReactiveMongoDatabaseFactory} and
+	 * {@link MongoConverter}.
+	 *
+	 * @param dbFactory must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 */
+	public ReactiveGridFsTemplate(ReactiveMongoDatabaseFactory dbFactory, MongoConverter converter) {
+		this(dbFactory, converter, null);
+	}
+
+	/**
+	 * Creates a new {@link ReactiveGridFsTemplate} using the given {@link ReactiveMongoDatabaseFactory} and
+	 * {@link MongoConverter}.
+	 *
+	 * @param dbFactory must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param bucket
+	 */
+	public ReactiveGridFsTemplate(ReactiveMongoDatabaseFactory dbFactory, MongoConverter converter, String bucket) {
+		this(new DefaultDataBufferFactory(), dbFactory, converter, bucket);
+	}
+
+	/**
+	 * Creates a new {@link ReactiveGridFsTemplate} using the given {@link DataBufferFactory},
+	 * {@link ReactiveMongoDatabaseFactory} and {@link MongoConverter}.
+	 *
+	 * @param dataBufferFactory must not be {@literal null}.
+	 * @param dbFactory must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param bucket
+	 */
+	public ReactiveGridFsTemplate(DataBufferFactory dataBufferFactory, ReactiveMongoDatabaseFactory dbFactory,
+			MongoConverter converter, String bucket) {
+
+		Assert.notNull(dataBufferFactory, "DataBufferFactory must not be null!");
+		Assert.notNull(dbFactory, "ReactiveMongoDatabaseFactory must not be null!");
+		Assert.notNull(converter, "MongoConverter must not be null!");
+
+		this.dataBufferFactory = dataBufferFactory;
+		this.dbFactory = dbFactory;
+		this.converter = converter;
+		this.bucket = bucket;
+
+		this.queryMapper = new QueryMapper(converter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.ReactiveGridFsOperations#store(org.reactivestreams.Publisher, java.lang.String)
+	 */
+	@Override
+	public Mono<ObjectId> store(Publisher<DataBuffer> content, String filename) {
+		return store(content, filename, null, (Object) null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.ReactiveGridFsOperations#store(org.reactivestreams.Publisher, java.lang.String, java.lang.String, java.lang.Object)
+	 */
+	@Override
+	public Mono<ObjectId> store(Publisher<DataBuffer> content, String filename, String contentType, Object metadata) {
+
+		Document document = null;
+
+		if (metadata != null) {
+			document = new Document();
+			converter.write(metadata, document);
+		}
+
+		return store(content, filename, contentType, document);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.ReactiveGridFsOperations#store(org.reactivestreams.Publisher, java.lang.String, java.lang.String, org.bson.Document)
+	 */
+	@Override
+	public Mono<ObjectId> store(Publisher<DataBuffer> content, String filename, String contentType,
+			Document metadata) {
+
+		Assert.notNull(content, "Content must not be null!");
+
+		GridFSUploadOptions options = new GridFSUploadOptions();
+
+		Document mData = new Document();
+
+		if (StringUtils.hasText(contentType)) {
+			mData.put(GridFsResource.CONTENT_TYPE_FIELD, contentType);
+		}
+
+		if (metadata != null) {
+			mData.putAll(metadata);
+		}
+
+		options.metadata(mData);
+
+		return Mono.defer(() -> {
+
+			GridFSUploadStream uploadStream = getGridFs().openUploadStream(filename, options);
+
+			return Flux.from(content) //
+					.concatMap(buffer -> write(uploadStream, buffer), 1) //
+					.then(Mono.from(uploadStream.close())) //
+					.then(Mono.fromSupplier(uploadStream::getObjectId)) //
+					.onErrorResume(e -> abort(uploadStream).then(Mono.<ObjectId> error(e))) //
+					.doOnCancel(() -> abort(uploadStream).subscribe());
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.ReactiveGridFsOperations#find(org.springframework.data.mongodb.core.query.Query)
+	 */
+	@Override
+	public Flux<GridFSFile> find(Query query) {
+
+		return Flux.defer(() -> {
+
+			if (query == null) {
+				return Flux.from(getGridFs().find(new Document()));
+			}
+
+			Document queryObject = getMappedQuery(query.getQueryObject());
+			Document sortObject = getMappedQuery(query.getSortObject());
+
+			return Flux.from(getGridFs().find(queryObject).sort(sortObject));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.ReactiveGridFsOperations#findOne(org.springframework.data.mongodb.core.query.Query)
+	 */
+	@Override
+	public Mono<GridFSFile> findOne(Query query) {
+		return find(query).next();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.ReactiveGridFsOperations#delete(org.springframework.data.mongodb.core.query.Query)
+	 */
+	@Override
+	public Mono<Void> delete(Query query) {
+		return find(query).flatMap(file -> getGridFs().delete(file.getId())).then();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.ReactiveGridFsOperations#getResource(java.lang.String)
+	 */
+	@Override
+	public Mono<ReactiveGridFsResource> getResource(String filename) {
+
+		Assert.notNull(filename, "Filename must not be null!");
+
+		return findOne(query(whereFilename().is(filename))).map(this::getResource);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.ReactiveGridFsOperations#getResource(com.mongodb.client.gridfs.model.GridFSFile)
+	 */
+	@Override
+	public ReactiveGridFsResource getResource(GridFSFile file) {
+
+		Assert.notNull(file, "GridFSFile must not be null!");
+
+		return new ReactiveGridFsResource(file, () -> download(file));
+	}
+
+	/**
+	 * Reads the content of the given file one chunk sized buffer at a time as requested by the subscriber.
+	 *
+	 * @param file must not be {@literal null}.
+	 * @return
+	 */
+	private Flux<DataBuffer> download(GridFSFile file) {
+
+		return Flux.defer(() -> {
+
+			GridFSDownloadStream downloadStream = getGridFs().openDownloadStream(file.getId());
+
+			return Mono.defer(() -> read(downloadStream, file.getChunkSize())) //
+					.repeat() //
+					.takeWhile(Optional::isPresent) //
+					.map(Optional::get) //
+					.doFinally(signal -> Mono.from(downloadStream.close()).subscribe());
+		});
+	}
+
+	private Mono<Optional<DataBuffer>> read(GridFSDownloadStream downloadStream, int bufferSize) {
+
+		ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+
+		return Mono.from(downloadStream.read(buffer)).map(count -> {
+
+			if (count == -1) {
+				return Optional.<DataBuffer> empty();
+			}
+
+			buffer.flip();
+			return Optional.of(dataBufferFactory.wrap(buffer));
+		});
+	}
+
+	/**
+	 * Aborts the given {@link GridFSUploadStream} removing the chunks written so far. Failures to abort are ignored so
+	 * that they do not mask the original cause.
+	 *
+	 * @param uploadStream must not be {@literal null}.
+	 * @return
+	 */
+	private static Mono<Void> abort(GridFSUploadStream uploadStream) {
+		return Mono.from(uploadStream.abort()).onErrorResume(e -> Mono.empty()).then();
+	}
+
+	private static Mono<Integer> write(GridFSUploadStream uploadStream, DataBuffer buffer) {
+		return Mono.from(uploadStream.write(buffer.asByteBuffer())).doFinally(signal -> DataBufferUtils.release(buffer));
+	}
+
+	private Document getMappedQuery(Document query) {
+		return query == null ? null : queryMapper.getMappedObject(query, Optional.empty());
+	}
+
+	private GridFSBucket getGridFs() {
+
+		MongoDatabase db = dbFactory.getMongoDatabase();
+
+		return buckets.computeIfAbsent(db.getName(),
+				key -> bucket == null ? GridFSBuckets.create(db) : GridFSBuckets.create(db, bucket));
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to allow serving counts of repository query methods, {@link MongoRepository#count()} and the totals of
+ * paged results from a cache instead of counting matching documents on every invocation. Counts are cached per
+ * collection and mapped filter and may be outdated by {@link #maxStalenessMs()} at most. Counts without filter are
+ * answered from collection metadata if {@link #estimateUnfiltered()} is set.
+ * <p>
+ * The annotation is considered on query methods, the repository interface and the domain type, in that order.
+ *
+ * @since 2.0
+ * @see org.springframework.data.mongodb.repository.query.CountCache
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface ApproximateCount {
+
+	/**
+	 * Maximum time in milliseconds a cached count is served for.
+	 *
+	 * @return
+	 */
+	long maxStalenessMs() default 10000;
+
+	/**
+	 * Maximum number of counts cached. The least recently used counts are evicted first.
+	 *
+	 * @return
+	 */
+	int maxEntries() default 1000;
+
+	/**
+	 * Whether to answer counts without filter from collection metadata instead of caching them.
+	 *
+	 * @return
+	 */
+	boolean estimateUnfiltered() default true;
+}
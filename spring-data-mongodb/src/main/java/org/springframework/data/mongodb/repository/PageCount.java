@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to declare how a {@link org.springframework.data.domain.Page} returning query method obtains the page
+ * content along with the total number of results.
+ *
+ * @since 2.0
+ * @see Mode
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface PageCount {
+
+	/**
+	 * The {@link Mode} to use for obtaining the total number of results.
+	 *
+	 * @return
+	 */
+	Mode value() default Mode.SEQUENTIAL;
+
+	/**
+	 * Strategies to obtain the content and the total number of results of a page.
+	 */
+	enum Mode {
+
+		/**
+		 * Runs the count after reading the page content and only if the total cannot be derived from the content.
+		 */
+		SEQUENTIAL,
+
+		/**
+		 * Runs the count in parallel to reading the page content on the page count {@link java.util.concurrent.Executor}
+		 * configured for the repository. Runs the count after reading the page content if no
+		 * {@link java.util.concurrent.Executor} is configured.
+		 */
+		CONCURRENT,
+
+		/**
+		 * Obtains content and count in a single round trip using an aggregation with a {@literal $facet} stage.
+		 * Restricted to queries that can be expressed as {@literal $match} stage.
+		 */
+		FACET
+	}
+}
@@ -15,15 +15,22 @@
  */
 package org.springframework.data.mongodb.repository.query;
 
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.convert.EntityInstantiators;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.repository.query.MongoQueryExecution.CollectionExecution;
+import org.springframework.data.mongodb.repository.query.MongoQueryExecution.ConcurrentPagedExecution;
 import org.springframework.data.mongodb.repository.query.MongoQueryExecution.CountExecution;
 import org.springframework.data.mongodb.repository.query.MongoQueryExecution.DeleteExecution;
 import org.springframework.data.mongodb.repository.query.MongoQueryExecution.ExistsExecution;
+import org.springframework.data.mongodb.repository.query.MongoQueryExecution.FacetPagedExecution;
 import org.springframework.data.mongodb.repository.query.MongoQueryExecution.GeoNearExecution;
+import org.springframework.data.mongodb.repository.query.MongoQueryExecution.KeysetExecution;
 import org.springframework.data.mongodb.repository.query.MongoQueryExecution.PagedExecution;
 import org.springframework.data.mongodb.repository.query.MongoQueryExecution.PagingGeoNearExecution;
 import org.springframework.data.mongodb.repository.query.MongoQueryExecution.ResultProcessingConverter;
@@ -49,6 +56,8 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
 	private final MongoQueryMethod method;
 	private final MongoOperations operations;
 	private final EntityInstantiators instantiators;
+	private Optional<CountCache> countCache;
+	private Executor pageCountExecutor;
 
 	/**
 	 * Creates a new {@link AbstractMongoQuery} from the given {@link MongoQueryMethod} and {@link MongoOperations}.
@@ -64,6 +73,38 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
 		this.method = method;
 		this.operations = operations;
 		this.instantiators = new EntityInstantiators();
+		this.countCache = method.getApproximateCountAnnotation().map(it -> new CountCache(operations, it));
+	}
+
+	/**
+	 * Configures the {@link CountCacheRegistry} to obtain the {@link CountCache} for query methods annotated with
+	 * {@link org.springframework.data.mongodb.repository.ApproximateCount} from. Without a registry, such methods use a
+	 * {@link CountCache} of their own.
+	 *
+	 * @param countCacheRegistry must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public void setCountCacheRegistry(CountCacheRegistry countCacheRegistry) {
+
+		Assert.notNull(countCacheRegistry, "CountCacheRegistry must not be null!");
+
+		this.countCache = method.getApproximateCountAnnotation()
+				.map(it -> countCacheRegistry.getCountCache(method.getQualifiedName(), it));
+	}
+
+	/**
+	 * Configures the {@link Executor} to count the total number of results on for query methods using
+	 * {@link org.springframework.data.mongodb.repository.PageCount.Mode#CONCURRENT}. Without an {@link Executor}, such
+	 * query methods run the count on the calling thread after reading the page content.
+	 *
+	 * @param pageCountExecutor must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public void setPageCountExecutor(Executor pageCountExecutor) {
+
+		Assert.notNull(pageCountExecutor, "Executor must not be null!");
+
+		this.pageCountExecutor = pageCountExecutor;
 	}
 
 	/* 
@@ -109,6 +150,10 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
 			return new StreamExecution(operations, resultProcessing);
 		}
 
+		if (method.isKeysetQuery()) {
+			return new KeysetExecution(operations, accessor, resultProcessing);
+		}
+
 		return new ResultProcessingExecution(getExecutionToWrap(query, accessor), resultProcessing);
 	}
 
@@ -125,9 +170,9 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
 		} else if (method.isCollectionQuery()) {
 			return new CollectionExecution(operations, accessor.getPageable());
 		} else if (method.isPageQuery()) {
-			return new PagedExecution(operations, accessor.getPageable());
+			return getPagedExecution(accessor.getPageable());
 		} else if (isCountQuery()) {
-			return new CountExecution(operations);
+			return new CountExecution(operations, countCache);
 		} else if (isExistsQuery()) {
 			return new ExistsExecution(operations);
 		} else {
@@ -135,6 +180,20 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
 		}
 	}
 
+	private MongoQueryExecution getPagedExecution(Pageable pageable) {
+
+		switch (method.getPageCountMode()) {
+			case CONCURRENT:
+				return pageCountExecutor != null
+						? new ConcurrentPagedExecution(operations, pageable, countCache, pageCountExecutor)
+						: new PagedExecution(operations, pageable, countCache);
+			case FACET:
+				return new FacetPagedExecution(operations, pageable);
+			default:
+				return new PagedExecution(operations, pageable, countCache);
+		}
+	}
+
 	Query applyQueryMetaAttributesWhenPresent(Query query) {
 
 		if (method.hasQueryMetaAttributes()) {
@@ -29,6 +29,7 @@ import org.springframework.data.geo.Distance;
 import org.springframework.data.geo.Point;
 import org.springframework.data.mongodb.core.convert.MongoWriter;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.KeysetPosition;
 import org.springframework.data.mongodb.core.query.TextCriteria;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.util.TypeInformation;
@@ -134,6 +135,14 @@ public class ConvertingParameterAccessor implements MongoParameterAccessor {
 		return delegate.getFullText();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.repository.query.MongoParameterAccessor#getKeysetPosition()
+	 */
+	public KeysetPosition getKeysetPosition() {
+		return delegate.getKeysetPosition();
+	}
+
 	/**
 	 * Converts the given value with the underlying {@link MongoWriter}.
 	 * 
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.bson.Document;
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.ApproximateCount;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded cache of count results keyed by collection, mapped filter {@link Document} and collation. Cached counts are served until
+ * they exceed the configured staleness, the least recently used ones are evicted once the cache is full. Counts without
+ * filter can be answered from collection metadata instead, which does not require scanning any documents.
+ *
+ * @since 2.0
+ * @see ApproximateCount
+ */
+public class CountCache {
+
+	private final MongoOperations operations;
+	private final QueryMapper queryMapper;
+	private final boolean estimateUnfiltered;
+	private final long maxStalenessNanos;
+	private final LongSupplier clock;
+	private final Map<List<String>, CachedCount> counts;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder estimates = new LongAdder();
+
+	/**
+	 * Creates a new {@link CountCache} configured by the given {@link ApproximateCount}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 */
+	public CountCache(MongoOperations operations, ApproximateCount configuration) {
+		this(operations, configuration, System::nanoTime);
+	}
+
+	CountCache(MongoOperations operations, ApproximateCount configuration, LongSupplier clock) {
+
+		Assert.notNull(operations, "MongoOperations must not be null!");
+		Assert.notNull(configuration, "ApproximateCount must not be null!");
+		Assert.isTrue(configuration.maxEntries() > 0, "Maximum number of entries must be greater than zero!");
+
+		int maxEntries = configuration.maxEntries();
+
+		this.operations = operations;
+		this.queryMapper = new QueryMapper(operations.getConverter());
+		this.estimateUnfiltered = configuration.estimateUnfiltered();
+		this.maxStalenessNanos = TimeUnit.MILLISECONDS.toNanos(configuration.maxStalenessMs());
+		this.clock = clock;
+		this.counts = new LinkedHashMap<List<String>, CachedCount>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+			 */
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<List<String>, CachedCount> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * Returns the number of documents matching the given {@link Query}, potentially served from the cache.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @return
+	 */
+	public long count(Query query, Class<?> entityType, String collectionName) {
+
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(entityType, "Entity type must not be null!");
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+
+		Document filter = queryMapper.getMappedObject(query.getQueryObject(),
+				operations.getConverter().getMappingContext().getPersistentEntity(entityType));
+
+		if (filter.isEmpty() && estimateUnfiltered) {
+
+			estimates.increment();
+			return operations.getCollection(collectionName).count();
+		}
+
+		List<String> key;
+
+		try {
+			key = Arrays.asList(collectionName, filter.toJson(),
+					query.getCollation().map(it -> it.toDocument().toJson()).orElse(null));
+		} catch (CodecConfigurationException o_O) {
+
+			misses.increment();
+			return operations.count(query, entityType, collectionName);
+		}
+
+		long now = clock.getAsLong();
+		CachedCount cached;
+
+		synchronized (counts) {
+			cached = counts.get(key);
+		}
+
+		if (cached != null && now - cached.timestamp <= maxStalenessNanos) {
+
+			hits.increment();
+			return cached.count;
+		}
+
+		misses.increment();
+
+		long count = operations.count(query, entityType, collectionName);
+
+		synchronized (counts) {
+			counts.put(key, new CachedCount(count, now));
+		}
+
+		return count;
+	}
+
+	/**
+	 * Removes all cached counts.
+	 */
+	public void clear() {
+
+		synchronized (counts) {
+			counts.clear();
+		}
+	}
+
+	/**
+	 * @return the number of counts served from the cache.
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return the number of counts that had to be obtained from the database.
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return the number of counts without filter answered from collection metadata.
+	 */
+	public long getEstimateCount() {
+		return estimates.sum();
+	}
+
+	private static class CachedCount {
+
+		private final long count;
+		private final long timestamp;
+
+		CachedCount(long count, long timestamp) {
+
+			this.count = count;
+			this.timestamp = timestamp;
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.repository.ApproximateCount;
+import org.springframework.util.Assert;
+
+/**
+ * Registry of the {@link CountCache}s used by the repositories and query methods of a repository factory. Exposes the
+ * individual caches by name along with the statistics aggregated across all of them.
+ *
+ * @since 2.0
+ * @see ApproximateCount
+ */
+public class CountCacheRegistry {
+
+	private final MongoOperations operations;
+	private final Map<String, CountCache> countCaches = new ConcurrentHashMap<String, CountCache>();
+
+	/**
+	 * Creates a new {@link CountCacheRegistry} creating {@link CountCache}s for the given {@link MongoOperations}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 */
+	public CountCacheRegistry(MongoOperations operations) {
+
+		Assert.notNull(operations, "MongoOperations must not be null!");
+
+		this.operations = operations;
+	}
+
+	/**
+	 * Returns the {@link CountCache} registered under the given name or creates and registers a new one configured by
+	 * the given {@link ApproximateCount}. Overloaded query methods share the cache of the method registered first.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param configuration must not be {@literal null}.
+	 * @return
+	 */
+	public CountCache getCountCache(String name, ApproximateCount configuration) {
+
+		Assert.hasText(name, "Name must not be null or empty!");
+		Assert.notNull(configuration, "ApproximateCount must not be null!");
+
+		return countCaches.computeIfAbsent(name, key -> new CountCache(operations, configuration));
+	}
+
+	/**
+	 * @return all registered {@link CountCache}s by name, never {@literal null}.
+	 */
+	public Map<String, CountCache> getCountCaches() {
+		return Collections.unmodifiableMap(countCaches);
+	}
+
+	/**
+	 * Removes the cached counts of all registered {@link CountCache}s.
+	 */
+	public void clear() {
+		countCaches.values().forEach(CountCache::clear);
+	}
+
+	/**
+	 * @return the number of counts served from any of the registered caches.
+	 */
+	public long getHitCount() {
+		return sum(CountCache::getHitCount);
+	}
+
+	/**
+	 * @return the number of counts any of the registered caches had to obtain from the database.
+	 */
+	public long getMissCount() {
+		return sum(CountCache::getMissCount);
+	}
+
+	/**
+	 * @return the number of counts without filter any of the registered caches answered from collection metadata.
+	 */
+	public long getEstimateCount() {
+		return sum(CountCache::getEstimateCount);
+	}
+
+	private long sum(ToLongFunction<CountCache> statistic) {
+		return countCaches.values().stream().mapToLong(statistic).sum();
+	}
+}
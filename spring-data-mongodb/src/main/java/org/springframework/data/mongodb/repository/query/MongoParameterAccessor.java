@@ -18,6 +18,7 @@ package org.springframework.data.mongodb.repository.query;
 import org.springframework.data.domain.Range;
 import org.springframework.data.geo.Distance;
 import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.core.query.KeysetPosition;
 import org.springframework.data.mongodb.core.query.TextCriteria;
 import org.springframework.data.repository.query.ParameterAccessor;
 
@@ -53,6 +54,17 @@ public interface MongoParameterAccessor extends ParameterAccessor {
 	 */
 	TextCriteria getFullText();
 
+	/**
+	 * Returns the {@link KeysetPosition} to continue keyset pagination from.
+	 *
+	 * @return {@link KeysetPosition#initial()} if there's no {@link KeysetPosition} parameter or the given value for it
+	 *         was {@literal null}.
+	 * @since 2.0
+	 */
+	default KeysetPosition getKeysetPosition() {
+		return KeysetPosition.initial();
+	}
+
 	/**
 	 * Returns the raw parameter values of the underlying query method.
 	 * 
@@ -23,6 +23,7 @@ import org.springframework.core.MethodParameter;
 import org.springframework.data.domain.Range;
 import org.springframework.data.geo.Distance;
 import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.core.query.KeysetPosition;
 import org.springframework.data.mongodb.core.query.TextCriteria;
 import org.springframework.data.mongodb.repository.Near;
 import org.springframework.data.mongodb.repository.query.MongoParameters.MongoParameter;
@@ -42,6 +43,7 @@ public class MongoParameters extends Parameters<MongoParameters, MongoParameter>
 	private final int rangeIndex;
 	private final int maxDistanceIndex;
 	private final Integer fullTextIndex;
+	private final int keysetPositionIndex;
 
 	private Integer nearIndex;
 
@@ -57,6 +59,7 @@ public class MongoParameters extends Parameters<MongoParameters, MongoParameter>
 		List<Class<?>> parameterTypes = Arrays.asList(method.getParameterTypes());
 
 		this.fullTextIndex = parameterTypes.indexOf(TextCriteria.class);
+		this.keysetPositionIndex = parameterTypes.indexOf(KeysetPosition.class);
 
 		ClassTypeInformation<?> declaringClassInfo = ClassTypeInformation.from(method.getDeclaringClass());
 		List<TypeInformation<?>> parameterTypeInfo = declaringClassInfo.getParameterTypes(method);
@@ -72,7 +75,7 @@ public class MongoParameters extends Parameters<MongoParameters, MongoParameter>
 	}
 
 	private MongoParameters(List<MongoParameter> parameters, int maxDistanceIndex, Integer nearIndex,
-			Integer fullTextIndex, int rangeIndex) {
+			Integer fullTextIndex, int rangeIndex, int keysetPositionIndex) {
 
 		super(parameters);
 
@@ -80,6 +83,7 @@ public class MongoParameters extends Parameters<MongoParameters, MongoParameter>
 		this.fullTextIndex = fullTextIndex;
 		this.maxDistanceIndex = maxDistanceIndex;
 		this.rangeIndex = rangeIndex;
+		this.keysetPositionIndex = keysetPositionIndex;
 	}
 
 	private final int getNearIndex(List<Class<?>> parameterTypes) {
@@ -171,13 +175,24 @@ public class MongoParameters extends Parameters<MongoParameters, MongoParameter>
 		return rangeIndex;
 	}
 
+	/**
+	 * Returns the index of the {@link KeysetPosition} parameter to continue keyset pagination from.
+	 *
+	 * @return
+	 * @since 2.0
+	 */
+	public int getKeysetPositionIndex() {
+		return keysetPositionIndex;
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.query.Parameters#createFrom(java.util.List)
 	 */
 	@Override
 	protected MongoParameters createFrom(List<MongoParameter> parameters) {
-		return new MongoParameters(parameters, this.maxDistanceIndex, this.nearIndex, this.fullTextIndex, this.rangeIndex);
+		return new MongoParameters(parameters, this.maxDistanceIndex, this.nearIndex, this.fullTextIndex, this.rangeIndex,
+				this.keysetPositionIndex);
 	}
 
 	private int getTypeIndex(List<TypeInformation<?>> parameterTypes, Class<?> type, Class<?> componentType) {
@@ -229,7 +244,7 @@ public class MongoParameters extends Parameters<MongoParameters, MongoParameter>
 		@Override
 		public boolean isSpecialParameter() {
 			return super.isSpecialParameter() || Distance.class.isAssignableFrom(getType()) || isNearParameter()
-					|| TextCriteria.class.isAssignableFrom(getType());
+					|| TextCriteria.class.isAssignableFrom(getType()) || KeysetPosition.class.isAssignableFrom(getType());
 		}
 
 		private boolean isNearParameter() {
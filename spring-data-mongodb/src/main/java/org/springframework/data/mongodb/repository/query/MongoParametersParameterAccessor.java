@@ -21,6 +21,7 @@ import java.util.List;
 import org.springframework.data.domain.Range;
 import org.springframework.data.geo.Distance;
 import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.core.query.KeysetPosition;
 import org.springframework.data.mongodb.core.query.Term;
 import org.springframework.data.mongodb.core.query.TextCriteria;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
@@ -109,6 +110,19 @@ public class MongoParametersParameterAccessor extends ParametersParameterAccesso
 		return index >= 0 ? potentiallyConvertFullText(getValue(index)) : null;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.repository.query.MongoParameterAccessor#getKeysetPosition()
+	 */
+	@Override
+	public KeysetPosition getKeysetPosition() {
+
+		int index = method.getParameters().getKeysetPositionIndex();
+		KeysetPosition position = index >= 0 ? (KeysetPosition) getValue(index) : null;
+
+		return position != null ? position : KeysetPosition.initial();
+	}
+
 	protected TextCriteria potentiallyConvertFullText(Object fullText) {
 
 		Assert.notNull(fullText, "Fulltext parameter must not be 'null'.");
@@ -18,11 +18,18 @@ package org.springframework.data.mongodb.repository.query;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
+import org.bson.Document;
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.convert.EntityInstantiators;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -35,6 +42,13 @@ import org.springframework.data.geo.GeoResult;
 import org.springframework.data.geo.GeoResults;
 import org.springframework.data.geo.Point;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.KeysetPosition;
+import org.springframework.data.mongodb.core.query.KeysetWindow;
 import org.springframework.data.mongodb.core.query.NearQuery;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.repository.query.ResultProcessor;
@@ -44,6 +58,7 @@ import org.springframework.data.util.CloseableIterator;
 import org.springframework.data.util.StreamUtils;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
 
 import com.mongodb.client.result.DeleteResult;
 
@@ -114,6 +129,40 @@ interface MongoQueryExecution {
 		}
 	}
 
+	/**
+	 * {@link MongoQueryExecution} for {@link KeysetWindow} query methods continuing from the {@link KeysetPosition}
+	 * parameter. The page size of a {@link Pageable} parameter is used as limit, its offset is ignored.
+	 *
+	 * @since 2.0
+	 */
+	@RequiredArgsConstructor
+	final class KeysetExecution implements MongoQueryExecution {
+
+		private final @NonNull MongoOperations operations;
+		private final @NonNull MongoParameterAccessor accessor;
+		private final @NonNull Converter<Object, Object> resultProcessing;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.repository.query.AbstractMongoQuery.Execution#execute(org.springframework.data.mongodb.core.query.Query, java.lang.Class, java.lang.String)
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public Object execute(Query query, Class<?> type, String collection) {
+
+			Pageable pageable = accessor.getPageable();
+
+			if (pageable.isPaged()) {
+				query.limit(pageable.getPageSize());
+			}
+
+			KeysetWindow<Object> window = (KeysetWindow<Object>) operations.scroll(query, accessor.getKeysetPosition(), type,
+					collection);
+
+			return window.map(resultProcessing::convert);
+		}
+	}
+
 	/**
 	 * {@link MongoQueryExecution} for pagination queries.
 	 * 
@@ -125,6 +174,11 @@ interface MongoQueryExecution {
 
 		private final @NonNull MongoOperations operations;
 		private final @NonNull Pageable pageable;
+		private final @NonNull Optional<CountCache> countCache;
+
+		PagedExecution(MongoOperations operations, Pageable pageable) {
+			this(operations, pageable, Optional.empty());
+		}
 
 		/*
 		 * (non-Javadoc)
@@ -135,6 +189,26 @@ interface MongoQueryExecution {
 
 			final int overallLimit = query.getLimit();
 
+			applyPageable(query, pageable, overallLimit);
+
+			return PageableExecutionUtils.getPage(operations.find(query, type, collection), pageable, () -> {
+
+				long count = countCache.map(it -> it.count(query, type, collection))
+						.orElseGet(() -> operations.count(query, type, collection));
+				return overallLimit != 0 ? Math.min(count, overallLimit) : count;
+
+			});
+		}
+
+		/**
+		 * Applies the given {@link Pageable} to the {@link Query} without exceeding the given overall limit.
+		 *
+		 * @param query must not be {@literal null}.
+		 * @param pageable must not be {@literal null}.
+		 * @param overallLimit the limit of the query before applying the {@link Pageable}, {@literal 0} for none.
+		 */
+		static void applyPageable(Query query, Pageable pageable, int overallLimit) {
+
 			// Apply raw pagination
 			query.with(pageable);
 
@@ -142,12 +216,178 @@ interface MongoQueryExecution {
 			if (overallLimit != 0 && pageable.getOffset() + pageable.getPageSize() > overallLimit) {
 				query.limit((int) (overallLimit - pageable.getOffset()));
 			}
+		}
+	}
 
-			return PageableExecutionUtils.getPage(operations.find(query, type, collection), pageable, () -> {
+	/**
+	 * {@link MongoQueryExecution} for {@link Page} query methods running the count concurrently to reading the page
+	 * content.
+	 *
+	 * @since 2.0
+	 */
+	@RequiredArgsConstructor
+	final class ConcurrentPagedExecution implements MongoQueryExecution {
 
-				long count = operations.count(query, type, collection);
-				return overallLimit != 0 ? Math.min(count, overallLimit) : count;
+		private final @NonNull MongoOperations operations;
+		private final @NonNull Pageable pageable;
+		private final @NonNull Optional<CountCache> countCache;
+		private final @NonNull Executor executor;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.repository.query.AbstractMongoQuery.Execution#execute(org.springframework.data.mongodb.core.query.Query, java.lang.Class, java.lang.String)
+		 */
+		@Override
+		public Object execute(Query query, Class<?> type, String collection) {
+
+			int overallLimit = query.getLimit();
+
+			PagedExecution.applyPageable(query, pageable, overallLimit);
+
+			CompletableFuture<Long> count = CompletableFuture.supplyAsync(() -> countCache
+					.map(it -> it.count(query, type, collection)).orElseGet(() -> operations.count(query, type, collection)),
+					executor);
+
+			List<?> content;
+
+			try {
+				content = operations.find(query, type, collection);
+			} catch (RuntimeException e) {
+
+				count.cancel(false);
+				throw e;
+			}
+
+			Page<?> page = PageableExecutionUtils.getPage(content, pageable, () -> {
 
+				long total = join(count);
+				return overallLimit != 0 ? Math.min(total, overallLimit) : total;
+			});
+
+			// the total could be derived from the content, so the count is not needed anymore
+			count.cancel(false);
+
+			return page;
+		}
+
+		private static long join(CompletableFuture<Long> count) {
+
+			try {
+				return count.join();
+			} catch (CompletionException e) {
+
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * {@link MongoQueryExecution} for {@link Page} query methods obtaining the page content and the total number of
+	 * results in a single round trip using an aggregation with a {@literal $facet} stage. The query is rendered as
+	 * {@literal $match} stage, so it must not use operators that are not allowed there (e.g. {@literal $near} or
+	 * {@literal $where}). The page content has to fit into a single document. The content documents are unwound and
+	 * carry the total in an additional {@literal __total} field, so they are aggregated as raw {@link Document}s and
+	 * read into the result type using the {@link MongoConverter} after the total has been removed from them. The
+	 * collation of the query is applied to the aggregation, index hints and a maximum execution time are not supported.
+	 *
+	 * @since 2.0
+	 */
+	@RequiredArgsConstructor
+	final class FacetPagedExecution implements MongoQueryExecution {
+
+		private static final String CONTENT_FIELD = "content";
+		private static final String TOTAL_FIELD = "total";
+		private static final String EMBEDDED_TOTAL_FIELD = "__total";
+
+		private final @NonNull MongoOperations operations;
+		private final @NonNull Pageable pageable;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.repository.query.AbstractMongoQuery.Execution#execute(org.springframework.data.mongodb.core.query.Query, java.lang.Class, java.lang.String)
+		 */
+		@Override
+		public Object execute(Query query, Class<?> type, String collection) {
+
+			if (StringUtils.hasText(query.getHint())) {
+				throw new InvalidDataAccessApiUsageException("Index hints are not supported with $facet page counts!");
+			}
+
+			if (query.getMeta().getMaxTimeMsec() != null) {
+				throw new InvalidDataAccessApiUsageException("Max time is not supported with $facet page counts!");
+			}
+
+			int overallLimit = query.getLimit();
+
+			PagedExecution.applyPageable(query, pageable, overallLimit);
+
+			List<AggregationOperation> contentStages = new ArrayList<AggregationOperation>();
+
+			if (query.getSortObject() != null) {
+				contentStages.add(context -> new Document("$sort", context.getMappedObject(query.getSortObject())));
+			}
+
+			if (query.getSkip() > 0) {
+				contentStages.add(Aggregation.skip(query.getSkip()));
+			}
+
+			if (query.getLimit() > 0) {
+				contentStages.add(Aggregation.limit(query.getLimit()));
+			}
+
+			if (query.getFieldsObject() != null && !query.getFieldsObject().isEmpty()) {
+				contentStages.add(context -> new Document("$project", context.getMappedObject(query.getFieldsObject())));
+			}
+
+			List<AggregationOperation> countStages = new ArrayList<AggregationOperation>();
+
+			if (overallLimit != 0) {
+				countStages.add(Aggregation.limit(overallLimit));
+			}
+
+			countStages.add(Aggregation.count().as(TOTAL_FIELD));
+
+			AggregationOptions.Builder options = Aggregation.newAggregationOptions();
+			query.getCollation().ifPresent(options::collation);
+
+			TypedAggregation<?> aggregation = Aggregation.newAggregation(type,
+					context -> new Document("$match", context.getMappedObject(query.getQueryObject())),
+					Aggregation.facet(contentStages.toArray(new AggregationOperation[contentStages.size()])).as(CONTENT_FIELD)
+							.and(countStages.toArray(new AggregationOperation[countStages.size()])).as(TOTAL_FIELD),
+					context -> new Document("$unwind", "$" + CONTENT_FIELD),
+					context -> new Document("$addFields",
+							new Document(CONTENT_FIELD + "." + EMBEDDED_TOTAL_FIELD,
+									new Document("$arrayElemAt", Arrays.asList("$" + TOTAL_FIELD + "." + TOTAL_FIELD, 0)))),
+					context -> new Document("$replaceRoot", new Document("newRoot", "$" + CONTENT_FIELD)))
+					.withOptions(options.build());
+
+			List<Document> documents = operations.aggregate(aggregation, collection, Document.class).getMappedResults();
+
+			MongoConverter converter = operations.getConverter();
+			List<Object> content = new ArrayList<Object>(documents.size());
+			Long total = null;
+
+			for (Document document : documents) {
+
+				Object embeddedTotal = document.remove(EMBEDDED_TOTAL_FIELD);
+
+				if (total == null && embeddedTotal instanceof Number) {
+					total = ((Number) embeddedTotal).longValue();
+				}
+
+				content.add(converter.read(type, document));
+			}
+
+			Long facetTotal = total;
+
+			return PageableExecutionUtils.getPage(content, pageable, () -> {
+
+				// no content, e.g. when requesting a page beyond the last one, carries no total
+				return facetTotal != null ? facetTotal : operations.count(query, type, collection);
 			});
 		}
 	}
@@ -183,6 +423,11 @@ interface MongoQueryExecution {
 	static final class CountExecution implements MongoQueryExecution {
 
 		private final MongoOperations operations;
+		private final Optional<CountCache> countCache;
+
+		CountExecution(MongoOperations operations) {
+			this(operations, Optional.empty());
+		}
 
 		/*
 		 * (non-Javadoc)
@@ -190,7 +435,8 @@ interface MongoQueryExecution {
 		 */
 		@Override
 		public Object execute(Query query, Class<?> type, String collection) {
-			return operations.count(query, type, collection);
+			return countCache.map(it -> it.count(query, type, collection))
+					.orElseGet(() -> operations.count(query, type, collection));
 		}
 	}
 
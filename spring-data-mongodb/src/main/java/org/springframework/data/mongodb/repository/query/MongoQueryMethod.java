@@ -16,10 +16,12 @@
 package org.springframework.data.mongodb.repository.query;
 
 import java.io.Serializable;
+import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
@@ -29,7 +31,10 @@ import org.springframework.data.geo.GeoResults;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.KeysetWindow;
+import org.springframework.data.mongodb.repository.ApproximateCount;
 import org.springframework.data.mongodb.repository.Meta;
+import org.springframework.data.mongodb.repository.PageCount;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.Tailable;
 import org.springframework.data.projection.ProjectionFactory;
@@ -55,6 +60,7 @@ public class MongoQueryMethod extends QueryMethod {
 			.asList(GeoResult.class, GeoResults.class, GeoPage.class);
 
 	private final Method method;
+	private final RepositoryMetadata repositoryMetadata;
 	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
 
 	private MongoEntityMetadata<?> metadata;
@@ -75,6 +81,7 @@ public class MongoQueryMethod extends QueryMethod {
 		Assert.notNull(mappingContext, "MappingContext must not be null!");
 
 		this.method = method;
+		this.repositoryMetadata = metadata;
 		this.mappingContext = mappingContext;
 	}
 
@@ -198,6 +205,16 @@ public class MongoQueryMethod extends QueryMethod {
 		return false;
 	}
 
+	/**
+	 * Returns whether the query method returns a {@link KeysetWindow} and thus uses keyset pagination.
+	 *
+	 * @return
+	 * @since 2.0
+	 */
+	public boolean isKeysetQuery() {
+		return KeysetWindow.class.isAssignableFrom(method.getReturnType());
+	}
+
 	/**
 	 * Returns the {@link Query} annotation that is applied to the method or {@code null} if none available.
 	 *
@@ -239,6 +256,44 @@ public class MongoQueryMethod extends QueryMethod {
 		return AnnotatedElementUtils.findMergedAnnotation(method, Tailable.class);
 	}
 
+	/**
+	 * Returns the {@link PageCount.Mode} to be used for {@link org.springframework.data.domain.Page} returning query
+	 * methods.
+	 *
+	 * @return never {@literal null}.
+	 * @since 2.0
+	 */
+	PageCount.Mode getPageCountMode() {
+
+		PageCount pageCount = AnnotatedElementUtils.findMergedAnnotation(method, PageCount.class);
+		return pageCount == null ? PageCount.Mode.SEQUENTIAL : pageCount.value();
+	}
+
+	/**
+	 * Returns the {@link ApproximateCount} annotation applied to the method, the repository interface or the domain type.
+	 *
+	 * @return
+	 * @since 2.0
+	 */
+	Optional<ApproximateCount> getApproximateCountAnnotation() {
+
+		return Stream.<AnnotatedElement> of(method, repositoryMetadata.getRepositoryInterface(),
+				repositoryMetadata.getDomainType()) //
+				.map(it -> AnnotatedElementUtils.findMergedAnnotation(it, ApproximateCount.class)) //
+				.filter(it -> it != null) //
+				.findFirst();
+	}
+
+	/**
+	 * Returns the name of the method qualified by the repository interface.
+	 *
+	 * @return
+	 * @since 2.0
+	 */
+	String getQualifiedName() {
+		return ClassUtils.getQualifiedMethodName(method, repositoryMetadata.getRepositoryInterface());
+	}
+
 	/**
 	 * Returns the {@link org.springframework.data.mongodb.core.query.Meta} attributes to be applied.
 	 *
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonRegularExpression;
+import org.bson.Document;
+import org.bson.json.JsonParseException;
+import org.bson.types.Binary;
+import org.springframework.data.mongodb.repository.query.StringBasedMongoQuery.ParameterBinding;
+import org.springframework.data.mongodb.repository.query.StringBasedMongoQuery.ParameterBindingParser;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * A query {@link Document} parsed once from a manually defined query string with placeholders replaced by typed slots.
+ * Binding parameters copies the template and puts the converted parameter values straight into the slots, which avoids
+ * serializing the values to JSON and re-parsing the resulting query string on each invocation.
+ * <p>
+ * Only queries whose parameter placeholders are all unquoted and used as complete values (e.g.
+ * {@code { 'lastname' : ?0 }}) can be represented as template. Queries using SpEL expressions, quoted placeholders or
+ * placeholders within field names, strings or regular expressions have to be bound by
+ * {@link ExpressionEvaluatingParameterBinder}.
+ *
+ * @since 2.0
+ */
+class ParameterBindingDocumentTemplate {
+
+	private static final ParameterBindingDocumentTemplate NONE = new ParameterBindingDocumentTemplate(null);
+
+	private final Document template;
+
+	private ParameterBindingDocumentTemplate(Document template) {
+		this.template = template;
+	}
+
+	/**
+	 * Compiles the given query string into a {@link ParameterBindingDocumentTemplate}. Returns {@link Optional#empty()}
+	 * if the query uses placeholders that cannot be bound into a template.
+	 *
+	 * @param query the query string as returned by {@link ParameterBindingParser}, can be {@literal null} or empty.
+	 * @param bindings the {@link ParameterBinding}s collected from the query, must not be {@literal null}.
+	 * @return
+	 */
+	static Optional<ParameterBindingDocumentTemplate> compile(String query, List<ParameterBinding> bindings) {
+
+		Assert.notNull(bindings, "Parameter bindings must not be null!");
+
+		if (!StringUtils.hasText(query)) {
+			return Optional.of(NONE);
+		}
+
+		for (ParameterBinding binding : bindings) {
+			if (binding.isExpression() || binding.isQuoted()) {
+				return Optional.empty();
+			}
+		}
+
+		Document parsed;
+
+		try {
+			parsed = Document.parse(ParameterBindingParser.makeParameterReferencesParseable(query));
+		} catch (JsonParseException | BsonInvalidOperationException o_O) {
+			return Optional.empty();
+		}
+
+		Compilation compilation = new Compilation();
+		Document template = (Document) compilation.compile(parsed);
+
+		if (!compilation.isBindable(bindings)) {
+			return Optional.empty();
+		}
+
+		return Optional.of(new ParameterBindingDocumentTemplate(template));
+	}
+
+	/**
+	 * Creates a new {@link Document} from the template with all slots replaced by the
+	 * {@link MongoParameterAccessor#getBindableValue(int) bindable values} of the given {@link MongoParameterAccessor}.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @return {@literal null} if the template was compiled from an empty query.
+	 */
+	Document bind(MongoParameterAccessor accessor) {
+
+		Assert.notNull(accessor, "MongoParameterAccessor must not be null!");
+
+		return template == null ? null : (Document) bindValue(template, accessor);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Object bindValue(Object value, MongoParameterAccessor accessor) {
+
+		if (value instanceof Slot) {
+
+			Object parameterValue = accessor.getBindableValue(((Slot) value).parameterIndex);
+			return parameterValue instanceof byte[] ? new Binary((byte[]) parameterValue) : parameterValue;
+		}
+
+		if (value instanceof Document) {
+
+			Document document = new Document();
+
+			for (Entry<String, Object> entry : ((Document) value).entrySet()) {
+				document.put(entry.getKey(), bindValue(entry.getValue(), accessor));
+			}
+
+			return document;
+		}
+
+		if (value instanceof List) {
+
+			List<Object> source = (List<Object>) value;
+			List<Object> list = new ArrayList<>(source.size());
+
+			for (Object element : source) {
+				list.add(bindValue(element, accessor));
+			}
+
+			return list;
+		}
+
+		return value;
+	}
+
+	/**
+	 * Marker for a position within the template that is replaced with the value of a method parameter.
+	 */
+	private static class Slot {
+
+		private final int parameterIndex;
+
+		Slot(int parameterIndex) {
+			this.parameterIndex = parameterIndex;
+		}
+	}
+
+	/**
+	 * Copies a parsed query {@link Document} replacing parameter placeholders with {@link Slot}s and records whether all
+	 * placeholders could be replaced.
+	 */
+	private static class Compilation {
+
+		private int slotCount;
+		private boolean compilable = true;
+
+		Object compile(Object value) {
+
+			if (value instanceof Document) {
+
+				Document document = new Document();
+
+				for (Entry<String, Object> entry : ((Document) value).entrySet()) {
+
+					verifyNoPlaceholder(entry.getKey());
+					document.put(entry.getKey(), compile(entry.getValue()));
+				}
+
+				return document;
+			}
+
+			if (value instanceof List) {
+
+				List<Object> list = new ArrayList<>();
+
+				for (Object element : (List<?>) value) {
+					list.add(compile(element));
+				}
+
+				return list;
+			}
+
+			if (value instanceof String) {
+				return compileString((String) value);
+			}
+
+			if (value instanceof BsonRegularExpression) {
+				verifyNoPlaceholder(((BsonRegularExpression) value).getPattern());
+			}
+
+			return value;
+		}
+
+		/**
+		 * Returns whether all placeholders have been replaced by a {@link Slot} and every {@link ParameterBinding} has a
+		 * corresponding {@link Slot}.
+		 *
+		 * @param bindings must not be {@literal null}.
+		 * @return
+		 */
+		boolean isBindable(List<ParameterBinding> bindings) {
+			return compilable && slotCount == bindings.size();
+		}
+
+		private Object compileString(String value) {
+
+			String prefix = ParameterBindingParser.PARAMETER_PREFIX;
+
+			if (value.startsWith(prefix) && value.length() > prefix.length()
+					&& value.substring(prefix.length()).chars().allMatch(Character::isDigit)) {
+
+				slotCount++;
+				return new Slot(Integer.parseInt(value.substring(prefix.length())));
+			}
+
+			verifyNoPlaceholder(value);
+			return value;
+		}
+
+		private void verifyNoPlaceholder(String value) {
+			compilable &= !value.contains(ParameterBindingParser.PARAMETER_PREFIX);
+		}
+	}
+}
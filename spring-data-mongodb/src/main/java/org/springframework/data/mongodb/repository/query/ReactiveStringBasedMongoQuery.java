@@ -17,7 +17,9 @@ package org.springframework.data.mongodb.repository.query;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
+import org.bson.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.mongodb.core.MongoOperations;
@@ -50,6 +52,8 @@ public class ReactiveStringBasedMongoQuery extends AbstractReactiveMongoQuery {
 	private final boolean isDeleteQuery;
 	private final List<ParameterBinding> queryParameterBindings;
 	private final List<ParameterBinding> fieldSpecParameterBindings;
+	private final Optional<ParameterBindingDocumentTemplate> queryTemplate;
+	private final Optional<ParameterBindingDocumentTemplate> fieldSpecTemplate;
 	private final ExpressionEvaluatingParameterBinder parameterBinder;
 
 	/**
@@ -92,6 +96,9 @@ public class ReactiveStringBasedMongoQuery extends AbstractReactiveMongoQuery {
 		this.fieldSpec = BINDING_PARSER.parseAndCollectParameterBindingsFromQueryIntoBindings(
 				method.getFieldSpecification(), this.fieldSpecParameterBindings);
 
+		this.queryTemplate = ParameterBindingDocumentTemplate.compile(this.query, this.queryParameterBindings);
+		this.fieldSpecTemplate = ParameterBindingDocumentTemplate.compile(this.fieldSpec, this.fieldSpecParameterBindings);
+
 		this.isCountQuery = method.hasAnnotatedQuery() ? method.getQueryAnnotation().count() : false;
 		this.isDeleteQuery = method.hasAnnotatedQuery() ? method.getQueryAnnotation().delete() : false;
 
@@ -109,12 +116,10 @@ public class ReactiveStringBasedMongoQuery extends AbstractReactiveMongoQuery {
 	@Override
 	protected Query createQuery(ConvertingParameterAccessor accessor) {
 
-		String queryString = parameterBinder.bind(this.query, accessor,
-				new BindingContext(getQueryMethod().getParameters(), queryParameterBindings));
-		String fieldsString = parameterBinder.bind(this.fieldSpec, accessor,
-				new BindingContext(getQueryMethod().getParameters(), fieldSpecParameterBindings));
+		Document queryObject = bind(queryTemplate, this.query, queryParameterBindings, accessor);
+		Document fieldsObject = bind(fieldSpecTemplate, this.fieldSpec, fieldSpecParameterBindings, accessor);
 
-		Query query = new BasicQuery(queryString, fieldsString).with(accessor.getSort());
+		Query query = new BasicQuery(queryObject, fieldsObject).with(accessor.getSort());
 
 		if (LOG.isDebugEnabled()) {
 			LOG.debug(String.format("Created query %s for %s fields.", query.getQueryObject(), query.getFieldsObject()));
@@ -123,6 +128,29 @@ public class ReactiveStringBasedMongoQuery extends AbstractReactiveMongoQuery {
 		return query;
 	}
 
+	/**
+	 * Binds the parameters using the precompiled {@link ParameterBindingDocumentTemplate} if available and falls back to
+	 * string based binding and parsing otherwise.
+	 *
+	 * @param template must not be {@literal null}.
+	 * @param source can be {@literal null} or empty.
+	 * @param bindings must not be {@literal null}.
+	 * @param accessor must not be {@literal null}.
+	 * @return {@literal null} if {@code source} is empty.
+	 */
+	private Document bind(Optional<ParameterBindingDocumentTemplate> template, String source,
+			List<ParameterBinding> bindings, ConvertingParameterAccessor accessor) {
+
+		if (template.isPresent()) {
+			return template.get().bind(accessor);
+		}
+
+		String bound = parameterBinder.bind(source, accessor,
+				new BindingContext(getQueryMethod().getParameters(), bindings));
+
+		return bound == null ? null : Document.parse(bound);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.repository.query.AbstractMongoQuery#isCountQuery()
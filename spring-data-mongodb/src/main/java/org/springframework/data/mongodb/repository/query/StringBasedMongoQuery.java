@@ -18,6 +18,7 @@ package org.springframework.data.mongodb.repository.query;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -58,6 +59,8 @@ public class StringBasedMongoQuery extends AbstractMongoQuery {
 	private final boolean isDeleteQuery;
 	private final List<ParameterBinding> queryParameterBindings;
 	private final List<ParameterBinding> fieldSpecParameterBindings;
+	private final Optional<ParameterBindingDocumentTemplate> queryTemplate;
+	private final Optional<ParameterBindingDocumentTemplate> fieldSpecTemplate;
 	private final ExpressionEvaluatingParameterBinder parameterBinder;
 
 	/**
@@ -98,6 +101,9 @@ public class StringBasedMongoQuery extends AbstractMongoQuery {
 		this.fieldSpec = BINDING_PARSER.parseAndCollectParameterBindingsFromQueryIntoBindings(
 				method.getFieldSpecification(), this.fieldSpecParameterBindings);
 
+		this.queryTemplate = ParameterBindingDocumentTemplate.compile(this.query, this.queryParameterBindings);
+		this.fieldSpecTemplate = ParameterBindingDocumentTemplate.compile(this.fieldSpec, this.fieldSpecParameterBindings);
+
 		this.parameterBinder = new ExpressionEvaluatingParameterBinder(expressionParser, evaluationContextProvider);
 
 		if (method.hasAnnotatedQuery()) {
@@ -127,12 +133,10 @@ public class StringBasedMongoQuery extends AbstractMongoQuery {
 	@Override
 	protected Query createQuery(ConvertingParameterAccessor accessor) {
 
-		String queryString = parameterBinder.bind(this.query, accessor,
-				new BindingContext(getQueryMethod().getParameters(), queryParameterBindings));
-		String fieldsString = parameterBinder.bind(this.fieldSpec, accessor,
-				new BindingContext(getQueryMethod().getParameters(), fieldSpecParameterBindings));
+		Document queryObject = bind(queryTemplate, this.query, queryParameterBindings, accessor);
+		Document fieldsObject = bind(fieldSpecTemplate, this.fieldSpec, fieldSpecParameterBindings, accessor);
 
-		Query query = new BasicQuery(queryString, fieldsString).with(accessor.getSort());
+		Query query = new BasicQuery(queryObject, fieldsObject).with(accessor.getSort());
 
 		if (LOG.isDebugEnabled()) {
 			LOG.debug(String.format("Created query %s for %s fields.", query.getQueryObject(), query.getFieldsObject()));
@@ -141,6 +145,29 @@ public class StringBasedMongoQuery extends AbstractMongoQuery {
 		return query;
 	}
 
+	/**
+	 * Binds the parameters using the precompiled {@link ParameterBindingDocumentTemplate} if available and falls back to
+	 * string based binding and parsing otherwise.
+	 *
+	 * @param template must not be {@literal null}.
+	 * @param source can be {@literal null} or empty.
+	 * @param bindings must not be {@literal null}.
+	 * @param accessor must not be {@literal null}.
+	 * @return {@literal null} if {@code source} is empty.
+	 */
+	private Document bind(Optional<ParameterBindingDocumentTemplate> template, String source,
+			List<ParameterBinding> bindings, ConvertingParameterAccessor accessor) {
+
+		if (template.isPresent()) {
+			return template.get().bind(accessor);
+		}
+
+		String bound = parameterBinder.bind(source, accessor,
+				new BindingContext(getQueryMethod().getParameters(), bindings));
+
+		return bound == null ? null : Document.parse(bound);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.repository.query.AbstractMongoQuery#isCountQuery()
@@ -202,7 +229,7 @@ public class StringBasedMongoQuery extends AbstractMongoQuery {
 		private static final String NAME_BASED_EXPRESSION_PARAM_START = ":#{";
 		private static final char CURRLY_BRACE_OPEN = '{';
 		private static final char CURRLY_BRACE_CLOSE = '}';
-		private static final String PARAMETER_PREFIX = "_param_";
+		static final String PARAMETER_PREFIX = "_param_";
 		private static final String PARSEABLE_PARAMETER = "\"" + PARAMETER_PREFIX + "$1\"";
 		private static final Pattern PARAMETER_BINDING_PATTERN = Pattern.compile("\\?(\\d+)");
 		private static final Pattern PARSEABLE_BINDING_PATTERN = Pattern.compile("\"?" + PARAMETER_PREFIX + "(\\d+)\"?");
@@ -284,7 +311,7 @@ public class StringBasedMongoQuery extends AbstractMongoQuery {
 			return result.append(input.subSequence(currentPos, input.length())).toString();
 		}
 
-		private static String makeParameterReferencesParseable(String input) {
+		static String makeParameterReferencesParseable(String input) {
 
 			Matcher matcher = PARAMETER_BINDING_PATTERN.matcher(input);
 			return matcher.replaceAll(PARSEABLE_PARAMETER);
@@ -20,17 +20,26 @@ import static org.springframework.data.querydsl.QuerydslUtils.*;
 import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.repository.ApproximateCount;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.PageCount;
+import org.springframework.data.mongodb.repository.query.AbstractMongoQuery;
+import org.springframework.data.mongodb.repository.query.CountCache;
+import org.springframework.data.mongodb.repository.query.CountCacheRegistry;
 import org.springframework.data.mongodb.repository.query.MongoEntityInformation;
 import org.springframework.data.mongodb.repository.query.MongoQueryMethod;
 import org.springframework.data.mongodb.repository.query.PartTreeMongoQuery;
 import org.springframework.data.mongodb.repository.query.StringBasedMongoQuery;
+import org.springframework.data.mongodb.util.CachingSpelExpressionParser;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.repository.core.NamedQueries;
@@ -64,10 +73,12 @@ public class MongoRepositoryFactory extends RepositoryFactorySupport {
 	private static final boolean RXJAVA_OBSERVABLE_PRESENT = ClassUtils.isPresent("rx.Observable",
 			QueryExecutionConverters.class.getClassLoader());
 
-	private static final SpelExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
+	private static final SpelExpressionParser EXPRESSION_PARSER = new CachingSpelExpressionParser();
 
 	private final MongoOperations operations;
 	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
+	private CountCacheRegistry countCacheRegistry;
+	private Executor pageCountExecutor;
 
 	/**
 	 * Creates a new {@link MongoRepositoryFactory} with the given {@link MongoOperations}.
@@ -80,6 +91,48 @@ public class MongoRepositoryFactory extends RepositoryFactorySupport {
 
 		this.operations = mongoOperations;
 		this.mappingContext = mongoOperations.getConverter().getMappingContext();
+		this.countCacheRegistry = new CountCacheRegistry(mongoOperations);
+	}
+
+	/**
+	 * Configures the {@link CountCacheRegistry} holding the {@link CountCache}s of repositories and query methods
+	 * annotated with {@link ApproximateCount}. Allows sharing a single registry across repository factories. Defaults
+	 * to a registry of this factory.
+	 *
+	 * @param countCacheRegistry must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public void setCountCacheRegistry(CountCacheRegistry countCacheRegistry) {
+
+		Assert.notNull(countCacheRegistry, "CountCacheRegistry must not be null!");
+
+		this.countCacheRegistry = countCacheRegistry;
+	}
+
+	/**
+	 * Configures the {@link Executor} to count the total number of results on for query methods counting pages
+	 * concurrently, see {@link PageCount.Mode#CONCURRENT}. Without an {@link Executor}, such query methods run the count
+	 * on the calling thread after reading the page content.
+	 *
+	 * @param pageCountExecutor must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public void setPageCountExecutor(Executor pageCountExecutor) {
+
+		Assert.notNull(pageCountExecutor, "Executor must not be null!");
+
+		this.pageCountExecutor = pageCountExecutor;
+	}
+
+	/**
+	 * Returns the {@link CountCacheRegistry} holding the {@link CountCache}s of the repositories and query methods
+	 * created by this factory.
+	 *
+	 * @return never {@literal null}.
+	 * @since 2.0
+	 */
+	public CountCacheRegistry getCountCacheRegistry() {
+		return countCacheRegistry;
 	}
 
 	/*
@@ -118,7 +171,19 @@ public class MongoRepositoryFactory extends RepositoryFactorySupport {
 
 		MongoEntityInformation<?, Serializable> entityInformation = getEntityInformation(information.getDomainType(),
 				information);
-		return getTargetRepositoryViaReflection(information, entityInformation, operations);
+		Object repository = getTargetRepositoryViaReflection(information, entityInformation, operations);
+
+		if (repository instanceof SimpleMongoRepository) {
+
+			Stream.<Class<?>> of(information.getRepositoryInterface(), information.getDomainType()) //
+					.map(it -> AnnotatedElementUtils.findMergedAnnotation(it, ApproximateCount.class)) //
+					.filter(it -> it != null) //
+					.findFirst() //
+					.map(it -> countCacheRegistry.getCountCache(information.getRepositoryInterface().getName(), it)) //
+					.ifPresent(((SimpleMongoRepository<?, ?>) repository)::setCountCache);
+		}
+
+		return repository;
 	}
 
 	/*
@@ -128,7 +193,8 @@ public class MongoRepositoryFactory extends RepositoryFactorySupport {
 	@Override
 	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(Key key,
 			EvaluationContextProvider evaluationContextProvider) {
-		return Optional.of(new MongoQueryLookupStrategy(operations, evaluationContextProvider, mappingContext));
+		return Optional.of(new MongoQueryLookupStrategy(operations, evaluationContextProvider, mappingContext,
+				countCacheRegistry, pageCountExecutor));
 	}
 
 	/*
@@ -158,13 +224,18 @@ public class MongoRepositoryFactory extends RepositoryFactorySupport {
 		private final MongoOperations operations;
 		private final EvaluationContextProvider evaluationContextProvider;
 		MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
+		private final CountCacheRegistry countCacheRegistry;
+		private final Executor pageCountExecutor;
 
 		public MongoQueryLookupStrategy(MongoOperations operations, EvaluationContextProvider evaluationContextProvider,
-				MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext) {
+				MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext,
+				CountCacheRegistry countCacheRegistry, Executor pageCountExecutor) {
 
 			this.operations = operations;
 			this.evaluationContextProvider = evaluationContextProvider;
 			this.mappingContext = mappingContext;
+			this.countCacheRegistry = countCacheRegistry;
+			this.pageCountExecutor = pageCountExecutor;
 		}
 
 		/*
@@ -177,16 +248,25 @@ public class MongoRepositoryFactory extends RepositoryFactorySupport {
 
 			MongoQueryMethod queryMethod = new MongoQueryMethod(method, metadata, factory, mappingContext);
 			String namedQueryName = queryMethod.getNamedQueryName();
+			AbstractMongoQuery query;
 
 			if (namedQueries.hasQuery(namedQueryName)) {
 				String namedQuery = namedQueries.getQuery(namedQueryName);
-				return new StringBasedMongoQuery(namedQuery, queryMethod, operations, EXPRESSION_PARSER,
+				query = new StringBasedMongoQuery(namedQuery, queryMethod, operations, EXPRESSION_PARSER,
 						evaluationContextProvider);
 			} else if (queryMethod.hasAnnotatedQuery()) {
-				return new StringBasedMongoQuery(queryMethod, operations, EXPRESSION_PARSER, evaluationContextProvider);
+				query = new StringBasedMongoQuery(queryMethod, operations, EXPRESSION_PARSER, evaluationContextProvider);
 			} else {
-				return new PartTreeMongoQuery(queryMethod, operations);
+				query = new PartTreeMongoQuery(queryMethod, operations);
+			}
+
+			query.setCountCacheRegistry(countCacheRegistry);
+
+			if (pageCountExecutor != null) {
+				query.setPageCountExecutor(pageCountExecutor);
 			}
+
+			return query;
 		}
 	}
 }
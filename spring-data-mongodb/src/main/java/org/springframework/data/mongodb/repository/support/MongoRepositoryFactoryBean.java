@@ -16,10 +16,12 @@
 package org.springframework.data.mongodb.repository.support;
 
 import java.io.Serializable;
+import java.util.concurrent.Executor;
 
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.query.CountCacheRegistry;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
@@ -36,6 +38,8 @@ public class MongoRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 	private MongoOperations operations;
 	private boolean createIndexesForQueryMethods = false;
 	private boolean mappingContextConfigured = false;
+	private CountCacheRegistry countCacheRegistry;
+	private Executor pageCountExecutor;
 
 	/**
 	 * Creates a new {@link MongoRepositoryFactoryBean} for the given repository interface.
@@ -64,6 +68,28 @@ public class MongoRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 		this.createIndexesForQueryMethods = createIndexesForQueryMethods;
 	}
 
+	/**
+	 * Configures the {@link CountCacheRegistry} to hold the count caches of the repository. Allows sharing a single
+	 * registry across repositories to inspect their count statistics in one place.
+	 *
+	 * @param countCacheRegistry the countCacheRegistry to set
+	 * @since 2.0
+	 */
+	public void setCountCacheRegistry(CountCacheRegistry countCacheRegistry) {
+		this.countCacheRegistry = countCacheRegistry;
+	}
+
+	/**
+	 * Configures the {@link Executor} to count the total number of results on for query methods counting pages
+	 * concurrently.
+	 *
+	 * @param pageCountExecutor the pageCountExecutor to set
+	 * @since 2.0
+	 */
+	public void setPageCountExecutor(Executor pageCountExecutor) {
+		this.pageCountExecutor = pageCountExecutor;
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport#setMappingContext(org.springframework.data.mapping.context.MappingContext)
@@ -91,6 +117,14 @@ public class MongoRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 			factory.addQueryCreationListener(new IndexEnsuringQueryCreationListener(collectionName -> operations.indexOps(collectionName)));
 		}
 
+		if (countCacheRegistry != null && factory instanceof MongoRepositoryFactory) {
+			((MongoRepositoryFactory) factory).setCountCacheRegistry(countCacheRegistry);
+		}
+
+		if (pageCountExecutor != null && factory instanceof MongoRepositoryFactory) {
+			((MongoRepositoryFactory) factory).setPageCountExecutor(pageCountExecutor);
+		}
+
 		return factory;
 	}
 
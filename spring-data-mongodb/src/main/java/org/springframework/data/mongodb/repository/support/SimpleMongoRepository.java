@@ -32,6 +32,7 @@ import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.query.CountCache;
 import org.springframework.data.mongodb.repository.query.MongoEntityInformation;
 import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.data.util.StreamUtils;
@@ -50,6 +51,7 @@ public class SimpleMongoRepository<T, ID> implements MongoRepository<T, ID> {
 
 	private final MongoOperations mongoOperations;
 	private final MongoEntityInformation<T, ID> entityInformation;
+	private Optional<CountCache> countCache = Optional.empty();
 
 	/**
 	 * Creates a new {@link SimpleMongoRepository} for the given {@link MongoEntityInformation} and {@link MongoTemplate}.
@@ -66,6 +68,17 @@ public class SimpleMongoRepository<T, ID> implements MongoRepository<T, ID> {
 		this.mongoOperations = mongoOperations;
 	}
 
+	/**
+	 * Configures the {@link CountCache} to serve counts from.
+	 *
+	 * @param countCache must not be {@literal null}.
+	 */
+	void setCountCache(CountCache countCache) {
+
+		Assert.notNull(countCache, "CountCache must not be null!");
+		this.countCache = Optional.of(countCache);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.CrudRepository#save(java.lang.Object)
@@ -139,7 +152,9 @@ public class SimpleMongoRepository<T, ID> implements MongoRepository<T, ID> {
 	 */
 	@Override
 	public long count() {
-		return mongoOperations.getCollection(entityInformation.getCollectionName()).count();
+
+		return countCache.isPresent() ? count(new Query(), entityInformation.getJavaType())
+				: mongoOperations.getCollection(entityInformation.getCollectionName()).count();
 	}
 
 	/*
@@ -279,8 +294,7 @@ public class SimpleMongoRepository<T, ID> implements MongoRepository<T, ID> {
 		Query q = new Query(new Criteria().alike(example)).with(pageable);
 		List<S> list = mongoOperations.find(q, example.getProbeType(), entityInformation.getCollectionName());
 
-		return PageableExecutionUtils.getPage(list, pageable,
-				() -> mongoOperations.count(q, example.getProbeType(), entityInformation.getCollectionName()));
+		return PageableExecutionUtils.getPage(list, pageable, () -> count(q, example.getProbeType()));
 	}
 
 	/*
@@ -331,7 +345,7 @@ public class SimpleMongoRepository<T, ID> implements MongoRepository<T, ID> {
 		Assert.notNull(example, "Sample must not be null!");
 
 		Query q = new Query(new Criteria().alike(example));
-		return mongoOperations.count(q, example.getProbeType(), entityInformation.getCollectionName());
+		return count(q, example.getProbeType());
 	}
 
 	/*
@@ -347,6 +361,12 @@ public class SimpleMongoRepository<T, ID> implements MongoRepository<T, ID> {
 		return mongoOperations.exists(q, example.getProbeType(), entityInformation.getCollectionName());
 	}
 
+	private long count(Query query, Class<?> type) {
+
+		return countCache.map(it -> it.count(query, type, entityInformation.getCollectionName()))
+				.orElseGet(() -> mongoOperations.count(query, type, entityInformation.getCollectionName()));
+	}
+
 	private Query getIdQuery(Object id) {
 		return new Query(getIdCriteria(id));
 	}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParseException;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.util.Assert;
+
+/**
+ * {@link SpelExpressionParser} caching parsed {@link Expression}s by their expression string. Expressions are immutable
+ * and thread-safe so that they can be shared across invocations and threads. The cache is bounded: once it holds the
+ * configured number of expressions, further expressions are parsed without being cached.
+ * <p>
+ * Only plain expressions and templates using {@link ParserContext#TEMPLATE_EXPRESSION} are cached, expressions parsed
+ * with a custom {@link ParserContext} are parsed on each call.
+ *
+ * @since 2.0
+ */
+public class CachingSpelExpressionParser extends SpelExpressionParser {
+
+	static final int DEFAULT_CACHE_SIZE = 256;
+
+	private final int cacheSize;
+	private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+	private final Map<String, Expression> templates = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link CachingSpelExpressionParser} using the default {@link SpelParserConfiguration} caching up to
+	 * {@value #DEFAULT_CACHE_SIZE} expressions and templates each.
+	 */
+	public CachingSpelExpressionParser() {
+		this(new SpelParserConfiguration(), DEFAULT_CACHE_SIZE);
+	}
+
+	/**
+	 * Creates a new {@link CachingSpelExpressionParser} for the given {@link SpelParserConfiguration}, e.g. to enable the
+	 * SpEL compiler, caching up to {@code cacheSize} expressions and templates each.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 * @param cacheSize must be greater than zero.
+	 */
+	public CachingSpelExpressionParser(SpelParserConfiguration configuration, int cacheSize) {
+
+		super(configuration);
+
+		Assert.isTrue(cacheSize > 0, "Cache size must be greater than zero!");
+
+		this.cacheSize = cacheSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.expression.common.TemplateAwareExpressionParser#parseExpression(java.lang.String, org.springframework.expression.ParserContext)
+	 */
+	@Override
+	public Expression parseExpression(String expressionString, ParserContext context) throws ParseException {
+
+		if (context == null || !context.isTemplate()) {
+			return parseCached(expressions, expressionString, context);
+		}
+
+		if (context == ParserContext.TEMPLATE_EXPRESSION) {
+			return parseCached(templates, expressionString, context);
+		}
+
+		return super.parseExpression(expressionString, context);
+	}
+
+	private Expression parseCached(Map<String, Expression> cache, String expressionString, ParserContext context) {
+
+		Expression expression = cache.get(expressionString);
+
+		if (expression != null) {
+			return expression;
+		}
+
+		expression = super.parseExpression(expressionString, context);
+
+		if (cache.size() < cacheSize) {
+			cache.putIfAbsent(expressionString, expression);
+		}
+
+		return expression;
+	}
+}
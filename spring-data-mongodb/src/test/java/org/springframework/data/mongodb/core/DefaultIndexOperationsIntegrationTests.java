@@ -21,11 +21,15 @@ import static org.junit.Assume.*;
 import static org.springframework.data.mongodb.core.index.PartialIndexFilter.*;
 import static org.springframework.data.mongodb.core.query.Criteria.*;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.bson.Document;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.mongodb.core.Collation.CaseFirst;
 import org.springframework.data.mongodb.core.convert.QueryMapper;
@@ -131,6 +135,23 @@ public class DefaultIndexOperationsIntegrationTests {
 		assertThat(info.getPartialFilterExpression()).isEqualTo("{ \"qty\" : { \"$gte\" : 10 } }");
 	}
 
+	@Test
+	public void ensureIndexesReturnsOnlyNewlyCreatedIndexes() {
+
+		indexOps.ensureIndex(new Index().named("existing").on("k3y", Direction.ASC).unique());
+
+		assertThat(indexOps.ensureIndexes(Arrays.asList(new Index().named("existing").on("k3y", Direction.ASC).unique(),
+				new Index().named("missing").on("other", Direction.DESC)))).containsExactly("missing");
+	}
+
+	@Test(expected = DataAccessException.class)
+	public void ensureIndexesSurfacesConflictingOptions() {
+
+		indexOps.ensureIndex(new Index().named("existing").on("k3y", Direction.ASC));
+
+		indexOps.ensureIndexes(Collections.singletonList(new Index().named("existing").on("k3y", Direction.ASC).unique()));
+	}
+
 	@Test // DATAMONGO-1467
 	public void shouldFavorExplicitMappingHintViaClass() {
 
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.mockito.Mockito.any;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.bson.Document;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoClient;
+import com.mongodb.ServerAddress;
+import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+/**
+ * Unit tests for {@link DefaultReactiveBulkOperations}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class DefaultReactiveBulkOperationsUnitTests {
+
+	@Mock ReactiveMongoOperations operations;
+	@Mock MongoCollection<Document> collection;
+	@Mock BulkWriteResult result;
+
+	DefaultReactiveBulkOperations ops;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setUp() {
+
+		when(operations.execute(anyString(), any(ReactiveCollectionCallback.class))).thenAnswer(
+				invocation -> Flux.from(invocation.<ReactiveCollectionCallback<?>> getArgument(1).doInCollection(collection)));
+		when(collection.bulkWrite(any(List.class), any(BulkWriteOptions.class))).thenReturn(Mono.just(result));
+		when(collection.getCodecRegistry()).thenReturn(MongoClient.getDefaultCodecRegistry());
+
+		ops = new DefaultReactiveBulkOperations(operations, BulkMode.ORDERED, "collection-1", null);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeWritesRegisteredModelsOnSubscription() {
+
+		Mono<BulkWriteResult> execution = ops.insert(new Document("_id", 1))
+				.updateOne(new BasicQuery("{}").collation(Collation.of("de")), new Update().set("lastName", "targaryen"))
+				.execute();
+
+		verify(collection, never()).bulkWrite(any(List.class), any(BulkWriteOptions.class));
+
+		StepVerifier.create(execution).expectNext(result).verifyComplete();
+
+		ArgumentCaptor<List<WriteModel<Document>>> captor = ArgumentCaptor.forClass(List.class);
+		ArgumentCaptor<BulkWriteOptions> options = ArgumentCaptor.forClass(BulkWriteOptions.class);
+		verify(collection).bulkWrite(captor.capture(), options.capture());
+
+		assertThat(captor.getValue()).hasSize(2);
+		assertThat(captor.getValue().get(0)).isInstanceOf(InsertOneModel.class);
+		assertThat(((UpdateOneModel) captor.getValue().get(1)).getOptions().getCollation())
+				.isEqualTo(com.mongodb.client.model.Collation.builder().locale("de").build());
+		assertThat(options.getValue().isOrdered()).isTrue();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeChunksStreamByCount() {
+
+		StepVerifier.create(ops.execute(inserts(25), BulkChunkOptions.options().maxModels(10))) //
+				.expectNextCount(3) //
+				.verifyComplete();
+
+		ArgumentCaptor<List<WriteModel<Document>>> captor = ArgumentCaptor.forClass(List.class);
+		verify(collection, times(3)).bulkWrite(captor.capture(), any(BulkWriteOptions.class));
+
+		assertThat(captor.getAllValues().stream().map(List::size).collect(Collectors.toList())).containsExactly(10, 10, 5);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeChunksStreamByBytes() {
+
+		StepVerifier.create(ops.execute(inserts(10), BulkChunkOptions.options().maxBytes(1))) //
+				.expectNextCount(10) //
+				.verifyComplete();
+
+		verify(collection, times(10)).bulkWrite(any(List.class), any(BulkWriteOptions.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeDoesNotWriteAheadOfDemand() {
+
+		StepVerifier.create(ops.execute(inserts(25), BulkChunkOptions.options().maxModels(10)), 1) //
+				.expectNextCount(1) //
+				.thenCancel() //
+				.verify();
+
+		verify(collection, atMost(2)).bulkWrite(any(List.class), any(BulkWriteOptions.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeUsesResolvedWriteConcern() {
+
+		when(collection.withWriteConcern(any(WriteConcern.class))).thenReturn(collection);
+
+		ops.setDefaultWriteConcern(WriteConcern.ACKNOWLEDGED);
+		ops.setWriteConcernResolver(action -> {
+
+			assertThat(action.getMongoActionOperation()).isEqualTo(MongoActionOperation.BULK);
+			assertThat(action.getDefaultWriteConcern()).isEqualTo(WriteConcern.ACKNOWLEDGED);
+			return WriteConcern.MAJORITY;
+		});
+
+		StepVerifier.create(ops.insert(new Document("_id", 1)).execute()).expectNext(result).verifyComplete();
+
+		verify(collection).withWriteConcern(WriteConcern.MAJORITY);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeTranslatesBulkWriteExceptions() {
+
+		when(collection.bulkWrite(any(List.class), any(BulkWriteOptions.class))).thenReturn(
+				Mono.error(new MongoBulkWriteException(result, Collections.emptyList(), null, new ServerAddress())));
+
+		ops.setExceptionTranslator(o_O -> new DataIntegrityViolationException(o_O.getMessage(), o_O));
+
+		StepVerifier.create(ops.insert(new Document("_id", 1)).execute()) //
+				.expectError(DataIntegrityViolationException.class) //
+				.verify();
+
+		StepVerifier.create(ops.execute(inserts(2), BulkChunkOptions.options())) //
+				.expectError(DataIntegrityViolationException.class) //
+				.verify();
+	}
+
+	private static Flux<WriteModel<Document>> inserts(int count) {
+		return Flux.fromStream(IntStream.range(0, count).mapToObj(i -> new InsertOneModel<>(new Document("_id", i))));
+	}
+}
@@ -31,6 +31,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.*;
 
+import org.bson.RawBsonDocument;
 import org.bson.types.ObjectId;
 import org.hamcrest.collection.IsMapContaining;
 import org.joda.time.DateTime;
@@ -73,6 +74,8 @@ import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
 import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.KeysetPosition;
+import org.springframework.data.mongodb.core.query.KeysetWindow;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.data.mongodb.util.MongoClientVersion;
@@ -2849,6 +2852,133 @@ public class MongoTemplateTests {
 		assertThat(stream.hasNext(), is(false));
 	}
 
+	@Test
+	public void findsAndStreamsRawDocuments() {
+
+		Person youngestPerson = new Person("John", 20);
+		Person oldestPerson = new Person("Jane", 42);
+
+		template.insertAll(Arrays.asList(oldestPerson, youngestPerson));
+
+		Query q = new Query(where("age").gt(10)).with(Sort.by(Direction.ASC, "age"));
+		List<RawBsonDocument> documents = template.findRaw(q, Person.class);
+
+		assertThat(documents, hasSize(2));
+		assertThat(documents.get(0).getString("firstName").getValue(), is("John"));
+		assertThat(template.getConverter().read(Person.class, documents.get(1)).getAge(), is(42));
+
+		try (CloseableIterator<RawBsonDocument> stream = template.streamRaw(q.limit(1), "person")) {
+
+			assertThat(stream.next().getInt32("age").getValue(), is(20));
+			assertThat(stream.hasNext(), is(false));
+		}
+	}
+
+	@Test
+	public void mapsResultsInParallelRetainingOrder() {
+
+		List<Person> people = new ArrayList<Person>();
+
+		for (int i = 0; i < 300; i++) {
+			people.add(new Person("Person " + i, i));
+		}
+
+		template.insertAll(people);
+
+		Query query = new Query(where("age").gte(0)).with(Sort.by(Direction.ASC, "age")).mapInParallel();
+		List<Person> result = template.find(query, Person.class);
+
+		assertThat(result, hasSize(300));
+
+		for (int i = 0; i < 300; i++) {
+			assertThat(result.get(i).getAge(), is(i));
+		}
+
+		try (CloseableIterator<Person> stream = template.stream(query, Person.class)) {
+
+			for (int i = 0; i < 300; i++) {
+				assertThat(stream.next().getAge(), is(i));
+			}
+
+			assertThat(stream.hasNext(), is(false));
+		}
+	}
+
+	@Test
+	public void scrollsUsingKeysetPositionBreakingTiesById() {
+
+		Person first = new Person("first", 30);
+		Person second = new Person("second", 20);
+		Person third = new Person("third", 20);
+		Person fourth = new Person("fourth", 10);
+
+		template.insertAll(Arrays.asList(first, second, third, fourth));
+
+		Query query = new Query(where("age").gte(10)).with(Sort.by(Direction.DESC, "age")).limit(2);
+
+		KeysetWindow<Person> window = template.scroll(query, KeysetPosition.initial(), Person.class);
+
+		assertThat(window.getContent(), contains(first, second));
+		assertThat(window.hasNext(), is(true));
+
+		window = template.scroll(query, window.getNextPosition(), Person.class);
+
+		assertThat(window.getContent(), contains(third, fourth));
+		assertThat(window.hasNext(), is(false));
+
+		KeysetPosition last = window.getNextPosition();
+		window = template.scroll(query, last, Person.class);
+
+		assertThat(window.isEmpty(), is(true));
+		assertThat(window.getNextPosition(), is(last));
+	}
+
+	@Test
+	public void scrollsAscendingOverNullSortValues() {
+
+		Person first = new Person((String) null, 10);
+		Person second = new Person((String) null, 20);
+		Person third = new Person("alice", 30);
+		Person fourth = new Person("bob", 40);
+
+		template.insertAll(Arrays.asList(first, second, third, fourth));
+
+		Query query = new Query().with(Sort.by(Direction.ASC, "firstName")).limit(1);
+
+		assertThat(scrollAll(query), contains(first, second, third, fourth));
+	}
+
+	@Test
+	public void scrollsDescendingOverNullSortValues() {
+
+		Person first = new Person((String) null, 10);
+		Person second = new Person((String) null, 20);
+		Person third = new Person("alice", 30);
+		Person fourth = new Person("bob", 40);
+
+		template.insertAll(Arrays.asList(first, second, third, fourth));
+
+		Query query = new Query().with(Sort.by(Direction.DESC, "firstName")).limit(1);
+
+		assertThat(scrollAll(query), contains(fourth, third, first, second));
+	}
+
+	private List<Person> scrollAll(Query query) {
+
+		List<Person> result = new ArrayList<Person>();
+		KeysetPosition position = KeysetPosition.initial();
+		KeysetWindow<Person> window;
+
+		do {
+
+			window = template.scroll(query, position, Person.class);
+			result.addAll(window.getContent());
+			position = window.getNextPosition();
+		} while (window.hasNext());
+
+		return result;
+	}
+
 	@Test // DATAMONGO-1204
 	public void resolvesCyclicDBRefCorrectly() {
 
@@ -23,12 +23,17 @@ import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
 import static org.springframework.data.mongodb.test.util.IsBsonObject.*;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
 import org.hamcrest.collection.IsIterableContainingInOrder;
@@ -44,9 +49,11 @@ import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
@@ -55,10 +62,13 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.geo.Point;
 import org.springframework.data.mongodb.MongoDbFactory;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.aggregation.PreparedAggregation;
 import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
 import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexCreator;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
@@ -76,7 +86,9 @@ import com.mongodb.DB;
 import com.mongodb.MongoClient;
 import com.mongodb.MongoException;
 import com.mongodb.ReadPreference;
+import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.FindIterable;
+import com.mongodb.client.ListIndexesIterable;
 import com.mongodb.client.MapReduceIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
@@ -84,6 +96,8 @@ import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.DeleteOptions;
 import com.mongodb.client.model.FindOneAndDeleteOptions;
 import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.result.UpdateResult;
 
@@ -106,6 +120,7 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 	@Mock MongoCursor<Document> cursor;
 	@Mock FindIterable<Document> findIterable;
 	@Mock MapReduceIterable mapReduceIterable;
+	@Mock AggregateIterable<Document> aggregateIterable;
 
 	Document commandResultDocument = new Document();
 
@@ -200,6 +215,45 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		assertThat(entity.id, is(notNullValue()));
 	}
 
+	@Test
+	public void suppressesMappingEventsWithoutInterestedListeners() {
+
+		List<Object> events = new ArrayList<Object>();
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.addApplicationListener(new AbstractMongoEventListener<NotAutogenerateableId>() {
+
+			@Override
+			public void onBeforeConvert(BeforeConvertEvent<NotAutogenerateableId> event) {
+				events.add(event);
+			}
+		});
+		context.refresh();
+
+		template.setEventListenerIndexEnabled(true);
+		template.setApplicationContext(context);
+		context.publishEvent(new ContextRefreshedEvent(context));
+
+		NotAutogenerateableId entity = new NotAutogenerateableId();
+		entity.id = 1;
+
+		template.save(entity);
+
+		assertThat(events, hasSize(1));
+		assertThat(template.getSuppressedEventCount(), is(2L));
+	}
+
+	@Test
+	public void doesNotCountEventsWithoutApplicationContextAsSuppressed() {
+
+		NotAutogenerateableId entity = new NotAutogenerateableId();
+		entity.id = 1;
+
+		template.save(entity);
+
+		assertThat(template.getSuppressedEventCount(), is(0L));
+	}
+
 	@Test // DATAMONGO-374
 	public void convertsUpdateConstraintsUsingConverters() {
 
@@ -355,25 +409,134 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 	@Test // DATAMONGO-1166
 	public void aggregateShouldHonorReadPreferenceWhenSet() {
 
-		when(db.runCommand(Mockito.any(org.bson.Document.class), Mockito.any(ReadPreference.class), eq(Document.class)))
-				.thenReturn(mock(Document.class));
+		stubAggregation();
+		when(collection.withReadPreference(Mockito.any())).thenReturn(collection);
 		template.setReadPreference(ReadPreference.secondary());
 
 		template.aggregate(newAggregation(Aggregation.unwind("foo")), "collection-1", Wrapper.class);
 
-		verify(this.db, times(1)).runCommand(Mockito.any(org.bson.Document.class), eq(ReadPreference.secondary()),
-				eq(Document.class));
+		verify(collection).withReadPreference(eq(ReadPreference.secondary()));
+		verify(collection).aggregate(Mockito.anyList(), eq(Document.class));
 	}
 
 	@Test // DATAMONGO-1166
 	public void aggregateShouldIgnoreReadPreferenceWhenNotSet() {
 
-		when(db.runCommand(Mockito.any(org.bson.Document.class), eq(org.bson.Document.class)))
-				.thenReturn(mock(Document.class));
+		stubAggregation();
 
 		template.aggregate(newAggregation(Aggregation.unwind("foo")), "collection-1", Wrapper.class);
 
-		verify(this.db, times(1)).runCommand(Mockito.any(org.bson.Document.class), eq(org.bson.Document.class));
+		verify(collection, never()).withReadPreference(Mockito.any());
+		verify(collection).aggregate(Mockito.anyList(), eq(Document.class));
+	}
+
+	@Test
+	public void aggregateShouldApplyCursorOptions() {
+
+		stubAggregation();
+
+		Aggregation aggregation = newAggregation(Aggregation.unwind("foo"))
+				.withOptions(newAggregationOptions().allowDiskUse(true).cursorBatchSize(10).build());
+		template.aggregate(aggregation, "collection-1", Wrapper.class);
+
+		verify(aggregateIterable).allowDiskUse(true);
+		verify(aggregateIterable).useCursor(true);
+		verify(aggregateIterable).batchSize(10);
+	}
+
+	@Test
+	public void aggregateShouldMapCursorResults() {
+
+		stubAggregation();
+		when(cursor.hasNext()).thenReturn(true, true, false);
+		when(cursor.next()).thenReturn(new Document("_id", "id-1"), new Document("_id", "id-2"));
+
+		AggregationResults<Document> results = template.aggregate(newAggregation(Aggregation.unwind("foo")),
+				"collection-1", Document.class);
+
+		assertThat(results.getMappedResults(), hasSize(2));
+		verify(cursor).close();
+	}
+
+	@Test
+	public void aggregateShouldNotRetainRawCursorResults() {
+
+		stubAggregation();
+		when(cursor.hasNext()).thenReturn(true, true, false);
+		when(cursor.next()).thenReturn(new Document("_id", "id-1"), new Document("_id", "id-2"));
+
+		AggregationResults<Document> results = template.aggregate(newAggregation(Aggregation.unwind("foo")),
+				"collection-1", Document.class);
+
+		assertThat(results.getMappedResults(), contains(new Document("_id", "id-1"), new Document("_id", "id-2")));
+		assertThat(results.getRawResults(), is(new Document("ok", 1.0D)));
+	}
+
+	@Test
+	public void aggregateShouldNotReturnResultsOfOutStage() {
+
+		stubAggregation();
+
+		AggregationResults<Document> results = template.aggregate(
+				newAggregation(Aggregation.unwind("foo"), Aggregation.out("collection-2")), "collection-1", Document.class);
+
+		verify(aggregateIterable).toCollection();
+		verify(aggregateIterable, never()).iterator();
+		assertThat(results.getMappedResults(), is(empty()));
+	}
+
+	@Test
+	public void aggregateShouldFailWhenExceedingMaxResults() {
+
+		stubAggregation();
+		when(cursor.hasNext()).thenReturn(true);
+		when(cursor.next()).thenReturn(new Document("_id", "id-1"));
+
+		Aggregation aggregation = newAggregation(Aggregation.unwind("foo"))
+				.withOptions(newAggregationOptions().maxResults(2).build());
+
+		try {
+			template.aggregate(aggregation, "collection-1", Document.class);
+			fail("Missing IncorrectResultSizeDataAccessException!");
+		} catch (IncorrectResultSizeDataAccessException e) {
+			assertThat(e.getExpectedSize(), is(2));
+		}
+
+		verify(cursor, times(2)).next();
+		verify(cursor).close();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void preparedAggregationShouldBindConvertedParameters() {
+
+		stubAggregation();
+
+		PreparedAggregation prepared = template
+				.prepareAggregation(newAggregation(match(Criteria.where("value").is(parameter("value")))), "collection-1");
+
+		template.aggregate(prepared, Collections.singletonMap("value", new BigInteger("42")), Document.class);
+		template.aggregate(prepared, Collections.singletonMap("value", new BigInteger("23")), Document.class);
+
+		ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+		verify(collection, times(2)).aggregate(captor.capture());
+
+		assertThat(captor.getAllValues().get(0).get(0),
+				is((Object) new Document("$match", new Document("value", "42"))));
+		assertThat(captor.getAllValues().get(1).get(0),
+				is((Object) new Document("$match", new Document("value", "23"))));
+	}
+
+	@Test
+	public void aggregateShouldUseCommandForExplain() {
+
+		Aggregation aggregation = newAggregation(Aggregation.unwind("foo"))
+				.withOptions(newAggregationOptions().explain(true).build());
+
+		template.aggregate(aggregation, "collection-1", Document.class);
+
+		verify(db).runCommand(Mockito.any(org.bson.Document.class), eq(org.bson.Document.class));
+		verify(collection, never()).aggregate(Mockito.anyList(), Mockito.any(Class.class));
 	}
 
 	@Test // DATAMONGO-1166
@@ -741,14 +904,13 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 	@Test // DATAMONGO-1518
 	public void aggregateShouldUseCollationWhenPresent() {
 
+		stubAggregation();
+
 		Aggregation aggregation = newAggregation(project("id"))
 				.withOptions(newAggregationOptions().collation(Collation.of("fr")).build());
 		template.aggregate(aggregation, AutogenerateableId.class, Document.class);
 
-		ArgumentCaptor<Document> cmd = ArgumentCaptor.forClass(Document.class);
-		verify(db).runCommand(cmd.capture(), Mockito.any(Class.class));
-
-		assertThat(cmd.getValue().get("collation", Document.class), equalTo(new Document("locale", "fr")));
+		verify(aggregateIterable).collation(eq(com.mongodb.client.model.Collation.builder().locale("fr").build()));
 	}
 
 	@Test // DATAMONGO-1518
@@ -783,6 +945,123 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		assertThat(cmd.getValue().get("group", Document.class).get("collation", Document.class), equalTo(new Document("locale", "fr")));
 	}
 
+	@Test
+	public void chunkedInsertWritesChunksLimitedByDocumentCount() {
+
+		Stream<VersionedEntity> entities = IntStream.range(0, 5).mapToObj(VersionedEntity::new);
+
+		ChunkedInsertResult result = template.insert(entities, VersionedEntity.class,
+				ChunkedInsertOptions.options().maxDocuments(2));
+
+		verify(collection, times(3)).insertMany(Mockito.anyList());
+		assertThat(result.getChunkCount(), is(3));
+		assertThat(result.getInsertedCount(), is(5));
+		assertThat(result.getInsertedIds(), IsIterableContainingInOrder.<Object> contains(0, 1, 2, 3, 4));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void chunkedInsertWritesEncodedChunksLimitedByBytes() {
+
+		MongoCollection<RawBsonDocument> rawCollection = mock(MongoCollection.class);
+		when(db.getCodecRegistry()).thenReturn(MongoClient.getDefaultCodecRegistry());
+		when(collection.withDocumentClass(RawBsonDocument.class)).thenReturn(rawCollection);
+
+		Stream<VersionedEntity> entities = IntStream.range(0, 4).mapToObj(VersionedEntity::new);
+
+		ChunkedInsertResult result = template.insert(entities, VersionedEntity.class,
+				ChunkedInsertOptions.options().maxBytes(1));
+
+		verify(rawCollection, times(4)).insertMany(Mockito.anyList());
+		verify(collection, never()).insertMany(Mockito.anyList());
+		assertThat(result.getChunkCount(), is(4));
+		assertThat(result.getInsertedCount(), is(4));
+	}
+
+	@Test
+	public void chunkedInsertAllKeepsChunkPerCollection() {
+
+		Stream<Object> entities = Stream.of(new VersionedEntity(1), new Wrapper(), new VersionedEntity(2));
+
+		ChunkedInsertResult result = template.insertAll(entities, ChunkedInsertOptions.options());
+
+		verify(db).getCollection(eq("versionedEntity"), eq(Document.class));
+		verify(db).getCollection(eq("wrapper"), eq(Document.class));
+		assertThat(result.getChunkCount(), is(2));
+		assertThat(result.getInsertedCount(), is(3));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsMissingIndexesInBulkOnGivenExecutorIfConfigured() {
+
+		ListIndexesIterable<Document> listIndexesIterable = mock(ListIndexesIterable.class);
+		when(db.getCollection(Mockito.any(String.class))).thenReturn(collection);
+		when(collection.listIndexes(Document.class)).thenReturn(listIndexesIterable);
+		when(listIndexesIterable.into(Mockito.any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.setInitialEntitySet(Collections.singleton(IndexedEntity.class));
+		mappingContext.initialize();
+
+		List<Runnable> tasks = new ArrayList<Runnable>();
+		Executor executor = task -> {
+			tasks.add(task);
+			task.run();
+		};
+
+		new MongoTemplate(factory, new MappingMongoConverter(new DefaultDbRefResolver(factory), mappingContext), executor);
+
+		ArgumentCaptor<List<IndexModel>> captor = ArgumentCaptor.forClass(List.class);
+
+		verify(db).getCollection(eq("indexedEntity"));
+		verify(collection).createIndexes(captor.capture());
+		verify(collection, never()).createIndex(Mockito.any(), Mockito.any(IndexOptions.class));
+		verify(collection, never()).createIndex(Mockito.any());
+		assertThat(tasks, hasSize(1));
+		assertThat(captor.getValue(), hasSize(2));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void doesNotWaitForBulkIndexCreationIfConfigured() {
+
+		ListIndexesIterable<Document> listIndexesIterable = mock(ListIndexesIterable.class);
+		when(db.getCollection(Mockito.any(String.class))).thenReturn(collection);
+		when(collection.listIndexes(Document.class)).thenReturn(listIndexesIterable);
+		when(listIndexesIterable.into(Mockito.any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.setInitialEntitySet(Collections.singleton(IndexedEntity.class));
+		mappingContext.initialize();
+
+		List<Runnable> tasks = new ArrayList<Runnable>();
+
+		new MongoTemplate(factory, new MappingMongoConverter(new DefaultDbRefResolver(factory), mappingContext),
+				tasks::add, false);
+
+		verify(collection, never()).createIndexes(Mockito.anyList());
+
+		tasks.forEach(Runnable::run);
+
+		verify(collection).createIndexes(Mockito.anyList());
+	}
+
+	@Test
+	public void createsIndexesOneByOneWithoutExecutor() {
+
+		when(db.getCollection(Mockito.any(String.class))).thenReturn(collection);
+
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.setInitialEntitySet(Collections.singleton(IndexedEntity.class));
+		mappingContext.initialize();
+
+		new MongoTemplate(factory, new MappingMongoConverter(new DefaultDbRefResolver(factory), mappingContext));
+
+		verify(collection, times(2)).createIndex(Mockito.any(), Mockito.any(IndexOptions.class));
+		verify(collection, never()).createIndexes(Mockito.anyList());
+	}
+
 	class AutogenerateableId {
 
 		@Id BigInteger id;
@@ -801,6 +1080,20 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 
 		@Id Integer id;
 		@Version Integer version;
+
+		VersionedEntity() {}
+
+		VersionedEntity(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@org.springframework.data.mongodb.core.mapping.Document
+	static class IndexedEntity {
+
+		@Id String id;
+		@Indexed String firstname;
+		@Indexed(unique = true) String lastname;
 	}
 
 	enum MyConverter implements Converter<AutogenerateableId, String> {
@@ -817,6 +1110,16 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		AutogenerateableId foo;
 	}
 
+	private void stubAggregation() {
+
+		when(collection.aggregate(Mockito.anyList(), eq(Document.class))).thenReturn(aggregateIterable);
+		when(aggregateIterable.allowDiskUse(Mockito.any())).thenReturn(aggregateIterable);
+		when(aggregateIterable.useCursor(Mockito.any())).thenReturn(aggregateIterable);
+		when(aggregateIterable.batchSize(anyInt())).thenReturn(aggregateIterable);
+		when(aggregateIterable.collation(Mockito.any())).thenReturn(aggregateIterable);
+		when(aggregateIterable.iterator()).thenReturn(cursor);
+	}
+
 	/**
 	 * Mocks out the {@link MongoTemplate#getDb()} method to return the {@link DB} mock instead of executing the actual
 	 * behaviour.
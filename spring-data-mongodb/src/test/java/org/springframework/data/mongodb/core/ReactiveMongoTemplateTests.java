@@ -26,6 +26,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -34,6 +35,8 @@ import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.bson.Document;
 import org.bson.types.ObjectId;
@@ -57,6 +60,7 @@ import org.springframework.data.mongodb.core.MongoTemplateTests.VersionedPerson;
 import org.springframework.data.mongodb.core.index.GeoSpatialIndexType;
 import org.springframework.data.mongodb.core.index.GeospatialIndex;
 import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.NearQuery;
 import org.springframework.data.mongodb.core.query.Query;
@@ -92,7 +96,8 @@ public class ReactiveMongoTemplateTests {
 						.mergeWith(template.dropCollection(PersonWithAList.class)) //
 						.mergeWith(template.dropCollection(PersonWithIdPropertyOfTypeObjectId.class)) //
 						.mergeWith(template.dropCollection(PersonWithVersionPropertyOfTypeInteger.class)) //
-						.mergeWith(template.dropCollection(Sample.class))) //
+						.mergeWith(template.dropCollection(Sample.class)) //
+						.mergeWith(template.dropCollection(SampleReference.class))) //
 				.verifyComplete();
 	}
 
@@ -854,6 +859,44 @@ public class ReactiveMongoTemplateTests {
 		assertThat(documents.poll(1, TimeUnit.SECONDS), is(nullValue()));
 	}
 
+	@Test
+	public void findResolvesDbRefsForSlowSubscriber() {
+
+		Sample sample = new Sample("sample", "value");
+		List<SampleReference> references = IntStream.range(0, 250) //
+				.mapToObj(i -> new SampleReference("reference-" + i, sample)) //
+				.collect(Collectors.toList());
+
+		StepVerifier.create(template.save(sample).thenMany(template.insertAll(references))) //
+				.expectNextCount(250) //
+				.verifyComplete();
+
+		StepVerifier.create(template.findAll(SampleReference.class), 0) //
+				.thenRequest(1) //
+				.assertNext(actual -> assertThat(actual.getSample(), is(equalTo(sample)))) //
+				.thenAwait(Duration.ofMillis(100)) //
+				.thenRequest(10) //
+				.expectNextCount(10) //
+				.thenAwait(Duration.ofMillis(100)) //
+				.thenRequest(Long.MAX_VALUE) //
+				.expectNextCount(239) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void findResolvesDbRefsWithIntegralIdsOfDifferentJavaType() {
+
+		StepVerifier.create(template.insert(new Document("_id", 1L).append("field", "value"), "sample") //
+				.then(template.insert(new Document("_id", "reference")
+						.append("sample", new com.mongodb.DBRef("sample", 1)), "sampleReference"))) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		StepVerifier.create(template.findAll(SampleReference.class)) //
+				.assertNext(actual -> assertThat(actual.getSample().getField(), is("value"))) //
+				.verifyComplete();
+	}
+
 	private PersonWithAList createPersonWithAList(String firstname, int age) {
 
 		PersonWithAList p = new PersonWithAList();
@@ -877,4 +920,18 @@ public class ReactiveMongoTemplateTests {
 		}
 	}
 
+	@Data
+	static class SampleReference {
+
+		@Id String id;
+		@DBRef Sample sample;
+
+		public SampleReference() {}
+
+		public SampleReference(String id, Sample sample) {
+			this.id = id;
+			this.sample = sample;
+		}
+	}
+
 }
@@ -47,6 +47,7 @@ import com.mongodb.client.model.DeleteOptions;
 import com.mongodb.client.model.FindOneAndDeleteOptions;
 import com.mongodb.client.model.FindOneAndUpdateOptions;
 import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.reactivestreams.client.AggregatePublisher;
 import com.mongodb.reactivestreams.client.FindPublisher;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoCollection;
@@ -68,6 +69,7 @@ public class ReactiveMongoTemplateUnitTests {
 	@Mock MongoDatabase db;
 	@Mock MongoCollection collection;
 	@Mock FindPublisher findPublisher;
+	@Mock AggregatePublisher aggregatePublisher;
 	@Mock Publisher runCommandPublisher;
 
 	MongoExceptionTranslator exceptionTranslator = new MongoExceptionTranslator();
@@ -88,6 +90,10 @@ public class ReactiveMongoTemplateUnitTests {
 		when(findPublisher.limit(anyInt())).thenReturn(findPublisher);
 		when(findPublisher.collation(any())).thenReturn(findPublisher);
 		when(findPublisher.first()).thenReturn(findPublisher);
+		when(collection.aggregate(anyList(), any(Class.class))).thenReturn(aggregatePublisher);
+		when(aggregatePublisher.allowDiskUse(anyBoolean())).thenReturn(aggregatePublisher);
+		when(aggregatePublisher.useCursor(anyBoolean())).thenReturn(aggregatePublisher);
+		when(aggregatePublisher.collation(any())).thenReturn(aggregatePublisher);
 
 		this.mappingContext = new MongoMappingContext();
 		this.converter = new MappingMongoConverter(new NoOpDbRefResolver(), mappingContext);
@@ -220,18 +226,41 @@ public class ReactiveMongoTemplateUnitTests {
 		assertThat(options.getValue().getCollation().getLocale(), is("fr"));
 	}
 
-	@Ignore("currently no aggregation")
 	@Test // DATAMONGO-1518
 	public void aggregateShouldUseCollationWhenPresent() {
 
 		Aggregation aggregation = newAggregation(project("id"))
 				.withOptions(newAggregationOptions().collation(Collation.of("fr")).build());
-		// template.aggregate(aggregation, AutogenerateableId.class, Document.class).subscribe();
+		template.aggregate(aggregation, AutogenerateableId.class, Document.class).subscribe();
 
-		ArgumentCaptor<Document> cmd = ArgumentCaptor.forClass(Document.class);
-		verify(db).runCommand(cmd.capture(), Mockito.any(Class.class));
+		verify(aggregatePublisher).collation(eq(com.mongodb.client.model.Collation.builder().locale("fr").build()));
+	}
 
-		assertThat(cmd.getValue().get("collation", Document.class), equalTo(new Document("locale", "fr")));
+	@Test
+	public void aggregateShouldApplyAllowDiskUse() {
+
+		Aggregation aggregation = newAggregation(project("id"))
+				.withOptions(newAggregationOptions().allowDiskUse(true).cursorBatchSize(10).build());
+		template.aggregate(aggregation, AutogenerateableId.class, Document.class).subscribe();
+
+		verify(aggregatePublisher).allowDiskUse(true);
+		verify(aggregatePublisher).useCursor(true);
+	}
+
+	@Test
+	public void aggregateShouldNotTouchCollectionBeforeSubscription() {
+
+		template.aggregate(newAggregation(project("id")), AutogenerateableId.class, Document.class);
+
+		verify(collection, never()).aggregate(anyList(), any(Class.class));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void aggregateShouldRejectExplain() {
+
+		Aggregation aggregation = newAggregation(project("id"))
+				.withOptions(newAggregationOptions().explain(true).build());
+		template.aggregate(aggregation, AutogenerateableId.class, Document.class);
 	}
 
 	@Ignore("currently no mapReduce")
@@ -1546,6 +1546,21 @@ public class AggregationTests {
 		mongoTemplate.dropCollection(tempOutCollection);
 	}
 
+	@Test
+	public void shouldExposeServerStatusAsRawResultsOfCursorAggregation() {
+
+		createPersonDocuments();
+
+		TypedAggregation<Person> agg = newAggregation(Person.class, //
+				group("sex").count().as("count"), //
+				sort(DESC, "count"));
+
+		AggregationResults<Document> results = mongoTemplate.aggregate(agg, Document.class);
+
+		assertThat(results.getMappedResults(), hasSize(2));
+		assertThat(results.getRawResults().get("ok"), is((Object) 1.0D));
+	}
+
 	@Test // DATAMONGO-1637
 	public void shouldCreateOutputCollectionWhileStreaming() {
 
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.mongodb.core.convert.DbRefResolver;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+/**
+ * Unit tests for {@link PreparedAggregation}.
+ */
+public class PreparedAggregationUnitTests {
+
+	AggregationOperationContext context;
+
+	@Before
+	public void setUp() {
+
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		MappingMongoConverter converter = new MappingMongoConverter(mock(DbRefResolver.class), mappingContext);
+
+		context = new TypeBasedAggregationOperationContext(Person.class, mappingContext, new QueryMapper(converter));
+	}
+
+	@Test
+	public void collectsParameterNames() {
+
+		PreparedAggregation prepared = PreparedAggregation.prepare(newAggregation(
+				match(Criteria.where("age").gte(parameter("min")).lte(parameter("max")).and("name").is(parameter("min")))),
+				"persons", context);
+
+		assertThat(prepared.getParameterNames(), contains("min", "max"));
+		assertThat(prepared.getCollectionName(), is("persons"));
+	}
+
+	@Test
+	public void bindsParametersToMappedFields() {
+
+		PreparedAggregation prepared = PreparedAggregation.prepare(
+				newAggregation(match(Criteria.where("age").gte(parameter("min"))), limit(10)), "persons", context);
+
+		Document command = prepared.toDocument(Collections.singletonMap("min", 21));
+
+		assertThat(command.get("aggregate"), is((Object) "persons"));
+		assertThat(pipeline(command).get(0),
+				is(new Document("$match", new Document("a", new Document("$gte", 21)))));
+		assertThat(pipeline(command).get(1), is(new Document("$limit", 10L)));
+	}
+
+	@Test
+	public void createsNewDocumentForEachBinding() {
+
+		PreparedAggregation prepared = PreparedAggregation
+				.prepare(newAggregation(match(Criteria.where("name").is(parameter("name")))), "persons", context);
+
+		Document first = prepared.toDocument(Collections.singletonMap("name", "Dave"));
+		Document second = prepared.toDocument(Collections.singletonMap("name", "Carter"));
+
+		assertThat(pipeline(first).get(0), is(new Document("$match", new Document("name", "Dave"))));
+		assertThat(pipeline(second).get(0), is(new Document("$match", new Document("name", "Carter"))));
+	}
+
+	@Test
+	public void bindsNullValue() {
+
+		PreparedAggregation prepared = PreparedAggregation
+				.prepare(newAggregation(match(Criteria.where("name").is(parameter("name")))), "persons", context);
+
+		Map<String, Object> parameters = new HashMap<String, Object>();
+		parameters.put("name", null);
+
+		assertThat(pipeline(prepared.toDocument(parameters)).get(0),
+				is(new Document("$match", new Document("name", null))));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsMissingParameterValue() {
+
+		PreparedAggregation prepared = PreparedAggregation
+				.prepare(newAggregation(match(Criteria.where("name").is(parameter("name")))), "persons", context);
+
+		prepared.toDocument(Collections.<String, Object> emptyMap());
+	}
+
+	@Test
+	public void retainsAggregationOptions() {
+
+		Aggregation aggregation = newAggregation(limit(1))
+				.withOptions(newAggregationOptions().allowDiskUse(true).maxResults(5).build());
+
+		PreparedAggregation prepared = PreparedAggregation.prepare(aggregation, "persons", context);
+
+		assertThat(prepared.getOptions().getMaxResults(), is(5));
+		assertThat(prepared.toDocument(Collections.<String, Object> emptyMap()).get("allowDiskUse"), is((Object) true));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Document> pipeline(Document command) {
+		return (List<Document>) command.get("pipeline");
+	}
+
+	static class Person {
+
+		String name;
+		@Field("a") int age;
+	}
+}
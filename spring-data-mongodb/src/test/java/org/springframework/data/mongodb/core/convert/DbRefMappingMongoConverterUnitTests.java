@@ -49,6 +49,7 @@ import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.mongodb.MongoDbFactory;
 import org.springframework.data.mongodb.core.MongoExceptionTranslator;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverterUnitTests.Person;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
@@ -667,6 +668,97 @@ public class DbRefMappingMongoConverterUnitTests {
 		verify(converterSpy, never()).readRef(any());
 	}
 
+	@Test
+	public void prefetchesDbRefsOfAllDocumentsUsingSingleBulkFetch() {
+
+		List<Document> documents = Arrays.asList(referenceHolder("a", "1"), referenceHolder("b", "2"),
+				referenceHolder("c", "1"));
+
+		doReturn(Arrays.asList(new Document("_id", "1").append("foo", "Dave"),
+				new Document("_id", "2").append("foo", "Oliver"))).when(dbRefResolver).bulkFetch(anyList());
+
+		List<PrefetchingReferenceHolder> result = converter.doWithPrefetchedDbRefs(PrefetchingReferenceHolder.class,
+				documents, () -> {
+
+					List<PrefetchingReferenceHolder> holders = new ArrayList<>();
+
+					for (Document document : documents) {
+						holders.add(converter.read(PrefetchingReferenceHolder.class, document));
+					}
+
+					return holders;
+				});
+
+		assertThat(result.get(0).person.firstname, is("Dave"));
+		assertThat(result.get(1).person.firstname, is("Oliver"));
+		assertThat(result.get(2).person.firstname, is("Dave"));
+
+		verify(dbRefResolver, times(1)).bulkFetch(anyList());
+		verify(dbRefResolver, never()).fetch(any(DBRef.class));
+	}
+
+	@Test
+	public void prefetchesDbRefsWithIntegralIdsOfDifferentJavaType() {
+
+		List<Document> documents = Collections
+				.singletonList(new Document("_id", "a").append("person", new DBRef("person", 1)));
+
+		doReturn(Collections.singletonList(new Document("_id", 1L).append("foo", "Dave"))).when(dbRefResolver)
+				.bulkFetch(anyList());
+
+		PrefetchingReferenceHolder result = converter.doWithPrefetchedDbRefs(PrefetchingReferenceHolder.class, documents,
+				() -> converter.read(PrefetchingReferenceHolder.class, documents.get(0)));
+
+		assertThat(result.person.firstname, is("Dave"));
+		verify(dbRefResolver, never()).fetch(any(DBRef.class));
+	}
+
+	@Test
+	public void doesNotPrefetchLazyDbRefs() {
+
+		List<Document> documents = Collections.singletonList(new Document("_id", "a").append("lazyPerson",
+				new DBRef("person", "1")));
+
+		converter.doWithPrefetchedDbRefs(PrefetchingReferenceHolder.class, documents,
+				() -> converter.read(PrefetchingReferenceHolder.class, documents.get(0)));
+
+		verify(dbRefResolver, never()).bulkFetch(anyList());
+		verify(dbRefResolver, never()).fetch(any(DBRef.class));
+	}
+
+	@Test
+	public void collectsEagerDbRefsGroupedByCollection() {
+
+		List<Document> documents = Arrays.asList(referenceHolder("a", "1"), referenceHolder("b", "2"),
+				referenceHolder("c", "1").append("lazyPerson", new DBRef("person", "3")));
+
+		List<List<DBRef>> references = converter.getEagerDbRefs(PrefetchingReferenceHolder.class, documents);
+
+		assertThat(references.size(), is(1));
+		assertThat(references.get(0), hasItems(new DBRef("person", "1"), new DBRef("person", "2")));
+		assertThat(references.get(0).size(), is(2));
+		assertThat(converter.hasEagerDbRefs(PrefetchingReferenceHolder.class), is(true));
+		assertThat(converter.hasEagerDbRefs(Person.class), is(false));
+	}
+
+	@Test
+	public void resolvesEagerDbRefsFromResolvedDocumentsUsingNoOpResolver() {
+
+		MappingMongoConverter converter = new MappingMongoConverter(ReactiveMongoTemplate.NO_OP_REF_RESOLVER,
+				mappingContext);
+		Document document = referenceHolder("a", "1");
+
+		PrefetchingReferenceHolder result = converter.doWithResolvedDbRefs(
+				Collections.singletonMap(new DBRef("person", "1"), new Document("_id", "1").append("foo", "Dave")),
+				() -> converter.read(PrefetchingReferenceHolder.class, document));
+
+		assertThat(result.person.firstname, is("Dave"));
+	}
+
+	private static Document referenceHolder(String id, String personId) {
+		return new Document("_id", id).append("person", new DBRef("person", personId));
+	}
+
 	private Object transport(Object result) {
 		return SerializationUtils.deserialize(SerializationUtils.serialize(result));
 	}
@@ -895,4 +987,11 @@ public class DbRefMappingMongoConverterUnitTests {
 		String id;
 		NestedReferenceHolder nested;
 	}
+
+	static class PrefetchingReferenceHolder {
+
+		String id;
+		@org.springframework.data.mongodb.core.mapping.DBRef Person person;
+		@org.springframework.data.mongodb.core.mapping.DBRef(lazy = true) Person lazyPerson;
+	}
 }
@@ -127,4 +127,92 @@ public class DefaultDbRefResolverUnitTests {
 
 		assertThat(resolver.bulkFetch(Arrays.asList(ref1, ref2)), contains(o1, o2));
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void bulkFetchShouldRestoreOriginalOrderForDuplicateReferences() {
+
+		Document o1 = new Document("_id", new ObjectId());
+		Document o2 = new Document("_id", new ObjectId());
+
+		DBRef ref1 = new DBRef("collection-1", o1.get("_id"));
+		DBRef ref2 = new DBRef("collection-1", o2.get("_id"));
+
+		when(cursorMock.into(any())).then(invocation -> {
+
+			Collection<Document> collection = (Collection<Document>) invocation.getArguments()[0];
+			collection.add(o2);
+			collection.add(o1);
+			return collection;
+		});
+
+		assertThat(resolver.bulkFetch(Arrays.asList(ref1, ref2, ref1)), contains(o1, o2, o1));
+
+		ArgumentCaptor<Document> captor = ArgumentCaptor.forClass(Document.class);
+		verify(collectionMock).find(captor.capture());
+
+		Document _id = DocumentTestUtils.getAsDocument(captor.getValue(), "_id");
+		assertThat(DocumentTestUtils.getTypedValue(_id, "$in", Iterable.class), iterableWithSize(2));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void bulkFetchShouldSkipReferencesWithoutMatchingDocument() {
+
+		Document o1 = new Document("_id", new ObjectId());
+
+		DBRef ref1 = new DBRef("collection-1", o1.get("_id"));
+		DBRef ref2 = new DBRef("collection-1", new ObjectId());
+
+		when(cursorMock.into(any())).then(invocation -> {
+
+			Collection<Document> collection = (Collection<Document>) invocation.getArguments()[0];
+			collection.add(o1);
+			return collection;
+		});
+
+		assertThat(resolver.bulkFetch(Arrays.asList(ref2, ref1)), contains(o1));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void bulkFetchShouldMatchIntegralIdsOfDifferentType() {
+
+		Document o1 = new Document("_id", 1L);
+		Document o2 = new Document("_id", 2L);
+
+		DBRef ref1 = new DBRef("collection-1", 1);
+		DBRef ref2 = new DBRef("collection-1", 2);
+
+		when(cursorMock.into(any())).then(invocation -> {
+
+			Collection<Document> collection = (Collection<Document>) invocation.getArguments()[0];
+			collection.add(o2);
+			collection.add(o1);
+			return collection;
+		});
+
+		assertThat(resolver.bulkFetch(Arrays.asList(ref1, ref2, ref1)), contains(o1, o2, o1));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void bulkFetchShouldKeepDocumentsNotMatchingAnyReferenceId() {
+
+		Document o1 = new Document("_id", new ObjectId());
+		Document o2 = new Document("_id", 2.0D);
+
+		DBRef ref1 = new DBRef("collection-1", o1.get("_id"));
+		DBRef ref2 = new DBRef("collection-1", 2);
+
+		when(cursorMock.into(any())).then(invocation -> {
+
+			Collection<Document> collection = (Collection<Document>) invocation.getArguments()[0];
+			collection.add(o1);
+			collection.add(o2);
+			return collection;
+		});
+
+		assertThat(resolver.bulkFetch(Arrays.asList(ref1, ref2)), containsInAnyOrder(o1, o2));
+	}
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import com.mongodb.MongoClient;
+
+/**
+ * Unit tests for {@link EntityCodecProvider}.
+ */
+public class EntityCodecProviderUnitTests {
+
+	MappingMongoConverter converter;
+	EntityCodecProvider provider;
+	CodecRegistry registry;
+
+	@Before
+	public void setUp() {
+
+		MongoMappingContext mappingContext = new MongoMappingContext();
+
+		converter = new MappingMongoConverter(mock(DbRefResolver.class), mappingContext);
+		converter.afterPropertiesSet();
+
+		provider = new EntityCodecProvider(converter);
+		registry = CodecRegistries.fromRegistries(CodecRegistries.fromProviders(provider),
+				MongoClient.getDefaultCodecRegistry());
+	}
+
+	@Test
+	public void doesNotProvideCodecForNonEntityTypes() {
+
+		assertThat(provider.get(Document.class, registry), is(nullValue()));
+		assertThat(provider.get(String.class, registry), is(nullValue()));
+		assertThat(provider.get(List.class, registry), is(nullValue()));
+	}
+
+	@Test
+	public void decodesEntitySkippingUnmappedFields() {
+
+		Document source = new Document("_id", "id-1").append("name", "Dave").append("tags", Arrays.asList("a", "b"))
+				.append("unmapped", new Document("nested", Arrays.asList(1, 2, 3)));
+
+		Sample result = decode(Sample.class, source);
+
+		assertThat(result.id, is("id-1"));
+		assertThat(result.name, is("Dave"));
+		assertThat(result.tags, contains("a", "b"));
+	}
+
+	@Test
+	public void decodesSubtypeIndicatedByTypeKeyWrittenLast() {
+
+		Document source = new Document("_id", "id-1").append("name", "Dave").append("extra", "value").append("_class",
+				SampleSubtype.class.getName());
+
+		Sample result = decode(Sample.class, source);
+
+		assertThat(result, is(instanceOf(SampleSubtype.class)));
+		assertThat(((SampleSubtype) result).extra, is("value"));
+	}
+
+	@Test
+	public void decodesRenamedField() {
+
+		Document source = new Document("_id", "id-1").append("n", "Dave");
+
+		RenamedSample result = decode(RenamedSample.class, source);
+
+		assertThat(result.name, is("Dave"));
+	}
+
+	@Test
+	public void decodesFinalTypeSkippingUnmappedFields() {
+
+		Document source = new Document("_id", "id-1").append("name", "Dave").append("unmapped", "value").append("_class",
+				FinalSample.class.getName());
+
+		FinalSample result = decode(FinalSample.class, source);
+
+		assertThat(result.id, is("id-1"));
+		assertThat(result.name, is("Dave"));
+	}
+
+	@Test
+	public void encodesEntity() {
+
+		Sample sample = new Sample();
+		sample.id = "id-1";
+		sample.name = "Dave";
+
+		BsonDocument target = new BsonDocument();
+		registry.get(Sample.class).encode(new BsonDocumentWriter(target), sample, EncoderContext.builder().build());
+
+		assertThat(target.getString("_id").getValue(), is("id-1"));
+		assertThat(target.getString("name").getValue(), is("Dave"));
+		assertThat(target.getString("_class").getValue(), is(Sample.class.getName()));
+	}
+
+	private <T> T decode(Class<T> type, Document source) {
+
+		BsonDocument bson = source.toBsonDocument(Document.class, registry);
+		Codec<T> codec = registry.get(type);
+
+		return codec.decode(new BsonDocumentReader(bson), DecoderContext.builder().build());
+	}
+
+	static class Sample {
+
+		@Id String id;
+		String name;
+		List<String> tags;
+	}
+
+	static class SampleSubtype extends Sample {
+		String extra;
+	}
+
+	static final class FinalSample {
+
+		@Id String id;
+		String name;
+	}
+
+	static class RenamedSample {
+
+		@Id String id;
+		@Field("n") String name;
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import org.bson.Document;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterLoadEvent;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+
+/**
+ * Unit tests for {@link EntityDecodingSupport}.
+ */
+public class EntityDecodingSupportUnitTests {
+
+	EntityDecodingSupport support;
+
+	@Before
+	public void setUp() {
+
+		MongoMappingContext mappingContext = new MongoMappingContext();
+
+		MappingMongoConverter converter = new MappingMongoConverter(mock(DbRefResolver.class), mappingContext);
+		converter.afterPropertiesSet();
+
+		support = new EntityDecodingSupport(converter, new QueryMapper(converter));
+		support.setEnabled(true);
+	}
+
+	@Test
+	public void decodesEntitiesWithoutReadListeners() {
+
+		assertThat(support.canDecode(Sample.class, eventType -> false), is(true));
+		assertThat(support.canDecode(Sample.class, eventType -> eventType.equals(BeforeSaveEvent.class)), is(true));
+	}
+
+	@Test
+	public void doesNotDecodeEntitiesWithReadListeners() {
+
+		assertThat(support.canDecode(Sample.class, eventType -> eventType.equals(AfterLoadEvent.class)), is(false));
+		assertThat(support.canDecode(Sample.class, eventType -> eventType.equals(AfterConvertEvent.class)), is(false));
+	}
+
+	@Test
+	public void doesNotDecodeNonEntityTypesOrWhenDisabled() {
+
+		assertThat(support.canDecode(Document.class, eventType -> false), is(false));
+
+		support.setEnabled(false);
+
+		assertThat(support.canDecode(Sample.class, eventType -> false), is(false));
+	}
+
+	static class Sample {
+
+		@Id String id;
+		String name;
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LazyRawDocument}.
+ */
+public class LazyRawDocumentUnitTests {
+
+	Document source;
+	LazyRawDocument document;
+
+	@Before
+	public void setUp() {
+
+		source = new Document("name", "Dave").append("age", 42).append("address", new Document("city", "New York"))
+				.append("tags", Arrays.asList("one", "two")).append("nothing", null);
+		document = new LazyRawDocument(new RawBsonDocument(source, new DocumentCodec()));
+	}
+
+	@Test
+	public void readsSingleValuesWithoutDecodingDocument() {
+
+		assertThat(document.get("name"), is((Object) "Dave"));
+		assertThat(document.get("age", Integer.class), is(42));
+		assertThat((List<?>) document.get("tags"), contains((Object) "one", "two"));
+		assertThat(document.get("nothing"), is(nullValue()));
+		assertThat(document.get("unknown"), is(nullValue()));
+		assertThat(document.containsKey("nothing"), is(true));
+		assertThat(document.containsKey("unknown"), is(false));
+		assertThat(document.size(), is(5));
+		assertThat(document.isMaterialized(), is(false));
+	}
+
+	@Test
+	public void exposesNestedDocumentsLazily() {
+
+		Object address = document.get("address");
+
+		assertThat(address, is(instanceOf(LazyRawDocument.class)));
+		assertThat(((Document) address).get("city"), is((Object) "New York"));
+	}
+
+	@Test
+	public void decodesAllValuesOnModification() {
+
+		document.put("lastname", "Matthews");
+
+		assertThat(document.isMaterialized(), is(true));
+		assertThat(document.get("name"), is((Object) "Dave"));
+		assertThat(document.get("lastname"), is((Object) "Matthews"));
+		assertThat(document.keySet(), contains("name", "age", "address", "tags", "nothing", "lastname"));
+	}
+
+	@Test
+	public void equalsDecodedDocument() {
+
+		assertThat(document, is(equalTo(source)));
+		assertThat(source, is(equalTo((Document) document)));
+	}
+}
@@ -27,6 +27,8 @@ import java.net.URL;
 import java.time.LocalDateTime;
 import java.util.*;
 
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
 import org.bson.types.ObjectId;
 import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
@@ -1771,6 +1773,88 @@ public class MappingMongoConverterUnitTests {
 		assertThat(converter.read(ClassWithEnumProperty.class, source).enumSet, is(EnumSet.noneOf(SampleEnum.class)));
 	}
 
+	@Test
+	public void readsEntityUsingPreparedEntityMapping() {
+
+		converter.setPreparedEntityMappingEnabled(true);
+
+		org.bson.Document address = new org.bson.Document("city", "New York").append("street", "Broadway");
+		org.bson.Document source = new org.bson.Document("_id", "4711").append("foo", "Dave").append("lastname", "Matthews")
+				.append("addresses", Collections.singletonList(address));
+
+		Person result = converter.read(Person.class, source);
+
+		assertThat(result.id, is("4711"));
+		assertThat(result.firstname, is("Dave"));
+		assertThat(result.lastname, is("Matthews"));
+		assertThat(result.addresses, hasSize(1));
+		assertThat(result.addresses.iterator().next().city, is("New York"));
+	}
+
+	@Test
+	public void writesEntityUsingPreparedEntityMapping() {
+
+		converter.setPreparedEntityMappingEnabled(true);
+
+		Address address = new Address();
+		address.city = "New York";
+		address.street = "Broadway";
+
+		Person person = new Person(Collections.singleton(address));
+		person.id = "4711";
+		person.firstname = "Dave";
+
+		org.bson.Document result = new org.bson.Document();
+		converter.write(person, result);
+
+		assertThat(result.get("_id"), is((Object) "4711"));
+		assertThat(result.get("foo"), is((Object) "Dave"));
+		assertThat(result.containsKey("lastname"), is(false));
+		assertThat((List<?>) result.get("addresses"), hasSize(1));
+	}
+
+	@Test
+	public void fallsBackToGenericMappingForSpelExpressionsWhenUsingPreparedEntityMapping() {
+
+		converter.setPreparedEntityMappingEnabled(true);
+
+		org.bson.Document document = new org.bson.Document("foo", "bar");
+		document.put("something", 37);
+		document.put("foobar", 2.5);
+
+		DefaultedConstructorArgument result = converter.read(DefaultedConstructorArgument.class, document);
+
+		assertThat(result.bar, is(37));
+		assertThat(PreparedEntityMapping.of(mappingContext.getRequiredPersistentEntity(DefaultedConstructorArgument.class),
+				new MongoCustomConversions()).isEligible(), is(false));
+	}
+
+	@Test
+	public void readsNestedFieldUsingPreparedEntityMapping() {
+
+		converter.setPreparedEntityMappingEnabled(true);
+
+		org.bson.Document source = new org.bson.Document("nested", new org.bson.Document("sample", "value"));
+		TypeWithPropertyInNestedField result = converter.read(TypeWithPropertyInNestedField.class, source);
+
+		assertThat(result.sample, is("value"));
+	}
+
+	@Test
+	public void readsEntityFromRawBsonDocument() {
+
+		org.bson.Document source = new org.bson.Document("_id", "4711").append("foo", "Dave").append("lastname", "Matthews")
+				.append("addresses", Arrays.asList(new org.bson.Document("street", "Broadway").append("city", "New York")));
+
+		Person result = converter.read(Person.class, new RawBsonDocument(source, new DocumentCodec()));
+
+		assertThat(result.id, is("4711"));
+		assertThat(result.firstname, is("Dave"));
+		assertThat(result.lastname, is("Matthews"));
+		assertThat(result.addresses, hasSize(1));
+		assertThat(result.addresses.iterator().next().city, is("New York"));
+	}
+
 	static class GenericType<T> {
 		T content;
 	}
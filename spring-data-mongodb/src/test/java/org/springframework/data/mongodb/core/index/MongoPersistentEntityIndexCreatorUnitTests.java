@@ -20,8 +20,11 @@ import static org.junit.Assert.*;
 import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.hamcrest.core.IsEqual;
@@ -48,8 +51,10 @@ import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 
 import com.mongodb.MongoException;
+import com.mongodb.client.ListIndexesIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.IndexModel;
 import com.mongodb.client.model.IndexOptions;
 
 /**
@@ -232,6 +237,68 @@ public class MongoPersistentEntityIndexCreatorUnitTests {
 		new MongoPersistentEntityIndexCreator(mappingContext, mongoTemplate);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void bulkBootstrapCreatesMissingIndexesWithSingleCommand() {
+
+		stubExistingIndexes(new org.bson.Document("name", "_id_").append("key", new org.bson.Document("_id", 1)));
+
+		MongoMappingContext mappingContext = prepareMappingContext(Person.class);
+		new MongoPersistentEntityIndexCreator(mappingContext, mongoTemplate,
+				new MongoPersistentEntityIndexResolver(mappingContext), Runnable::run, true);
+
+		ArgumentCaptor<List> models = ArgumentCaptor.forClass(List.class);
+		verify(collection).createIndexes(models.capture());
+		verify(collection, never()).createIndex(Mockito.any(org.bson.Document.class), Mockito.any(IndexOptions.class));
+
+		assertThat(models.getValue(), hasSize(1));
+
+		IndexModel model = (IndexModel) models.getValue().get(0);
+		assertThat(((org.bson.Document) model.getKeys()).keySet(), hasItem("fieldname"));
+		assertThat(model.getOptions().getName(), is("indexName"));
+	}
+
+	@Test
+	public void bulkBootstrapSkipsExistingIndexes() {
+
+		stubExistingIndexes(new org.bson.Document("name", "indexName").append("key", new org.bson.Document("fieldname", 1.0D)));
+
+		MongoMappingContext mappingContext = prepareMappingContext(Person.class);
+		new MongoPersistentEntityIndexCreator(mappingContext, mongoTemplate,
+				new MongoPersistentEntityIndexResolver(mappingContext), Runnable::run, true);
+
+		verify(collection, never()).createIndexes(Mockito.anyList());
+	}
+
+	@Test
+	public void asynchronousBulkBootstrapDoesNotBlockConstruction() {
+
+		stubExistingIndexes();
+
+		List<Runnable> tasks = new ArrayList<Runnable>();
+		MongoMappingContext mappingContext = prepareMappingContext(Person.class);
+
+		MongoPersistentEntityIndexCreator creator = new MongoPersistentEntityIndexCreator(mappingContext, mongoTemplate,
+				new MongoPersistentEntityIndexResolver(mappingContext), tasks::add, false);
+
+		assertThat(creator.getBootstrap().isDone(), is(false));
+		verifyZeroInteractions(collection);
+
+		tasks.forEach(Runnable::run);
+
+		assertThat(creator.getBootstrap().isDone(), is(true));
+		verify(collection).createIndexes(Mockito.anyList());
+	}
+
+	@SuppressWarnings("unchecked")
+	private void stubExistingIndexes(org.bson.Document... indexes) {
+
+		ListIndexesIterable<org.bson.Document> iterable = mock(ListIndexesIterable.class);
+
+		when(collection.listIndexes(org.bson.Document.class)).thenReturn(iterable);
+		when(iterable.into(Mockito.any())).thenReturn(new ArrayList<org.bson.Document>(Arrays.asList(indexes)));
+	}
+
 	private static MongoMappingContext prepareMappingContext(Class<?> type) {
 
 		MongoMappingContext mappingContext = new MongoMappingContext();
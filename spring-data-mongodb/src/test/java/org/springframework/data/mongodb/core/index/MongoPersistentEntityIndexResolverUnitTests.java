@@ -26,6 +26,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -192,16 +193,84 @@ public class MongoPersistentEntityIndexResolverUnitTests {
 					isBsonObject().containing("sparse", true).containing("name", "different_name").notContaining("unique"));
 		}
 
+		@Test
+		public void reusesIndexDefinitionsOfTypeEmbeddedUnderSamePath() {
+
+			MongoMappingContext mappingContext = prepareMappingContext(IndexOnLevelOne.class);
+			final AtomicInteger invocations = new AtomicInteger();
+
+			MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext) {
+
+				@Override
+				protected IndexDefinitionHolder createIndexDefinition(String dotPath, String collection,
+						MongoPersistentProperty persitentProperty) {
+
+					invocations.incrementAndGet();
+					return super.createIndexDefinition(dotPath, collection, persitentProperty);
+				}
+			};
+
+			List<IndexDefinitionHolder> first = resolver
+					.resolveIndexForEntity(mappingContext.getRequiredPersistentEntity(IndexOnLevelOne.class));
+			List<IndexDefinitionHolder> second = resolver
+					.resolveIndexForEntity(mappingContext.getRequiredPersistentEntity(AnotherIndexOnLevelOne.class));
+
+			assertThat(invocations.get(), is(1));
+			assertIndexPathAndCollection("zero.indexedProperty", "One", first.get(0));
+			assertIndexPathAndCollection("zero.indexedProperty", "AnotherOne", second.get(0));
+			assertThat(second.get(0).getIndexOptions(), is(first.get(0).getIndexOptions()));
+		}
+
+		@Test
+		public void reprefixesIndexDefinitionsOfTypeEmbeddedUnderDifferentPath() {
+
+			MongoMappingContext mappingContext = prepareMappingContext(IndexOnLevelZeroEmbeddedTwice.class);
+			final AtomicInteger invocations = new AtomicInteger();
+
+			MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext) {
+
+				@Override
+				protected IndexDefinitionHolder createIndexDefinition(String dotPath, String collection,
+						MongoPersistentProperty persitentProperty) {
+
+					invocations.incrementAndGet();
+					return super.createIndexDefinition(dotPath, collection, persitentProperty);
+				}
+			};
+
+			List<IndexDefinitionHolder> indexDefinitions = resolver
+					.resolveIndexForEntity(mappingContext.getRequiredPersistentEntity(IndexOnLevelZeroEmbeddedTwice.class));
+
+			assertThat(invocations.get(), is(1));
+			assertThat(indexDefinitions, hasSize(2));
+			assertIndexPathAndCollection("first.indexedProperty", "Twice", indexDefinitions.get(0));
+			assertIndexPathAndCollection("second.indexedProperty", "Twice", indexDefinitions.get(1));
+			assertThat(indexDefinitions.get(1).getPath(), is("second.indexedProperty"));
+			assertThat(indexDefinitions.get(1).getIndexOptions().get("name"), is((Object) "second.indexedProperty"));
+		}
+
 		@Document(collection = "Zero")
 		static class IndexOnLevelZero {
 			@Indexed String indexedProperty;
 		}
 
+		@Document(collection = "Twice")
+		static class IndexOnLevelZeroEmbeddedTwice {
+
+			IndexOnLevelZero first;
+			IndexOnLevelZero second;
+		}
+
 		@Document(collection = "One")
 		static class IndexOnLevelOne {
 			IndexOnLevelZero zero;
 		}
 
+		@Document(collection = "AnotherOne")
+		static class AnotherIndexOnLevelOne {
+			IndexOnLevelZero zero;
+		}
+
 		@Document(collection = "Two")
 		static class IndexOnLevelTwo {
 			IndexOnLevelOne one;
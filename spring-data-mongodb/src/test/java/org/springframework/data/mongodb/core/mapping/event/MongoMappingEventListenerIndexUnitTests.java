@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.mapping.event;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.data.mongodb.core.mapping.Account;
+import org.springframework.data.mongodb.repository.Contact;
+import org.springframework.data.mongodb.repository.Person;
+
+/**
+ * Unit tests for {@link MongoMappingEventListenerIndex}.
+ */
+public class MongoMappingEventListenerIndexUnitTests {
+
+	GenericApplicationContext context;
+	MongoMappingEventListenerIndex index;
+
+	@Before
+	public void setUp() {
+
+		context = new GenericApplicationContext();
+		index = new MongoMappingEventListenerIndex(context);
+	}
+
+	@After
+	public void tearDown() {
+		context.close();
+	}
+
+	@Test
+	public void considersAllEventsListenedToBeforeRefresh() {
+		assertThat(index.hasListeners(AfterLoadEvent.class, Person.class), is(true));
+	}
+
+	@Test
+	public void refreshesOnContextRefresh() {
+
+		context.addApplicationListener(index);
+		context.refresh();
+
+		assertThat(index.hasListeners(AfterLoadEvent.class, Person.class), is(false));
+	}
+
+	@Test
+	public void considersDomainTypeAndOverriddenCallbacksOfMongoEventListeners() {
+
+		context.addApplicationListener(new AbstractMongoEventListener<Contact>() {
+
+			@Override
+			public void onAfterConvert(AfterConvertEvent<Contact> event) {}
+		});
+		context.refresh();
+		index.refresh();
+
+		assertThat(index.hasListeners(AfterConvertEvent.class, Contact.class), is(true));
+		assertThat(index.hasListeners(AfterConvertEvent.class, Person.class), is(true));
+		assertThat(index.hasListeners(AfterConvertEvent.class, Account.class), is(false));
+		assertThat(index.hasListeners(AfterLoadEvent.class, Person.class), is(false));
+		assertThat(index.hasListeners(BeforeSaveEvent.class, Person.class), is(false));
+	}
+
+	@Test
+	public void considersDeclaredEventTypeOfPlainListeners() {
+
+		context.addApplicationListener(new BeforeConvertListener());
+		context.refresh();
+		index.refresh();
+
+		assertThat(index.hasListeners(BeforeConvertEvent.class, Account.class), is(true));
+		assertThat(index.hasListeners(AfterSaveEvent.class, Account.class), is(false));
+	}
+
+	@Test
+	public void considersListenersForAllMappingEvents() {
+
+		context.addApplicationListener(new LoggingEventListener());
+		context.refresh();
+		index.refresh();
+
+		assertThat(index.hasListeners(AfterLoadEvent.class, Account.class), is(true));
+		assertThat(index.hasListeners(AfterDeleteEvent.class, null), is(true));
+	}
+
+	@Test
+	public void ignoresRefreshOfOtherContexts() {
+
+		context.refresh();
+
+		index.onApplicationEvent(new ContextRefreshedEvent(new GenericApplicationContext()));
+
+		assertThat(index.hasListeners(AfterLoadEvent.class, Person.class), is(true));
+	}
+
+	static class BeforeConvertListener implements ApplicationListener<BeforeConvertEvent<Object>> {
+
+		@Override
+		public void onApplicationEvent(BeforeConvertEvent<Object> event) {}
+	}
+}
@@ -228,6 +228,18 @@ public class QueryTests {
 		query.addCriteria(where("value").is(EnumType.VAL_2));
 	}
 
+	@Test
+	public void considersParallelMappingFlagForEquality() {
+
+		Query query = new Query(where("name").is("foo"));
+		Query parallel = new Query(where("name").is("foo")).mapInParallel();
+
+		assertThat(parallel.isMapInParallel(), is(true));
+		assertThat(query, is(not(equalTo(parallel))));
+		assertThat(parallel, is(equalTo(new Query(where("name").is("foo")).mapInParallel())));
+		assertThat(parallel.hashCode(), is(new Query(where("name").is("foo")).mapInParallel().hashCode()));
+	}
+
 	enum EnumType {
 		VAL_1, VAL_2
 	}
@@ -16,6 +16,7 @@
 package org.springframework.data.mongodb.gridfs;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
 import static org.junit.Assert.assertThat;
@@ -23,12 +24,21 @@ import static org.springframework.data.mongodb.core.query.Criteria.*;
 import static org.springframework.data.mongodb.core.query.Query.*;
 import static org.springframework.data.mongodb.gridfs.GridFsCriteria.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.bson.BsonObjectId;
 import org.bson.Document;
+import org.bson.types.Binary;
 import org.bson.types.ObjectId;
 import org.junit.Before;
 import org.junit.Test;
@@ -38,11 +48,16 @@ import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.MongoDbFactory;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.util.StreamUtils;
 
+import com.mongodb.MongoWriteException;
+import com.mongodb.client.MongoCollection;
 import com.mongodb.client.gridfs.GridFSFindIterable;
+import com.mongodb.client.model.IndexOptions;
 
 /**
  * Integration tests for {@link GridFsTemplate}.
@@ -59,6 +74,7 @@ public class GridFsTemplateIntegrationTests {
 	Resource resource = new ClassPathResource("gridfs/gridfs.xml");
 
 	@Autowired GridFsOperations operations;
+	@Autowired MongoDbFactory dbFactory;
 
 	@Before
 	public void setUp() {
@@ -219,6 +235,130 @@ public class GridFsTemplateIntegrationTests {
 		assertThat(operations.getResource("someName").getContentType()).isEqualTo("contentType");
 	}
 
+	@Test
+	public void storesContentWithPipelinedChunkWrites() throws IOException {
+
+		byte[] content = new byte[10_000];
+		new Random(42).nextBytes(content);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		AtomicReference<GridFsTransferStatistics> statistics = new AtomicReference<GridFsTransferStatistics>();
+
+		try {
+			operations.store(new ByteArrayInputStream(content), "pipelined.bin", "application/octet-stream",
+					new Document("key", "value"), GridFsStoreOptions.options().chunkSize(1024).maxChunksInFlight(3)
+							.executor(executor).statisticsListener(statistics::set));
+		} finally {
+			executor.shutdown();
+		}
+
+		GridFsResource resource = operations.getResource("pipelined.bin");
+
+		assertThat(resource.contentLength(), is(10_000L));
+		assertThat(resource.getContentType()).isEqualTo("application/octet-stream");
+		assertThat(StreamUtils.copyToByteArray(resource.getInputStream())).isEqualTo(content);
+		assertThat(statistics.get().getChunks(), is(10L));
+		assertThat(statistics.get().getBytes(), is(10_000L));
+	}
+
+	@Test
+	public void readsContentRangeThroughSeekableChannel() throws IOException {
+
+		byte[] content = new byte[10_000];
+		new Random(42).nextBytes(content);
+
+		operations.store(new ByteArrayInputStream(content), "ranged.bin", null, null,
+				GridFsStoreOptions.options().chunkSize(1024).maxChunksInFlight(2));
+
+		try (SeekableByteChannel channel = (SeekableByteChannel) operations.getResource("ranged.bin")
+				.readableChannel()) {
+
+			assertThat(channel.size(), is(10_000L));
+
+			ByteBuffer buffer = ByteBuffer.allocate(2000);
+			channel.position(5000);
+
+			while (buffer.hasRemaining() && channel.read(buffer) != -1) {}
+
+			assertThat(buffer.array()).isEqualTo(Arrays.copyOfRange(content, 5000, 7000));
+		}
+	}
+
+	@Test
+	public void seekableChannelEndsAtTruncatedLastChunk() throws IOException {
+
+		byte[] content = new byte[10_000];
+		new Random(42).nextBytes(content);
+
+		operations.store(new ByteArrayInputStream(content), "truncated.bin", null, null,
+				GridFsStoreOptions.options().chunkSize(1024).maxChunksInFlight(2));
+
+		dbFactory.getDb().getCollection("fs.chunks").updateOne(new Document("n", 9),
+				new Document("$set", new Document("data", new Binary(new byte[100]))));
+
+		try (SeekableByteChannel channel = (SeekableByteChannel) operations.getResource("truncated.bin")
+				.readableChannel()) {
+
+			ByteBuffer buffer = ByteBuffer.allocate(10_000);
+			long read = 0;
+			int count;
+
+			while ((count = channel.read(buffer)) != -1) {
+				read += count;
+			}
+
+			assertThat(read, is(9 * 1024L + 100));
+		}
+	}
+
+	@Test
+	public void removesChunksIfFilesDocumentCannotBeWritten() throws IOException {
+
+		MongoCollection<Document> files = dbFactory.getDb().getCollection("fs.files");
+		files.createIndex(new Document("filename", 1), new IndexOptions().unique(true).name("unique_filename"));
+
+		try {
+
+			GridFsStoreOptions options = GridFsStoreOptions.options().chunkSize(1024).maxChunksInFlight(2);
+
+			operations.store(new ByteArrayInputStream(new byte[5000]), "duplicate.bin", null, null, options);
+
+			assertThatThrownBy(() -> operations.store(new ByteArrayInputStream(new byte[5000]), "duplicate.bin", null, null,
+					options)).isInstanceOf(MongoWriteException.class);
+
+			assertThat(dbFactory.getDb().getCollection("fs.chunks").count(), is(5L));
+		} finally {
+			files.dropIndex("unique_filename");
+		}
+	}
+
+	@Test
+	public void opensResourceContentOnEveryRead() throws IOException {
+
+		operations.store(resource.getInputStream(), "foo.xml");
+
+		GridFsResource[] resources = operations.getResources("*.xml");
+		byte[] expected = StreamUtils.copyToByteArray(resource.getInputStream());
+
+		assertThat(resources[0].isOpen(), is(false));
+		assertThat(StreamUtils.copyToByteArray(resources[0].getInputStream())).isEqualTo(expected);
+		assertThat(StreamUtils.copyToByteArray(resources[0].getInputStream())).isEqualTo(expected);
+	}
+
+	@Test
+	public void deleteRemovesFilesAndChunksOfMatchingFiles() throws IOException {
+
+		operations.store(resource.getInputStream(), "foo.xml");
+		operations.store(resource.getInputStream(), "bar.xml");
+
+		operations.delete(query(whereFilename().is("foo.xml")));
+
+		assertThat(operations.getResource("foo.xml"), is(nullValue()));
+		assertThat(StreamUtils.copyToByteArray(operations.getResource("bar.xml").getInputStream()))
+				.isEqualTo(StreamUtils.copyToByteArray(resource.getInputStream()));
+		assertThat(dbFactory.getDb().getCollection("fs.chunks").count(), is(1L));
+	}
+
 	class Metadata {
 		String version;
 	}
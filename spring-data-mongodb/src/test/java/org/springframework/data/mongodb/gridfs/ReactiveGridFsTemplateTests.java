@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.mongodb.core.query.Query.*;
+import static org.springframework.data.mongodb.gridfs.GridFsCriteria.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.bson.types.ObjectId;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+/**
+ * Integration tests for {@link ReactiveGridFsTemplate}.
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration("classpath:reactive-infrastructure.xml")
+public class ReactiveGridFsTemplateTests {
+
+	@Autowired ReactiveMongoDatabaseFactory dbFactory;
+	@Autowired ReactiveMongoTemplate template;
+
+	DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+	ReactiveGridFsOperations operations;
+
+	@Before
+	public void setUp() {
+
+		operations = new ReactiveGridFsTemplate(dbFactory, template.getConverter());
+
+		StepVerifier.create(operations.delete(null)).verifyComplete();
+	}
+
+	@Test
+	public void storesAndReadsContentSpanningMultipleChunks() {
+
+		byte[] content = new byte[600 * 1024];
+		new Random(42).nextBytes(content);
+
+		Flux<DataBuffer> buffers = Flux.range(0, 6)
+				.map(i -> bufferFactory.wrap(Arrays.copyOfRange(content, i * 100 * 1024, (i + 1) * 100 * 1024)));
+
+		ObjectId id = operations.store(buffers, "content.bin", "application/octet-stream", (Object) null).block();
+
+		ReactiveGridFsResource resource = operations.getResource("content.bin").block();
+
+		assertThat(resource.getId()).isNotNull();
+		assertThat(resource.contentLength()).isEqualTo(content.length);
+		assertThat(resource.getContentType()).isEqualTo("application/octet-stream");
+
+		ByteArrayOutputStream result = resource.getContent().collect(ByteArrayOutputStream::new, (out, buffer) -> {
+
+			byte[] bytes = new byte[buffer.readableByteCount()];
+			buffer.read(bytes);
+			out.write(bytes, 0, bytes.length);
+		}).block();
+
+		assertThat(result.toByteArray()).isEqualTo(content);
+		assertThat(operations.findOne(query(whereFilename().is("content.bin"))).block().getObjectId()).isEqualTo(id);
+	}
+
+	@Test
+	public void deletesFilesMatchingQuery() {
+
+		operations.store(Flux.just(bufferFactory.wrap("foo".getBytes())), "foo.txt").block();
+		operations.store(Flux.just(bufferFactory.wrap("bar".getBytes())), "bar.txt").block();
+
+		StepVerifier.create(operations.delete(query(whereFilename().is("foo.txt")))).verifyComplete();
+
+		StepVerifier.create(operations.find(null).map(file -> file.getFilename())) //
+				.expectNext("bar.txt") //
+				.verifyComplete();
+	}
+
+	@Test
+	public void getResourceCompletesEmptyForUnknownFile() {
+		StepVerifier.create(operations.getResource("unknown.txt")).verifyComplete();
+	}
+
+	@Test
+	public void abortsUploadOnError() {
+
+		Flux<DataBuffer> buffers = Flux.concat(Flux.just(bufferFactory.wrap(new byte[300 * 1024])),
+				Flux.error(new IllegalStateException("Upload failed")));
+
+		StepVerifier.create(operations.store(buffers, "failed.bin")) //
+				.expectError(IllegalStateException.class) //
+				.verify();
+
+		awaitChunkCount(0);
+		StepVerifier.create(operations.find(null)).verifyComplete();
+	}
+
+	@Test
+	public void abortsUploadOnCancel() {
+
+		Flux<DataBuffer> buffers = Flux.concat(Flux.just(bufferFactory.wrap(new byte[300 * 1024])), Flux.never());
+
+		StepVerifier.create(operations.store(buffers, "cancelled.bin")) //
+				.then(() -> awaitChunkCount(1)) //
+				.thenCancel() //
+				.verify();
+
+		awaitChunkCount(0);
+		StepVerifier.create(operations.find(null)).verifyComplete();
+	}
+
+	private void awaitChunkCount(long expected) {
+
+		Mono<Long> count = Mono.defer(() -> template.count(new Query(), "fs.chunks")) //
+				.filter(actual -> actual == expected) //
+				.repeatWhenEmpty(repeat -> repeat.delayElements(Duration.ofMillis(50)).take(40));
+
+		StepVerifier.create(count).expectNext(expected).verifyComplete();
+	}
+}
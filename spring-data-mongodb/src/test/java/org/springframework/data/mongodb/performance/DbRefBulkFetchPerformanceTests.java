@@ -0,0 +1,151 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.performance;
+
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.mongodb.MongoDbFactory;
+import org.springframework.data.mongodb.core.MongoExceptionTranslator;
+import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver;
+import org.springframework.util.StopWatch;
+
+import com.mongodb.DBRef;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+
+/**
+ * Micro benchmark for restoring the reference order of documents loaded via {@link DefaultDbRefResolver#bulkFetch(List)}
+ * for 10, 1.000 and 100.000 references. The database is mocked so that the measured time is dominated by the
+ * reordering of the documents returned in random order. Compares against the former {@code indexOf} based ordering for
+ * the reference counts it can handle in reasonable time.
+ */
+public class DbRefBulkFetchPerformanceTests {
+
+	private static final int WARMUP_ITERATIONS = 20;
+	private static final int ITERATIONS = 50;
+	private static final int[] REFERENCE_COUNTS = { 10, 1000, 100000 };
+	private static final int LEGACY_MAX_REFERENCE_COUNT = 1000;
+
+	MongoDbFactory factory;
+	MongoDatabase db;
+	MongoCollection<Document> collection;
+	FindIterable<Document> iterable;
+
+	DefaultDbRefResolver resolver;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setUp() {
+
+		factory = mock(MongoDbFactory.class);
+		db = mock(MongoDatabase.class);
+		collection = mock(MongoCollection.class);
+		iterable = mock(FindIterable.class);
+
+		when(factory.getExceptionTranslator()).thenReturn(new MongoExceptionTranslator());
+		when(factory.getDb()).thenReturn(db);
+		when(db.getCollection(anyString())).thenReturn(collection);
+		when(collection.find(any(Document.class))).thenReturn(iterable);
+
+		resolver = new DefaultDbRefResolver(factory);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void bulkFetchReordering() {
+
+		for (int referenceCount : REFERENCE_COUNTS) {
+
+			List<DBRef> references = new ArrayList<DBRef>(referenceCount);
+			List<Document> documents = new ArrayList<Document>(referenceCount);
+
+			for (int i = 0; i < referenceCount; i++) {
+
+				ObjectId id = new ObjectId();
+				references.add(new DBRef("collection", id));
+				documents.add(new Document("_id", id));
+			}
+
+			Collections.shuffle(documents, new Random(42));
+
+			when(iterable.into(any())).then(invocation -> {
+
+				Collection<Document> target = (Collection<Document>) invocation.getArguments()[0];
+				target.addAll(documents);
+				return target;
+			});
+
+			writeHeadline(String.format("Bulk fetch of %s references", referenceCount));
+
+			System.out.println(String.format("Hash index ordering took %sms per fetch",
+					measure(() -> resolver.bulkFetch(references))));
+
+			if (referenceCount <= LEGACY_MAX_REFERENCE_COUNT) {
+				System.out.println(String.format("Legacy indexOf ordering took %sms per fetch",
+						measure(() -> sortUsingIndexOf(new ArrayList<Document>(documents), references))));
+			}
+
+			System.out.println();
+		}
+	}
+
+	private static double measure(Runnable runnable) {
+
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			runnable.run();
+		}
+
+		StopWatch watch = new StopWatch();
+		watch.start();
+
+		for (int i = 0; i < ITERATIONS; i++) {
+			runnable.run();
+		}
+
+		watch.stop();
+
+		return (double) watch.getTotalTimeMillis() / ITERATIONS;
+	}
+
+	private static List<Document> sortUsingIndexOf(List<Document> documents, List<DBRef> references) {
+
+		List<Object> ids = new ArrayList<Object>(references.size());
+
+		for (DBRef reference : references) {
+			ids.add(reference.getId());
+		}
+
+		documents.sort((left, right) -> Integer.compare(ids.indexOf(left.get("_id")), ids.indexOf(right.get("_id"))));
+		return documents;
+	}
+
+	private static void writeHeadline(String headline) {
+
+		System.out.println(headline);
+		System.out.println(headline.replaceAll(".", "-"));
+	}
+}
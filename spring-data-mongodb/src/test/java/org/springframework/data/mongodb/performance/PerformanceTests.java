@@ -83,6 +83,7 @@ public class PerformanceTests {
 	MongoTemplate operations;
 	PersonRepository repository;
 	MongoConverter converter;
+	MongoConverter preparedConverter;
 
 	@Before
 	public void setUp() throws Exception {
@@ -96,6 +97,12 @@ public class PerformanceTests {
 		context.afterPropertiesSet();
 
 		this.converter = new MappingMongoConverter(new DefaultDbRefResolver(mongoDbFactory), context);
+
+		MappingMongoConverter preparedConverter = new MappingMongoConverter(new DefaultDbRefResolver(mongoDbFactory),
+				context);
+		preparedConverter.setPreparedEntityMappingEnabled(true);
+
+		this.preparedConverter = preparedConverter;
 		this.operations = new MongoTemplate(new SimpleMongoDbFactory(this.mongo, DATABASE_NAME), converter);
 
 		MongoRepositoryFactoryBean<PersonRepository, Person, ObjectId> factory = new MongoRepositoryFactoryBean<PersonRepository, Person, ObjectId>(
@@ -133,7 +140,8 @@ public class PerformanceTests {
 
 		for (int i = 0; i < ITERATIONS; i++) {
 			statistics.registerTime(Api.DIRECT, Mode.READ, convertDirectly(documents));
-			statistics.registerTime(Api.CONVERTER, Mode.READ, convertUsingConverter(documents));
+			statistics.registerTime(Api.CONVERTER, Mode.READ, convertUsingConverter(converter, documents));
+			statistics.registerTime(Api.PREPARED_CONVERTER, Mode.READ, convertUsingConverter(preparedConverter, documents));
 		}
 
 		statistics.printResults(ITERATIONS);
@@ -159,7 +167,7 @@ public class PerformanceTests {
 		return watch.getLastTaskTimeMillis();
 	}
 
-	private long convertUsingConverter(final List<Document> documents) {
+	private long convertUsingConverter(final MongoConverter converter, final List<Document> documents) {
 
 		executeWatched(new WatchCallback<List<Person>>() {
 
@@ -632,7 +640,7 @@ public class PerformanceTests {
 	}
 
 	static enum Api {
-		DRIVER, TEMPLATE, REPOSITORY, DIRECT, CONVERTER;
+		DRIVER, TEMPLATE, REPOSITORY, DIRECT, CONVERTER, PREPARED_CONVERTER;
 	}
 
 	static enum Mode {
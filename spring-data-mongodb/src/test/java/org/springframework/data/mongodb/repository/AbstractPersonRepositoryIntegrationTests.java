@@ -55,6 +55,8 @@ import org.springframework.data.geo.Polygon;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
 import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.KeysetPosition;
+import org.springframework.data.mongodb.core.query.KeysetWindow;
 import org.springframework.data.mongodb.repository.Person.Sex;
 import org.springframework.data.mongodb.repository.SampleEvaluationContextExtension.SampleSecurityContextHolder;
 import org.springframework.data.querydsl.QSort;
@@ -215,6 +217,31 @@ public abstract class AbstractPersonRepositoryIntegrationTests {
 		assertThat(page, hasItems(carter, stefan));
 	}
 
+	@Test
+	public void executesPagedFinderCountingConcurrently() {
+
+		Page<Person> page = repository.findWithConcurrentCountByLastnameLike("*a*",
+				PageRequest.of(0, 2, Direction.ASC, "lastname", "firstname"));
+
+		assertThat(page.getContent(), contains(carter, stefan));
+		assertThat(page.getTotalElements(), is(4L));
+	}
+
+	@Test
+	public void executesPagedFinderUsingFacet() {
+
+		Page<Person> page = repository.findWithFacetCountByLastnameLike("*a*",
+				PageRequest.of(0, 2, Direction.ASC, "lastname", "firstname"));
+
+		assertThat(page.getContent(), contains(carter, stefan));
+		assertThat(page.getTotalElements(), is(4L));
+
+		page = repository.findWithFacetCountByLastnameLike("*a*", PageRequest.of(2, 2));
+
+		assertThat(page.hasContent(), is(false));
+		assertThat(page.getTotalElements(), is(4L));
+	}
+
 	@Test
 	public void findsPersonInAgeRangeCorrectly() throws Exception {
 
@@ -955,6 +982,21 @@ public abstract class AbstractPersonRepositoryIntegrationTests {
 		assertThat(slice, contains(persons.subList(20, 40).toArray()));
 	}
 
+	@Test
+	public void scrollsUsingKeysetPosition() {
+
+		KeysetWindow<Person> window = repository.findByAgeGreaterThan(40, KeysetPosition.initial(),
+				PageRequest.of(0, 3, Direction.ASC, "age"));
+
+		assertThat(window.getContent(), contains(leroi, dave, boyd));
+		assertThat(window.hasNext(), is(true));
+
+		window = repository.findByAgeGreaterThan(40, window.getNextPosition(), PageRequest.of(0, 3, Direction.ASC, "age"));
+
+		assertThat(window.getContent(), contains(carter));
+		assertThat(window.hasNext(), is(false));
+	}
+
 	@Test // DATAMONGO-1072
 	public void shouldBindPlaceholdersUsedAsKeysCorrectly() {
 
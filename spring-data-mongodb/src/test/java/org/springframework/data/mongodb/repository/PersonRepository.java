@@ -32,6 +32,9 @@ import org.springframework.data.geo.GeoPage;
 import org.springframework.data.geo.GeoResults;
 import org.springframework.data.geo.Point;
 import org.springframework.data.geo.Polygon;
+import org.springframework.data.mongodb.core.query.KeysetPosition;
+import org.springframework.data.mongodb.core.query.KeysetWindow;
+import org.springframework.data.mongodb.repository.PageCount.Mode;
 import org.springframework.data.mongodb.repository.Person.Sex;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.repository.query.Param;
@@ -120,6 +123,12 @@ public interface PersonRepository extends MongoRepository<Person, String>, Query
 	@Query("{ 'lastname' : { '$regex' : '?0', '$options' : 'i'}}")
 	Page<Person> findByLastnameLikeWithPageable(String lastname, Pageable pageable);
 
+	@PageCount(Mode.CONCURRENT)
+	Page<Person> findWithConcurrentCountByLastnameLike(String lastname, Pageable pageable);
+
+	@PageCount(Mode.FACET)
+	Page<Person> findWithFacetCountByLastnameLike(String lastname, Pageable pageable);
+
 	/**
 	 * Returns all {@link Person}s with a firstname contained in the given varargs.
 	 * 
@@ -249,6 +258,8 @@ public interface PersonRepository extends MongoRepository<Person, String>, Query
 	// DATAMONGO-870
 	Slice<Person> findByAgeGreaterThan(int age, Pageable pageable);
 
+	KeysetWindow<Person> findByAgeGreaterThan(int age, KeysetPosition position, Pageable pageable);
+
 	// DATAMONGO-821
 	@Query("{ creator : { $exists : true } }")
 	Page<Person> findByHavingCreator(Pageable page);
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.mongodb.core.query.Criteria.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bson.Document;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.mongodb.core.Collation;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.convert.DbRefResolver;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.ApproximateCount;
+import org.springframework.data.mongodb.repository.Person;
+
+import com.mongodb.client.MongoCollection;
+
+/**
+ * Unit tests for {@link CountCache} and {@link CountCacheRegistry}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CountCacheUnitTests {
+
+	@Mock MongoOperations operations;
+	@Mock DbRefResolver dbRefResolver;
+	@Mock MongoCollection<Document> collection;
+
+	AtomicLong clock = new AtomicLong();
+	CountCache cache;
+
+	@Before
+	public void setUp() {
+
+		when(operations.getConverter()).thenReturn(new MappingMongoConverter(dbRefResolver, new MongoMappingContext()));
+
+		cache = new CountCache(operations, AnnotationUtils.findAnnotation(Configured.class, ApproximateCount.class),
+				clock::get);
+	}
+
+	@Test
+	public void servesCountsUntilTheyExceedStaleness() {
+
+		Query query = new Query(where("lastname").is("Matthews"));
+		when(operations.count(query, Person.class, "person")).thenReturn(2L, 3L);
+
+		assertThat(cache.count(query, Person.class, "person"), is(2L));
+
+		clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+		assertThat(cache.count(query, Person.class, "person"), is(2L));
+
+		clock.addAndGet(1);
+		assertThat(cache.count(query, Person.class, "person"), is(3L));
+
+		verify(operations, times(2)).count(query, Person.class, "person");
+		assertThat(cache.getHitCount(), is(1L));
+		assertThat(cache.getMissCount(), is(2L));
+	}
+
+	@Test
+	public void cachesCountsPerCollectionAndFilter() {
+
+		Query query = new Query(where("lastname").is("Matthews"));
+
+		cache.count(query, Person.class, "person");
+		cache.count(new Query(where("lastname").is("Matthews")), Person.class, "person");
+		cache.count(query, Person.class, "other");
+		cache.count(new Query(where("lastname").is("Beauford")), Person.class, "person");
+
+		assertThat(cache.getHitCount(), is(1L));
+		assertThat(cache.getMissCount(), is(3L));
+	}
+
+	@Test
+	public void cachesCountsPerCollation() {
+
+		cache.count(new Query(where("lastname").is("Matthews")), Person.class, "person");
+		cache.count(new Query(where("lastname").is("Matthews")).collation(Collation.of("de")), Person.class, "person");
+		cache.count(new Query(where("lastname").is("Matthews")).collation(Collation.of("de")), Person.class, "person");
+
+		assertThat(cache.getHitCount(), is(1L));
+		assertThat(cache.getMissCount(), is(2L));
+	}
+
+	@Test
+	public void registrySharesCachesByNameAndAggregatesStatistics() {
+
+		CountCacheRegistry registry = new CountCacheRegistry(operations);
+		ApproximateCount configuration = AnnotationUtils.findAnnotation(Configured.class, ApproximateCount.class);
+
+		CountCache first = registry.getCountCache("first", configuration);
+		CountCache second = registry.getCountCache("second", configuration);
+
+		assertThat(registry.getCountCache("first", configuration), is(sameInstance(first)));
+
+		first.count(new Query(where("lastname").is("Matthews")), Person.class, "person");
+		first.count(new Query(where("lastname").is("Matthews")), Person.class, "person");
+		second.count(new Query(where("lastname").is("Matthews")), Person.class, "person");
+
+		assertThat(registry.getCountCaches().keySet(), containsInAnyOrder("first", "second"));
+		assertThat(registry.getHitCount(), is(1L));
+		assertThat(registry.getMissCount(), is(2L));
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedCounts() {
+
+		Query first = new Query(where("lastname").is("Matthews"));
+		Query second = new Query(where("lastname").is("Beauford"));
+		Query third = new Query(where("lastname").is("Lessard"));
+
+		cache.count(first, Person.class, "person");
+		cache.count(second, Person.class, "person");
+		cache.count(first, Person.class, "person");
+		cache.count(third, Person.class, "person");
+
+		cache.count(first, Person.class, "person");
+		cache.count(second, Person.class, "person");
+
+		verify(operations, times(1)).count(first, Person.class, "person");
+		verify(operations, times(2)).count(second, Person.class, "person");
+	}
+
+	@Test
+	public void answersUnfilteredCountsFromCollectionMetadata() {
+
+		when(operations.getCollection("person")).thenReturn(collection);
+		when(collection.count()).thenReturn(42L);
+
+		assertThat(cache.count(new Query(), Person.class, "person"), is(42L));
+
+		verify(operations, never()).count(any(Query.class), eq(Person.class), eq("person"));
+		assertThat(cache.getEstimateCount(), is(1L));
+	}
+
+	@Test
+	public void cachesUnfilteredCountsIfEstimationIsDisabled() {
+
+		cache = new CountCache(operations, AnnotationUtils.findAnnotation(NotEstimating.class, ApproximateCount.class),
+				clock::get);
+
+		cache.count(new Query(), Person.class, "person");
+		cache.count(new Query(), Person.class, "person");
+
+		verify(operations, times(1)).count(any(Query.class), eq(Person.class), eq("person"));
+		verify(operations, never()).getCollection("person");
+	}
+
+	@ApproximateCount(maxStalenessMs = 1000, maxEntries = 2)
+	static class Configured {}
+
+	@ApproximateCount(estimateUnfiltered = false)
+	static class NotEstimating {}
+}
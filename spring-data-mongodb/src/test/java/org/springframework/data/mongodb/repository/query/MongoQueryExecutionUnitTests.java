@@ -15,19 +15,30 @@
  */
 package org.springframework.data.mongodb.repository.query;
 
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.*;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import org.bson.Document;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.geo.Distance;
@@ -36,13 +47,18 @@ import org.springframework.data.geo.GeoResult;
 import org.springframework.data.geo.GeoResults;
 import org.springframework.data.geo.Metrics;
 import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.core.Collation;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
 import org.springframework.data.mongodb.core.convert.DbRefResolver;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.query.NearQuery;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.repository.Person;
+import org.springframework.data.mongodb.repository.query.MongoQueryExecution.ConcurrentPagedExecution;
+import org.springframework.data.mongodb.repository.query.MongoQueryExecution.FacetPagedExecution;
 import org.springframework.data.mongodb.repository.query.MongoQueryExecution.PagedExecution;
 import org.springframework.data.mongodb.repository.query.MongoQueryExecution.PagingGeoNearExecution;
 import org.springframework.data.projection.ProjectionFactory;
@@ -160,6 +176,78 @@ public class MongoQueryExecutionUnitTests {
 		verify(mongoOperationsMock).count(any(Query.class), eq("person"));
 	}
 
+	@Test
+	public void concurrentPagedExecutionCountsOnGivenExecutor() {
+
+		when(mongoOperationsMock.find(any(Query.class), eq(Person.class), eq("person")))
+				.thenReturn(Arrays.asList(new Person(), new Person()));
+		when(mongoOperationsMock.count(any(Query.class), eq(Person.class), eq("person"))).thenReturn(5L);
+
+		List<Runnable> tasks = new ArrayList<Runnable>();
+		Executor executor = task -> {
+			tasks.add(task);
+			task.run();
+		};
+
+		Page<?> page = (Page<?>) new ConcurrentPagedExecution(mongoOperationsMock, PageRequest.of(0, 2),
+				Optional.empty(), executor).execute(new Query(), Person.class, "person");
+
+		assertThat(tasks, hasSize(1));
+		assertThat(page.getTotalElements(), is(5L));
+	}
+
+	@Test
+	public void concurrentPagedExecutionCancelsCountNotNeededForTotal() {
+
+		when(mongoOperationsMock.find(any(Query.class), eq(Person.class), eq("person")))
+				.thenReturn(Arrays.asList(new Person()));
+
+		List<Runnable> tasks = new ArrayList<Runnable>();
+
+		Page<?> page = (Page<?>) new ConcurrentPagedExecution(mongoOperationsMock, PageRequest.of(0, 2),
+				Optional.empty(), tasks::add).execute(new Query(), Person.class, "person");
+
+		tasks.forEach(Runnable::run);
+
+		assertThat(page.getTotalElements(), is(1L));
+		verify(mongoOperationsMock, never()).count(any(Query.class), eq(Person.class), eq("person"));
+	}
+
+	@Test
+	public void facetPagedExecutionReadsTotalFromContentAndAppliesCollation() {
+
+		ArgumentCaptor<TypedAggregation<?>> captor = ArgumentCaptor.forClass((Class) TypedAggregation.class);
+		when(mongoOperationsMock.aggregate(captor.capture(), eq("person"), eq(Document.class)))
+				.thenReturn(new AggregationResults<Document>(
+						Arrays.asList(new Document("firstname", "Dave").append("__total", 5),
+								new Document("firstname", "Oliver").append("__total", 5)),
+						new Document("ok", 1.0D)));
+
+		Page<Person> page = (Page<Person>) new FacetPagedExecution(mongoOperationsMock, PageRequest.of(0, 2))
+				.execute(new Query().collation(Collation.of("de")), Person.class, "person");
+
+		assertThat(page.getTotalElements(), is(5L));
+		assertThat(page.getContent(), hasSize(2));
+		assertThat(page.getContent().get(0).getFirstname(), is("Dave"));
+		assertThat(captor.getValue().getOptions().getCollation().isPresent(), is(true));
+		verify(mongoOperationsMock, never()).count(any(Query.class), eq(Person.class), eq("person"));
+	}
+
+	@Test(expected = InvalidDataAccessApiUsageException.class)
+	public void facetPagedExecutionRejectsIndexHint() {
+		new FacetPagedExecution(mongoOperationsMock, PageRequest.of(0, 2)).execute(new Query().withHint("lastname"),
+				Person.class, "person");
+	}
+
+	@Test(expected = InvalidDataAccessApiUsageException.class)
+	public void facetPagedExecutionRejectsMaxTime() {
+
+		Query query = new Query();
+		query.maxTimeMsec(100);
+
+		new FacetPagedExecution(mongoOperationsMock, PageRequest.of(0, 2)).execute(query, Person.class, "person");
+	}
+
 	interface PersonRepository extends Repository<Person, Long> {
 
 		GeoPage<Person> findByLocationNear(Point point, Distance distance, Pageable pageable);
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.bson.Document;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.mongodb.core.convert.DbRefResolver;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.repository.query.StringBasedMongoQuery.ParameterBinding;
+import org.springframework.data.mongodb.repository.query.StringBasedMongoQuery.ParameterBindingParser;
+
+/**
+ * Unit tests for {@link ParameterBindingDocumentTemplate}.
+ */
+public class ParameterBindingDocumentTemplateUnitTests {
+
+	MongoConverter converter;
+
+	@Before
+	public void setUp() {
+		this.converter = new MappingMongoConverter(mock(DbRefResolver.class), new MongoMappingContext());
+	}
+
+	@Test
+	public void bindsUnquotedPlaceholders() {
+
+		ParameterBindingDocumentTemplate template = compile("{ 'lastname' : ?0, 'age' : { '$gt' : ?1 } }").get();
+
+		Document query = template.bind(StubParameterAccessor.getAccessor(converter, "Matthews", 42));
+
+		assertThat(query, is(new Document("lastname", "Matthews").append("age", new Document("$gt", 42))));
+	}
+
+	@Test
+	public void bindsPlaceholdersWithinArrays() {
+
+		ParameterBindingDocumentTemplate template = compile("{ '$or' : [ { 'lastname' : ?0 }, { 'firstname' : ?1 } ] }")
+				.get();
+
+		Document query = template.bind(StubParameterAccessor.getAccessor(converter, "Matthews", "Dave"));
+
+		assertThat(query, is(new Document("$or",
+				Arrays.asList(new Document("lastname", "Matthews"), new Document("firstname", "Dave")))));
+	}
+
+	@Test
+	public void createsNewDocumentForEachBinding() {
+
+		ParameterBindingDocumentTemplate template = compile("{ 'lastname' : ?0 }").get();
+
+		Document first = template.bind(StubParameterAccessor.getAccessor(converter, "Matthews"));
+		Document second = template.bind(StubParameterAccessor.getAccessor(converter, "Beauford"));
+
+		assertThat(first.get("lastname"), is("Matthews"));
+		assertThat(second.get("lastname"), is("Beauford"));
+	}
+
+	@Test
+	public void returnsNullForEmptyQuery() {
+		assertThat(compile(null).get().bind(StubParameterAccessor.getAccessor(converter)), is(nullValue()));
+	}
+
+	@Test
+	public void rejectsQuotedPlaceholders() {
+		assertThat(compile("{ 'lastname' : '?0' }").isPresent(), is(false));
+	}
+
+	@Test
+	public void rejectsPlaceholdersWithinStrings() {
+		assertThat(compile("{ 'lastname' : 'prefix-?0' }").isPresent(), is(false));
+	}
+
+	@Test
+	public void rejectsPlaceholdersInFieldNames() {
+		assertThat(compile("{ ?0 : 'Matthews' }").isPresent(), is(false));
+	}
+
+	@Test
+	public void rejectsExpressions() {
+		assertThat(compile("{ 'lastname' : ?#{[0]} }").isPresent(), is(false));
+	}
+
+	private static Optional<ParameterBindingDocumentTemplate> compile(String source) {
+
+		List<ParameterBinding> bindings = new ArrayList<ParameterBinding>();
+		String query = ParameterBindingParser.INSTANCE.parseAndCollectParameterBindingsFromQueryIntoBindings(source,
+				bindings);
+
+		return ParameterBindingDocumentTemplate.compile(query, bindings);
+	}
+}
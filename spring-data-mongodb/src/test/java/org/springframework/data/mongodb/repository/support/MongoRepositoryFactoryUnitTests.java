@@ -31,6 +31,7 @@ import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.repository.ApproximateCount;
 import org.springframework.data.mongodb.repository.Person;
 import org.springframework.data.mongodb.repository.query.MongoEntityInformation;
 import org.springframework.data.repository.Repository;
@@ -88,7 +89,26 @@ public class MongoRepositoryFactoryUnitTests {
 		assertThat(repository, is(notNullValue()));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void registersCountCacheOfAnnotatedRepository() {
+
+		when(mappingContext.getRequiredPersistentEntity(Person.class)).thenReturn(entity);
+		when(entity.getType()).thenReturn(Person.class);
+
+		MongoRepositoryFactory factory = new MongoRepositoryFactory(template);
+		factory.getRepository(ApproximatelyCountedPersonRepository.class);
+
+		assertThat(factory.getCountCacheRegistry().getCountCaches().keySet(),
+				hasItem(ApproximatelyCountedPersonRepository.class.getName()));
+	}
+
 	interface MyPersonRepository extends Repository<Person, Long> {
 
 	}
+
+	@ApproximateCount
+	interface ApproximatelyCountedPersonRepository extends Repository<Person, Long> {
+
+	}
 }
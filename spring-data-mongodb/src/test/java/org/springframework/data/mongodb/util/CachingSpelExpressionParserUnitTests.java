@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.util;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.common.TemplateParserContext;
+import org.springframework.expression.spel.SpelParserConfiguration;
+
+/**
+ * Unit tests for {@link CachingSpelExpressionParser}.
+ */
+public class CachingSpelExpressionParserUnitTests {
+
+	CachingSpelExpressionParser parser = new CachingSpelExpressionParser();
+
+	@Test
+	public void returnsCachedExpression() {
+
+		Expression expression = parser.parseExpression("1 + 1");
+
+		assertThat(parser.parseExpression("1 + 1"), is(sameInstance(expression)));
+		assertThat(expression.getValue(), is((Object) 2));
+	}
+
+	@Test
+	public void cachesTemplatesSeparatelyFromExpressions() {
+
+		Expression expression = parser.parseExpression("foo");
+		Expression template = parser.parseExpression("foo", ParserContext.TEMPLATE_EXPRESSION);
+
+		assertThat(template, is(not(sameInstance(expression))));
+		assertThat(parser.parseExpression("foo", ParserContext.TEMPLATE_EXPRESSION), is(sameInstance(template)));
+		assertThat(template.getValue(), is((Object) "foo"));
+	}
+
+	@Test
+	public void doesNotCacheExpressionsParsedWithCustomTemplateContext() {
+
+		ParserContext context = new TemplateParserContext();
+
+		assertThat(parser.parseExpression("#{1}", context), is(not(sameInstance(parser.parseExpression("#{1}", context)))));
+	}
+
+	@Test
+	public void stopsCachingOnceCacheIsFull() {
+
+		CachingSpelExpressionParser parser = new CachingSpelExpressionParser(new SpelParserConfiguration(), 1);
+
+		Expression first = parser.parseExpression("1");
+		Expression second = parser.parseExpression("2");
+
+		assertThat(parser.parseExpression("1"), is(sameInstance(first)));
+		assertThat(parser.parseExpression("2"), is(not(sameInstance(second))));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNonPositiveCacheSize() {
+		new CachingSpelExpressionParser(new SpelParserConfiguration(), 0);
+	}
+}